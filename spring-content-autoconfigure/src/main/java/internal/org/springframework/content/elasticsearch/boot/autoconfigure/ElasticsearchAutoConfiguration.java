@@ -15,6 +15,8 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.elasticsearch.ElasticsearchRestClientAutoConfiguration;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.content.commons.search.IndexService;
+import org.springframework.content.commons.search.ReactiveIndexServiceAdapter;
+import org.springframework.content.commons.search.ReactiveIndexingStoreEventHandler;
 import org.springframework.content.elasticsearch.EnableElasticsearchFulltextIndexing;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -45,6 +47,19 @@ public class ElasticsearchAutoConfiguration {
 		return new DeprecatedElasticsearchIndexer(client, elasticFulltextIndexService);
 	}
 
+	// reactive stores publish their events to reactive handlers only
+	@Configuration
+	@ConditionalOnClass(name = "reactor.core.publisher.Mono")
+	@ConditionalOnProperty(prefix="spring.content.elasticsearch", name="autoindex", havingValue="true", matchIfMissing = true)
+	public static class ReactiveIndexingConfiguration {
+
+		@ConditionalOnMissingBean(name = "elasticReactiveFulltextIndexerEventListener")
+		@Bean
+		public ReactiveIndexingStoreEventHandler elasticReactiveFulltextIndexerEventListener(IndexService elasticFulltextIndexService) {
+			return new ReactiveIndexingStoreEventHandler(new ReactiveIndexServiceAdapter<Object>(elasticFulltextIndexService));
+		}
+	}
+
 	// user supplied
 	@Bean
 	@ConditionalOnMissingBean(RestHighLevelClient.class)
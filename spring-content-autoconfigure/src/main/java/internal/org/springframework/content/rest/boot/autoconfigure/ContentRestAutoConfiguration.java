@@ -13,7 +13,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.stereotype.Component;
 
 @AutoConfiguration
-@ConditionalOnWebApplication()
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @ConditionalOnClass({ RestConfiguration.class })
 @Import(RestConfiguration.class)
 public class ContentRestAutoConfiguration {
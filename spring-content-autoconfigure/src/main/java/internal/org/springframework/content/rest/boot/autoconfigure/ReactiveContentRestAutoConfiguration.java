@@ -0,0 +1,14 @@
+package internal.org.springframework.content.rest.boot.autoconfigure;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.content.rest.config.ReactiveRestConfiguration;
+import org.springframework.context.annotation.Import;
+
+@AutoConfiguration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@ConditionalOnClass(value = { ReactiveRestConfiguration.class }, name = { "org.springframework.web.reactive.function.server.RouterFunction" })
+@Import(ReactiveRestConfiguration.class)
+public class ReactiveContentRestAutoConfiguration {
+}
@@ -7,6 +7,8 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.content.commons.search.IndexService;
+import org.springframework.content.commons.search.ReactiveIndexServiceAdapter;
+import org.springframework.content.commons.search.ReactiveIndexingStoreEventHandler;
 import org.springframework.content.solr.DeprecatedSolrIndexerStoreEventHandler;
 import org.springframework.content.solr.SolrIndexerStoreEventHandler;
 import org.springframework.content.solr.SolrProperties;
@@ -52,4 +54,16 @@ public class SolrExtensionAutoConfiguration {
    public Object deprecatedSolrFulltextEventListener() {
       return new DeprecatedSolrIndexerStoreEventHandler(solrIndexService());
    }
+
+   // reactive stores publish their events to reactive handlers only
+   @Configuration
+   @ConditionalOnClass(name = "reactor.core.publisher.Mono")
+   public static class ReactiveIndexingConfiguration {
+
+      @ConditionalOnMissingBean(name = "solrReactiveFulltextEventListener")
+      @Bean
+      public Object solrReactiveFulltextEventListener(@Qualifier("solrIndexService") IndexService solrIndexService) {
+         return new ReactiveIndexingStoreEventHandler(new ReactiveIndexServiceAdapter<Object>(solrIndexService));
+      }
+   }
 }
@@ -6,13 +6,18 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.URI;
 import java.net.URL;
+import java.time.Duration;
 
 import org.springframework.content.commons.io.DeletableResource;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.WritableResource;
 import org.springframework.util.Assert;
 
+import com.azure.core.util.polling.PollResponse;
+import com.azure.storage.blob.BlobClient;
 import com.azure.storage.blob.BlobServiceClient;
+import com.azure.storage.blob.models.BlobCopyInfo;
+import com.azure.storage.blob.models.CopyStatusType;
 
 public class AzureBlobResource implements WritableResource, DeletableResource {
 
@@ -100,6 +105,25 @@ public class AzureBlobResource implements WritableResource, DeletableResource {
 		}
 	}
 
+	/**
+	 * Copies the blob of the given resource to this resource's blob server-side, without reading it through the
+	 * application.  The copy is started with {@code beginCopy} and this method waits for it to complete.  The source
+	 * must be readable by this resource's client; copies between storage accounts require the source to be public or
+	 * the client to be authorized on both accounts.
+	 *
+	 * @param source the resource to copy from, may be in another container
+	 * @throws IOException if the copy does not succeed
+	 */
+	public void copyFrom(AzureBlobResource source) throws IOException {
+		BlobClient sourceBlob = source.client.getBlobContainerClient(source.bucket).getBlobClient(source.getFilename());
+		BlobClient targetBlob = client.getBlobContainerClient(bucket).getBlobClient(getFilename());
+
+		PollResponse<BlobCopyInfo> response = targetBlob.beginCopy(sourceBlob.getBlobUrl(), Duration.ofSeconds(1)).waitForCompletion();
+		if (response.getValue() == null || response.getValue().getCopyStatus() != CopyStatusType.SUCCESS) {
+			throw new IOException(String.format("Copying blob %s to %s did not succeed", sourceBlob.getBlobUrl(), targetBlob.getBlobUrl()));
+		}
+	}
+
 	@Override
 	public boolean isWritable() {
 		return ((WritableResource) delegate).isWritable();
@@ -38,6 +38,7 @@ import org.springframework.util.Assert;
 import com.azure.storage.blob.BlobServiceClient;
 
 import internal.org.springframework.content.azure.io.AzureBlobResource;
+import internal.org.springframework.content.commons.utils.ContentCopier;
 import internal.org.springframework.content.commons.utils.ContentPropertyInfoTypeDescriptor;
 
 @Transactional
@@ -348,6 +349,10 @@ public class DefaultAzureStorageImpl<S, SID extends Serializable>
 
     @Override
     public S setContent(S property, PropertyPath propertyPath, Resource resourceContent) {
+        if (resourceContent instanceof AzureBlobResource && copyContent(property, propertyPath, (AzureBlobResource) resourceContent)) {
+            return property;
+        }
+
         try {
             return setContent(property, propertyPath, resourceContent.getInputStream());
         } catch (IOException e) {
@@ -356,6 +361,19 @@ public class DefaultAzureStorageImpl<S, SID extends Serializable>
         }
     }
 
+    /**
+     * Sets content by copying a blob already in storage server-side rather than streaming it through the application.
+     */
+    private boolean copyContent(S entity, PropertyPath propertyPath, AzureBlobResource source) {
+        return ContentCopier.copyContent(entity, propertyPath, mappingContext,
+                (id, idType) -> placementService.convert(id, TypeDescriptor.forObject(id), idType),
+                this::getResource, AzureBlobResource.class,
+                target -> {
+                    target.copyFrom(source);
+                    return source.contentLength();
+                });
+    }
+
 	@Transactional
 	@Override
 	public InputStream getContent(S entity) {
@@ -10,6 +10,7 @@ import java.util.stream.Collectors;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.GenericBeanDefinition;
 import org.springframework.content.commons.config.AbstractStoreBeanDefinitionRegistrar;
 import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
 import org.springframework.core.env.Environment;
@@ -19,6 +20,8 @@ import org.springframework.data.util.Lazy;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 
+import internal.org.springframework.content.commons.index.StoreIndex;
+
 import static java.lang.String.format;
 
 public class StoreFragmentDetector {
@@ -33,6 +36,8 @@ public class StoreFragmentDetector {
 	private final Set<String> basePackages;
 	private final MetadataReaderFactory metadataReaderFactory;
 	private Lazy<Set<BeanDefinition>> implementationCandidates = Lazy.empty();
+	private Lazy<Set<BeanDefinition>> scannedCandidates = Lazy.empty();
+	private boolean indexed = false;
 
 	public StoreFragmentDetector(Environment environment, ResourceLoader loader, String postfix, String[] basePackages, MetadataReaderFactory metadataReaderFactory) {
 		this.environment = environment;
@@ -44,6 +49,7 @@ public class StoreFragmentDetector {
 		this.basePackages.add("internal.org.springframework.content.fragments");
 
 		this.metadataReaderFactory = metadataReaderFactory;
+		this.scannedCandidates = Lazy.of(() -> scanCandidateBeanDefinitions());
 		this.implementationCandidates = Lazy.of(() -> findCandidateBeanDefinitions());
 	}
 
@@ -52,6 +58,24 @@ public class StoreFragmentDetector {
 	}
 
 	private Set<BeanDefinition> findCandidateBeanDefinitions() {
+		StoreIndex index = StoreIndex.loadIndex(resourceLoader != null ? resourceLoader.getClassLoader() : null, environment);
+		if (index == null) {
+			return scannedCandidates.get();
+		}
+
+		indexed = true;
+		return basePackages.stream()//
+				.flatMap(it -> index.getFragments(it).stream())//
+				.filter(it -> ClassUtils.getShortName(it).endsWith(postfix))//
+				.<BeanDefinition>map(it -> {
+					GenericBeanDefinition definition = new GenericBeanDefinition();
+					definition.setBeanClassName(it);
+					return definition;
+				})
+				.collect(Collectors.toSet());
+	}
+
+	private Set<BeanDefinition> scanCandidateBeanDefinitions() {
 		ClassPathScanningCandidateComponentProvider provider = new ClassPathScanningCandidateComponentProvider(false, environment);
 		provider.setResourceLoader(resourceLoader);
 		provider.setResourcePattern(format(CUSTOM_IMPLEMENTATION_RESOURCE_PATTERN, postfix));
@@ -71,6 +95,12 @@ public class StoreFragmentDetector {
 
 		List<BeanDefinition> definitions = implementationCandidates.get().stream().filter(pred::test).collect(Collectors.toList());
 
+		if (definitions.isEmpty() && indexed) {
+			// the implementation may be in a jar that was built without an index
+			LOGGER.debug(String.format("No indexed implementation found for %s, scanning instead", iface));
+			definitions = scannedCandidates.get().stream().filter(pred::test).collect(Collectors.toList());
+		}
+
 		if (definitions.isEmpty()) {
 			throw new IllegalStateException(format("No implementation found for store interface %s", iface));
 		}
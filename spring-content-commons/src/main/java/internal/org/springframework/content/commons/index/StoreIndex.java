@@ -0,0 +1,167 @@
+package internal.org.springframework.content.commons.index;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.UrlResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+/**
+ * The store interfaces and store fragment implementations listed in the <code>META-INF/spring-content.index</code>
+ * files on the classpath, as written at build time by the <code>spring-content-indexer</code> annotation processor.
+ *
+ * Each index lists only the types of the classpath root, jar or directory, that it was built into.  Registrars use
+ * the index in place of scanning a package when every root containing the package has an index.  Set
+ * <code>spring.content.index.ignore</code> to true to ignore the index and scan instead.
+ */
+public class StoreIndex {
+
+	private static final Log LOGGER = LogFactory.getLog(StoreIndex.class);
+
+	public static final String INDEX_LOCATION = "META-INF/spring-content.index";
+	public static final String IGNORE_INDEX_PROPERTY = "spring.content.index.ignore";
+
+	static final String STORE = "store";
+	static final String FRAGMENT = "fragment";
+
+	private static final StoreIndex NONE = new StoreIndex(null, Collections.emptyMap(), Collections.emptySet());
+
+	private static final Map<ClassLoader, StoreIndex> cache = new ConcurrentReferenceHashMap<>();
+
+	private final ClassLoader classLoader;
+	private final Map<String, String> entries;
+	private final Set<String> indexedRoots;
+
+	StoreIndex(ClassLoader classLoader, Map<String, String> entries, Set<String> indexedRoots) {
+		this.classLoader = classLoader;
+		this.entries = entries;
+		this.indexedRoots = indexedRoots;
+	}
+
+	/**
+	 * Returns the index of the given class loader, or null when there is no index or it is ignored.
+	 */
+	public static StoreIndex loadIndex(ClassLoader classLoader, Environment env) {
+		if (env != null && env.getProperty(IGNORE_INDEX_PROPERTY, Boolean.class, false)) {
+			return null;
+		}
+
+		ClassLoader classLoaderToUse = classLoader != null ? classLoader : ClassUtils.getDefaultClassLoader();
+		StoreIndex index = cache.computeIfAbsent(classLoaderToUse, cl -> doLoadIndex(cl, INDEX_LOCATION));
+		return index != NONE ? index : null;
+	}
+
+	static StoreIndex doLoadIndex(ClassLoader classLoader, String location) {
+		Map<String, String> entries = new HashMap<>();
+		Set<String> indexedRoots = new HashSet<>();
+		try {
+			Enumeration<URL> urls = classLoader.getResources(location);
+			while (urls.hasMoreElements()) {
+				URL url = urls.nextElement();
+				Properties properties = PropertiesLoaderUtils.loadProperties(new UrlResource(url));
+				for (String type : properties.stringPropertyNames()) {
+					entries.put(type, properties.getProperty(type));
+				}
+				indexedRoots.add(getRoot(url, location));
+			}
+		}
+		catch (IOException e) {
+			LOGGER.warn(String.format("Unable to load store index from %s, scanning instead", location), e);
+			return NONE;
+		}
+
+		if (entries.isEmpty()) {
+			return NONE;
+		}
+
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug(String.format("Loaded store index with %s entries", entries.size()));
+		}
+		return new StoreIndex(classLoader, entries, indexedRoots);
+	}
+
+	/**
+	 * Returns the store interfaces in the given package, or its sub-packages, or null when the package is also in
+	 * a classpath root that has no index and must be scanned.
+	 */
+	public Set<String> getStores(String basePackage) {
+		if (!isIndexed(basePackage)) {
+			return null;
+		}
+		return getTypes(basePackage, STORE);
+	}
+
+	/**
+	 * Returns the store fragment implementations in the given package, or its sub-packages.
+	 */
+	public Set<String> getFragments(String basePackage) {
+		return getTypes(basePackage, FRAGMENT);
+	}
+
+	private Set<String> getTypes(String basePackage, String kind) {
+		return entries.entrySet().stream()
+				.filter(it -> kind.equals(it.getValue()))
+				.map(Map.Entry::getKey)
+				.filter(it -> inPackage(it, basePackage))
+				.collect(Collectors.toSet());
+	}
+
+	// an index is complete for its own root only, so a package is indexed when no other root contains it
+	private boolean isIndexed(String basePackage) {
+		if (basePackage == null || basePackage.isEmpty()) {
+			return false;
+		}
+
+		String path = ClassUtils.convertClassNameToResourcePath(basePackage) + "/";
+		try {
+			Enumeration<URL> urls = classLoader.getResources(path);
+			while (urls.hasMoreElements()) {
+				URL url = urls.nextElement();
+				if (!indexedRoots.contains(getRoot(url, path))) {
+					if (LOGGER.isDebugEnabled()) {
+						LOGGER.debug(String.format("Package %s is in %s, which has no store index", basePackage, url));
+					}
+					return false;
+				}
+			}
+		}
+		catch (IOException e) {
+			LOGGER.warn(String.format("Unable to find the classpath roots of package %s, scanning instead", basePackage), e);
+			return false;
+		}
+		return true;
+	}
+
+	private static String getRoot(URL url, String path) {
+		String root = url.toExternalForm();
+		String relativePath = path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+		if (root.endsWith("/")) {
+			root = root.substring(0, root.length() - 1);
+		}
+		if (root.endsWith(relativePath)) {
+			root = root.substring(0, root.length() - relativePath.length());
+		}
+		return root;
+	}
+
+	private static boolean inPackage(String type, String basePackage) {
+		if (basePackage == null || basePackage.isEmpty()) {
+			return true;
+		}
+		String typePackage = ClassUtils.getPackageName(type);
+		return typePackage.equals(basePackage) || typePackage.startsWith(basePackage + ".");
+	}
+}
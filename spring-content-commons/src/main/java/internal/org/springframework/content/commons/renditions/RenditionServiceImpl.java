@@ -8,6 +8,7 @@ import java.util.List;
 import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.content.commons.renditions.RenditionParameters;
 import org.springframework.content.commons.renditions.RenditionProvider;
 import org.springframework.content.commons.renditions.RenditionService;
 import org.springframework.util.MimeType;
@@ -50,13 +51,20 @@ public class RenditionServiceImpl implements RenditionService {
 
     @Override
     public InputStream convert(String fromMimeType, InputStream fromInputSource, String toMimeType) {
+        return convert(fromMimeType, fromInputSource, toMimeType, RenditionParameters.NONE);
+    }
+
+    @Override
+    public InputStream convert(String fromMimeType, InputStream fromInputSource, String toMimeType, RenditionParameters parameters) {
         for (RenditionProvider provider : providers) {
             if (MimeType.valueOf(fromMimeType)
                     .includes(MimeType.valueOf(provider.consumes()))) {
                 for (String produce : provider.produces()) {
                     if (MimeType.valueOf(toMimeType)
                             .includes(MimeType.valueOf(produce))) {
-                        return provider.convert(fromInputSource, toMimeType);
+                        return parameters.isEmpty()
+                                ? provider.convert(fromInputSource, toMimeType)
+                                : provider.convert(fromInputSource, toMimeType, parameters);
                     }
                 }
             }
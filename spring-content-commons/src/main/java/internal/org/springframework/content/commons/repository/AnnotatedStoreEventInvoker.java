@@ -51,7 +51,14 @@ public class AnnotatedStoreEventInvoker
 
 	private static final Log logger = LogFactory.getLog(AnnotatedStoreEventInvoker.class);
 
+	private static final String PUBLISHER_CLASS_NAME = "org.reactivestreams.Publisher";
+
 	private final MultiValueMap<Class<? extends StoreEvent>, EventHandlerMethod> handlerMethods = new LinkedMultiValueMap<Class<? extends StoreEvent>, EventHandlerMethod>();
+	private final MultiValueMap<Class<? extends StoreEvent>, EventHandlerMethod> reactiveHandlerMethods = new LinkedMultiValueMap<Class<? extends StoreEvent>, EventHandlerMethod>();
+
+	private final Class<?> publisherType = ClassUtils.isPresent(PUBLISHER_CLASS_NAME, AnnotatedStoreEventInvoker.class.getClassLoader())
+			? ClassUtils.resolveClassName(PUBLISHER_CLASS_NAME, AnnotatedStoreEventInvoker.class.getClassLoader())
+			: null;
 
 	private ReflectionService reflectionService;
 
@@ -67,6 +74,19 @@ public class AnnotatedStoreEventInvoker
 		return handlerMethods;
 	}
 
+	/**
+	 * Handler methods that return a {@code org.reactivestreams.Publisher}.  These are not invoked for events published
+	 * on the application context; instead {@link ReactiveStoreEventInvoker} subscribes to them when a reactive store
+	 * publishes an event.
+	 */
+	MultiValueMap<Class<? extends StoreEvent>, EventHandlerMethod> getReactiveHandlers() {
+		return reactiveHandlerMethods;
+	}
+
+	ReflectionService getReflectionService() {
+		return reflectionService;
+	}
+
 	@Override
 	public Object postProcessBeforeInitialization(Object bean, String beanName)
 			throws BeansException {
@@ -130,29 +150,17 @@ public class AnnotatedStoreEventInvoker
 
 		for (EventHandlerMethod handlerMethod : handlerMethods.get(eventType)) {
 
-			Object src = event.getSource();
-
-			if ((ClassUtils.isAssignable(StoreEvent.class, handlerMethod.targetType) &&
-					ClassUtils.isAssignable(handlerMethod.targetType, event.getClass()) == false) ||
-					(ClassUtils.isAssignable(StoreEvent.class, handlerMethod.targetType) == false &&
-							ClassUtils.isAssignable(handlerMethod.targetType, src.getClass()) == false)) {
+			if (!handlerMethod.handles(event)) {
 				continue;
 			}
 
-			List<Object> parameters = new ArrayList<Object>();
-			if (ClassUtils.isAssignable(StoreEvent.class, handlerMethod.targetType)) {
-				parameters.add(event);
-			} else {
-				parameters.add(src);
-			}
-
 			if (logger.isDebugEnabled()) {
 				logger.debug(String.format("Invoking {} handler for {}.",
 						event.getClass().getSimpleName(), event.getSource()));
 			}
 
 			reflectionService.invokeMethod(handlerMethod.method, handlerMethod.handler,
-					parameters.toArray());
+					handlerMethod.parameters(event));
 		}
 	}
 
@@ -178,20 +186,25 @@ public class AnnotatedStoreEventInvoker
 		logger.debug(
 				String.format("Annotated handler method found: {%s}", handlerMethod));
 
-		List<EventHandlerMethod> events = handlerMethods.get(eventType);
+		MultiValueMap<Class<? extends StoreEvent>, EventHandlerMethod> methods = handlerMethods;
+		if (publisherType != null && ClassUtils.isAssignable(publisherType, method.getReturnType())) {
+			methods = reactiveHandlerMethods;
+		}
+
+		List<EventHandlerMethod> events = methods.get(eventType);
 
 		if (events == null) {
 			events = new ArrayList<>();
 		}
 
 		if (events.isEmpty()) {
-			handlerMethods.add(eventType, handlerMethod);
+			methods.add(eventType, handlerMethod);
 			return;
 		}
 
 		events.add(handlerMethod);
 		Collections.sort(events);
-		handlerMethods.put(eventType, events);
+		methods.put(eventType, events);
 	}
 
 	static class EventHandlerMethod implements Comparable<EventHandlerMethod> {
@@ -209,6 +222,20 @@ public class AnnotatedStoreEventInvoker
 			ReflectionUtils.makeAccessible(this.method);
 		}
 
+		boolean handles(StoreEvent event) {
+			if (ClassUtils.isAssignable(StoreEvent.class, targetType)) {
+				return ClassUtils.isAssignable(targetType, event.getClass());
+			}
+			return ClassUtils.isAssignable(targetType, event.getSource().getClass());
+		}
+
+		Object[] parameters(StoreEvent event) {
+			if (ClassUtils.isAssignable(StoreEvent.class, targetType)) {
+				return new Object[] {event};
+			}
+			return new Object[] {event.getSource()};
+		}
+
 		/*
 		 * (non-Javadoc)
 		 * @see java.lang.Comparable#compareTo(java.lang.Object)
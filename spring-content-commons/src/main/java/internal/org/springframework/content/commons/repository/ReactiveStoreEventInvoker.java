@@ -0,0 +1,78 @@
+package internal.org.springframework.content.commons.repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.reactivestreams.Publisher;
+import org.springframework.content.commons.repository.StoreEvent;
+
+import internal.org.springframework.content.commons.repository.AnnotatedStoreEventInvoker.EventHandlerMethod;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Publishes store events from reactive stores.
+ *
+ * Invokes the {@link org.springframework.content.commons.annotations.StoreEventHandler} methods, found by
+ * {@link AnnotatedStoreEventInvoker}, that return a {@link Publisher} and subscribes to each one in {@code @Order}
+ * so that a handler can do its work without blocking the calling thread.  Handlers are matched on the event type and
+ * its super types so that, for example, a {@code @HandleBeforeSetContent} handler receives
+ * {@link org.springframework.content.commons.store.events.ReactiveBeforeSetContentEvent}s.
+ */
+public class ReactiveStoreEventInvoker {
+
+    private static final Log logger = LogFactory.getLog(ReactiveStoreEventInvoker.class);
+
+    private final AnnotatedStoreEventInvoker invoker;
+
+    public ReactiveStoreEventInvoker(AnnotatedStoreEventInvoker invoker) {
+        this.invoker = invoker;
+    }
+
+    public Mono<Void> publishEvent(StoreEvent event) {
+        List<EventHandlerMethod> handlers = handlersFor(event);
+        if (handlers.isEmpty()) {
+            return Mono.empty();
+        }
+
+        return Flux.fromIterable(handlers)
+                .filter(handler -> handler.handles(event))
+                .concatMap(handler -> Mono.defer(() -> invoke(handler, event)))
+                .then();
+    }
+
+    private Mono<Void> invoke(EventHandlerMethod handler, StoreEvent event) {
+        if (logger.isDebugEnabled()) {
+            logger.debug(String.format("Invoking reactive %s handler for %s.", event.getClass().getSimpleName(), event.getSource()));
+        }
+
+        Object result = invoker.getReflectionService().invokeMethod(handler.method, handler.handler, handler.parameters(event));
+        if (result == null) {
+            return Mono.empty();
+        }
+        return Mono.when((Publisher<?>) result);
+    }
+
+    private List<EventHandlerMethod> handlersFor(StoreEvent event) {
+        if (invoker == null) {
+            return Collections.emptyList();
+        }
+
+        List<EventHandlerMethod> handlers = new ArrayList<>();
+        Class<?> eventType = event.getClass();
+        while (eventType != null && StoreEvent.class.isAssignableFrom(eventType)) {
+            List<EventHandlerMethod> methods = invoker.getReactiveHandlers().get(eventType);
+            if (methods != null) {
+                handlers.addAll(methods);
+            }
+            eventType = eventType.getSuperclass();
+        }
+        if (handlers.size() > 1) {
+            Collections.sort(handlers);
+        }
+        return handlers;
+    }
+}
@@ -7,41 +7,78 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.springframework.content.commons.property.PropertyPath;
 import org.springframework.content.commons.store.ReactiveContentStore;
+import org.springframework.content.commons.store.events.AfterGetContentEvent;
+import org.springframework.content.commons.store.events.AfterSetContentEvent;
+import org.springframework.content.commons.store.events.AfterUnsetContentEvent;
+import org.springframework.content.commons.store.events.BeforeGetContentEvent;
+import org.springframework.content.commons.store.events.BeforeUnsetContentEvent;
+import org.springframework.content.commons.store.events.ReactiveBeforeSetContentEvent;
 import org.springframework.context.ApplicationEventPublisher;
 
+import internal.org.springframework.content.commons.repository.ReactiveStoreEventInvoker;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+/**
+ * Base fragment for reactive stores.
+ *
+ * Publishes Before and After store events around each operation of the delegate store.  Events are dispatched to
+ * the reactive (Publisher-returning) store event handlers by a {@link ReactiveStoreEventInvoker} and each handler is
+ * subscribed to in turn so that no thread is blocked while they run.
+ */
 public class ReactiveStoreImpl implements ReactiveContentStore<Object, Serializable> {
 
     private static Log logger = LogFactory.getLog(ReactiveStoreImpl.class);
 
     private final ReactiveContentStore<Object, Serializable> delegate;
     private final ApplicationEventPublisher publisher;
+    private final ReactiveStoreEventInvoker invoker;
 
     public ReactiveStoreImpl(ReactiveContentStore<Object, Serializable> delegate, ApplicationEventPublisher publisher) {
+        this(delegate, publisher, new ReactiveStoreEventInvoker(null));
+    }
+
+    public ReactiveStoreImpl(ReactiveContentStore<Object, Serializable> delegate, ApplicationEventPublisher publisher, ReactiveStoreEventInvoker invoker) {
         this.delegate = delegate;
         this.publisher = publisher;
+        this.invoker = invoker;
     }
 
     @Override
     public Mono<Object> setContent(Object entity, PropertyPath path, long contentLen, Flux<ByteBuffer> buffer) {
-        try {
-            Mono<Object> result = delegate.setContent(entity, path, contentLen, buffer);
-            return result;
-        }
-        catch (Exception e) {
-            throw e;
-        }
+        return Mono.defer(() -> {
+            ReactiveBeforeSetContentEvent before = new ReactiveBeforeSetContentEvent(entity, path, delegate, buffer);
+
+            return invoker.publishEvent(before)
+                    .then(Mono.defer(() -> {
+                        // a handler that replaced the content may also have changed its length
+                        long len = before.getContent() == buffer ? contentLen : -1L;
+                        return delegate.setContent(entity, path, len, before.getContent());
+                    }))
+                    .flatMap(result -> invoker.publishEvent(new AfterSetContentEvent(result, path, delegate))
+                            .thenReturn(result));
+        });
     }
 
     @Override
     public Flux<ByteBuffer> getContent(Object entity, PropertyPath path) {
-        return delegate.getContent(entity, path);
+        return invoker.publishEvent(new BeforeGetContentEvent(entity, path, delegate))
+                .thenMany(Flux.defer(() -> delegate.getContent(entity, path)))
+                .concatWith(Mono.defer(() -> invoker.publishEvent(new AfterGetContentEvent(entity, path, delegate))).then(Mono.<ByteBuffer>empty()));
+    }
+
+    @Override
+    public Flux<ByteBuffer> getContent(Object entity, PropertyPath path, long offset, long length) {
+        return invoker.publishEvent(new BeforeGetContentEvent(entity, path, delegate))
+                .thenMany(Flux.defer(() -> delegate.getContent(entity, path, offset, length)))
+                .concatWith(Mono.defer(() -> invoker.publishEvent(new AfterGetContentEvent(entity, path, delegate))).then(Mono.<ByteBuffer>empty()));
     }
 
     @Override
     public Mono<Object> unsetContent(Object entity, PropertyPath propertyPath) {
-        return delegate.unsetContent(entity, propertyPath);
+        return invoker.publishEvent(new BeforeUnsetContentEvent(entity, propertyPath, delegate))
+                .then(Mono.defer(() -> delegate.unsetContent(entity, propertyPath)))
+                .flatMap(result -> invoker.publishEvent(new AfterUnsetContentEvent(result, propertyPath, delegate))
+                        .thenReturn(result));
     }
 }
@@ -14,6 +14,9 @@ import java.nio.file.Path;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.springframework.content.commons.fragments.ContentStoreAware;
+import org.springframework.content.commons.mappingcontext.ContentProperty;
+import org.springframework.content.commons.mappingcontext.MappingContext;
 import org.springframework.content.commons.property.PropertyPath;
 import org.springframework.content.commons.repository.Store;
 import org.springframework.content.commons.store.ContentStore;
@@ -36,13 +39,17 @@ import org.springframework.core.io.Resource;
 
 import lombok.Getter;
 
-public class StoreImpl implements org.springframework.content.commons.repository.ContentStore<Object, Serializable>, ContentStore<Object, Serializable> {
+public class StoreImpl implements org.springframework.content.commons.repository.ContentStore<Object, Serializable>, ContentStore<Object, Serializable>, ContentStoreAware {
 
     private static final Log logger = LogFactory.getLog(StoreImpl.class);
 
     private final Store<Serializable> delegate;
     private final ApplicationEventPublisher publisher;
     private final Path copyContentRootPath;
+    private final MappingContext mappingContext = new MappingContext("/", ".");
+
+    // the store proxy, so that copies to the same store go through its fragments and events
+    private ContentStore<Object, Serializable> contentStore;
 
     public StoreImpl(Store<Serializable> delegate, ApplicationEventPublisher publisher, Path copyContentRootPath) {
         this.delegate = delegate;
@@ -50,6 +57,21 @@ public class StoreImpl implements org.springframework.content.commons.repository
         this.copyContentRootPath = copyContentRootPath;
     }
 
+    @Override
+    public void setDomainClass(Class<?> domainClass) {
+    }
+
+    @Override
+    public void setIdClass(Class<?> idClass) {
+    }
+
+    @Override
+    public void setContentStore(org.springframework.content.commons.repository.ContentStore store) {
+        if (store instanceof ContentStore) {
+            this.contentStore = (ContentStore<Object, Serializable>) store;
+        }
+    }
+
     @Override
     public Object setContent(Object property, InputStream content) {
 
@@ -400,6 +422,41 @@ public class StoreImpl implements org.springframework.content.commons.repository
         return result;
     }
 
+    @Override
+    public Object copyContent(Object source, PropertyPath sourcePropertyPath, Object target, PropertyPath targetPropertyPath) {
+        return this.copyContent(source, sourcePropertyPath, contentStore != null ? contentStore : this, target, targetPropertyPath);
+    }
+
+    @Override
+    public <T> T copyContent(Object source, PropertyPath sourcePropertyPath, ContentStore<T, ?> targetStore, T target, PropertyPath targetPropertyPath) {
+
+        ContentProperty sourceProperty = mappingContext.getContentProperty(source.getClass(), sourcePropertyPath.getName());
+        if (sourceProperty == null) {
+            throw new StoreAccessException(String.format("Content property %s does not exist", sourcePropertyPath.getName()));
+        }
+        ContentProperty targetProperty = mappingContext.getContentProperty(target.getClass(), targetPropertyPath.getName());
+        if (targetProperty == null) {
+            throw new StoreAccessException(String.format("Content property %s does not exist", targetPropertyPath.getName()));
+        }
+
+        Resource resource = this.getResource(source, sourcePropertyPath);
+        if (resource == null || resource.exists() == false) {
+            throw new StoreAccessException(String.format("No content to copy for entity %s", source));
+        }
+
+        targetProperty.setMimeType(target, sourceProperty.getMimeType(source));
+        targetProperty.setOriginalFileName(target, sourceProperty.getOriginalFileName(source));
+
+        // backends copy natively when given a resource they hold, and stream it otherwise
+        T result = targetStore.setContent(target, targetPropertyPath, resource);
+
+        Object contentLength = sourceProperty.getContentLength(source);
+        if (contentLength != null) {
+            targetProperty.setContentLength(result, contentLength);
+        }
+        return result;
+    }
+
     @Override
     public Resource getResource(Object entity) {
 
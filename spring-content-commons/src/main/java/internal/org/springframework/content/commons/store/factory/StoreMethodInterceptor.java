@@ -13,7 +13,9 @@ import org.aopalliance.intercept.MethodInvocation;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.springframework.content.commons.fragments.ContentStoreAware;
+import org.springframework.content.commons.fragments.ReactiveContentStoreAware;
 import org.springframework.content.commons.repository.ContentStore;
+import org.springframework.content.commons.store.ReactiveContentStore;
 import org.springframework.util.Assert;
 import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.ReflectionUtils;
@@ -63,6 +65,9 @@ public class StoreMethodInterceptor implements MethodInterceptor {
 			if (f.hasImplementationMethod(setContentStoreMethod)) {
 				ReflectionUtils.invokeMethod(setContentStoreMethod, f.getImplementation(), invocation.getThis());
 			}
+			if (f.getImplementation() instanceof ReactiveContentStoreAware && invocation.getThis() instanceof ReactiveContentStore) {
+				((ReactiveContentStoreAware) f.getImplementation()).setReactiveContentStore((ReactiveContentStore) invocation.getThis());
+			}
 
 			try {
 			    return getMethod(invocation.getMethod(), f).invoke(fragment.get().getImplementation(), invocation.getArguments());
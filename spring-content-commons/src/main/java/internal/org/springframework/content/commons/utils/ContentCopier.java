@@ -0,0 +1,105 @@
+package internal.org.springframework.content.commons.utils;
+
+import static java.lang.String.format;
+
+import java.io.Serializable;
+import java.util.UUID;
+import java.util.function.BiFunction;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.content.commons.mappingcontext.ContentProperty;
+import org.springframework.content.commons.mappingcontext.MappingContext;
+import org.springframework.content.commons.property.PropertyPath;
+import org.springframework.content.commons.store.StoreAccessException;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.io.Resource;
+
+/**
+ * Sets content by copying a resource already held by the store with the store's native copy, rather than streaming
+ * it through the application.
+ *
+ * Stores call {@link #copyContent} from {@code setContent(entity, propertyPath, resource)} and fall back to
+ * streaming the resource's input stream when it returns false.
+ */
+public final class ContentCopier {
+
+    private static final Log logger = LogFactory.getLog(ContentCopier.class);
+
+    private ContentCopier() {
+    }
+
+    /**
+     * A backend's native copy of some source into a target resource.
+     *
+     * @param <R> the store's native resource type
+     */
+    @FunctionalInterface
+    public interface NativeCopy<R extends Resource> {
+
+        /**
+         * Copies the source into the given target.
+         *
+         * @param target the resource to copy into
+         * @return the length of the copied content, or -1 if the source cannot be copied natively into the target
+         * @throws Exception if the copy fails
+         */
+        long copyTo(R target) throws Exception;
+    }
+
+    /**
+     * Assigns the entity a content id if it doesn't have one, resolves its resource and, when that is of the store's
+     * native type, copies into it and sets the content length.
+     *
+     * @param entity the entity to set content on
+     * @param propertyPath the content property to set
+     * @param mappingContext the store's mapping context
+     * @param idConverter converts a new content id to the content property's id type
+     * @param resourceResolver the store's {@code getResource(entity, propertyPath)}
+     * @param nativeType the store's native resource type
+     * @param copy the store's native copy
+     * @return true if the content was copied, false if it must be streamed instead
+     */
+    public static <S, R extends Resource> boolean copyContent(S entity,
+                                                            PropertyPath propertyPath,
+                                                            MappingContext mappingContext,
+                                                            BiFunction<Object, TypeDescriptor, Object> idConverter,
+                                                            BiFunction<S, PropertyPath, Resource> resourceResolver,
+                                                            Class<R> nativeType,
+                                                            NativeCopy<R> copy) {
+
+        ContentProperty property = mappingContext.getContentProperty(entity.getClass(), propertyPath.getName());
+        if (property == null) {
+            throw new StoreAccessException(format("Content property %s does not exist", propertyPath.getName()));
+        }
+
+        if (property.getContentId(entity) == null) {
+
+            Serializable newId = UUID.randomUUID().toString();
+
+            Object convertedId = idConverter.apply(newId, property.getContentIdType(entity));
+
+            property.setContentId(entity, convertedId, null);
+        }
+
+        Resource resource = resourceResolver.apply(entity, propertyPath);
+        if (!nativeType.isInstance(resource)) {
+            return false;
+        }
+
+        long contentLength;
+        try {
+            contentLength = copy.copyTo(nativeType.cast(resource));
+        }
+        catch (Exception e) {
+            logger.error(format("Unexpected error copying content for entity %s", entity), e);
+            throw new StoreAccessException(format("Copying content for entity %s", entity), e);
+        }
+        if (contentLength < 0) {
+            return false;
+        }
+
+        property.setContentLength(entity, contentLength);
+        return true;
+    }
+}
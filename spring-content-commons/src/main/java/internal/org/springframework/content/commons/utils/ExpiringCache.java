@@ -0,0 +1,209 @@
+package internal.org.springframework.content.commons.utils;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.springframework.util.Assert;
+
+/**
+ * Small, bounded, in-memory cache whose entries expire after a fixed time-to-live.
+ * <p>
+ * Entries expire a time-to-live after they were written or, when created to expire after access, after they were
+ * last read.  Expired entries are removed individually as the cache is written to and, when it is full, the entry
+ * closest to expiry (the least recently used when expiring after access) is evicted to make room.  An optional
+ * removal listener is told of each value that expires, is evicted, removed or cleared, outside of the cache's lock.
+ * Values that are replaced are not passed to the listener.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ */
+public class ExpiringCache<K, V> {
+
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final boolean expireAfterAccess;
+    private final BiConsumer<K, V> removalListener;
+
+    // ordered by expiry; insertion order when expiring after write, access order when expiring after access
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    public ExpiringCache(long ttlMillis, int maxEntries) {
+        this(ttlMillis, maxEntries, false, null);
+    }
+
+    public ExpiringCache(long ttlMillis, int maxEntries, boolean expireAfterAccess, BiConsumer<K, V> removalListener) {
+        Assert.isTrue(maxEntries > 0, "maxEntries must be greater than 0");
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+        this.expireAfterAccess = expireAfterAccess;
+        this.removalListener = removalListener;
+        this.entries = new LinkedHashMap<>(16, 0.75f, expireAfterAccess);
+    }
+
+    /**
+     * Returns the value cached for the given key, or null when the key is not cached or its entry has expired.
+     */
+    public V get(K key) {
+        List<Removal<K, V>> removed = new ArrayList<>(1);
+        try {
+            synchronized (entries) {
+                return live(key, System.currentTimeMillis(), removed);
+            }
+        } finally {
+            notify(removed);
+        }
+    }
+
+    public void put(K key, V value) {
+        compute(key, (k, current) -> value);
+    }
+
+    /**
+     * Returns the value cached for the given key, caching the value computed by the given function when there is
+     * none.  The function is called under the cache's lock and may return null to cache nothing.
+     */
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        return compute(key, (k, current) -> current != null ? current : mappingFunction.apply(k));
+    }
+
+    /**
+     * Caches the value computed by the given function from the value currently cached for the given key, or null if
+     * there is none.  Returning the current value leaves its entry, and expiry, as it is.  Returning null removes it.
+     * The function is called under the cache's lock.
+     */
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        List<Removal<K, V>> removed = new ArrayList<>(1);
+        try {
+            synchronized (entries) {
+                long now = System.currentTimeMillis();
+
+                V current = live(key, now, removed);
+                V value = remappingFunction.apply(key, current);
+                if (value == null) {
+                    if (current != null) {
+                        entries.remove(key);
+                        removed.add(new Removal<>(key, current));
+                    }
+                } else if (value != current) {
+                    entries.remove(key);
+                    entries.put(key, new Entry<>(value, now + ttlMillis));
+                }
+
+                expunge(now, removed);
+                return value;
+            }
+        } finally {
+            notify(removed);
+        }
+    }
+
+    /**
+     * Removes the given key's entry, returning its value or null if it was not cached.
+     */
+    public V remove(K key) {
+        List<Removal<K, V>> removed = new ArrayList<>(1);
+        try {
+            synchronized (entries) {
+                V value = live(key, System.currentTimeMillis(), removed);
+                if (value != null) {
+                    entries.remove(key);
+                    removed.add(new Removal<>(key, value));
+                }
+                return value;
+            }
+        } finally {
+            notify(removed);
+        }
+    }
+
+    public void clear() {
+        List<Removal<K, V>> removed = new ArrayList<>();
+        try {
+            synchronized (entries) {
+                entries.forEach((key, entry) -> removed.add(new Removal<>(key, entry.value)));
+                entries.clear();
+            }
+        } finally {
+            notify(removed);
+        }
+    }
+
+    /**
+     * Returns the number of cached entries, including any that have expired but have not yet been removed.
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private V live(K key, long now, List<Removal<K, V>> removed) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired(now)) {
+            entries.remove(key);
+            removed.add(new Removal<>(key, entry.value));
+            return null;
+        }
+        if (expireAfterAccess) {
+            entry.expiresAt = now + ttlMillis;
+        }
+        return entry.value;
+    }
+
+    // entries are ordered by expiry so the expired ones, and then the one closest to expiry, are at the head
+    private void expunge(long now, List<Removal<K, V>> removed) {
+        Iterator<Map.Entry<K, Entry<V>>> it = entries.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<K, Entry<V>> next = it.next();
+            if (!next.getValue().isExpired(now) && entries.size() <= maxEntries) {
+                break;
+            }
+            it.remove();
+            removed.add(new Removal<>(next.getKey(), next.getValue().value));
+        }
+    }
+
+    private void notify(List<Removal<K, V>> removed) {
+        if (removalListener == null) {
+            return;
+        }
+        for (Removal<K, V> removal : removed) {
+            removalListener.accept(removal.key, removal.value);
+        }
+    }
+
+    private static class Entry<V> {
+
+        private final V value;
+        private long expiresAt;
+
+        Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+
+    private static class Removal<K, V> {
+
+        private final K key;
+        private final V value;
+
+        Removal(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+}
@@ -1,19 +1,36 @@
 package internal.org.springframework.content.commons.utils;
 
 import java.io.IOException;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.BeanDefinitionStoreException;
 import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.content.commons.store.ReactiveContentStore;
 import org.springframework.content.commons.store.Store;
 import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.annotation.ScannedGenericBeanDefinition;
 import org.springframework.core.env.Environment;
 import org.springframework.core.type.classreading.MetadataReader;
 import org.springframework.core.type.classreading.MetadataReaderFactory;
 import org.springframework.core.type.filter.AssignableTypeFilter;
 
+import internal.org.springframework.content.commons.index.StoreIndex;
+
+/**
+ * Finds the store interfaces in a base package.
+ *
+ * When every classpath root containing the base package has a {@link StoreIndex} its stores are read from the index,
+ * otherwise the base package is scanned.  Either way candidates are still matched against the store types and any profile or condition.
+ */
 public class StoreCandidateComponentProvider
 		extends ClassPathScanningCandidateComponentProvider {
 
+	private static final Log LOGGER = LogFactory.getLog(StoreCandidateComponentProvider.class);
+
 	public StoreCandidateComponentProvider(boolean useDefaultFilters, Environment env) {
 		super(useDefaultFilters, env);
 		this.addIncludeFilter(new InterfaceTypeFilter(org.springframework.content.commons.repository.ContentRepository.class));
@@ -22,6 +39,43 @@ public class StoreCandidateComponentProvider
 		this.addIncludeFilter(new InterfaceTypeFilter(ReactiveContentStore.class));
 	}
 
+	@Override
+	public Set<BeanDefinition> findCandidateComponents(String basePackage) {
+
+		StoreIndex index = StoreIndex.loadIndex(getResourceLoader().getClassLoader(), getEnvironment());
+		if (index != null) {
+			Set<String> stores = index.getStores(basePackage);
+			if (stores != null) {
+				return addCandidateComponentsFromIndex(stores);
+			}
+
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug(String.format("%s is not fully indexed, scanning instead", basePackage));
+			}
+		}
+
+		return super.findCandidateComponents(basePackage);
+	}
+
+	private Set<BeanDefinition> addCandidateComponentsFromIndex(Set<String> stores) {
+
+		Set<BeanDefinition> candidates = new LinkedHashSet<>();
+		for (String store : stores) {
+			try {
+				MetadataReader metadataReader = getMetadataReaderFactory().getMetadataReader(store);
+				if (isCandidateComponent(metadataReader)) {
+					ScannedGenericBeanDefinition sbd = new ScannedGenericBeanDefinition(metadataReader);
+					sbd.setSource(metadataReader.getResource());
+					candidates.add(sbd);
+				}
+			}
+			catch (IOException e) {
+				throw new BeanDefinitionStoreException(String.format("Failed to read indexed store %s", store), e);
+			}
+		}
+		return candidates;
+	}
+
 	@Override
 	protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
 		return true;
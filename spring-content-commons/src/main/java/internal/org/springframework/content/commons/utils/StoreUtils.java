@@ -5,6 +5,8 @@ import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
 
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.support.GenericBeanDefinition;
 import org.springframework.core.annotation.AnnotationAttributes;
@@ -15,6 +17,8 @@ import org.springframework.util.StringUtils;
 
 public class StoreUtils {
 
+	private static final Log LOGGER = LogFactory.getLog(StoreUtils.class);
+
     private static final String BASE_PACKAGES = "basePackages";
 	private static final String BASE_PACKAGE_CLASSES = "basePackageClasses";
 	private static final String STORE_FACTORY_BEAN_CLASS = "storeFactoryBeanClass";
@@ -56,6 +60,7 @@ public class StoreUtils {
 
         Set<GenericBeanDefinition> result = new HashSet<>();
 
+        long start = System.nanoTime();
         for (String basePackage : basePackages) {
             Set<BeanDefinition> candidates = scanner.findCandidateComponents(basePackage);
             for (BeanDefinition candidate : candidates) {
@@ -69,6 +74,10 @@ public class StoreUtils {
             }
         }
 
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(String.format("Found %s store candidates in %s in %s ms", result.size(), Arrays.toString(basePackages), (System.nanoTime() - start) / 1000000));
+        }
+
         return result;
     }
 
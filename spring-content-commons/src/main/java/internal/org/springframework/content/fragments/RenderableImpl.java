@@ -13,6 +13,7 @@ import org.springframework.content.commons.mappingcontext.ContentProperty;
 import org.springframework.content.commons.mappingcontext.MappingContext;
 import org.springframework.content.commons.property.PropertyPath;
 import org.springframework.content.commons.renditions.Renderable;
+import org.springframework.content.commons.renditions.RenditionParameters;
 import org.springframework.content.commons.renditions.RenditionProvider;
 import org.springframework.content.commons.renditions.RenditionService;
 import org.springframework.content.commons.repository.ContentStore;
@@ -94,6 +95,11 @@ public class RenderableImpl implements Renderable, ContentStoreAware {
 
     @Override
     public InputStream getRendition(Object entity, PropertyPath propertyPath, String mimeType) {
+        return getRendition(entity, propertyPath, mimeType, RenditionParameters.NONE);
+    }
+
+    @Override
+    public InputStream getRendition(Object entity, PropertyPath propertyPath, String mimeType, RenditionParameters parameters) {
 
         Object fromMimeType = null;
 
@@ -114,7 +120,7 @@ public class RenderableImpl implements Renderable, ContentStoreAware {
                 if (r != null) {
                     try (InputStream content = r.getInputStream()) {
                         if (content != null) {
-                            return this.getRenditionService().convert(fromMimeType.toString(), content, mimeType);
+                            return this.getRenditionService().convert(fromMimeType.toString(), content, mimeType, parameters);
                         }
                     }
                 }
@@ -0,0 +1,11 @@
+package org.springframework.content.commons.fragments;
+
+import org.springframework.content.commons.store.ReactiveContentStore;
+
+public interface ReactiveContentStoreAware {
+
+	void setDomainClass(Class<?> domainClass);
+	void setIdClass(Class<?> idClass);
+	void setReactiveContentStore(ReactiveContentStore store);
+
+}
@@ -0,0 +1,158 @@
+package org.springframework.content.commons.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import org.reactivestreams.Subscription;
+
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Flux;
+
+/**
+ * An input stream over a {@link Flux} of byte buffers, for handing reactive content to blocking APIs.
+ *
+ * The flux is subscribed to on the first read and buffers are requested as they are consumed, so no more than
+ * {@code prefetch} buffers are ever held in memory.  Reads block until the next buffer arrives and so must not be
+ * made on a non-blocking thread.  Closing the stream cancels the subscription.
+ */
+public class FluxInputStream extends InputStream {
+
+    public static final int DEFAULT_PREFETCH = 4;
+
+    private static final Object EOF = new Object();
+
+    private final Flux<ByteBuffer> content;
+    private final int prefetch;
+    private final BlockingQueue<Object> signals;
+
+    private BufferSubscriber subscriber;
+    private ByteBuffer current;
+    private boolean done = false;
+    private volatile boolean closed = false;
+
+    public FluxInputStream(Flux<ByteBuffer> content) {
+        this(content, DEFAULT_PREFETCH);
+    }
+
+    public FluxInputStream(Flux<ByteBuffer> content, int prefetch) {
+        this.content = content;
+        this.prefetch = Math.max(1, prefetch);
+        // room for every requested buffer plus the terminal signal
+        this.signals = new ArrayBlockingQueue<>(this.prefetch + 1);
+    }
+
+    @Override
+    public int read() throws IOException {
+        ByteBuffer buffer = current();
+        if (buffer == null) {
+            return -1;
+        }
+        return buffer.get() & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (off < 0 || len < 0 || len > b.length - off) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (len == 0) {
+            return 0;
+        }
+
+        ByteBuffer buffer = current();
+        if (buffer == null) {
+            return -1;
+        }
+
+        int n = Math.min(len, buffer.remaining());
+        buffer.get(b, off, n);
+        return n;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return current != null ? current.remaining() : 0;
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (subscriber != null) {
+            subscriber.cancel();
+        }
+        signals.clear();
+        current = null;
+    }
+
+    // returns the buffer with bytes remaining to be read, requesting the next one if the current buffer is consumed,
+    // or null at the end of the content
+    private ByteBuffer current() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+
+        if (subscriber == null) {
+            subscriber = new BufferSubscriber();
+            content.subscribe(subscriber);
+        }
+
+        while (current == null || !current.hasRemaining()) {
+            if (done) {
+                return null;
+            }
+            if (current != null) {
+                current = null;
+                subscriber.request(1);
+            }
+
+            Object signal;
+            try {
+                signal = signals.take();
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted waiting for content");
+            }
+
+            if (signal == EOF) {
+                done = true;
+                return null;
+            }
+            if (signal instanceof Throwable) {
+                done = true;
+                throw new IOException("Error reading content", (Throwable) signal);
+            }
+            current = (ByteBuffer) signal;
+        }
+        return current;
+    }
+
+    private class BufferSubscriber extends BaseSubscriber<ByteBuffer> {
+
+        @Override
+        protected void hookOnSubscribe(Subscription subscription) {
+            subscription.request(prefetch);
+        }
+
+        @Override
+        protected void hookOnNext(ByteBuffer buffer) {
+            signals.offer(buffer);
+        }
+
+        @Override
+        protected void hookOnComplete() {
+            signals.offer(EOF);
+        }
+
+        @Override
+        protected void hookOnError(Throwable throwable) {
+            signals.offer(throwable);
+        }
+    }
+}
@@ -26,10 +26,18 @@ public class ObservableInputStream extends InputStream {
         return this.is.read();
     }
 
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        return this.is.read(b, off, len);
+    }
+
     @Override
     public void close() throws IOException {
-        super.close();
-        this.observer.closed();
+        try {
+            this.is.close();
+        } finally {
+            this.observer.closed();
+        }
     }
 
     public List<CloseableObserver> getObservers() {
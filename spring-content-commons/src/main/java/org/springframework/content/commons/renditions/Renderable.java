@@ -13,4 +13,12 @@ public interface Renderable<S> {
 	InputStream getRendition(S entity, String mimeType);
 
 	InputStream getRendition(S entity, PropertyPath path, String mimeType);
+
+	/**
+	 * Returns the rendition of the given content property, shaped by the given parameters; a page or a size, for
+	 * example.
+	 */
+	default InputStream getRendition(S entity, PropertyPath path, String mimeType, RenditionParameters parameters) {
+		return getRendition(entity, path, mimeType);
+	}
 }
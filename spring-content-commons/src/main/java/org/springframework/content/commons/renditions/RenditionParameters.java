@@ -0,0 +1,163 @@
+package org.springframework.content.commons.renditions;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Parameters that shape a rendition, such as which page to render and at what size.  Providers use the parameters
+ * they understand and ignore the rest.
+ *
+ * Parameters are usually taken from the parameters of the requested mime type, for example
+ * <code>image/jpeg;page=2;width=200</code>, or from request query parameters.
+ */
+public final class RenditionParameters {
+
+    public static final String PAGE = "page";
+    public static final String WIDTH = "width";
+    public static final String HEIGHT = "height";
+    public static final String DPI = "dpi";
+    public static final String QUALITY = "quality";
+    public static final String IMAGE_TYPE = "imageType";
+
+    public static final String IMAGE_TYPE_RGB = "rgb";
+    public static final String IMAGE_TYPE_GRAY = "gray";
+    public static final String IMAGE_TYPE_BINARY = "binary";
+
+    public static final RenditionParameters NONE = new RenditionParameters(Collections.emptyMap());
+
+    private final Map<String, String> parameters;
+
+    private RenditionParameters(Map<String, String> parameters) {
+        this.parameters = parameters;
+    }
+
+    public static RenditionParameters of(Map<String, String> parameters) {
+        if (parameters == null || parameters.isEmpty()) {
+            return NONE;
+        }
+        return new RenditionParameters(Collections.unmodifiableMap(new LinkedHashMap<>(parameters)));
+    }
+
+    /**
+     * Returns parameters with the given parameters added, replacing any of the same name.
+     */
+    public RenditionParameters with(Map<String, String> parameters) {
+        if (parameters == null || parameters.isEmpty()) {
+            return this;
+        }
+        Map<String, String> merged = new LinkedHashMap<>(this.parameters);
+        merged.putAll(parameters);
+        return of(merged);
+    }
+
+    public String get(String name) {
+        return parameters.get(name);
+    }
+
+    public Map<String, String> asMap() {
+        return parameters;
+    }
+
+    public boolean isEmpty() {
+        return parameters.isEmpty();
+    }
+
+    /**
+     * @return the zero-based page to render, or null
+     */
+    public Integer getPage() {
+        return getInteger(PAGE);
+    }
+
+    /**
+     * @return the width to fit the rendition within, in pixels, or null
+     */
+    public Integer getWidth() {
+        return getInteger(WIDTH);
+    }
+
+    /**
+     * @return the height to fit the rendition within, in pixels, or null
+     */
+    public Integer getHeight() {
+        return getInteger(HEIGHT);
+    }
+
+    public Integer getDpi() {
+        return getInteger(DPI);
+    }
+
+    /**
+     * @return the compression quality, between 0 and 1, or null
+     */
+    public Float getQuality() {
+        String value = parameters.get(QUALITY);
+        if (value == null) {
+            return null;
+        }
+        try {
+            float quality = Float.parseFloat(value);
+            if (quality < 0 || quality > 1) {
+                throw new IllegalArgumentException(String.format("Rendition parameter %s must be between 0 and 1", QUALITY));
+            }
+            return quality;
+        } catch (NumberFormatException nfe) {
+            throw new IllegalArgumentException(String.format("Rendition parameter %s is not a number", QUALITY), nfe);
+        }
+    }
+
+    /**
+     * @return the image type; one of {@link #IMAGE_TYPE_RGB rgb}, {@link #IMAGE_TYPE_GRAY gray} or
+     * {@link #IMAGE_TYPE_BINARY binary}, or null
+     */
+    public String getImageType() {
+        String value = parameters.get(IMAGE_TYPE);
+        if (value == null) {
+            return null;
+        }
+        String imageType = value.toLowerCase(Locale.ROOT);
+        if (!imageType.equals(IMAGE_TYPE_RGB) && !imageType.equals(IMAGE_TYPE_GRAY) && !imageType.equals(IMAGE_TYPE_BINARY)) {
+            throw new IllegalArgumentException(String.format("Rendition parameter %s must be one of %s, %s or %s", IMAGE_TYPE, IMAGE_TYPE_RGB, IMAGE_TYPE_GRAY, IMAGE_TYPE_BINARY));
+        }
+        return imageType;
+    }
+
+    private Integer getInteger(String name) {
+        String value = parameters.get(name);
+        if (value == null) {
+            return null;
+        }
+        try {
+            int i = Integer.parseInt(value);
+            if (i < 0) {
+                throw new IllegalArgumentException(String.format("Rendition parameter %s must not be negative", name));
+            }
+            return i;
+        } catch (NumberFormatException nfe) {
+            throw new IllegalArgumentException(String.format("Rendition parameter %s is not a number", name), nfe);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o instanceof RenditionParameters == false) {
+            return false;
+        }
+        return parameters.equals(((RenditionParameters) o).parameters);
+    }
+
+    @Override
+    public int hashCode() {
+        return parameters.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "RenditionParameters" + parameters;
+    }
+}
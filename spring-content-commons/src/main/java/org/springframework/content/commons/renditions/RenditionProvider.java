@@ -10,4 +10,12 @@ public interface RenditionProvider {
 
 	public InputStream convert(InputStream fromInputSource, String toMimeType);
 
+	/**
+	 * Converts the content, shaping the rendition with the given parameters.  Providers that take no parameters need
+	 * not implement this.
+	 */
+	default InputStream convert(InputStream fromInputSource, String toMimeType, RenditionParameters parameters) {
+		return convert(fromInputSource, toMimeType);
+	}
+
 }
@@ -11,4 +11,9 @@ public interface RenditionService {
 	public InputStream convert(String fromMimeType, InputStream fromInputSource,
 			String toMimeType);
 
+	default InputStream convert(String fromMimeType, InputStream fromInputSource,
+			String toMimeType, RenditionParameters parameters) {
+		return convert(fromMimeType, fromInputSource, toMimeType);
+	}
+
 }
@@ -15,12 +15,14 @@ import org.apache.commons.lang.ClassUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.target.AbstractLazyCreationTargetSource;
 import org.springframework.beans.factory.BeanClassLoaderAware;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.BeanFactoryAware;
 import org.springframework.beans.factory.FactoryBean;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.content.commons.fragments.ParameterTypeAware;
 import org.springframework.content.commons.store.AssociativeStore;
 import org.springframework.content.commons.store.ContentStore;
@@ -33,11 +35,19 @@ import org.springframework.util.Assert;
 
 import internal.org.springframework.content.commons.config.StoreFragment;
 import internal.org.springframework.content.commons.config.StoreFragments;
+import internal.org.springframework.content.commons.repository.AnnotatedStoreEventInvoker;
+import internal.org.springframework.content.commons.repository.ReactiveStoreEventInvoker;
 import internal.org.springframework.content.commons.store.factory.ReactiveStoreImpl;
 import internal.org.springframework.content.commons.store.factory.StoreImpl;
 import internal.org.springframework.content.commons.store.factory.StoreMethodInterceptor;
 
 /**
+ * Creates store proxies and their fragment chains.
+ *
+ * When lazily initialized, with <code>spring.content.stores.lazy-initialization</code>, the factory returns a proxy
+ * of the store interface whose first invocation creates the store and its fragments, once, and delegates every
+ * invocation thereafter.  Stores an application never uses are then never created.
+ *
  * @deprecated This class is deprecated. Use {@link org.springframework.content.commons.store.factory.AbstractStoreFactoryBean} instead.
  */
 @Deprecated
@@ -61,6 +71,8 @@ public abstract class AbstractStoreFactoryBean
 	private ApplicationEventPublisher publisher;
 
 	private Store<? extends Serializable> store;
+	private Store<? extends Serializable> lazyStore;
+	private boolean lazyInit = false;
 
 	@Autowired(required = false)
 	private Set<StoreExtension> extensions = Collections.emptySet();
@@ -78,6 +90,15 @@ public abstract class AbstractStoreFactoryBean
 		this.storeFragments = storeFragments;
 	}
 
+	@Value("${spring.content.stores.lazy-initialization:false}")
+	public void setLazyInit(boolean lazyInit) {
+		this.lazyInit = lazyInit;
+	}
+
+	public boolean isLazyInit() {
+		return this.lazyInit;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 *
@@ -132,6 +153,9 @@ public abstract class AbstractStoreFactoryBean
 	 */
 	@Override
     public Store<? extends Serializable> getObject() {
+		if (lazyInit) {
+			return lazyInitAndReturn();
+		}
 		return initAndReturn();
 	}
 
@@ -163,7 +187,9 @@ public abstract class AbstractStoreFactoryBean
 	 */
 	@Override
 	public void afterPropertiesSet() throws Exception {
-		initAndReturn();
+		if (!lazyInit) {
+			initAndReturn();
+		}
 	}
 
 	private Store<? extends Serializable> initAndReturn() {
@@ -173,15 +199,34 @@ public abstract class AbstractStoreFactoryBean
 		return store;
 	}
 
-	@SuppressWarnings("unchecked")
-	protected Store<? extends Serializable> createContentStore() {
-		Object target = getContentStoreImpl();
+	private synchronized Store<? extends Serializable> lazyInitAndReturn() {
+		if (lazyStore == null) {
+			lazyStore = createLazyContentStore();
+		}
+		return lazyStore;
+	}
 
-		// Create proxy
+	/**
+	 * Returns a proxy of the store interface that creates the store on its first invocation.  Creation is
+	 * synchronized by the target source so the store and its fragments are only ever created once.
+	 */
+	@SuppressWarnings("unchecked")
+	protected Store<? extends Serializable> createLazyContentStore() {
 		ProxyFactory result = new ProxyFactory();
-		result.setTarget(target);
-        if (!ClassUtils.getAllInterfaces(storeInterface).contains(ReactiveContentStore.class) && !ClassUtils.getAllInterfaces(storeInterface).contains(org.springframework.content.commons.repository.ReactiveContentStore.class)) {
-            result.setInterfaces(new Class[] {
+		result.setTargetSource(new AbstractLazyCreationTargetSource() {
+			@Override
+			protected Object createObject() {
+				return initAndReturn();
+			}
+		});
+		result.setInterfaces(getProxyInterfaces());
+
+		return (Store<? extends Serializable>) result.getProxy(classLoader);
+	}
+
+	private Class<?>[] getProxyInterfaces() {
+		if (!ClassUtils.getAllInterfaces(storeInterface).contains(ReactiveContentStore.class) && !ClassUtils.getAllInterfaces(storeInterface).contains(org.springframework.content.commons.repository.ReactiveContentStore.class)) {
+			return new Class[] {
 					storeInterface,
 					org.springframework.content.commons.repository.Store.class,
 					org.springframework.content.commons.repository.AssociativeStore.class,
@@ -190,17 +235,26 @@ public abstract class AbstractStoreFactoryBean
 					AssociativeStore.class,
 					ContentStore.class,
 					ParameterTypeAware.class
-			});
-        } else {
-            result.setInterfaces(new Class[] {
-					storeInterface,
-					org.springframework.content.commons.repository.Store.class,
-					org.springframework.content.commons.repository.ReactiveContentStore.class,
-					Store.class,
-					ReactiveContentStore.class,
-					ParameterTypeAware.class
-			});
-        }
+			};
+		}
+		return new Class[] {
+				storeInterface,
+				org.springframework.content.commons.repository.Store.class,
+				org.springframework.content.commons.repository.ReactiveContentStore.class,
+				Store.class,
+				ReactiveContentStore.class,
+				ParameterTypeAware.class
+		};
+	}
+
+	@SuppressWarnings("unchecked")
+	protected Store<? extends Serializable> createContentStore() {
+		Object target = getContentStoreImpl();
+
+		// Create proxy
+		ProxyFactory result = new ProxyFactory();
+		result.setTarget(target);
+		result.setInterfaces(getProxyInterfaces());
 
 		Map<Method, StoreExtension> extensionsMap = new HashMap<>();
 		try {
@@ -221,7 +275,8 @@ public abstract class AbstractStoreFactoryBean
 		if (!ClassUtils.getAllInterfaces(storeInterface).contains(ReactiveContentStore.class) && !ClassUtils.getAllInterfaces(storeInterface).contains(org.springframework.content.commons.repository.ReactiveContentStore.class)) {
 		    storeFragments.add(new StoreFragment(storeInterface, new StoreImpl((org.springframework.content.commons.repository.Store<Serializable>) target, publisher, Paths.get(System.getProperty("java.io.tmpdir")))));
 		} else {
-            storeFragments.add(new StoreFragment(storeInterface, new ReactiveStoreImpl((ReactiveContentStore<Object, Serializable>) target, publisher)));
+            AnnotatedStoreEventInvoker eventInvoker = beanFactory != null ? beanFactory.getBeanProvider(AnnotatedStoreEventInvoker.class).getIfAvailable() : null;
+            storeFragments.add(new StoreFragment(storeInterface, new ReactiveStoreImpl((ReactiveContentStore<Object, Serializable>) target, publisher, new ReactiveStoreEventInvoker(eventInvoker))));
 		}
 		intercepter.setStoreFragments(storeFragments);
 
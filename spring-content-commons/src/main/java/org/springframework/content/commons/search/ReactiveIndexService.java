@@ -0,0 +1,13 @@
+package org.springframework.content.commons.search;
+
+import java.nio.ByteBuffer;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveIndexService<T> {
+
+    Mono<Void> index(T entity, Flux<ByteBuffer> content);
+
+    Mono<Void> unindex(T entity);
+}
@@ -0,0 +1,46 @@
+package org.springframework.content.commons.search;
+
+import java.nio.ByteBuffer;
+
+import org.springframework.content.commons.io.FluxInputStream;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Adapts a blocking {@link IndexService} to a {@link ReactiveIndexService}.
+ *
+ * The index service is called on a scheduler that permits blocking, by default {@link Schedulers#boundedElastic()},
+ * and reads the content through a back-pressured {@link FluxInputStream} so the content is never held in memory
+ * as a whole.
+ */
+public class ReactiveIndexServiceAdapter<T> implements ReactiveIndexService<T> {
+
+    private final IndexService<T> delegate;
+    private final Scheduler scheduler;
+
+    public ReactiveIndexServiceAdapter(IndexService<T> delegate) {
+        this(delegate, Schedulers.boundedElastic());
+    }
+
+    public ReactiveIndexServiceAdapter(IndexService<T> delegate, Scheduler scheduler) {
+        this.delegate = delegate;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public Mono<Void> index(T entity, Flux<ByteBuffer> content) {
+        return Mono.<Void>fromRunnable(() -> {
+            try (FluxInputStream is = new FluxInputStream(content)) {
+                delegate.index(entity, is);
+            }
+        }).subscribeOn(scheduler);
+    }
+
+    @Override
+    public Mono<Void> unindex(T entity) {
+        return Mono.<Void>fromRunnable(() -> delegate.unindex(entity)).subscribeOn(scheduler);
+    }
+}
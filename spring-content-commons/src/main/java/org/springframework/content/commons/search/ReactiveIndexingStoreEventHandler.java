@@ -0,0 +1,39 @@
+package org.springframework.content.commons.search;
+
+import org.springframework.content.commons.annotations.HandleAfterSetContent;
+import org.springframework.content.commons.annotations.HandleBeforeUnsetContent;
+import org.springframework.content.commons.annotations.StoreEventHandler;
+import org.springframework.content.commons.store.events.AfterSetContentEvent;
+import org.springframework.content.commons.store.events.BeforeUnsetContentEvent;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Keeps a full-text index up to date with the content of reactive stores; the reactive counterpart of the
+ * indexers registered for blocking stores.
+ */
+@StoreEventHandler
+public class ReactiveIndexingStoreEventHandler {
+
+    private final ReactiveIndexService<Object> indexService;
+
+    public ReactiveIndexingStoreEventHandler(ReactiveIndexService<Object> indexService) {
+        this.indexService = indexService;
+    }
+
+    @HandleAfterSetContent
+    public Mono<Void> onAfterSetContent(AfterSetContentEvent event) {
+        if (event.getReactiveStore() == null) {
+            return Mono.empty();
+        }
+        return indexService.index(event.getSource(), event.getReactiveStore().getContent(event.getSource(), event.getPropertyPath()));
+    }
+
+    @HandleBeforeUnsetContent
+    public Mono<Void> onBeforeUnsetContent(BeforeUnsetContentEvent event) {
+        if (event.getReactiveStore() == null) {
+            return Mono.empty();
+        }
+        return indexService.unindex(event.getSource());
+    }
+}
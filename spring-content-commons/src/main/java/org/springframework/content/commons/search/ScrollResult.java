@@ -0,0 +1,39 @@
+package org.springframework.content.commons.search;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * A slice of search results returned by {@link Searchable#scroll(String, String, int)}.
+ * <p>
+ * The cursor is an opaque, URL-safe token that continues the search immediately after the last result in this
+ * slice.  It is {@code null} when there are no more results.
+ */
+public class ScrollResult<T> implements Iterable<T> {
+
+    private final List<T> content;
+    private final String cursor;
+
+    public ScrollResult(List<T> content, String cursor) {
+        this.content = content != null ? content : Collections.emptyList();
+        this.cursor = cursor;
+    }
+
+    public List<T> getContent() {
+        return content;
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public boolean hasNext() {
+        return cursor != null;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return content.iterator();
+    }
+}
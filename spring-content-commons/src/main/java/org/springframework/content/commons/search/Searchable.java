@@ -1,6 +1,7 @@
 package org.springframework.content.commons.search;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 public interface Searchable<T> {
@@ -9,6 +10,40 @@ public interface Searchable<T> {
 
     Page<T> search(String queryString, Pageable pageable);
 
+    /**
+     * Returns up to {@code size} results that follow the given cursor.  Unlike {@link #search(String, Pageable)}
+     * the cost of fetching a page does not grow with its depth.
+     * <p>
+     * Implementations that don't support cursors inherit a default that pages through
+     * {@link #search(String, Pageable)} using the page number as the cursor, so deep pages cost as much as they
+     * would when paged.
+     *
+     * @param queryString the query
+     * @param cursor the cursor returned by the previous call, or {@code null} to start from the first result
+     * @param size the maximum number of results to return
+     * @return the results and a cursor for the next call
+     */
+    default ScrollResult<T> scroll(String queryString, String cursor, int size) {
+
+        int page = 0;
+        if (cursor != null) {
+            try {
+                page = Integer.parseInt(cursor);
+            } catch (NumberFormatException nfe) {
+                throw new IllegalArgumentException(String.format("Invalid cursor %s", cursor), nfe);
+            }
+            if (page < 0) {
+                throw new IllegalArgumentException(String.format("Invalid cursor %s", cursor));
+            }
+        }
+
+        Page<T> results = search(queryString, PageRequest.of(page, size));
+        if (results == null) {
+            return new ScrollResult<>(null, null);
+        }
+        return new ScrollResult<>(results.getContent(), results.hasNext() ? Integer.toString(page + 1) : null);
+    }
+
     @Deprecated
     Iterable<T> findKeyword(String query);
 
@@ -34,4 +34,37 @@ public interface ContentStore<S, SID extends Serializable> extends AssociativeSt
 	InputStream getContent(S entity);
 
     InputStream getContent(S entity, PropertyPath propertyPath);
+
+    /**
+     * Copies the content of the source entity's content property to the target entity's content property.
+     * <p>
+     * The copy is made by the storage backend where it supports one (a server-side copy in S3, Google Cloud Storage
+     * and Azure, a file copy on the filesystem or a single statement in JPA) so the content is not streamed through
+     * the application.  The target's content length, mime type and original file name are copied from the source.
+     *
+     * @param source the entity to copy content from
+     * @param sourcePropertyPath the content property of the source entity
+     * @param target the entity to copy content to
+     * @param targetPropertyPath the content property of the target entity
+     * @return the target entity
+     */
+    @LockParticipant(2)
+    S copyContent(S source, PropertyPath sourcePropertyPath, S target, PropertyPath targetPropertyPath);
+
+    /**
+     * Copies the content of the source entity's content property to a content property of an entity managed by
+     * another store.
+     * <p>
+     * When both stores are on the same storage backend the copy is made by the backend.  Otherwise the content is
+     * streamed from this store to the target store.
+     *
+     * @param source the entity to copy content from
+     * @param sourcePropertyPath the content property of the source entity
+     * @param targetStore the store managing the target entity
+     * @param target the entity to copy content to
+     * @param targetPropertyPath the content property of the target entity
+     * @return the target entity
+     */
+    @LockParticipant(3)
+    <T> T copyContent(S source, PropertyPath sourcePropertyPath, ContentStore<T, ?> targetStore, T target, PropertyPath targetPropertyPath);
 }
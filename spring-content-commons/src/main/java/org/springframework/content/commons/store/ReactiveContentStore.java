@@ -7,6 +7,7 @@ import reactor.core.publisher.Mono;
 
 import java.io.Serializable;
 import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLong;
 
 public interface ReactiveContentStore<S, SID extends Serializable> {
 
@@ -14,5 +15,38 @@ public interface ReactiveContentStore<S, SID extends Serializable> {
 
     Flux<ByteBuffer> getContent(S entity, PropertyPath path);
 
+    /**
+     * Returns length bytes of content starting at the zero-based offset.  A length of -1 reads to the end of the
+     * content.
+     * <p>
+     * The default implementation reads the content from the beginning and discards the bytes before the offset.
+     * Stores that can read from a position should override it.
+     */
+    default Flux<ByteBuffer> getContent(S entity, PropertyPath path, long offset, long length) {
+        if (offset == 0 && length == -1) {
+            return getContent(entity, path);
+        }
+
+        long end = length == -1 ? Long.MAX_VALUE : offset + length;
+        return Flux.defer(() -> {
+            AtomicLong position = new AtomicLong();
+            return getContent(entity, path)
+                    .<ByteBuffer>handle((buffer, sink) -> {
+                        long start = position.getAndAdd(buffer.remaining());
+                        long from = Math.max(offset - start, 0);
+                        long to = Math.min(end - start, buffer.remaining());
+                        if (from < to) {
+                            ByteBuffer slice = buffer.duplicate();
+                            slice.position(slice.position() + (int) from);
+                            slice.limit(slice.position() + (int) (to - from));
+                            sink.next(slice);
+                        }
+                        if (position.get() >= end) {
+                            sink.complete();
+                        }
+                    });
+        });
+    }
+
     Mono<S> unsetContent(S entity, PropertyPath propertyPath);
 }
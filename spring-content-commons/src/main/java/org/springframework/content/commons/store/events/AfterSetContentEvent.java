@@ -2,6 +2,7 @@ package org.springframework.content.commons.store.events;
 
 import org.springframework.content.commons.property.PropertyPath;
 import org.springframework.content.commons.repository.ContentStore;
+import org.springframework.content.commons.store.ReactiveContentStore;
 import org.springframework.content.commons.store.Store;
 
 import java.io.Serializable;
@@ -14,4 +15,8 @@ public class AfterSetContentEvent extends AfterStoreEvent {
 	public AfterSetContentEvent(Object source, PropertyPath propertyPath, Store<Serializable> store) {
 		super(source, propertyPath, store);
 	}
+
+	public AfterSetContentEvent(Object source, PropertyPath propertyPath, ReactiveContentStore<Object, Serializable> reactiveStore) {
+		super(source, propertyPath, reactiveStore);
+	}
 }
@@ -1,6 +1,7 @@
 package org.springframework.content.commons.store.events;
 
 import org.springframework.content.commons.property.PropertyPath;
+import org.springframework.content.commons.store.ReactiveContentStore;
 import org.springframework.content.commons.store.Store;
 
 import java.io.Serializable;
@@ -17,6 +18,10 @@ public class AfterStoreEvent extends StoreEvent {
         super(source, propertyPath, store);
     }
 
+    public AfterStoreEvent(Object source, PropertyPath propertyPath, ReactiveContentStore<Object, Serializable> reactiveStore) {
+        super(source, propertyPath, reactiveStore);
+    }
+
     @Deprecated
     public void setResult(Object result) {
         this.result = result;
@@ -1,6 +1,7 @@
 package org.springframework.content.commons.store.events;
 
 import org.springframework.content.commons.property.PropertyPath;
+import org.springframework.content.commons.store.ReactiveContentStore;
 import org.springframework.content.commons.store.Store;
 
 import java.io.Serializable;
@@ -13,4 +14,8 @@ public class BeforeGetContentEvent extends StoreEvent {
 	public BeforeGetContentEvent(Object source, PropertyPath propertyPath, Store<Serializable> store) {
 		super(source, propertyPath, store);
 	}
+
+	public BeforeGetContentEvent(Object source, PropertyPath propertyPath, ReactiveContentStore<Object, Serializable> reactiveStore) {
+		super(source, propertyPath, reactiveStore);
+	}
 }
@@ -3,6 +3,7 @@ package org.springframework.content.commons.store.events;
 import lombok.Getter;
 import org.springframework.content.commons.property.PropertyPath;
 import org.springframework.content.commons.store.ContentStore;
+import org.springframework.content.commons.store.ReactiveContentStore;
 import org.springframework.content.commons.store.Store;
 import org.springframework.core.io.Resource;
 
@@ -36,6 +37,10 @@ public class BeforeSetContentEvent extends StoreEvent {
         this.resource = resource;
     }
 
+    public BeforeSetContentEvent(Object source, PropertyPath propertyPath, ReactiveContentStore<Object, Serializable> reactiveStore) {
+        super(source, propertyPath, reactiveStore);
+    }
+
     /**
      * Deprecated.
      *
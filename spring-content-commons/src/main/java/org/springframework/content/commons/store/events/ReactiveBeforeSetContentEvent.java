@@ -0,0 +1,34 @@
+package org.springframework.content.commons.store.events;
+
+import org.springframework.content.commons.property.PropertyPath;
+import org.springframework.content.commons.store.ReactiveContentStore;
+
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * Published by a {@link ReactiveContentStore} before content is set.
+ *
+ * Handlers may replace the content with {@link #setContent(Flux)}, for example to transform or encrypt it on its
+ * way to the store.  The content is not subscribed to until the store writes it.
+ */
+public class ReactiveBeforeSetContentEvent extends BeforeSetContentEvent {
+    private static final long serialVersionUID = 2916307351848155412L;
+
+    private transient Flux<ByteBuffer> content;
+
+    public ReactiveBeforeSetContentEvent(Object source, PropertyPath propertyPath, ReactiveContentStore<Object, Serializable> reactiveStore, Flux<ByteBuffer> content) {
+        super(source, propertyPath, reactiveStore);
+        this.content = content;
+    }
+
+    public Flux<ByteBuffer> getContent() {
+        return content;
+    }
+
+    public void setContent(Flux<ByteBuffer> content) {
+        this.content = content;
+    }
+}
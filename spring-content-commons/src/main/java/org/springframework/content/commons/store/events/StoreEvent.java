@@ -3,6 +3,7 @@ package org.springframework.content.commons.store.events;
 import org.springframework.content.commons.property.PropertyPath;
 import org.springframework.content.commons.repository.ContentStore;
 import org.springframework.content.commons.repository.Store;
+import org.springframework.content.commons.store.ReactiveContentStore;
 import org.springframework.context.ApplicationEvent;
 
 import java.io.Serializable;
@@ -12,6 +13,7 @@ public class StoreEvent extends org.springframework.content.commons.repository.S
 
 	private Store<Serializable> store = null;
     private PropertyPath propertyPath;
+    private transient ReactiveContentStore<Object, Serializable> reactiveStore;
 
 	public StoreEvent(Object source, Store<Serializable> store) {
 		super(source, store);
@@ -23,4 +25,17 @@ public class StoreEvent extends org.springframework.content.commons.repository.S
         this.propertyPath = properyPath;
         this.store = store;
     }
+
+    public StoreEvent(Object source, PropertyPath propertyPath, ReactiveContentStore<Object, Serializable> reactiveStore) {
+        super(source, propertyPath, (Store<Serializable>) null);
+        this.propertyPath = propertyPath;
+        this.reactiveStore = reactiveStore;
+    }
+
+    /**
+     * Returns the reactive store that published this event, or null if the event was published by a blocking store.
+     */
+    public ReactiveContentStore<Object, Serializable> getReactiveStore() {
+        return reactiveStore;
+    }
 }
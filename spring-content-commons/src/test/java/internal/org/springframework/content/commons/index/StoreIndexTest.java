@@ -0,0 +1,109 @@
+package internal.org.springframework.content.commons.index;
+
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.AfterEach;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.BeforeEach;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.Context;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.Describe;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.It;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.runner.RunWith;
+import org.springframework.core.env.Environment;
+import org.springframework.util.FileSystemUtils;
+
+import com.github.paulcwarren.ginkgo4j.Ginkgo4jRunner;
+
+@RunWith(Ginkgo4jRunner.class)
+public class StoreIndexTest {
+
+    private static final String TEST_INDEX = "internal/org/springframework/content/commons/index/test-spring-content.index";
+
+    private StoreIndex index;
+
+    private Path indexedRoot, unindexedRoot;
+
+    {
+        Describe("StoreIndex", () -> {
+            Context("given an index", () -> {
+                BeforeEach(() -> {
+                    index = StoreIndex.doLoadIndex(this.getClass().getClassLoader(), TEST_INDEX);
+                });
+
+                It("should return the stores in a package and its sub-packages", () -> {
+                    assertThat(index.getStores("com.example"), containsInAnyOrder("com.example.DocumentStore", "com.example.Stores$NestedStore", "com.example.documents.VideoStore"));
+                    assertThat(index.getStores("com.example.documents"), containsInAnyOrder("com.example.documents.VideoStore"));
+                });
+
+                It("should return the fragments in a package", () -> {
+                    assertThat(index.getFragments("com.example"), containsInAnyOrder("com.example.CustomImpl"));
+                    assertThat(index.getFragments("internal.org.springframework.content.fragments"), containsInAnyOrder("internal.org.springframework.content.fragments.SearchableImpl"));
+                });
+
+                It("should return nothing for a package that isn't indexed", () -> {
+                    assertThat(index.getStores("org.example"), is(empty()));
+                    assertThat(index.getFragments("org.example"), is(empty()));
+                });
+            });
+
+            Context("given an index in some of the classpath roots containing a package", () -> {
+                BeforeEach(() -> {
+                    indexedRoot = Files.createTempDirectory("indexed");
+                    Files.createDirectories(indexedRoot.resolve("org/springframework/content/commons/store"));
+                    Files.createDirectories(indexedRoot.resolve("com/example"));
+                    Files.createDirectories(indexedRoot.resolve("META-INF"));
+                    Files.write(indexedRoot.resolve(StoreIndex.INDEX_LOCATION), Arrays.asList(
+                            "org.springframework.content.commons.store.ContentStore=store",
+                            "com.example.DocumentStore=store"));
+
+                    unindexedRoot = Files.createTempDirectory("unindexed");
+                    Files.createDirectories(unindexedRoot.resolve("org/springframework/content/app"));
+
+                    ClassLoader classLoader = new URLClassLoader(new URL[] {indexedRoot.toUri().toURL(), unindexedRoot.toUri().toURL()}, null);
+                    index = StoreIndex.doLoadIndex(classLoader, StoreIndex.INDEX_LOCATION);
+                });
+
+                AfterEach(() -> {
+                    FileSystemUtils.deleteRecursively(indexedRoot);
+                    FileSystemUtils.deleteRecursively(unindexedRoot);
+                });
+
+                It("should return the stores of a package only in indexed roots", () -> {
+                    assertThat(index.getStores("com.example"), containsInAnyOrder("com.example.DocumentStore"));
+                    assertThat(index.getStores("org.springframework.content.commons"), containsInAnyOrder("org.springframework.content.commons.store.ContentStore"));
+                });
+
+                It("should return null for a package that is also in a root without an index", () -> {
+                    assertThat(index.getStores("org.springframework.content"), is(nullValue()));
+                    assertThat(index.getStores("org.springframework.content.app"), is(nullValue()));
+                });
+            });
+
+            Context("given no index", () -> {
+                It("should return no index", () -> {
+                    assertThat(StoreIndex.doLoadIndex(this.getClass().getClassLoader(), "META-INF/missing.index").getStores(""), is(empty()));
+                });
+            });
+
+            Context("given the index is ignored", () -> {
+                It("should return null", () -> {
+                    Environment env = mock(Environment.class);
+                    when(env.getProperty(StoreIndex.IGNORE_INDEX_PROPERTY, Boolean.class, false)).thenReturn(true);
+
+                    assertThat(StoreIndex.loadIndex(this.getClass().getClassLoader(), env), is(nullValue()));
+                });
+            });
+        });
+    }
+}
@@ -0,0 +1,204 @@
+package internal.org.springframework.content.commons.store.factory;
+
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.BeforeEach;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.Context;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.Describe;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.It;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.JustBeforeEach;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.runner.RunWith;
+import org.springframework.content.commons.annotations.HandleAfterGetContent;
+import org.springframework.content.commons.annotations.HandleAfterSetContent;
+import org.springframework.content.commons.annotations.HandleAfterUnsetContent;
+import org.springframework.content.commons.annotations.HandleBeforeGetContent;
+import org.springframework.content.commons.annotations.HandleBeforeSetContent;
+import org.springframework.content.commons.annotations.HandleBeforeUnsetContent;
+import org.springframework.content.commons.annotations.StoreEventHandler;
+import org.springframework.content.commons.property.PropertyPath;
+import org.springframework.content.commons.store.ReactiveContentStore;
+import org.springframework.content.commons.store.events.AfterSetContentEvent;
+import org.springframework.content.commons.store.events.BeforeSetContentEvent;
+import org.springframework.content.commons.store.events.ReactiveBeforeSetContentEvent;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.github.paulcwarren.ginkgo4j.Ginkgo4jRunner;
+
+import internal.org.springframework.content.commons.repository.AnnotatedStoreEventInvoker;
+import internal.org.springframework.content.commons.repository.ReactiveStoreEventInvoker;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RunWith(Ginkgo4jRunner.class)
+public class ReactiveStoreImplTest {
+
+    private ReactiveStoreImpl store;
+
+    private ReactiveContentStore<Object, Serializable> delegate;
+    private AnnotatedStoreEventInvoker invoker;
+    private Handler handler;
+
+    private Object entity;
+    private List<ByteBuffer> written;
+
+    {
+        Describe("ReactiveStoreImpl", () -> {
+
+            BeforeEach(() -> {
+                delegate = mock(ReactiveContentStore.class);
+                entity = new Object();
+
+                handler = new Handler();
+                invoker = new AnnotatedStoreEventInvoker();
+                invoker.postProcessAfterInitialization(handler, "handler");
+            });
+
+            JustBeforeEach(() -> {
+                store = new ReactiveStoreImpl(delegate, mock(ApplicationEventPublisher.class), new ReactiveStoreEventInvoker(invoker));
+            });
+
+            Context("#setContent", () -> {
+                BeforeEach(() -> {
+                    written = new ArrayList<>();
+                    when(delegate.setContent(eq(entity), any(PropertyPath.class), anyLong(), any())).thenAnswer(invocation -> {
+                        Flux<ByteBuffer> content = invocation.getArgument(3);
+                        return content.doOnNext(written::add).then(Mono.just(entity));
+                    });
+                });
+
+                It("should not publish anything until subscribed to", () -> {
+                    store.setContent(entity, PropertyPath.from("content"), 3L, Flux.just(ByteBuffer.wrap("foo".getBytes())));
+
+                    assertThat(handler.events.size(), is(0));
+                });
+
+                It("should publish before and after events around the delegate", () -> {
+                    Object result = store.setContent(entity, PropertyPath.from("content"), 3L, Flux.just(ByteBuffer.wrap("foo".getBytes()))).block();
+
+                    assertThat(result, is(entity));
+                    assertThat(handler.events, contains("beforeSet", "afterSet"));
+                    assertThat(new String(written.get(0).array(), StandardCharsets.UTF_8), is("foo"));
+                });
+
+                It("should write the content set by a before handler", () -> {
+                    handler.replacement = Flux.just(ByteBuffer.wrap("bar".getBytes()));
+
+                    store.setContent(entity, PropertyPath.from("content"), 3L, Flux.just(ByteBuffer.wrap("foo".getBytes()))).block();
+
+                    assertThat(new String(written.get(0).array(), StandardCharsets.UTF_8), is("bar"));
+                });
+            });
+
+            Context("#getContent", () -> {
+                BeforeEach(() -> {
+                    when(delegate.getContent(eq(entity), any(PropertyPath.class))).thenReturn(Flux.defer(() -> {
+                        handler.events.add("read");
+                        return Flux.just(ByteBuffer.wrap("foo".getBytes()));
+                    }));
+                });
+
+                It("should publish the after event once the content has been read", () -> {
+                    List<ByteBuffer> buffers = store.getContent(entity, PropertyPath.from("content")).collectList().block();
+
+                    assertThat(buffers.size(), is(1));
+                    assertThat(handler.events, contains("beforeGet", "read", "afterGet"));
+                });
+            });
+
+            Context("#unsetContent", () -> {
+                BeforeEach(() -> {
+                    when(delegate.unsetContent(eq(entity), any(PropertyPath.class))).thenReturn(Mono.defer(() -> {
+                        handler.events.add("unset");
+                        return Mono.just(entity);
+                    }));
+                });
+
+                It("should publish before and after events around the delegate", () -> {
+                    store.unsetContent(entity, PropertyPath.from("content")).block();
+
+                    assertThat(handler.events, contains("beforeUnset", "unset", "afterUnset"));
+                });
+            });
+
+            Context("given no reactive handlers", () -> {
+                BeforeEach(() -> {
+                    invoker = new AnnotatedStoreEventInvoker();
+                    invoker.postProcessAfterInitialization(new BlockingHandler(), "blockingHandler");
+                    when(delegate.unsetContent(eq(entity), any(PropertyPath.class))).thenReturn(Mono.just(entity));
+                });
+
+                It("should not invoke blocking handlers", () -> {
+                    assertThat(store.unsetContent(entity, PropertyPath.from("content")).block(), is(entity));
+                    assertThat(BlockingHandler.invoked, is(nullValue()));
+                });
+            });
+        });
+    }
+
+    @StoreEventHandler
+    public static class Handler {
+
+        private final List<String> events = new ArrayList<>();
+        private Flux<ByteBuffer> replacement;
+
+        @HandleBeforeSetContent
+        public Mono<Void> beforeSet(BeforeSetContentEvent event) {
+            return Mono.fromRunnable(() -> {
+                events.add("beforeSet");
+                if (replacement != null) {
+                    ((ReactiveBeforeSetContentEvent) event).setContent(replacement);
+                }
+            });
+        }
+
+        @HandleAfterSetContent
+        public Mono<Void> afterSet(AfterSetContentEvent event) {
+            return Mono.fromRunnable(() -> events.add("afterSet"));
+        }
+
+        @HandleBeforeGetContent
+        public Mono<Void> beforeGet(Object entity) {
+            return Mono.fromRunnable(() -> events.add("beforeGet"));
+        }
+
+        @HandleAfterGetContent
+        public Mono<Void> afterGet(Object entity) {
+            return Mono.fromRunnable(() -> events.add("afterGet"));
+        }
+
+        @HandleBeforeUnsetContent
+        public Mono<Void> beforeUnset(Object entity) {
+            return Mono.fromRunnable(() -> events.add("beforeUnset"));
+        }
+
+        @HandleAfterUnsetContent
+        public Mono<Void> afterUnset(Object entity) {
+            return Mono.fromRunnable(() -> events.add("afterUnset"));
+        }
+    }
+
+    @StoreEventHandler
+    public static class BlockingHandler {
+
+        private static Object invoked;
+
+        @HandleBeforeUnsetContent
+        public void beforeUnset(Object entity) {
+            invoked = entity;
+        }
+    }
+}
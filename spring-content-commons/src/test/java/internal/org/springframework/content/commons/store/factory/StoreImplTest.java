@@ -5,11 +5,17 @@ import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.Context;
 import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.Describe;
 import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.It;
 import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.JustBeforeEach;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyObject;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
 import java.io.ByteArrayInputStream;
 import java.io.File;
@@ -18,28 +24,40 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.runner.RunWith;
+import org.springframework.content.commons.annotations.ContentId;
+import org.springframework.content.commons.annotations.ContentLength;
+import org.springframework.content.commons.annotations.MimeType;
+import org.springframework.content.commons.property.PropertyPath;
 import org.springframework.content.commons.repository.ContentStore;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.Resource;
 
 import com.github.paulcwarren.ginkgo4j.Ginkgo4jRunner;
 
+import lombok.Getter;
+import lombok.Setter;
+
 @RunWith(Ginkgo4jRunner.class)
 public class StoreImplTest {
 
     private StoreImpl stores;
 
     private ContentStore store;
+    private ContentStore proxy;
     private ApplicationEventPublisher publisher;
     private String tmpDir;
     private Path contentCopyPathRoot;
 
+    private TestEntity source, target;
+    private Resource resource;
+
     {
         Describe("StoreImpl", () -> {
 
             BeforeEach(() -> {
                 store = mock(ContentStore.class);
                 publisher = mock(ApplicationEventPublisher.class);
-
+                proxy = null;
             });
             JustBeforeEach(() -> {
                 contentCopyPathRoot = Files.createTempDirectory("storeimpltest");
@@ -51,6 +69,9 @@ public class StoreImplTest {
                 }
 
                 stores = new StoreImpl(store, publisher, contentCopyPathRoot);
+                if (proxy != null) {
+                    stores.setContentStore(proxy);
+                }
             });
 
             Context("#setContent - inputstream", () -> {
@@ -71,6 +92,60 @@ public class StoreImplTest {
                     }
                 });
             });
+
+            Context("#copyContent", () -> {
+
+                BeforeEach(() -> {
+                    source = new TestEntity();
+                    source.setContentId("source-id");
+                    source.setContentLen(3L);
+                    source.setMimeType("text/plain");
+                    target = new TestEntity();
+
+                    resource = mock(Resource.class);
+                    when(resource.exists()).thenReturn(true);
+                    when(store.getResource(eq(source), eq(PropertyPath.from("content")))).thenReturn(resource);
+                    when(store.setContent(eq(target), eq(PropertyPath.from("content")), eq(resource))).thenReturn(target);
+                });
+
+                JustBeforeEach(() -> {
+                    stores.copyContent(source, PropertyPath.from("content"), target, PropertyPath.from("content"));
+                });
+
+                It("should set the target's content from the source's resource", () -> {
+                    verify(store).setContent(eq(target), eq(PropertyPath.from("content")), eq(resource));
+                });
+
+                It("should copy the content metadata", () -> {
+                    assertThat(target.getContentLen(), is(3L));
+                    assertThat(target.getMimeType(), is("text/plain"));
+                });
+
+                Context("given the store's proxy", () -> {
+
+                    BeforeEach(() -> {
+                        proxy = mock(ContentStore.class, withSettings().extraInterfaces(org.springframework.content.commons.store.ContentStore.class));
+                        when(((org.springframework.content.commons.store.ContentStore) proxy).setContent(eq(target), eq(PropertyPath.from("content")), eq(resource))).thenReturn(target);
+                    });
+
+                    It("should set the target's content through the proxy", () -> {
+                        verify((org.springframework.content.commons.store.ContentStore) proxy).setContent(eq(target), eq(PropertyPath.from("content")), eq(resource));
+                        verify(store, never()).setContent(eq(target), eq(PropertyPath.from("content")), any(Resource.class));
+                        assertThat(target.getContentLen(), is(3L));
+                    });
+                });
+            });
         });
     }
+
+    @Getter
+    @Setter
+    public static class TestEntity {
+        @ContentId
+        private String contentId;
+        @ContentLength
+        private Long contentLen;
+        @MimeType
+        private String mimeType;
+    }
 }
@@ -0,0 +1,127 @@
+package internal.org.springframework.content.commons.utils;
+
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.BeforeEach;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.Context;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.Describe;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.It;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.runner.RunWith;
+
+import com.github.paulcwarren.ginkgo4j.Ginkgo4jRunner;
+
+@RunWith(Ginkgo4jRunner.class)
+public class ExpiringCacheTest {
+
+    private ExpiringCache<String, String> cache;
+
+    private List<String> removed;
+
+    {
+        Describe("ExpiringCache", () -> {
+            BeforeEach(() -> {
+                removed = new ArrayList<>();
+            });
+
+            Context("given entries that expire after write", () -> {
+                BeforeEach(() -> {
+                    cache = new ExpiringCache<>(60000, 2, false, (k, v) -> removed.add(k));
+                    cache.put("a", "1");
+                    cache.put("b", "2");
+                });
+
+                It("should return cached values", () -> {
+                    assertThat(cache.get("a"), is("1"));
+                    assertThat(cache.get("b"), is("2"));
+                    assertThat(cache.get("c"), is(nullValue()));
+                });
+
+                It("should evict the entry closest to expiry when full", () -> {
+                    cache.get("a");
+                    cache.put("c", "3");
+
+                    assertThat(cache.get("a"), is(nullValue()));
+                    assertThat(cache.get("b"), is("2"));
+                    assertThat(cache.get("c"), is("3"));
+                    assertThat(removed, contains("a"));
+                });
+
+                It("should not tell the listener of replaced values", () -> {
+                    cache.put("a", "4");
+
+                    assertThat(cache.get("a"), is("4"));
+                    assertThat(removed, is(empty()));
+                });
+
+                It("should leave an entry alone when compute returns its current value", () -> {
+                    cache.compute("a", (k, current) -> current);
+                    cache.put("c", "3");
+
+                    assertThat(cache.get("a"), is(nullValue()));
+                    assertThat(cache.get("b"), is("2"));
+                });
+
+                It("should remove an entry when compute returns null", () -> {
+                    cache.compute("a", (k, current) -> null);
+
+                    assertThat(cache.get("a"), is(nullValue()));
+                    assertThat(cache.size(), is(1));
+                    assertThat(removed, contains("a"));
+                });
+
+                It("should tell the listener of removed and cleared values", () -> {
+                    assertThat(cache.remove("a"), is("1"));
+                    cache.clear();
+
+                    assertThat(cache.size(), is(0));
+                    assertThat(removed, contains("a", "b"));
+                });
+            });
+
+            Context("given entries that expire after access", () -> {
+                BeforeEach(() -> {
+                    cache = new ExpiringCache<>(60000, 2, true, (k, v) -> removed.add(k));
+                    cache.put("a", "1");
+                    cache.put("b", "2");
+                });
+
+                It("should evict the least recently used entry when full", () -> {
+                    cache.get("a");
+                    cache.put("c", "3");
+
+                    assertThat(cache.get("a"), is("1"));
+                    assertThat(cache.get("b"), is(nullValue()));
+                    assertThat(removed, contains("b"));
+                });
+            });
+
+            Context("given entries that have expired", () -> {
+                BeforeEach(() -> {
+                    cache = new ExpiringCache<>(50, 10, false, (k, v) -> removed.add(k));
+                    cache.put("a", "1");
+                    cache.put("b", "2");
+                    Thread.sleep(100);
+                    cache.put("c", "3");
+                });
+
+                It("should remove only the expired entries", () -> {
+                    assertThat(cache.size(), is(1));
+                    assertThat(cache.get("c"), is("3"));
+                    assertThat(removed, containsInAnyOrder("a", "b"));
+                });
+
+                It("should compute from no value", () -> {
+                    assertThat(cache.computeIfAbsent("a", k -> "4"), is("4"));
+                });
+            });
+        });
+    }
+}
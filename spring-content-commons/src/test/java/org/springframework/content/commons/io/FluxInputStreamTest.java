@@ -0,0 +1,77 @@
+package org.springframework.content.commons.io;
+
+import com.github.paulcwarren.ginkgo4j.Ginkgo4jRunner;
+import org.apache.commons.io.IOUtils;
+import org.junit.runner.RunWith;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import reactor.core.publisher.Flux;
+
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.*;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.fail;
+
+@RunWith(Ginkgo4jRunner.class)
+public class FluxInputStreamTest {
+
+    private FluxInputStream is;
+
+    private AtomicLong requested;
+    private AtomicBoolean cancelled;
+
+    {
+        Describe("FluxInputStream", () -> {
+            BeforeEach(() -> {
+                requested = new AtomicLong();
+                cancelled = new AtomicBoolean();
+            });
+            Context("given content", () -> {
+                BeforeEach(() -> {
+                    is = new FluxInputStream(Flux.just("Hello ", "", "flux ", "world!")
+                            .map(s -> ByteBuffer.wrap(s.getBytes(StandardCharsets.UTF_8)))
+                            .doOnRequest(requested::addAndGet)
+                            .doOnCancel(() -> cancelled.set(true)), 2);
+                });
+                It("should not subscribe until read", () -> {
+                    assertThat(requested.get(), is(0L));
+                });
+                It("should read the content", () -> {
+                    assertThat(IOUtils.toString(is, StandardCharsets.UTF_8), is("Hello flux world!"));
+                    assertThat(is.read(), is(-1));
+                });
+                It("should request buffers as they are consumed", () -> {
+                    byte[] bytes = new byte[6];
+                    assertThat(is.read(bytes), is(6));
+                    assertThat(requested.get(), is(2L));
+                });
+                It("should cancel the subscription when closed", () -> {
+                    is.read();
+                    is.close();
+                    assertThat(cancelled.get(), is(true));
+                });
+            });
+            Context("given content that errors", () -> {
+                BeforeEach(() -> {
+                    is = new FluxInputStream(Flux.concat(Flux.just(ByteBuffer.wrap("foo".getBytes())), Flux.error(new IllegalStateException("badness"))));
+                });
+                It("should throw an IOException once the content before the error has been read", () -> {
+                    byte[] bytes = new byte[3];
+                    assertThat(is.read(bytes), is(3));
+                    try {
+                        is.read();
+                        fail("expected exception");
+                    } catch (IOException ioe) {
+                        assertThat(ioe.getCause(), is(instanceOf(IllegalStateException.class)));
+                    }
+                });
+            });
+        });
+    }
+}
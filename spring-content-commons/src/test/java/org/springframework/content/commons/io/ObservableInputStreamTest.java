@@ -50,6 +50,9 @@ public class ObservableInputStreamTest {
                     It("should call listeners on closed event handler", () -> {
                         verify(observer).closed();
                     });
+                    It("should close the underlying input stream", () -> {
+                        verify(fis).close();
+                    });
                 });
             });
         });
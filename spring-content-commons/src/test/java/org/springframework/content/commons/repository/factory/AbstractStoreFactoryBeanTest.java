@@ -1,21 +1,31 @@
 package org.springframework.content.commons.repository.factory;
 
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.BeforeEach;
 import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.Context;
 import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.Describe;
 import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.It;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
 
 import java.io.InputStream;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.runner.RunWith;
 import org.springframework.content.commons.property.PropertyPath;
 import org.springframework.content.commons.store.ContentStore;
 import org.springframework.content.commons.store.GetResourceParams;
 import org.springframework.content.commons.store.Store;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.Resource;
 
 import com.github.paulcwarren.ginkgo4j.Ginkgo4jConfiguration;
@@ -25,6 +35,8 @@ import com.github.paulcwarren.ginkgo4j.Ginkgo4jRunner;
 @Ginkgo4jConfiguration(threads = 1)
 public class AbstractStoreFactoryBeanTest {
 
+	private TestContentStoreFactory factory;
+
 	{
 		Describe("AbstractContentStoreFactoryBean", () -> {
 
@@ -51,16 +63,82 @@ public class AbstractStoreFactoryBeanTest {
 					assertThat(domainId, is(equalTo(UUID.class)));
 				});
 			});
+
+			Context("#getObject", () -> {
+				BeforeEach(() -> {
+					factory = new TestContentStoreFactory(TestStore.class);
+					factory.setBeanClassLoader(this.getClass().getClassLoader());
+					factory.setApplicationEventPublisher(mock(ApplicationEventPublisher.class));
+				});
+
+				Context("given eager initialization", () -> {
+					It("creates the store when the factory is initialized", () -> {
+						factory.afterPropertiesSet();
+						assertThat(factory.created.get(), is(1));
+
+						assertThat(factory.getObject(), is(instanceOf(TestStore.class)));
+						assertThat(factory.created.get(), is(1));
+					});
+				});
+
+				Context("given lazy initialization", () -> {
+					BeforeEach(() -> {
+						factory.setLazyInit(true);
+						factory.afterPropertiesSet();
+					});
+
+					It("doesn't create the store until it is first invoked", () -> {
+						assertThat(factory.created.get(), is(0));
+
+						TestStore store = (TestStore) factory.getObject();
+						assertThat(factory.getObject(), is(sameInstance(store)));
+						assertThat(factory.created.get(), is(0));
+
+						assertThat(store.getResource(UUID.randomUUID()), is(nullValue()));
+						assertThat(store.getResource(UUID.randomUUID()), is(nullValue()));
+						assertThat(factory.created.get(), is(1));
+					});
+
+					It("creates the store only once when first invoked concurrently", () -> {
+						TestStore store = (TestStore) factory.getObject();
+
+						CountDownLatch start = new CountDownLatch(1);
+						List<Thread> threads = new ArrayList<>();
+						for (int i = 0; i < 8; i++) {
+							Thread thread = new Thread(() -> {
+								try {
+									start.await();
+									store.getResource(UUID.randomUUID());
+								} catch (InterruptedException e) {
+									Thread.currentThread().interrupt();
+								}
+							});
+							thread.start();
+							threads.add(thread);
+						}
+						start.countDown();
+						for (Thread thread : threads) {
+							thread.join();
+						}
+
+						assertThat(factory.created.get(), is(1));
+					});
+				});
+			});
 		});
 	}
 
 	public static class TestContentStoreFactory extends AbstractStoreFactoryBean {
+
+		private final AtomicInteger created = new AtomicInteger();
+
 		protected TestContentStoreFactory(Class<? extends Store> storeInterface) {
 			super(storeInterface);
 		}
 
 		@Override
 		protected Object getContentStoreImpl() {
+			created.incrementAndGet();
 			return new TestConfigStoreImpl();
 		}
 	}
@@ -160,6 +238,16 @@ public class AbstractStoreFactoryBeanTest {
             // TODO Auto-generated method stub
             return null;
         }
+
+		@Override
+		public Object copyContent(Object source, PropertyPath sourcePropertyPath, Object target, PropertyPath targetPropertyPath) {
+			return null;
+		}
+
+		@Override
+		public <T> T copyContent(Object source, PropertyPath sourcePropertyPath, ContentStore<T, ?> targetStore, T target, PropertyPath targetPropertyPath) {
+			return null;
+		}
 	}
 
 	public interface TestStore extends Serializable, ContentStore<String, UUID> {
@@ -0,0 +1,127 @@
+package org.springframework.content.commons.search;
+
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.BeforeEach;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.Context;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.Describe;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.It;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.runner.RunWith;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import com.github.paulcwarren.ginkgo4j.Ginkgo4jRunner;
+
+@RunWith(Ginkgo4jRunner.class)
+public class SearchableTest {
+
+    private Searchable<String> searchable;
+
+    private ScrollResult<String> result;
+    private Exception e;
+
+    {
+        Describe("Searchable", () -> {
+            Context("#scroll", () -> {
+                BeforeEach(() -> {
+                    searchable = new PagingOnlySearchable("a", "b", "c", "d", "e");
+                });
+
+                It("should page through every result using the page number as the cursor", () -> {
+                    List<String> results = new ArrayList<>();
+                    List<String> cursors = new ArrayList<>();
+
+                    String cursor = null;
+                    do {
+                        result = searchable.scroll("query", cursor, 2);
+                        result.forEach(results::add);
+                        cursor = result.getCursor();
+                        cursors.add(cursor);
+                    } while (cursor != null);
+
+                    assertThat(results, contains("a", "b", "c", "d", "e"));
+                    assertThat(cursors, contains("1", "2", null));
+                });
+
+                It("should reject a cursor that isn't a page number", () -> {
+                    try {
+                        searchable.scroll("query", "not-a-page", 2);
+                    } catch (Exception e) {
+                        this.e = e;
+                    }
+                    assertThat(e, is(instanceOf(IllegalArgumentException.class)));
+                });
+
+                It("should return no cursor when there are no results", () -> {
+                    result = new PagingOnlySearchable().scroll("query", null, 2);
+                    assertThat(result.getContent().isEmpty(), is(true));
+                    assertThat(result.getCursor(), is(nullValue()));
+                });
+            });
+        });
+    }
+
+    static class PagingOnlySearchable implements Searchable<String> {
+
+        private final List<String> results;
+
+        PagingOnlySearchable(String... results) {
+            this.results = List.of(results);
+        }
+
+        @Override
+        public Iterable<String> search(String queryString) {
+            return results;
+        }
+
+        @Override
+        public Page<String> search(String queryString, Pageable pageable) {
+            int from = (int) Math.min(pageable.getOffset(), results.size());
+            int to = Math.min(from + pageable.getPageSize(), results.size());
+            return new PageImpl<>(results.subList(from, to), pageable, results.size());
+        }
+
+        @Override
+        public Iterable<String> findKeyword(String query) {
+            return null;
+        }
+
+        @Override
+        public Iterable<String> findAllKeywords(String... terms) {
+            return null;
+        }
+
+        @Override
+        public Iterable<String> findAnyKeywords(String... terms) {
+            return null;
+        }
+
+        @Override
+        public Iterable<String> findKeywordsNear(int proximity, String... terms) {
+            return null;
+        }
+
+        @Override
+        public Iterable<String> findKeywordStartsWith(String term) {
+            return null;
+        }
+
+        @Override
+        public Iterable<String> findKeywordStartsWithAndEndsWith(String a, String b) {
+            return null;
+        }
+
+        @Override
+        public Iterable<String> findAllKeywordsWithWeights(String[] terms, double[] weights) {
+            return null;
+        }
+    }
+}
@@ -4,24 +4,34 @@ import static java.lang.String.format;
 
 import java.io.IOException;
 import java.lang.reflect.Field;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
 import java.util.Map;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.elasticsearch.ElasticsearchStatusException;
+import org.elasticsearch.action.search.ClosePointInTimeRequest;
+import org.elasticsearch.action.search.OpenPointInTimeRequest;
 import org.elasticsearch.action.search.SearchRequest;
 import org.elasticsearch.action.search.SearchResponse;
 import org.elasticsearch.client.RequestOptions;
 import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.core.TimeValue;
 import org.elasticsearch.index.query.BoolQueryBuilder;
 import org.elasticsearch.index.query.QueryBuilders;
 import org.elasticsearch.index.query.SimpleQueryStringBuilder;
 import org.elasticsearch.search.SearchHit;
 import org.elasticsearch.search.SearchHits;
+import org.elasticsearch.search.builder.PointInTimeBuilder;
 import org.elasticsearch.search.builder.SearchSourceBuilder;
 import org.elasticsearch.search.fetch.subphase.highlight.HighlightBuilder;
+import org.elasticsearch.search.sort.SortBuilders;
+import org.elasticsearch.search.sort.SortOrder;
 import org.springframework.beans.BeanWrapper;
 import org.springframework.beans.BeanWrapperImpl;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -29,6 +39,7 @@ import org.springframework.content.commons.annotations.ContentId;
 import org.springframework.content.commons.fulltext.Attribute;
 import org.springframework.content.commons.fulltext.Highlight;
 import org.springframework.content.commons.repository.StoreAccessException;
+import org.springframework.content.commons.search.ScrollResult;
 import org.springframework.content.commons.search.Searchable;
 import org.springframework.content.commons.utils.BeanUtils;
 import org.springframework.content.commons.utils.ContentPropertyUtils;
@@ -47,6 +58,9 @@ public class SearchableImpl implements Searchable<Object> {
 
     private static final Log LOGGER = LogFactory.getLog(SearchableImpl.class);
 
+    private static final TimeValue SCROLL_KEEP_ALIVE = TimeValue.timeValueMinutes(5);
+    private static final String SHARD_DOC_FIELD = "_shard_doc";
+
     private final RestHighLevelClient client;
     private final IndexManager manager;
     private FilterQueryProvider filterProvider;
@@ -99,11 +113,96 @@ public class SearchableImpl implements Searchable<Object> {
         return search(queryStr, pageable, genericArguments[0], Page.class);
     }
 
+    @Override
+    public ScrollResult<Object> scroll(String queryString, String cursor, int size) {
+
+        ScrollCursor position = (cursor != null ? ScrollCursor.decode(cursor) : null);
+
+        String pitId = (position != null ? position.getPitId() : openPointInTime(queryString));
+
+        SearchSourceBuilder sourceBuilder = sourceBuilder(queryString, genericArguments[0]);
+        sourceBuilder.size(size);
+        sourceBuilder.sort(SortBuilders.scoreSort().order(SortOrder.DESC));
+        sourceBuilder.sort(SortBuilders.fieldSort(SHARD_DOC_FIELD).order(SortOrder.ASC));
+        sourceBuilder.pointInTimeBuilder(new PointInTimeBuilder(pitId).setKeepAlive(SCROLL_KEEP_ALIVE));
+        if (position != null) {
+            sourceBuilder.searchAfter(position.getSortValues());
+        }
+
+        // point in time searches must not specify an index
+        SearchRequest searchRequest = new SearchRequest();
+        searchRequest.source(sourceBuilder);
+
+        SearchResponse res = null;
+        try {
+            res = client.search(searchRequest, RequestOptions.DEFAULT);
+        }
+        catch (IOException | ElasticsearchStatusException e) {
+            LOGGER.error(format("Error searching indexed content for '%s'", queryString), e);
+            throw new StoreAccessException(format("Error searching indexed content for '%s'", queryString), e);
+        }
+
+        List<Object> contents = toResults(res.getHits(), genericArguments[0]);
+
+        SearchHit[] hits = res.getHits().getHits();
+        String nextPitId = (res.pointInTimeId() != null ? res.pointInTimeId() : pitId);
+
+        if (hits.length < size) {
+            closePointInTime(nextPitId);
+            return new ScrollResult<>(contents, null);
+        }
+
+        return new ScrollResult<>(contents, new ScrollCursor(nextPitId, hits[hits.length - 1].getSortValues()).encode());
+    }
+
+    private String openPointInTime(String queryString) {
+        try {
+            OpenPointInTimeRequest request = new OpenPointInTimeRequest(manager.indexName(domainClass)).keepAlive(SCROLL_KEEP_ALIVE);
+            return client.openPointInTime(request, RequestOptions.DEFAULT).getPointInTimeId();
+        }
+        catch (IOException | ElasticsearchStatusException e) {
+            LOGGER.error(format("Error searching indexed content for '%s'", queryString), e);
+            throw new StoreAccessException(format("Error searching indexed content for '%s'", queryString), e);
+        }
+    }
+
+    private void closePointInTime(String pitId) {
+        try {
+            client.closePointInTime(new ClosePointInTimeRequest(pitId), RequestOptions.DEFAULT);
+        }
+        catch (IOException | ElasticsearchStatusException e) {
+            // the point in time will expire when its keep alive elapses
+            LOGGER.warn(format("Error closing point in time %s", pitId), e);
+        }
+    }
+
     private <R> R search(String queryString, Pageable pageable, Class<? extends Object> searchType, Class<R> returnType) {
 
         SearchRequest searchRequest = new SearchRequest(manager.indexName(domainClass));
         searchRequest.types(domainClass.getName());
 
+        SearchSourceBuilder sourceBuilder = sourceBuilder(queryString, searchType);
+        if (pageable != null) {
+            sourceBuilder.from(pageable.getPageNumber() * pageable.getPageSize());
+            sourceBuilder.size(pageable.getPageSize());
+        }
+
+        searchRequest.source(sourceBuilder);
+
+        SearchResponse res = null;
+        try {
+            res = client.search(searchRequest, RequestOptions.DEFAULT);
+        }
+        catch (IOException | ElasticsearchStatusException e) {
+            LOGGER.error(format("Error searching indexed content for '%s'", queryString), e);
+            throw new StoreAccessException(format("Error searching indexed content for '%s'", queryString), e);
+        }
+
+        return getResults(res.getHits(), pageable, searchType, returnType);
+    }
+
+    private SearchSourceBuilder sourceBuilder(String queryString, Class<?> searchType) {
+
         SearchSourceBuilder sourceBuilder = new SearchSourceBuilder();
 
         List<String> attributesToFetch = new ArrayList<>();
@@ -131,10 +230,6 @@ public class SearchableImpl implements Searchable<Object> {
         }
 
         sourceBuilder.query(b);
-        if (pageable != null) {
-            sourceBuilder.from(pageable.getPageNumber() * pageable.getPageSize());
-            sourceBuilder.size(pageable.getPageSize());
-        }
 
         if (!ContentPropertyUtils.isPrimitiveContentPropertyClass(searchType)) {
             if (BeanUtils.findFieldWithAnnotation(searchType, Highlight.class) != null) {
@@ -144,18 +239,7 @@ public class SearchableImpl implements Searchable<Object> {
             }
         }
 
-        searchRequest.source(sourceBuilder);
-
-        SearchResponse res = null;
-        try {
-            res = client.search(searchRequest, RequestOptions.DEFAULT);
-        }
-        catch (IOException | ElasticsearchStatusException e) {
-            LOGGER.error(format("Error searching indexed content for '%s'", queryString), e);
-            throw new StoreAccessException(format("Error searching indexed content for '%s'", queryString), e);
-        }
-
-        return getResults(res.getHits(), pageable, searchType, returnType);
+        return sourceBuilder;
     }
 
     @Override
@@ -224,10 +308,19 @@ public class SearchableImpl implements Searchable<Object> {
 
     private <R> R getResults(SearchHits result, Pageable pageable, Class<?> resultType, Class<R> returnType) {
 
+        if (result == null || result.getTotalHits().value == 0) {
+            return wrapResult(returnType, new ArrayList<>(), pageable, 0);
+        }
+
+        return wrapResult(returnType, toResults(result, resultType), pageable, result.getTotalHits().value);
+    }
+
+    private List<Object> toResults(SearchHits result, Class<?> resultType) {
+
         List<Object> contents = new ArrayList<>();
 
-        if (result == null || result.getTotalHits().value == 0) {
-            return wrapResult(returnType, contents, pageable, 0);
+        if (result == null) {
+            return contents;
         }
 
         for (SearchHit hit : result.getHits()) {
@@ -264,7 +357,95 @@ public class SearchableImpl implements Searchable<Object> {
             }
         }
 
-        return wrapResult(returnType, contents, pageable, result.getTotalHits().value);
+        return contents;
+    }
+
+    /**
+     * Scroll position encoded into the opaque cursor handed to callers: the point in time id followed by the sort
+     * values of the last hit, each tagged with its type so that it round-trips into {@code search_after}.
+     */
+    static class ScrollCursor {
+
+        private static final String SEPARATOR = "\n";
+
+        private final String pitId;
+        private final Object[] sortValues;
+
+        ScrollCursor(String pitId, Object[] sortValues) {
+            this.pitId = pitId;
+            this.sortValues = sortValues;
+        }
+
+        String getPitId() {
+            return pitId;
+        }
+
+        Object[] getSortValues() {
+            return sortValues;
+        }
+
+        String encode() {
+            StringBuilder builder = new StringBuilder(pitId);
+            for (Object value : sortValues) {
+                builder.append(SEPARATOR);
+                if (value instanceof Float) {
+                    builder.append("f:");
+                } else if (value instanceof Double) {
+                    builder.append("d:");
+                } else if (value instanceof Integer) {
+                    builder.append("i:");
+                } else if (value instanceof Long) {
+                    builder.append("l:");
+                } else {
+                    // strings may contain the separator so are url encoded
+                    builder.append("s:");
+                    value = URLEncoder.encode(String.valueOf(value), StandardCharsets.UTF_8);
+                }
+                builder.append(value);
+            }
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(builder.toString().getBytes(StandardCharsets.UTF_8));
+        }
+
+        static ScrollCursor decode(String cursor) {
+            String decoded;
+            try {
+                decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            } catch (IllegalArgumentException iae) {
+                throw new IllegalArgumentException(format("Invalid cursor %s", cursor), iae);
+            }
+
+            String[] segments = decoded.split(SEPARATOR, -1);
+            if (segments[0].isEmpty()) {
+                throw new IllegalArgumentException(format("Invalid cursor %s", cursor));
+            }
+            Object[] sortValues = new Object[segments.length - 1];
+            for (int i=1; i < segments.length; i++) {
+                if (segments[i].length() < 2 || segments[i].charAt(1) != ':') {
+                    throw new IllegalArgumentException(format("Invalid cursor %s", cursor));
+                }
+                String value = segments[i].substring(2);
+                switch (segments[i].charAt(0)) {
+                case 'f':
+                    sortValues[i - 1] = Float.valueOf(value);
+                    break;
+                case 'd':
+                    sortValues[i - 1] = Double.valueOf(value);
+                    break;
+                case 'i':
+                    sortValues[i - 1] = Integer.valueOf(value);
+                    break;
+                case 'l':
+                    sortValues[i - 1] = Long.valueOf(value);
+                    break;
+                case 's':
+                    sortValues[i - 1] = URLDecoder.decode(value, StandardCharsets.UTF_8);
+                    break;
+                default:
+                    throw new IllegalArgumentException(format("Invalid cursor %s", cursor));
+                }
+            }
+            return new ScrollCursor(segments[0], sortValues);
+        }
     }
 
     @SuppressWarnings("unchecked")
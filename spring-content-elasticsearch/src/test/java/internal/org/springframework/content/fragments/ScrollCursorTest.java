@@ -0,0 +1,101 @@
+package internal.org.springframework.content.fragments;
+
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.Context;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.Describe;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.It;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.matchesPattern;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.junit.runner.RunWith;
+
+import com.github.paulcwarren.ginkgo4j.Ginkgo4jRunner;
+
+import internal.org.springframework.content.fragments.SearchableImpl.ScrollCursor;
+
+@RunWith(Ginkgo4jRunner.class)
+public class ScrollCursorTest {
+
+    private Exception e;
+
+    {
+        Describe("ScrollCursor", () -> {
+            Context("given a point in time and the sort values of the last hit", () -> {
+                It("should encode to a url-safe cursor", () -> {
+                    String cursor = new ScrollCursor("46ToAwMDaWR5BXV1aWQy+/==", new Object[] {1.5f, 42L}).encode();
+                    assertThat(cursor, matchesPattern("[A-Za-z0-9_-]+"));
+                });
+
+                It("should round-trip the point in time and typed sort values", () -> {
+                    Object[] sortValues = new Object[] {1.5f, 2.25d, 7, 42L, "abc"};
+
+                    ScrollCursor decoded = ScrollCursor.decode(new ScrollCursor("46ToAwMDaWR5BXV1aWQy+/==", sortValues).encode());
+
+                    assertThat(decoded.getPitId(), is("46ToAwMDaWR5BXV1aWQy+/=="));
+                    assertThat(decoded.getSortValues(), arrayContaining(sortValues));
+                    assertThat(decoded.getSortValues()[0], is(instanceOf(Float.class)));
+                    assertThat(decoded.getSortValues()[1], is(instanceOf(Double.class)));
+                    assertThat(decoded.getSortValues()[2], is(instanceOf(Integer.class)));
+                    assertThat(decoded.getSortValues()[3], is(instanceOf(Long.class)));
+                    assertThat(decoded.getSortValues()[4], is(instanceOf(String.class)));
+                });
+
+                It("should round-trip string sort values containing the separator", () -> {
+                    Object[] sortValues = new Object[] {"a\nl:1", "", "a b+c%0A"};
+
+                    ScrollCursor decoded = ScrollCursor.decode(new ScrollCursor("pit", sortValues).encode());
+
+                    assertThat(decoded.getSortValues(), arrayContaining(sortValues));
+                });
+            });
+
+            Context("given a cursor that isn't base64", () -> {
+                It("should be rejected", () -> {
+                    try {
+                        ScrollCursor.decode("%%%");
+                    } catch (Exception e) {
+                        this.e = e;
+                    }
+                    assertThat(e, is(instanceOf(IllegalArgumentException.class)));
+                });
+            });
+
+            Context("given a malformed cursor", () -> {
+                It("should reject a sort value without a type", () -> {
+                    assertRejected("pit\nx");
+                });
+
+                It("should reject a sort value of an unknown type", () -> {
+                    assertRejected("pit\nx:1");
+                });
+
+                It("should reject an empty sort value", () -> {
+                    assertRejected("pit\n");
+                });
+
+                It("should reject a sort value that does not parse", () -> {
+                    assertRejected("pit\nl:abc");
+                });
+
+                It("should reject a missing point in time", () -> {
+                    assertRejected("\nl:1");
+                });
+            });
+        });
+    }
+
+    private static void assertRejected(String decoded) {
+        Exception rejection = null;
+        try {
+            ScrollCursor.decode(Base64.getUrlEncoder().withoutPadding().encodeToString(decoded.getBytes(StandardCharsets.UTF_8)));
+        } catch (Exception e) {
+            rejection = e;
+        }
+        assertThat(rejection, is(instanceOf(IllegalArgumentException.class)));
+    }
+}
@@ -15,13 +15,18 @@ import static org.hamcrest.CoreMatchers.hasItems;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.beans.HasPropertyWithValue.hasProperty;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import jakarta.persistence.Entity;
@@ -48,6 +53,7 @@ import org.springframework.content.commons.fulltext.Highlight;
 import org.springframework.content.commons.renditions.Renderable;
 import org.springframework.content.commons.repository.ContentStore;
 import org.springframework.content.commons.search.IndexService;
+import org.springframework.content.commons.search.ScrollResult;
 import org.springframework.content.commons.search.Searchable;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 import org.springframework.data.domain.PageRequest;
@@ -341,6 +347,29 @@ public class ElasticsearchIT {
                             assertThat(page.getContent().size(), is(1));
                         });
             });
+
+            It("should scroll through every result with a cursor", () -> {
+
+                eventually(
+                        () -> {return store.search("one", PageRequest.of(0, 3));},
+                        (page) -> {
+                            assertThat(page.getTotalElements(), is(10L));
+                        });
+
+                List<Integer> sizes = new ArrayList<>();
+                Set<UUID> contentIds = new HashSet<>();
+
+                String cursor = null;
+                do {
+                    ScrollResult<UUID> scroll = store.scroll("one", cursor, 3);
+                    sizes.add(scroll.getContent().size());
+                    contentIds.addAll(scroll.getContent());
+                    cursor = scroll.getCursor();
+                } while (cursor != null);
+
+                assertThat(sizes, contains(3, 3, 3, 1));
+                assertThat(contentIds.size(), is(10));
+            });
         });
 
         Describe("Custom Attributes", () -> {
@@ -1,5 +1,7 @@
 package internal.org.springframework.content.fragments;
 
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.input.CountingInputStream;
 import org.apache.commons.lang.StringUtils;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -19,9 +21,11 @@ import org.springframework.data.util.Pair;
 import org.springframework.util.Assert;
 import org.springframework.vault.core.VaultOperations;
 
-import javax.crypto.CipherInputStream;
 import java.io.*;
 import java.lang.reflect.ParameterizedType;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
 import java.lang.reflect.Type;
 import java.util.*;
 
@@ -70,9 +74,11 @@ public class EncryptingContentStoreImpl<S, SID extends Serializable> implements
             throw new StoreAccessException(String.format("Content property %s does not exist", propertyPath.getName()));
         }
 
-        Pair<CipherInputStream, byte[]> encryptionContext = encrypter.encrypt(inputStream, this.keyRing);
+        CountingInputStream counter = new CountingInputStream(inputStream);
+        Pair<InputStream, byte[]> encryptionContext = encrypter.encrypt(counter, this.keyRing);
         contentProperty.setCustomProperty(o, this.encryptionKeyContentProperty, encryptionContext.getSecond());
-        return (S) delegate.setContent(o, propertyPath, encryptionContext.getFirst());
+        S result = (S) delegate.setContent(o, propertyPath, encryptionContext.getFirst());
+        return setUnencryptedContentLength(result, contentProperty, encryptionContext.getSecond(), counter);
     }
 
     @Override
@@ -86,9 +92,11 @@ public class EncryptingContentStoreImpl<S, SID extends Serializable> implements
             throw new StoreAccessException(String.format("Content property %s does not exist", propertyPath.getName()));
         }
 
-        Pair<CipherInputStream, byte[]> encryptionContext = encrypter.encrypt(inputStream, this.keyRing);
+        CountingInputStream counter = new CountingInputStream(inputStream);
+        Pair<InputStream, byte[]> encryptionContext = encrypter.encrypt(counter, this.keyRing);
         contentProperty.setCustomProperty(o, this.encryptionKeyContentProperty, encryptionContext.getSecond());
-        return (S) delegate.setContent(o, propertyPath, encryptionContext.getFirst(), l);
+        S result = (S) delegate.setContent(o, propertyPath, encryptionContext.getFirst(), encrypter.getEncryptedLength(encryptionContext.getSecond(), l));
+        return setUnencryptedContentLength(result, contentProperty, encryptionContext.getSecond(), counter);
     }
 
     @Override
@@ -108,15 +116,24 @@ public class EncryptingContentStoreImpl<S, SID extends Serializable> implements
                 throw new StoreAccessException(String.format("Content property %s does not exist", propertyPath.getName()));
             }
 
-            Pair<CipherInputStream, byte[]> encryptionContext = null;
-            encryptionContext = encrypter.encrypt(resource.getInputStream(), this.keyRing);
+            CountingInputStream counter = new CountingInputStream(resource.getInputStream());
+            Pair<InputStream, byte[]> encryptionContext = encrypter.encrypt(counter, this.keyRing);
             contentProperty.setCustomProperty(o, this.encryptionKeyContentProperty, encryptionContext.getSecond());
-            return (S) delegate.setContent(o, propertyPath, new InputStreamResource(encryptionContext.getFirst()));
+            S result = (S) delegate.setContent(o, propertyPath, new InputStreamResource(encryptionContext.getFirst()));
+            return setUnencryptedContentLength(result, contentProperty, encryptionContext.getSecond(), counter);
         } catch (IOException e) {
             throw new StoreAccessException("error encrypting resource", e);
         }
     }
 
+    // the backend records the length of the encrypted content which, in the segmented format, includes the tags
+    private S setUnencryptedContentLength(S entity, ContentProperty contentProperty, byte[] encryptionContext, CountingInputStream counter) {
+        if (entity != null && encrypter.isSegmented(encryptionContext)) {
+            contentProperty.setContentLength(entity, counter.getByteCount());
+        }
+        return entity;
+    }
+
     @Override
     public S unsetContent(S o) {
         throw new UnsupportedOperationException();
@@ -139,6 +156,64 @@ public class EncryptingContentStoreImpl<S, SID extends Serializable> implements
         return entityToReturn;
     }
 
+    /**
+     * Copies the encrypted content as is, natively where the backend supports it, and gives the target the source's
+     * wrapped data key so that the copy decrypts without re-encrypting it.
+     */
+    public S copyContent(S source, PropertyPath sourcePropertyPath, S target, PropertyPath targetPropertyPath) {
+        Assert.notNull(source);
+        Assert.notNull(sourcePropertyPath);
+        Assert.notNull(target);
+        Assert.notNull(targetPropertyPath);
+
+        ContentProperty sourceProperty = getMappingContext().getContentProperty(source.getClass(), sourcePropertyPath.getName());
+        if (sourceProperty == null) {
+            throw new StoreAccessException(String.format("Content property %s does not exist", sourcePropertyPath.getName()));
+        }
+        ContentProperty targetProperty = getMappingContext().getContentProperty(target.getClass(), targetPropertyPath.getName());
+        if (targetProperty == null) {
+            throw new StoreAccessException(String.format("Content property %s does not exist", targetPropertyPath.getName()));
+        }
+
+        Resource encryptedResource = delegate.getResource(source, sourcePropertyPath);
+        if (encryptedResource == null || encryptedResource.exists() == false) {
+            throw new StoreAccessException(String.format("No content to copy for entity %s", source));
+        }
+
+        targetProperty.setCustomProperty(target, this.encryptionKeyContentProperty, sourceProperty.getCustomProperty(source, this.encryptionKeyContentProperty));
+        targetProperty.setMimeType(target, sourceProperty.getMimeType(source));
+        targetProperty.setOriginalFileName(target, sourceProperty.getOriginalFileName(source));
+
+        S result = (S) delegate.setContent(target, targetPropertyPath, encryptedResource);
+
+        Object contentLength = sourceProperty.getContentLength(source);
+        if (contentLength != null) {
+            targetProperty.setContentLength(result, contentLength);
+        }
+        return result;
+    }
+
+    /**
+     * Copies decrypted content to another store which may encrypt it with its own key.
+     */
+    public <T> T copyContent(S source, PropertyPath sourcePropertyPath, org.springframework.content.commons.store.ContentStore<T, ?> targetStore, T target, PropertyPath targetPropertyPath) {
+        Assert.notNull(targetStore);
+
+        Resource resource = this.getResource(source, sourcePropertyPath);
+        if (resource == null) {
+            throw new StoreAccessException(String.format("No content to copy for entity %s", source));
+        }
+
+        ContentProperty sourceProperty = getMappingContext().getContentProperty(source.getClass(), sourcePropertyPath.getName());
+        ContentProperty targetProperty = getMappingContext().getContentProperty(target.getClass(), targetPropertyPath.getName());
+        if (targetProperty != null) {
+            targetProperty.setMimeType(target, sourceProperty.getMimeType(source));
+            targetProperty.setOriginalFileName(target, sourceProperty.getOriginalFileName(source));
+        }
+
+        return targetStore.setContent(target, targetPropertyPath, resource);
+    }
+
     @Override
     public InputStream getContent(S o) {
         throw new UnsupportedOperationException();
@@ -188,7 +263,7 @@ public class EncryptingContentStoreImpl<S, SID extends Serializable> implements
 
                 // remove cast and use conversion service
                 unencryptedStream = encrypter.decrypt((byte[]) contentProperty.getCustomProperty(o, this.encryptionKeyContentProperty), r.getInputStream(), 0, this.keyRing);
-                r = new InputStreamResource(new SkipInputStream(unencryptedStream));
+                r = new InputStreamResource(unencryptedStream);
             } catch (IOException e) {
                 throw new StoreAccessException("error encrypting resource", e);
             }
@@ -197,51 +272,110 @@ public class EncryptingContentStoreImpl<S, SID extends Serializable> implements
         return r;
     }
 
+    /**
+     * Returns a resource onto the decrypted content.  Because content is encrypted with AES-CTR, or in independently
+     * encrypted segments, a byte-range request can be satisfied by fetching and decrypting the content from the start
+     * of the AES block, or segment, containing the first requested byte.  Where the backend resource is a
+     * {@link RangeableResource} the aligned range is pushed down to the backend.  Otherwise, where the backend resource
+     * can be read through a seekable channel, the channel is positioned on the block.  Only if neither is possible is
+     * the content decrypted from the beginning.
+     */
     @Override
     public Resource getResource(S o, PropertyPath propertyPath, GetResourceParams params) {
         Assert.notNull(o);
         Assert.notNull(propertyPath);
 
-        GetResourceParams ctrParams = rewriteParamsForCTR(params);
+        ContentProperty contentProperty = getMappingContext().getContentProperty(o.getClass(), propertyPath.getName());
+        if (contentProperty == null) {
+            throw new StoreAccessException(String.format("Content property %s does not exist", propertyPath.getName()));
+        }
+        // remove cast and use conversion service
+        byte[] encryptionContext = (byte[]) contentProperty.getCustomProperty(o, this.encryptionKeyContentProperty);
+
+        long begin = getRangeStart(params);
+        GetResourceParams ctrParams = rewriteParamsForCTR(params, begin, encryptionContext);
         Resource r = delegate.getResource(o, propertyPath, ctrParams);
 
         if (r != null) {
+            SeekableByteChannel channel = null;
+            InputStream encryptedStream = null;
             InputStream unencryptedStream = null;
             try {
-                ContentProperty contentProperty = getMappingContext().getContentProperty(o.getClass(), propertyPath.getName());
-                if (contentProperty == null) {
-                    throw new StoreAccessException(String.format("Content property %s does not exist", propertyPath.getName()));
+                long offset = 0;
+                if (begin > 0 && r instanceof RangeableResource) {
+                    offset = begin;
+                    encryptedStream = r.getInputStream();
+                } else if (begin > 0) {
+                    channel = getSeekableChannel(r);
+                    if (channel != null) {
+                        offset = begin;
+                        channel.position(encrypter.getEncryptedOffset(encryptionContext, begin));
+                        encryptedStream = Channels.newInputStream(channel);
+                    }
+                }
+                if (encryptedStream == null) {
+                    encryptedStream = r.getInputStream();
                 }
 
-                // remove cast and use conversion service
-                unencryptedStream = encrypter.decrypt((byte[]) contentProperty.getCustomProperty(o, this.encryptionKeyContentProperty), r.getInputStream(), getOffset(r, params), this.keyRing);
+                unencryptedStream = encrypter.decrypt(encryptionContext, encryptedStream, offset, this.keyRing);
                 r = new InputStreamResource(unencryptedStream);
             } catch (IOException e) {
                 throw new StoreAccessException("error encrypting resource", e);
+            } finally {
+                // the decrypting stream owns the encrypted stream, and channel, once it has been created
+                if (unencryptedStream == null) {
+                    IOUtils.closeQuietly(encryptedStream);
+                    IOUtils.closeQuietly(channel);
+                }
             }
         }
 
         return r;
     }
 
-    private GetResourceParams rewriteParamsForCTR(GetResourceParams params) {
+    private GetResourceParams rewriteParamsForCTR(GetResourceParams params, long begin, byte[] encryptionContext) {
         if (params.getRange() == null) {
             return params;
         }
-        int begin = Integer.parseInt(StringUtils.substringBetween(params.getRange(), "bytes=", "-"));
-        int blockBegin = begin - (begin % 16);
-        return GetResourceParams.builder().range("bytes=" + blockBegin + "-" + StringUtils.substringAfter(params.getRange(), "-")).build();
+        if (begin < 0) {
+            // suffix and multipart ranges cannot be block-aligned; fetch the whole content
+            return GetResourceParams.builder().build();
+        }
+        long blockBegin = encrypter.getEncryptedOffset(encryptionContext, begin);
+        // segmented content is fetched to its end; a stream ending early would fail authentication as truncated
+        String end = encrypter.isSegmented(encryptionContext) ? "" : StringUtils.substringAfter(params.getRange(), "-");
+        return GetResourceParams.builder().range("bytes=" + blockBegin + "-" + end).build();
     }
 
-    private int getOffset(Resource r, GetResourceParams params) {
-        int offset = 0;
-
-        if (r instanceof RangeableResource == false)
-            return offset;
-        if (params.getRange() == null)
-            return offset;
+    /**
+     * Returns the first byte of a single byte-range, or -1 when there is no range or it has no first byte.
+     */
+    private static long getRangeStart(GetResourceParams params) {
+        if (params == null || params.getRange() == null) {
+            return -1;
+        }
+        String spec = StringUtils.substringAfter(params.getRange(), "bytes=");
+        if (spec.contains(",")) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(StringUtils.substringBefore(spec, "-").trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
 
-        return Integer.parseInt(StringUtils.substringBetween(params.getRange(), "bytes=", "-"));
+    private static SeekableByteChannel getSeekableChannel(Resource r) {
+        try {
+            ReadableByteChannel channel = r.readableChannel();
+            if (channel instanceof SeekableByteChannel) {
+                return (SeekableByteChannel) channel;
+            }
+            channel.close();
+        } catch (IOException e) {
+            // fall back to reading from the beginning
+        }
+        return null;
     }
 
     @Override
@@ -309,41 +443,6 @@ public class EncryptingContentStoreImpl<S, SID extends Serializable> implements
         }
     }
 
-    // CipherInputStream skip does not work.  This wraps a cipherinputstream purely to override the skip with a
-    // working version
-    public class SkipInputStream extends FilterInputStream
-    {
-        private static final int MAX_SKIP_BUFFER_SIZE = 2048;
-
-        protected SkipInputStream (InputStream in)
-        {
-            super(in);
-        }
-
-        public long skip(long n)
-                throws IOException
-        {
-            long remaining = n;
-            int nr;
-
-            if (n <= 0) {
-                return 0;
-            }
-
-            int size = (int)Math.min(MAX_SKIP_BUFFER_SIZE, remaining);
-            byte[] skipBuffer = new byte[size];
-            while (remaining > 0) {
-                nr = in.read(skipBuffer, 0, (int)Math.min(size, remaining));
-                if (nr < 0) {
-                    break;
-                }
-                remaining -= nr;
-            }
-
-            return n - remaining;
-        }
-    }
-
     public class EncryptingContentStoreConfigurationImpl implements EncryptingContentStoreConfiguration {
         private String encryptionKeyContentProperty;
         private String keyring;
@@ -0,0 +1,261 @@
+package internal.org.springframework.content.fragments;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.content.commons.fragments.ReactiveContentStoreAware;
+import org.springframework.content.commons.io.FluxInputStream;
+import org.springframework.content.commons.mappingcontext.ContentProperty;
+import org.springframework.content.commons.mappingcontext.MappingContext;
+import org.springframework.content.commons.property.PropertyPath;
+import org.springframework.content.commons.repository.StoreAccessException;
+import org.springframework.content.commons.store.ReactiveContentStore;
+import org.springframework.content.encryption.CtrBufferCipher;
+import org.springframework.content.encryption.EnvelopeEncryptionService;
+import org.springframework.content.encryption.ReactiveEncryptingContentStore;
+import org.springframework.util.Assert;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Reactive counterpart of {@link EncryptingContentStoreImpl}.
+ *
+ * Content is encrypted and decrypted a buffer at a time, in the AES-CTR format, as it flows to and from the store.
+ * Wrapping and unwrapping data keys with vault blocks and so is done on the bounded elastic scheduler.  Content
+ * previously written in the segmented format by a blocking store is decrypted as a stream, also on the bounded
+ * elastic scheduler.
+ */
+public class ReactiveEncryptingContentStoreImpl<S, SID extends Serializable> implements ReactiveEncryptingContentStore<S, SID>, ReactiveContentStoreAware {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    @Autowired(required = false)
+    private MappingContext mappingContext = null;
+
+    @Autowired
+    private EnvelopeEncryptionService encrypter;
+
+    @Autowired(required = false)
+    private List<EncryptingContentStoreConfigurer> configurers;
+
+    private String encryptionKeyContentProperty = "key";
+
+    private String keyRing = "shared-key";
+
+    private ReactiveContentStore delegate;
+
+    private Class<?> domainClass;
+
+    public ReactiveEncryptingContentStoreImpl() {
+    }
+
+    protected MappingContext getMappingContext() {
+        if (this.mappingContext == null) {
+            this.mappingContext = new MappingContext("/", ".");
+        }
+        return mappingContext;
+    }
+
+    @Override
+    public Mono<S> setContent(S entity, PropertyPath propertyPath, long contentLen, Flux<ByteBuffer> buffer) {
+        Assert.notNull(entity);
+        Assert.notNull(propertyPath);
+        Assert.notNull(buffer);
+
+        ContentProperty contentProperty = getContentProperty(entity, propertyPath);
+
+        return Mono.fromCallable(() -> encrypter.encryptingCipher(this.keyRing))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(encryptionContext -> {
+                    CtrBufferCipher cipher = encryptionContext.getFirst();
+                    contentProperty.setCustomProperty(entity, this.encryptionKeyContentProperty, encryptionContext.getSecond());
+
+                    // AES-CTR content is the same length as the unencrypted content
+                    Flux<ByteBuffer> encrypted = buffer.map(cipher::update);
+                    return ((Mono<S>) delegate.setContent(entity, propertyPath, contentLen, encrypted))
+                            .doFinally(signal -> cipher.release());
+                });
+    }
+
+    @Override
+    public Flux<ByteBuffer> getContent(S entity, PropertyPath propertyPath) {
+        return getContent(entity, propertyPath, 0, -1);
+    }
+
+    /**
+     * Returns the decrypted content from the given offset.  AES-CTR content is fetched from the start of the AES block
+     * containing the offset.  Segmented content is fetched from the start of the segment containing the offset
+     * through to its end so that each segment is authenticated.
+     */
+    @Override
+    public Flux<ByteBuffer> getContent(S entity, PropertyPath propertyPath, long offset, long length) {
+        Assert.notNull(entity);
+        Assert.notNull(propertyPath);
+
+        ContentProperty contentProperty = getContentProperty(entity, propertyPath);
+
+        // remove cast and use conversion service
+        byte[] encryptionContext = (byte[]) contentProperty.getCustomProperty(entity, this.encryptionKeyContentProperty);
+        if (encryptionContext == null) {
+            return Flux.error(new StoreAccessException(String.format("No encryption key for content property %s", propertyPath.getName())));
+        }
+
+        long encryptedOffset = encrypter.getEncryptedOffset(encryptionContext, offset);
+
+        if (encrypter.isSegmented(encryptionContext) == false) {
+            long encryptedLength = length < 0 ? -1 : length + (offset - encryptedOffset);
+            return Mono.fromCallable(() -> encrypter.decryptingCipher(encryptionContext, offset, this.keyRing))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .flatMapMany(cipher -> ((Flux<ByteBuffer>) delegate.getContent(entity, propertyPath, encryptedOffset, encryptedLength))
+                            .map(cipher::update)
+                            .filter(ByteBuffer::hasRemaining)
+                            .doFinally(signal -> cipher.release()));
+        }
+
+        Flux<ByteBuffer> encrypted = delegate.getContent(entity, propertyPath, encryptedOffset, -1);
+        Flux<ByteBuffer> decrypted = Flux.<ByteBuffer, InputStream>using(
+                () -> {
+                    InputStream is = encrypter.decrypt(encryptionContext, new FluxInputStream(encrypted), offset, this.keyRing);
+                    if (offset > 0) {
+                        is.skip(offset);
+                    }
+                    return is;
+                },
+                is -> Flux.<ByteBuffer>generate(sink -> {
+                    try {
+                        byte[] bytes = new byte[BUFFER_SIZE];
+                        int n = is.read(bytes);
+                        if (n == -1) {
+                            sink.complete();
+                        } else {
+                            sink.next(ByteBuffer.wrap(bytes, 0, n));
+                        }
+                    } catch (IOException e) {
+                        sink.error(new StoreAccessException("error decrypting content", e));
+                    }
+                }),
+                is -> {
+                    try {
+                        is.close();
+                    } catch (IOException e) {
+                        // ignore
+                    }
+                })
+                .subscribeOn(Schedulers.boundedElastic());
+
+        return length < 0 ? decrypted : limit(decrypted, length);
+    }
+
+    @Override
+    public Mono<S> unsetContent(S entity, PropertyPath propertyPath) {
+        Assert.notNull(entity);
+        Assert.notNull(propertyPath);
+
+        ContentProperty contentProperty = getContentProperty(entity, propertyPath);
+
+        return ((Mono<S>) delegate.unsetContent(entity, propertyPath))
+                .map(result -> {
+                    contentProperty.setCustomProperty(entity, this.encryptionKeyContentProperty, null);
+                    return result;
+                });
+    }
+
+    private ContentProperty getContentProperty(S entity, PropertyPath propertyPath) {
+        ContentProperty contentProperty = getMappingContext().getContentProperty(entity.getClass(), propertyPath.getName());
+        if (contentProperty == null) {
+            throw new StoreAccessException(String.format("Content property %s does not exist", propertyPath.getName()));
+        }
+        return contentProperty;
+    }
+
+    private static Flux<ByteBuffer> limit(Flux<ByteBuffer> content, long length) {
+        return Flux.defer(() -> {
+            AtomicLong remaining = new AtomicLong(length);
+            return content
+                    .takeWhile(buffer -> remaining.get() > 0)
+                    .map(buffer -> {
+                        int n = (int) Math.min(buffer.remaining(), remaining.get());
+                        remaining.addAndGet(-n);
+                        ByteBuffer slice = buffer.duplicate();
+                        slice.limit(slice.position() + n);
+                        return slice;
+                    });
+        });
+    }
+
+    @Override
+    public void setDomainClass(Class<?> domainClass) {
+        this.domainClass = domainClass;
+    }
+
+    @Override
+    public void setIdClass(Class<?> idClass) {
+    }
+
+    @Override
+    public void setReactiveContentStore(ReactiveContentStore store) {
+        this.delegate = store;
+    }
+
+    public void setStoreInterfaceClass(Class<?> storeInterfaceClass) {
+        configure(storeInterfaceClass);
+    }
+
+    private void configure(Class<?> storeInterfaceClass) {
+        if (configurers == null)
+            return;
+
+        for (EncryptingContentStoreConfigurer configurer : configurers) {
+            Optional<?> interfaces = Arrays.stream(configurer.getClass().getGenericInterfaces()).findFirst();
+            if (interfaces.isPresent() == false)
+                continue;
+
+            Type[] genericArguments = ((ParameterizedType)interfaces.get()).getActualTypeArguments();
+            if (genericArguments.length >= 1 == false)
+                continue;
+
+            if (genericArguments[0].equals(storeInterfaceClass)) {
+                ReactiveEncryptingContentStoreConfigurationImpl config = new ReactiveEncryptingContentStoreConfigurationImpl();
+                configurer.configure(config);
+                this.encryptionKeyContentProperty = config.getEncryptionKeyContentProperty();
+                this.keyRing = config.getKeyring();
+            }
+        }
+    }
+
+    public class ReactiveEncryptingContentStoreConfigurationImpl implements EncryptingContentStoreConfiguration {
+        private String encryptionKeyContentProperty;
+        private String keyring;
+
+        @Override
+        public EncryptingContentStoreConfiguration encryptionKeyContentProperty(String encryptionKeyContentProperty) {
+            this.encryptionKeyContentProperty = encryptionKeyContentProperty;
+            return this;
+        }
+
+        @Override
+        public EncryptingContentStoreConfiguration keyring(String keyring) {
+            this.keyring = keyring;
+            return this;
+        }
+
+        /*package*/ String getEncryptionKeyContentProperty() {
+            return this.encryptionKeyContentProperty;
+        }
+
+        /*package*/ String getKeyring() {
+            return this.keyring;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package org.springframework.content.encryption;
+
+import java.security.GeneralSecurityException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import javax.crypto.Cipher;
+
+/**
+ * Bounded pool of {@link Cipher} instances for a single transformation.
+ * <p>
+ * Looking up a cipher through the provider framework is comparatively expensive so ciphers are borrowed for the
+ * lifetime of a cipher stream and returned when the stream is closed.  Ciphers are re-initialized by each borrower.
+ * Ciphers returned to a full pool are discarded.
+ */
+class CipherPool {
+
+    static final int DEFAULT_MAX_SIZE = 64;
+
+    private final String transformation;
+    private final BlockingQueue<Cipher> ciphers;
+
+    CipherPool(String transformation) {
+        this(transformation, DEFAULT_MAX_SIZE);
+    }
+
+    CipherPool(String transformation, int maxSize) {
+        this.transformation = transformation;
+        this.ciphers = new ArrayBlockingQueue<>(maxSize);
+    }
+
+    Cipher borrow() throws GeneralSecurityException {
+        Cipher cipher = ciphers.poll();
+        if (cipher == null) {
+            cipher = Cipher.getInstance(transformation);
+        }
+        return cipher;
+    }
+
+    void release(Cipher cipher) {
+        ciphers.offer(cipher);
+    }
+}
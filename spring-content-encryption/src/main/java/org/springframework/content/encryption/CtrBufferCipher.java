@@ -0,0 +1,71 @@
+package org.springframework.content.encryption;
+
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.IvParameterSpec;
+
+/**
+ * Encrypts or decrypts AES-CTR content a buffer at a time, for reactive stores that cannot wrap content in a
+ * {@link CtrCipherInputStream}.  As with the stream, encryption and decryption are the same operation.
+ * <p>
+ * The cipher is borrowed from the pool for the lifetime of this instance; {@link #release()} must be called once the
+ * content has been processed, or abandoned.
+ */
+public class CtrBufferCipher {
+
+    private final CipherPool ciphers;
+    private volatile Cipher cipher;
+    private int discard;
+
+    /**
+     * @param position the position in the content of the first byte that will be passed to {@link #update(ByteBuffer)};
+     *                 must be a multiple of the AES block size
+     * @param discard the number of leading bytes of output to drop, where the caller's offset is not block aligned
+     */
+    CtrBufferCipher(CipherPool ciphers, Key key, byte[] nonce, long position, int discard) throws GeneralSecurityException {
+        this.ciphers = ciphers;
+        this.discard = discard;
+
+        byte[] counter = new byte[CtrCipherInputStream.AES_BLOCK_SIZE];
+        CtrCipherInputStream.counter(nonce, position / CtrCipherInputStream.AES_BLOCK_SIZE, counter);
+        this.cipher = ciphers.borrow();
+        this.cipher.init(Cipher.ENCRYPT_MODE, key, new IvParameterSpec(counter));
+    }
+
+    /**
+     * Returns the next buffer of output for the given buffer of input, which is consumed.  The returned buffer may be
+     * empty.
+     */
+    public synchronized ByteBuffer update(ByteBuffer in) {
+        Cipher cipher = this.cipher;
+        if (cipher == null) {
+            throw new IllegalStateException("cipher released");
+        }
+
+        ByteBuffer out = ByteBuffer.allocate(in.remaining());
+        try {
+            cipher.update(in, out);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("unable to process content", e);
+        }
+        out.flip();
+
+        if (discard > 0) {
+            int n = Math.min(discard, out.remaining());
+            out.position(out.position() + n);
+            discard -= n;
+        }
+        return out;
+    }
+
+    public synchronized void release() {
+        Cipher cipher = this.cipher;
+        this.cipher = null;
+        if (cipher != null) {
+            ciphers.release(cipher);
+        }
+    }
+}
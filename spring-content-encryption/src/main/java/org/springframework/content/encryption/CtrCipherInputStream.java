@@ -0,0 +1,199 @@
+package org.springframework.content.encryption;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.IvParameterSpec;
+
+/**
+ * Encrypts, or equivalently decrypts, a stream with AES-CTR.
+ * <p>
+ * Unlike {@link javax.crypto.CipherInputStream} content is transformed through large reusable buffers, the cipher is
+ * borrowed from a {@link CipherPool} and returned on close and, because the keystream of any block can be computed
+ * from its counter, {@link #skip(long)} skips the underlying stream rather than reading and decrypting the skipped
+ * content.
+ */
+class CtrCipherInputStream extends FilterInputStream {
+
+    static final int AES_BLOCK_SIZE = 16;
+    static final int BUFFER_SIZE = 64 * 1024;
+
+    private final CipherPool pool;
+    private final SecretKey key;
+    private final byte[] nonce;
+
+    private Cipher cipher;
+
+    private final byte[] counter = new byte[AES_BLOCK_SIZE];
+    private final byte[] single = new byte[1];
+    private final ByteBuffer inBuffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private final ByteBuffer outBuffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+    // offset within the content of the next byte of the underlying stream
+    private long position;
+    private boolean eof = false;
+
+    /**
+     * @param in the underlying stream
+     * @param pool pool to borrow the cipher from
+     * @param key the data key
+     * @param nonce the nonce; the leading bytes of the initial counter block
+     * @param offset the offset within the content of the first byte of the underlying stream
+     */
+    CtrCipherInputStream(InputStream in, CipherPool pool, SecretKey key, byte[] nonce, long offset) throws IOException {
+        super(in);
+        this.pool = pool;
+        this.key = key;
+        this.nonce = nonce;
+        this.position = offset;
+        outBuffer.limit(0);
+
+        try {
+            this.cipher = pool.borrow();
+        } catch (GeneralSecurityException e) {
+            throw new IOException("unable to create cipher", e);
+        }
+        init();
+    }
+
+    @Override
+    public int read() throws IOException {
+        int n = read(single, 0, 1);
+        return n == -1 ? -1 : single[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (!outBuffer.hasRemaining() && !fill()) {
+            return -1;
+        }
+        int n = Math.min(len, outBuffer.remaining());
+        outBuffer.get(b, off, n);
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        if (n <= 0) {
+            return 0;
+        }
+
+        int buffered = outBuffer.remaining();
+        if (n <= buffered) {
+            outBuffer.position(outBuffer.position() + (int) n);
+            return n;
+        }
+        outBuffer.position(outBuffer.limit());
+
+        long remaining = n - buffered;
+        while (remaining > 0) {
+            long skipped = in.skip(remaining);
+            if (skipped <= 0) {
+                // skip may return 0 before the end of the stream; read a byte to tell
+                if (in.read() == -1) {
+                    eof = true;
+                    break;
+                }
+                skipped = 1;
+            }
+            remaining -= skipped;
+            position += skipped;
+        }
+        init();
+
+        return n - remaining;
+    }
+
+    @Override
+    public int available() {
+        return outBuffer.remaining();
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            super.close();
+        } finally {
+            if (cipher != null) {
+                pool.release(cipher);
+                cipher = null;
+            }
+        }
+    }
+
+    private boolean fill() throws IOException {
+        if (cipher == null) {
+            throw new IOException("stream closed");
+        }
+
+        while (!eof) {
+            int n = in.read(inBuffer.array(), 0, inBuffer.capacity());
+            if (n == -1) {
+                eof = true;
+                break;
+            }
+            if (n == 0) {
+                continue;
+            }
+
+            inBuffer.position(0).limit(n);
+            outBuffer.clear();
+            try {
+                cipher.update(inBuffer, outBuffer);
+            } catch (GeneralSecurityException e) {
+                throw new IOException("unable to transform content", e);
+            }
+            outBuffer.flip();
+            position += n;
+            return true;
+        }
+        return false;
+    }
+
+    // initializes the cipher with the counter of the block containing position and then discards the keystream of
+    // any preceding bytes in that block
+    private void init() throws IOException {
+        counter(nonce, position / AES_BLOCK_SIZE, counter);
+        try {
+            cipher.init(Cipher.ENCRYPT_MODE, key, new IvParameterSpec(counter));
+
+            int partial = (int) (position % AES_BLOCK_SIZE);
+            if (partial > 0) {
+                byte[] discard = new byte[AES_BLOCK_SIZE];
+                cipher.update(discard, 0, partial, discard, 0);
+            }
+        } catch (GeneralSecurityException e) {
+            throw new IOException("unable to initialize cipher", e);
+        }
+    }
+
+    /**
+     * Computes the counter block for the given block index; the nonce, zero padded to the block size, plus the block
+     * index as an unsigned 128-bit big-endian addition.
+     */
+    static void counter(byte[] nonce, long block, byte[] counter) {
+        System.arraycopy(nonce, 0, counter, 0, nonce.length);
+        Arrays.fill(counter, nonce.length, AES_BLOCK_SIZE, (byte) 0);
+
+        long carry = block;
+        for (int i = AES_BLOCK_SIZE - 1; i >= 0 && carry != 0; i--) {
+            long sum = (counter[i] & 0xff) + (carry & 0xff);
+            counter[i] = (byte) sum;
+            carry = (carry >>> 8) + (sum >>> 8);
+        }
+    }
+}
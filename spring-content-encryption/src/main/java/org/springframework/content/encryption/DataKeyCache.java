@@ -0,0 +1,59 @@
+package org.springframework.content.encryption;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.crypto.spec.SecretKeySpec;
+
+import internal.org.springframework.content.commons.utils.ExpiringCache;
+
+/**
+ * Bounded, in-memory cache of unwrapped data keys keyed by key name and wrapped (encrypted) data key.
+ * <p>
+ * Entries expire after the configured time-to-live which bounds how long an unwrapped key is held in memory after
+ * it was last unwrapped.  When the cache is full the key closest to expiry is evicted.
+ */
+class DataKeyCache {
+
+    private final ExpiringCache<String, SecretKeySpec> entries;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    DataKeyCache(long ttlMillis, int maxEntries) {
+        this.entries = new ExpiringCache<>(ttlMillis, maxEntries);
+    }
+
+    /**
+     * Returns the cached data key, or null when the key is not cached or its entry has expired.
+     */
+    SecretKeySpec get(String keyName, byte[] encryptedKey) {
+        SecretKeySpec key = entries.get(cacheKey(keyName, encryptedKey));
+        if (key == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return key;
+    }
+
+    void put(String keyName, byte[] encryptedKey, SecretKeySpec key) {
+        entries.put(cacheKey(keyName, encryptedKey), key);
+    }
+
+    void clear() {
+        entries.clear();
+    }
+
+    long getHits() {
+        return hits.get();
+    }
+
+    long getMisses() {
+        return misses.get();
+    }
+
+    private static String cacheKey(String keyName, byte[] encryptedKey) {
+        // wrapped keys are vault ciphertext and so are ascii
+        return keyName + ":" + new String(encryptedKey);
+    }
+}
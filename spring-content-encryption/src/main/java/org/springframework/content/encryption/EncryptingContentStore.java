@@ -18,4 +18,6 @@ public interface EncryptingContentStore<S, SID extends Serializable> extends Con
     Resource getResource(S entity, PropertyPath propertyPath);
     Resource getResource(S entity, PropertyPath propertyPath, GetResourceParams params);
     S unsetContent(S entity, PropertyPath propertyPath);
+    S copyContent(S source, PropertyPath sourcePropertyPath, S target, PropertyPath targetPropertyPath);
+    <T> T copyContent(S source, PropertyPath sourcePropertyPath, org.springframework.content.commons.store.ContentStore<T, ?> targetStore, T target, PropertyPath targetPropertyPath);
 }
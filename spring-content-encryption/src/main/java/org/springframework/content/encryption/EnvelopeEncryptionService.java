@@ -1,22 +1,23 @@
 package org.springframework.content.encryption;
 
-import org.springframework.beans.factory.InitializingBean;
 import org.springframework.data.util.Pair;
 import org.springframework.vault.core.VaultOperations;
 import org.springframework.vault.core.VaultTransitOperations;
 
-import javax.crypto.*;
-import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.KeyGenerator;
+import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.math.BigInteger;
-import java.security.InvalidAlgorithmParameterException;
-import java.security.InvalidKeyException;
+import java.nio.ByteBuffer;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 
 public class EnvelopeEncryptionService {
 
@@ -40,155 +41,305 @@ public class EnvelopeEncryptionService {
 
     private final SecureRandom secureRandom = new SecureRandom();
 
+    private final CipherPool ciphers = new CipherPool(transformation);
+    private final CipherPool segmentCiphers = new CipherPool(SegmentedCipherInputStream.TRANSFORMATION);
+
+    // encryption context layouts; the wrapped data key and nonce optionally followed by the format and segment size
+    private static final int WRAPPED_KEY_LENGTH = 105;
+    private static final int NONCE_LENGTH = 12;
+    private static final int CTR_CONTEXT_LENGTH = WRAPPED_KEY_LENGTH + NONCE_LENGTH;
+    private static final int SEGMENTED_CONTEXT_LENGTH = CTR_CONTEXT_LENGTH + 5;
+    private static final byte FORMAT_SEGMENTED = 1;
+
+    private int segmentSize = 0;
+    private ForkJoinPool segmentPool = ForkJoinPool.commonPool();
+
+    static final long DEFAULT_DATA_KEY_CACHE_TTL = 5 * 60 * 1000;
+    static final int DEFAULT_DATA_KEY_CACHE_SIZE = 1000;
+
+    private DataKeyCache dataKeyCache = new DataKeyCache(DEFAULT_DATA_KEY_CACHE_TTL, DEFAULT_DATA_KEY_CACHE_SIZE);
+
+    // key names already created in vault by this service
+    private final Set<String> keyNames = ConcurrentHashMap.newKeySet();
+
     public EnvelopeEncryptionService(VaultOperations vaultOperations) {
         this.vaultOperations = vaultOperations;
     }
 
-    private CipherInputStream encryptMessage(InputStream is, final SecretKey dataKey, final byte[] nonce) throws NoSuchPaddingException, NoSuchAlgorithmException, InvalidKeyException, InvalidAlgorithmParameterException {
-        Cipher cipher = Cipher.getInstance(transformation);
-        SecretKeySpec key = new SecretKeySpec(dataKey.getEncoded(), AES);
+    /**
+     * Configures the cache of unwrapped data keys which saves a vault round trip on each read of content, including
+     * each range request, whose data key was recently used.  Unwrapped keys are held in memory for up to the
+     * time-to-live.
+     *
+     * @param ttlMillis time-to-live of cached data keys, in milliseconds.  Zero or less disables the cache.
+     * @param maxEntries the maximum number of cached data keys
+     */
+    public void setDataKeyCache(long ttlMillis, int maxEntries) {
+        this.dataKeyCache = (ttlMillis > 0 && maxEntries > 0 ? new DataKeyCache(ttlMillis, maxEntries) : null);
+    }
 
-        byte[] iv = new byte[128 / 8];
-        System.arraycopy(nonce, 0, iv, 0, nonce.length);
-        IvParameterSpec ivSpec = new IvParameterSpec(iv);
+    /**
+     * Enables the segmented encryption format for content encrypted from now on.  Content is encrypted in segments of
+     * the given size, each with its own IV and AES-GCM authentication tag, so that large content can be encrypted
+     * and decrypted in parallel and each segment is integrity checked.  Content already encrypted with AES-CTR
+     * continues to be decrypted as such.
+     *
+     * @param segmentSize the size of each segment of content, in bytes.  Zero or less disables the segmented format.
+     */
+    public void setSegmentSize(int segmentSize) {
+        this.segmentSize = Math.max(0, segmentSize);
+    }
 
-        cipher.init(Cipher.ENCRYPT_MODE, key, ivSpec);
+    /**
+     * Sets the pool that segments are encrypted and decrypted on.  Each stream works up to the pool's parallelism
+     * segments ahead of its reader.  Defaults to the common pool.
+     */
+    public void setSegmentPool(ForkJoinPool segmentPool) {
+        this.segmentPool = segmentPool;
+    }
+
+    /**
+     * Returns the number of data keys served from the cache.
+     */
+    public long getDataKeyCacheHits() {
+        return dataKeyCache != null ? dataKeyCache.getHits() : 0;
+    }
 
-        CipherInputStream cis = new CipherInputStream(is, cipher);
-        return cis;
+    /**
+     * Returns the number of data keys that had to be unwrapped by vault while the cache was enabled.
+     */
+    public long getDataKeyCacheMisses() {
+        return dataKeyCache != null ? dataKeyCache.getMisses() : 0;
     }
 
-    public Pair<CipherInputStream, byte[]> encrypt(InputStream is, String keyName) {
+    /**
+     * Returns the proportion of data keys served from the cache, or 0 if none have been requested.
+     */
+    public double getDataKeyCacheHitRatio() {
+        long hits = getDataKeyCacheHits();
+        long total = hits + getDataKeyCacheMisses();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    private InputStream encryptMessage(InputStream is, final SecretKey dataKey, final byte[] nonce) throws IOException {
+        return new CtrCipherInputStream(is, ciphers, dataKey, nonce, 0);
+    }
+
+    public Pair<InputStream, byte[]> encrypt(InputStream is, String keyName) {
+        int segmentSize = this.segmentSize;
         try {
             SecretKey key = generateDataKey();
 
             byte[] nonce = new byte[96 / 8];
             secureRandom.nextBytes(nonce);
 
-            // use vault to get ciphertext
-            VaultTransitOperations transit = vaultOperations.opsForTransit();
-            String base64Encoded = Base64.getEncoder().encodeToString(key.getEncoded());
-            transit.createKey(keyName);
-            String ciphertext = transit.encrypt(keyName, base64Encoded);
-
-            byte[] encryptionContext = new byte[117];
-            System.arraycopy(ciphertext.getBytes("UTF-8"), 0, encryptionContext, 0, 105);
-            System.arraycopy(nonce, 0, encryptionContext, 105, 12);
+            byte[] encryptionContext = createEncryptionContext(key, nonce, keyName, segmentSize);
 
+            if (segmentSize > 0) {
+                return Pair.of(SegmentedCipherInputStream.encrypting(is, segmentCiphers, key, nonce, segmentSize, segmentPool, segmentPool.getParallelism()), encryptionContext);
+            }
             return Pair.of(encryptMessage(is, key, nonce), encryptionContext);
         } catch (Exception e) {
             throw new RuntimeException("unable to encrypt", e);
         }
     }
 
-    private SecretKey generateDataKey() {
-        return KEY_GENERATOR.generateKey();
+    /**
+     * Returns a cipher that encrypts content a buffer at a time, and the content's encryption context.  Content
+     * encrypted this way is always in the AES-CTR format, whatever the segment size.
+     * <p>
+     * Wraps a new data key with vault and so blocks; reactive callers should call this on a scheduler that permits
+     * blocking.
+     */
+    public Pair<CtrBufferCipher, byte[]> encryptingCipher(String keyName) {
+        try {
+            SecretKey key = generateDataKey();
+
+            byte[] nonce = new byte[96 / 8];
+            secureRandom.nextBytes(nonce);
+
+            byte[] encryptionContext = createEncryptionContext(key, nonce, keyName, 0);
+            return Pair.of(new CtrBufferCipher(ciphers, key, nonce, 0, 0), encryptionContext);
+        } catch (Exception e) {
+            throw new RuntimeException("unable to encrypt", e);
+        }
     }
 
-    private InputStream decryptInputStream(final SecretKeySpec secretKeySpec, byte[] nonce, int offset, InputStream is) throws NoSuchPaddingException, NoSuchAlgorithmException, InvalidKeyException, BadPaddingException, IllegalBlockSizeException, IOException, InvalidAlgorithmParameterException {
-        Cipher cipher = Cipher.getInstance(transformation);
+    /**
+     * Returns a cipher that decrypts AES-CTR content a buffer at a time from the given offset.  The first buffer
+     * passed to the cipher is expected to start at {@link #getEncryptedOffset(byte[], long)}.
+     * <p>
+     * Unwraps the data key with vault, unless it is cached, and so may block; reactive callers should call this on a
+     * scheduler that permits blocking.  Segmented content cannot be decrypted this way.
+     */
+    public CtrBufferCipher decryptingCipher(byte[] encryptionContext, long offset, String keyName) {
+        if (isSegmented(encryptionContext)) {
+            throw new IllegalArgumentException("segmented content must be decrypted as a stream");
+        }
 
-        byte[] iv = new byte[128 / 8];
-        System.arraycopy(nonce, 0, iv, 0, nonce.length);
+        byte[] key = new byte[WRAPPED_KEY_LENGTH];
+        System.arraycopy(encryptionContext, 0, key, 0, WRAPPED_KEY_LENGTH);
+        byte[] nonce = new byte[NONCE_LENGTH];
+        System.arraycopy(encryptionContext, WRAPPED_KEY_LENGTH, nonce, 0, NONCE_LENGTH);
 
-        int AES_BLOCK_SIZE = 16;
-        int blockOffset = offset - (offset % AES_BLOCK_SIZE);
-        final BigInteger ivBI = new BigInteger(1, iv);
-        final BigInteger ivForOffsetBI = ivBI.add(BigInteger.valueOf(blockOffset / AES_BLOCK_SIZE));
-        final byte[] ivForOffsetBA = ivForOffsetBI.toByteArray();
-        final IvParameterSpec ivForOffset;
-        if (ivForOffsetBA.length >= AES_BLOCK_SIZE) {
-            ivForOffset = new IvParameterSpec(ivForOffsetBA, ivForOffsetBA.length - AES_BLOCK_SIZE, AES_BLOCK_SIZE);
-        } else {
-            final byte[] ivForOffsetBASized = new byte[AES_BLOCK_SIZE];
-            System.arraycopy(ivForOffsetBA, 0, ivForOffsetBASized, AES_BLOCK_SIZE - ivForOffsetBA.length, ivForOffsetBA.length);
-            ivForOffset = new IvParameterSpec(ivForOffsetBASized);
+        try {
+            long blockOffset = getEncryptedOffset(encryptionContext, offset);
+            return new CtrBufferCipher(ciphers, decryptKey(key, keyName), nonce, blockOffset, (int) (offset - blockOffset));
+        } catch (Exception e) {
+            throw new RuntimeException("unable to decrypt", e);
         }
+    }
 
-        cipher.init(Cipher.ENCRYPT_MODE, secretKeySpec, ivForOffset);
+    // wraps the data key with vault and lays out the encryption context; the wrapped key and nonce optionally
+    // followed by the format and segment size
+    private byte[] createEncryptionContext(SecretKey key, byte[] nonce, String keyName, int segmentSize) throws IOException {
+        VaultTransitOperations transit = vaultOperations.opsForTransit();
+        String base64Encoded = Base64.getEncoder().encodeToString(key.getEncoded());
+        createKey(transit, keyName);
+        String ciphertext = transit.encrypt(keyName, base64Encoded);
+
+        byte[] encryptionContext = new byte[segmentSize > 0 ? SEGMENTED_CONTEXT_LENGTH : CTR_CONTEXT_LENGTH];
+        System.arraycopy(ciphertext.getBytes("UTF-8"), 0, encryptionContext, 0, WRAPPED_KEY_LENGTH);
+        System.arraycopy(nonce, 0, encryptionContext, WRAPPED_KEY_LENGTH, NONCE_LENGTH);
+        if (segmentSize > 0) {
+            ByteBuffer.wrap(encryptionContext, CTR_CONTEXT_LENGTH, 5).put(FORMAT_SEGMENTED).putInt(segmentSize);
+        }
 
-        CipherInputStream cis = new CipherInputStream(is, cipher);
+        DataKeyCache cache = this.dataKeyCache;
+        if (cache != null) {
+            cache.put(keyName, Arrays.copyOf(encryptionContext, WRAPPED_KEY_LENGTH), new SecretKeySpec(key.getEncoded(), AES));
+        }
+        return encryptionContext;
+    }
 
-        InputStream inputStreamToReturn = cis;
-        if (offset == 0) {
-            inputStreamToReturn = new ZeroOffsetSkipInputStream(cis);
-        } else if (offset > 0) {
-            inputStreamToReturn = new OffsetSkipInputStream(cis, offset % AES_BLOCK_SIZE);
+    private void createKey(VaultTransitOperations transit, String keyName) {
+        if (keyNames.contains(keyName)) {
+            return;
+        }
+        transit.createKey(keyName);
+        keyNames.add(keyName);
+    }
+
+    private SecretKey generateDataKey() {
+        return KEY_GENERATOR.generateKey();
+    }
+
+    private InputStream decryptInputStream(final SecretKeySpec secretKeySpec, byte[] nonce, long offset, InputStream is) throws IOException {
+        int AES_BLOCK_SIZE = CtrCipherInputStream.AES_BLOCK_SIZE;
+        long blockOffset = offset - (offset % AES_BLOCK_SIZE);
+
+        InputStream inputStreamToReturn = new CtrCipherInputStream(is, ciphers, secretKeySpec, nonce, blockOffset);
+        if (offset > 0) {
+            inputStreamToReturn = new OffsetSkipInputStream(inputStreamToReturn, (int) (offset % AES_BLOCK_SIZE));
         }
 
         return inputStreamToReturn;
     }
+
     private SecretKeySpec decryptKey(byte[] encryptedKey, String keyName) {
+        DataKeyCache cache = this.dataKeyCache;
+        if (cache != null) {
+            SecretKeySpec key = cache.get(keyName, encryptedKey);
+            if (key != null) {
+                return key;
+            }
+        }
+
         VaultTransitOperations transit = vaultOperations.opsForTransit();
         String decryptedBase64Key = transit.decrypt(keyName, new String(encryptedKey));
         byte[] keyBytes = Base64.getDecoder().decode(decryptedBase64Key);
 
         SecretKeySpec key = new SecretKeySpec(keyBytes, AES);
+        if (cache != null) {
+            cache.put(keyName, encryptedKey, key);
+        }
         return key;
     }
 
-    public InputStream decrypt(byte[] ecryptedContext, InputStream is, int offset, String keyName) {
+    /**
+     * Decrypts content.  When offset is greater than zero the given input stream is expected to start at
+     * {@link #getEncryptedOffset(byte[], long)}, typically because the backend store has satisfied a byte-range
+     * request aligned accordingly.
+     */
+    public InputStream decrypt(byte[] ecryptedContext, InputStream is, long offset, String keyName) {
 
-        byte[] key = new byte[105];
-        System.arraycopy(ecryptedContext, 0, key, 0, 105);
-        byte[] nonce = new byte[12];
-        System.arraycopy(ecryptedContext, 105, nonce, 0, 12);
+        byte[] key = new byte[WRAPPED_KEY_LENGTH];
+        System.arraycopy(ecryptedContext, 0, key, 0, WRAPPED_KEY_LENGTH);
+        byte[] nonce = new byte[NONCE_LENGTH];
+        System.arraycopy(ecryptedContext, WRAPPED_KEY_LENGTH, nonce, 0, NONCE_LENGTH);
 
         try {
             SecretKeySpec keySpec = decryptKey(key, keyName);
+
+            int segmentSize = getSegmentSize(ecryptedContext);
+            if (segmentSize > 0) {
+                InputStream inputStreamToReturn = SegmentedCipherInputStream.decrypting(is, segmentCiphers, keySpec, nonce, segmentSize, offset / segmentSize, segmentPool, segmentPool.getParallelism());
+                if (offset > 0) {
+                    inputStreamToReturn = new OffsetSkipInputStream(inputStreamToReturn, (int) (offset % segmentSize));
+                }
+                return inputStreamToReturn;
+            }
+
             return decryptInputStream(keySpec, nonce, offset, is);
         } catch (Exception e) {
             throw new RuntimeException("unable to decrypt", e);
         }
     }
 
-    public void rotate(String keyName) {
-        VaultTransitOperations transit = vaultOperations.opsForTransit();
-        transit.rotate(keyName);
+    /**
+     * Returns the offset within the encrypted content from which content must be decrypted to read from the given
+     * offset.
+     */
+    public long getEncryptedOffset(byte[] encryptionContext, long offset) {
+        int segmentSize = getSegmentSize(encryptionContext);
+        if (segmentSize > 0) {
+            return (offset / segmentSize) * (segmentSize + SegmentedCipherInputStream.TAG_LENGTH);
+        }
+        return offset - (offset % CtrCipherInputStream.AES_BLOCK_SIZE);
     }
 
-    // CipherInputStream skip does not work.  This wraps a cipherinputstream purely to override the skip with a
-    // working version.  Used when backend Store has not already primed the input stream.
-    public class ZeroOffsetSkipInputStream extends FilterInputStream
-    {
-        private static final int MAX_SKIP_BUFFER_SIZE = 2048;
-
-        protected ZeroOffsetSkipInputStream(InputStream in)
-        {
-            super(in);
+    /**
+     * Returns the length of the encrypted form of content of the given length.
+     */
+    public long getEncryptedLength(byte[] encryptionContext, long length) {
+        int segmentSize = getSegmentSize(encryptionContext);
+        if (segmentSize > 0) {
+            return SegmentedCipherInputStream.encryptedLength(length, segmentSize);
         }
+        return length;
+    }
 
-        public long skip(long n)
-                throws IOException
-        {
-            long remaining = n;
-            int nr;
+    /**
+     * Returns true if content was encrypted in the segmented format.  Segmented content must be decrypted through
+     * to its end to be authenticated; byte ranges cannot be ended early.
+     */
+    public boolean isSegmented(byte[] encryptionContext) {
+        return getSegmentSize(encryptionContext) > 0;
+    }
 
-            if (n <= 0) {
-                return 0;
-            }
+    private static int getSegmentSize(byte[] encryptionContext) {
+        if (encryptionContext == null || encryptionContext.length < SEGMENTED_CONTEXT_LENGTH || encryptionContext[CTR_CONTEXT_LENGTH] != FORMAT_SEGMENTED) {
+            return 0;
+        }
+        return ByteBuffer.wrap(encryptionContext, CTR_CONTEXT_LENGTH + 1, 4).getInt();
+    }
 
-            int size = (int)Math.min(MAX_SKIP_BUFFER_SIZE, remaining);
-            byte[] skipBuffer = new byte[size];
-            while (remaining > 0) {
-                nr = in.read(skipBuffer, 0, (int)Math.min(size, remaining));
-                if (nr < 0) {
-                    break;
-                }
-                remaining -= nr;
-            }
+    public void rotate(String keyName) {
+        VaultTransitOperations transit = vaultOperations.opsForTransit();
+        transit.rotate(keyName);
 
-            return n - remaining;
+        DataKeyCache cache = this.dataKeyCache;
+        if (cache != null) {
+            cache.clear();
         }
     }
 
-    // This wraps a cipherinputstream purely to override skip
+    // This wraps a cipher input stream purely to override skip
     //
     // Used when a backend store has already satisfied a range request (this service will request a range to the nearest block).
     // Skips then skips bytes between the beginning of the block and the start actual range that the client requested.
     public class OffsetSkipInputStream extends FilterInputStream
     {
-        private static final int MAX_SKIP_BUFFER_SIZE = 2048;
         private final int offset;
 
         protected OffsetSkipInputStream(InputStream in, int offset)
@@ -200,24 +351,12 @@ public class EnvelopeEncryptionService {
         public long skip(long n)
                 throws IOException
         {
-            long remaining = offset;
-            int nr;
-
             if (n <= 0) {
                 return 0;
             }
 
-            int size = (int)Math.min(MAX_SKIP_BUFFER_SIZE, remaining);
-            byte[] skipBuffer = new byte[size];
-            while (remaining > 0) {
-                nr = in.read(skipBuffer, 0, (int)Math.min(size, remaining));
-                if (nr < 0) {
-                    break;
-                }
-                remaining -= nr;
-            }
-
-            return n - remaining;
+            long skipped = in.skip(offset);
+            return n - (offset - skipped);
         }
     }
 }
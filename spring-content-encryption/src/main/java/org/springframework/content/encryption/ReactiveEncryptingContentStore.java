@@ -0,0 +1,17 @@
+package org.springframework.content.encryption;
+
+import org.springframework.content.commons.fragments.ReactiveContentStoreAware;
+import org.springframework.content.commons.property.PropertyPath;
+
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveEncryptingContentStore<S, SID extends Serializable> extends ReactiveContentStoreAware {
+    Mono<S> setContent(S entity, PropertyPath propertyPath, long contentLen, Flux<ByteBuffer> buffer);
+    Flux<ByteBuffer> getContent(S entity, PropertyPath propertyPath);
+    Flux<ByteBuffer> getContent(S entity, PropertyPath propertyPath, long offset, long length);
+    Mono<S> unsetContent(S entity, PropertyPath propertyPath);
+}
@@ -0,0 +1,197 @@
+package org.springframework.content.encryption;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import javax.crypto.AEADBadTagException;
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+
+/**
+ * Encrypts, or decrypts, content in fixed-size segments each with its own IV, derived from the nonce and the segment
+ * index, and its own AES-GCM authentication tag.
+ * <p>
+ * The source is read sequentially but segments are transformed in parallel, up to the given parallelism ahead of the
+ * reader.  Each segment is authenticated together with its index and whether it is the final segment so that
+ * segments cannot be reordered, and content cannot be truncated at a segment boundary, without detection.
+ */
+class SegmentedCipherInputStream extends InputStream {
+
+    static final String TRANSFORMATION = "AES/GCM/NoPadding";
+    static final int TAG_LENGTH = 16;
+
+    private final InputStream in;
+    private final CipherPool pool;
+    private final SecretKey key;
+    private final byte[] nonce;
+    private final int mode;
+    private final int inputSegmentSize;
+    private final Executor executor;
+    private final int parallelism;
+
+    private final Deque<CompletableFuture<byte[]>> segments = new ArrayDeque<>();
+    private long nextIndex;
+    private boolean lastSubmitted = false;
+
+    private byte[] current;
+    private int currentPosition;
+
+    private final byte[] single = new byte[1];
+
+    private SegmentedCipherInputStream(InputStream in, CipherPool pool, SecretKey key, byte[] nonce, int mode, int inputSegmentSize, long firstIndex, Executor executor, int parallelism) {
+        this.in = in;
+        this.pool = pool;
+        this.key = key;
+        this.nonce = nonce;
+        this.mode = mode;
+        this.inputSegmentSize = inputSegmentSize;
+        this.nextIndex = firstIndex;
+        this.executor = executor;
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    /**
+     * Returns a stream onto the encrypted content; each segment of segmentSize bytes of content is followed by its tag.
+     */
+    static SegmentedCipherInputStream encrypting(InputStream in, CipherPool pool, SecretKey key, byte[] nonce, int segmentSize, Executor executor, int parallelism) {
+        return new SegmentedCipherInputStream(in, pool, key, nonce, Cipher.ENCRYPT_MODE, segmentSize, 0, executor, parallelism);
+    }
+
+    /**
+     * Returns a stream onto the decrypted content given encrypted content starting at the given segment.
+     */
+    static SegmentedCipherInputStream decrypting(InputStream in, CipherPool pool, SecretKey key, byte[] nonce, int segmentSize, long firstIndex, Executor executor, int parallelism) {
+        return new SegmentedCipherInputStream(in, pool, key, nonce, Cipher.DECRYPT_MODE, segmentSize + TAG_LENGTH, firstIndex, executor, parallelism);
+    }
+
+    /**
+     * Returns the length of the encrypted form of content of the given length.
+     */
+    static long encryptedLength(long length, int segmentSize) {
+        long segments = length / segmentSize + 1;
+        return length + segments * TAG_LENGTH;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int n = read(single, 0, 1);
+        return n == -1 ? -1 : single[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        while (current == null || currentPosition == current.length) {
+            if (!next()) {
+                return -1;
+            }
+        }
+        int n = Math.min(len, current.length - currentPosition);
+        System.arraycopy(current, currentPosition, b, off, n);
+        currentPosition += n;
+        return n;
+    }
+
+    @Override
+    public int available() {
+        return current == null ? 0 : current.length - currentPosition;
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (CompletableFuture<byte[]> segment : segments) {
+            segment.cancel(false);
+        }
+        segments.clear();
+        in.close();
+    }
+
+    private boolean next() throws IOException {
+        submit();
+
+        CompletableFuture<byte[]> segment = segments.poll();
+        if (segment == null) {
+            return false;
+        }
+
+        try {
+            current = segment.join();
+            currentPosition = 0;
+            return true;
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    // reads segments from the source and submits them for transformation until the parallelism is reached.  The final
+    // segment is always shorter than a full segment, and may be empty, so that the end of the content is authenticated
+    private void submit() throws IOException {
+        while (!lastSubmitted && segments.size() < parallelism) {
+            final byte[] input = new byte[inputSegmentSize];
+            final int length = readFully(input);
+            final boolean last = length < inputSegmentSize;
+            final long index = nextIndex++;
+
+            segments.add(CompletableFuture.supplyAsync(() -> transform(index, input, length, last), executor));
+            lastSubmitted = last;
+        }
+    }
+
+    private byte[] transform(long index, byte[] input, int length, boolean last) {
+        Cipher cipher = null;
+        try {
+            cipher = pool.borrow();
+            cipher.init(mode, key, new GCMParameterSpec(TAG_LENGTH * 8, iv(nonce, index)));
+            cipher.updateAAD(aad(index, last));
+            return cipher.doFinal(input, 0, length);
+        } catch (AEADBadTagException e) {
+            throw new CompletionException(new IOException(String.format("segment %d failed authentication", index), e));
+        } catch (GeneralSecurityException e) {
+            throw new CompletionException(new IOException(String.format("unable to transform segment %d", index), e));
+        } finally {
+            if (cipher != null) {
+                pool.release(cipher);
+            }
+        }
+    }
+
+    private int readFully(byte[] buffer) throws IOException {
+        int length = 0;
+        while (length < buffer.length) {
+            int n = in.read(buffer, length, buffer.length - length);
+            if (n == -1) {
+                break;
+            }
+            length += n;
+        }
+        return length;
+    }
+
+    /**
+     * Derives the IV of a segment by xor-ing its index into the trailing bytes of the nonce.
+     */
+    static byte[] iv(byte[] nonce, long index) {
+        byte[] iv = nonce.clone();
+        for (int i = 0; i < Long.BYTES; i++) {
+            iv[iv.length - 1 - i] ^= (byte) (index >>> (8 * i));
+        }
+        return iv;
+    }
+
+    private static byte[] aad(long index, boolean last) {
+        return ByteBuffer.allocate(Long.BYTES + 1).putLong(index).put((byte) (last ? 1 : 0)).array();
+    }
+}
@@ -0,0 +1,109 @@
+package internal.org.springframework.content.fragments;
+
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.BeforeEach;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.Context;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.Describe;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.It;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.JustBeforeEach;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.SeekableByteChannel;
+
+import org.junit.runner.RunWith;
+import org.springframework.content.commons.annotations.ContentId;
+import org.springframework.content.commons.property.PropertyPath;
+import org.springframework.content.commons.repository.ContentStore;
+import org.springframework.content.commons.repository.GetResourceParams;
+import org.springframework.content.commons.repository.StoreAccessException;
+import org.springframework.content.encryption.EnvelopeEncryptionService;
+import org.springframework.core.io.Resource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.github.paulcwarren.ginkgo4j.Ginkgo4jRunner;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@RunWith(Ginkgo4jRunner.class)
+public class EncryptingContentStoreImplTest {
+
+    private EncryptingContentStoreImpl<TestEntity, String> store;
+
+    private Exception e;
+
+    //mocks
+    private EnvelopeEncryptionService encrypter;
+    private ContentStore delegate;
+    private Resource resource;
+    private SeekableByteChannel channel;
+
+    {
+        Describe("EncryptingContentStoreImpl", () -> {
+            BeforeEach(() -> {
+                encrypter = mock(EnvelopeEncryptionService.class);
+                delegate = mock(ContentStore.class);
+                resource = mock(Resource.class);
+                channel = mock(SeekableByteChannel.class);
+
+                when(delegate.getResource(any(), any(PropertyPath.class), any(GetResourceParams.class))).thenReturn(resource);
+                when(resource.readableChannel()).thenReturn(channel);
+                when(encrypter.getEncryptedOffset(any(), anyLong())).thenReturn(16L);
+
+                store = new EncryptingContentStoreImpl<>();
+                store.setContentStore(delegate);
+                ReflectionTestUtils.setField(store, "encrypter", encrypter);
+            });
+
+            Context("#getResource given a byte range and a seekable backend resource", () -> {
+                JustBeforeEach(() -> {
+                    try {
+                        store.getResource(new TestEntity(), PropertyPath.from("content"), GetResourceParams.builder().range("bytes=20-29").build());
+                    } catch (Exception e) {
+                        this.e = e;
+                    }
+                });
+
+                Context("when the channel cannot be positioned", () -> {
+                    BeforeEach(() -> {
+                        when(channel.position(16L)).thenThrow(new IOException("badness"));
+                    });
+
+                    It("should close the channel", () -> {
+                        assertThat(e, is(instanceOf(StoreAccessException.class)));
+                        verify(channel).close();
+                    });
+                });
+
+                Context("when the content cannot be decrypted", () -> {
+                    BeforeEach(() -> {
+                        when(encrypter.decrypt(any(), any(InputStream.class), eq(20L), anyString())).thenThrow(new IllegalStateException("badness"));
+                    });
+
+                    It("should close the channel", () -> {
+                        assertThat(e, is(instanceOf(IllegalStateException.class)));
+                        verify(channel).close();
+                    });
+                });
+            });
+        });
+    }
+
+    @Getter
+    @Setter
+    public static class TestEntity {
+        @ContentId
+        private String contentId = "some-content";
+        private byte[] contentKey = "vault:v1:key".getBytes();
+    }
+}
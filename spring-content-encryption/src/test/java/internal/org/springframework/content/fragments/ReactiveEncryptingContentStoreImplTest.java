@@ -0,0 +1,203 @@
+package internal.org.springframework.content.fragments;
+
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.BeforeEach;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.Context;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.Describe;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.It;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.JustBeforeEach;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.runner.RunWith;
+import org.springframework.content.commons.annotations.ContentId;
+import org.springframework.content.commons.annotations.ContentLength;
+import org.springframework.content.commons.property.PropertyPath;
+import org.springframework.content.commons.repository.StoreAccessException;
+import org.springframework.content.commons.utils.FileServiceImpl;
+import org.springframework.content.commons.utils.PlacementServiceImpl;
+import org.springframework.content.encryption.EnvelopeEncryptionService;
+import org.springframework.content.fs.io.FileSystemResourceLoader;
+import org.springframework.data.util.Pair;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.vault.core.VaultOperations;
+import org.springframework.vault.core.VaultTransitOperations;
+
+import com.github.paulcwarren.ginkgo4j.Ginkgo4jRunner;
+
+import internal.org.springframework.content.fs.store.DefaultReactiveFilesystemStoreImpl;
+import lombok.Getter;
+import lombok.Setter;
+import reactor.core.publisher.Flux;
+
+@RunWith(Ginkgo4jRunner.class)
+public class ReactiveEncryptingContentStoreImplTest {
+
+    private static final PropertyPath CONTENT = PropertyPath.from("content");
+
+    private ReactiveEncryptingContentStoreImpl<TestEntity, String> store;
+
+    private DefaultReactiveFilesystemStoreImpl<TestEntity, String> filesystemStore;
+    private EnvelopeEncryptionService encrypter;
+
+    private File root;
+    private TestEntity entity;
+    private byte[] content;
+
+    //mocks
+    private VaultOperations vault;
+    private VaultTransitOperations transit;
+
+    // fake transit; ciphertext is 105 chars like vault's
+    private Map<String, String> wrapped;
+
+    {
+        Describe("ReactiveEncryptingContentStoreImpl with a reactive filesystem store", () -> {
+            BeforeEach(() -> {
+                wrapped = new HashMap<>();
+                vault = mock(VaultOperations.class);
+                transit = mock(VaultTransitOperations.class);
+                when(vault.opsForTransit()).thenReturn(transit);
+                when(transit.encrypt(anyString(), anyString())).thenAnswer((invocation) -> {
+                    String ct = String.format("vault:v1:%096d", wrapped.size());
+                    wrapped.put(ct, invocation.getArgument(1));
+                    return ct;
+                });
+                when(transit.decrypt(anyString(), anyString())).thenAnswer((invocation) -> wrapped.get(invocation.getArgument(1)));
+                encrypter = new EnvelopeEncryptionService(vault);
+
+                root = Files.createTempDirectory("reactive-encryption").toFile();
+                filesystemStore = new DefaultReactiveFilesystemStoreImpl<>(new FileSystemResourceLoader(root.getAbsolutePath()), null, new PlacementServiceImpl(), new FileServiceImpl());
+                // read the content back in buffers that do not line up with the AES blocks
+                filesystemStore.setBufferSize(1000);
+
+                store = new ReactiveEncryptingContentStoreImpl<>();
+                store.setReactiveContentStore(filesystemStore);
+                ReflectionTestUtils.setField(store, "encrypter", encrypter);
+
+                content = new byte[100 * 1024];
+                new Random(42).nextBytes(content);
+                entity = new TestEntity();
+            });
+
+            Context("given content has been set", () -> {
+                JustBeforeEach(() -> {
+                    store.setContent(entity, CONTENT, content.length, chunks(content, 777)).block();
+                });
+                It("should store the content encrypted and at the same length", () -> {
+                    assertThat(entity.getContentId(), is(not(nullValue())));
+                    assertThat(entity.getContentKey(), is(not(nullValue())));
+                    assertThat(entity.getContentLen(), is((long) content.length));
+
+                    byte[] stored = Files.readAllBytes(new File(root, entity.getContentId()).toPath());
+                    assertThat(stored.length, is(content.length));
+                    assertThat(Arrays.equals(stored, content), is(false));
+                });
+                It("should decrypt the content", () -> {
+                    assertThat(Arrays.equals(toBytes(store.getContent(entity, CONTENT).collectList().block()), content), is(true));
+                });
+                It("should be decryptable by the blocking service", () -> {
+                    InputStream is = encrypter.decrypt(entity.getContentKey(), new ByteArrayInputStream(Files.readAllBytes(new File(root, entity.getContentId()).toPath())), 0, "shared-key");
+                    assertThat(Arrays.equals(IOUtils.toByteArray(is), content), is(true));
+                });
+                It("should decrypt a range starting part way through a block", () -> {
+                    byte[] range = toBytes(store.getContent(entity, CONTENT, 21, 2000).collectList().block());
+                    assertThat(Arrays.equals(range, Arrays.copyOfRange(content, 21, 2021)), is(true));
+                });
+                It("should decrypt from an offset part way through a block to the end", () -> {
+                    byte[] range = toBytes(store.getContent(entity, CONTENT, 12345, -1).collectList().block());
+                    assertThat(Arrays.equals(range, Arrays.copyOfRange(content, 12345, content.length)), is(true));
+                });
+                Context("when the content is unset", () -> {
+                    JustBeforeEach(() -> {
+                        store.unsetContent(entity, CONTENT).block();
+                    });
+                    It("should remove the content and its key", () -> {
+                        assertThat(entity.getContentId(), is(nullValue()));
+                        assertThat(entity.getContentKey(), is(nullValue()));
+                        assertThat(root.list().length, is(0));
+                    });
+                });
+            });
+
+            Context("given segmented content written by a blocking store", () -> {
+                BeforeEach(() -> {
+                    encrypter.setSegmentSize(1024);
+                    Pair<InputStream, byte[]> encrypted = encrypter.encrypt(new ByteArrayInputStream(content), "shared-key");
+                    Files.write(new File(root, "segmented-content").toPath(), IOUtils.toByteArray(encrypted.getFirst()));
+
+                    entity.setContentId("segmented-content");
+                    entity.setContentLen(content.length);
+                    entity.setContentKey(encrypted.getSecond());
+                });
+                It("should decrypt the content", () -> {
+                    assertThat(encrypter.isSegmented(entity.getContentKey()), is(true));
+                    assertThat(Arrays.equals(toBytes(store.getContent(entity, CONTENT).collectList().block()), content), is(true));
+                });
+                It("should decrypt a range starting part way through a segment", () -> {
+                    byte[] range = toBytes(store.getContent(entity, CONTENT, 1500, 700).collectList().block());
+                    assertThat(Arrays.equals(range, Arrays.copyOfRange(content, 1500, 2200)), is(true));
+                });
+            });
+
+            Context("given content without an encryption key", () -> {
+                BeforeEach(() -> {
+                    entity.setContentId("unencrypted-content");
+                    Files.write(new File(root, "unencrypted-content").toPath(), content);
+                });
+                It("should error", () -> {
+                    try {
+                        store.getContent(entity, CONTENT).collectList().block();
+                        fail("expected exception");
+                    } catch (Exception e) {
+                        assertThat(e, is(instanceOf(StoreAccessException.class)));
+                    }
+                });
+            });
+        });
+    }
+
+    private static Flux<ByteBuffer> chunks(byte[] content, int size) {
+        return Flux.range(0, (content.length + size - 1) / size)
+                .map(i -> ByteBuffer.wrap(Arrays.copyOfRange(content, i * size, Math.min(content.length, (i + 1) * size))));
+    }
+
+    private static byte[] toBytes(List<ByteBuffer> buffers) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (ByteBuffer buffer : buffers) {
+            byte[] bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+            out.write(bytes, 0, bytes.length);
+        }
+        return out.toByteArray();
+    }
+
+    @Getter
+    @Setter
+    public static class TestEntity {
+        @ContentId
+        private String contentId;
+        @ContentLength
+        private long contentLen;
+        private byte[] contentKey;
+    }
+}
@@ -0,0 +1,113 @@
+package org.springframework.content.encryption;
+
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.BeforeEach;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.Context;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.Describe;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.It;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.Cipher;
+import javax.crypto.CipherInputStream;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.data.util.Pair;
+import org.springframework.vault.core.VaultOperations;
+import org.springframework.vault.core.VaultTransitOperations;
+
+import com.github.paulcwarren.ginkgo4j.Ginkgo4jRunner;
+
+/**
+ * Reports encryption and decryption throughput against plain IO and the jdk's {@link CipherInputStream}.  Not part
+ * of the regular test run; run with
+ * {@code mvn test -Dtest=CipherStreamBenchmark -pl spring-content-encryption}.
+ */
+@RunWith(Ginkgo4jRunner.class)
+public class CipherStreamBenchmark {
+
+    private static final Log LOGGER = LogFactory.getLog(CipherStreamBenchmark.class);
+
+    private static final int SIZE = 64 * 1024 * 1024;
+    private static final int WARMUP_ITERATIONS = 3;
+    private static final int ITERATIONS = 10;
+
+    private byte[] content;
+    private EnvelopeEncryptionService service;
+
+    {
+        Describe("cipher streams", () -> {
+
+            Context("given 64MB of content", () -> {
+
+                BeforeEach(() -> {
+                    content = new byte[SIZE];
+                    new Random().nextBytes(content);
+
+                    VaultOperations vault = mock(VaultOperations.class);
+                    VaultTransitOperations transit = mock(VaultTransitOperations.class);
+                    when(vault.opsForTransit()).thenReturn(transit);
+                    when(transit.encrypt(anyString(), anyString())).thenReturn(String.format("vault:v1:%096d", 0));
+
+                    service = new EnvelopeEncryptionService(vault);
+                });
+
+                It("should report throughput", () -> {
+                    report("plain", () -> new ByteArrayInputStream(content));
+
+                    report("jdk CipherInputStream", () -> {
+                        byte[] keyBytes = new byte[32];
+                        new Random().nextBytes(keyBytes);
+                        Cipher cipher = Cipher.getInstance("AES/CTR/NoPadding");
+                        cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(keyBytes, "AES"), new IvParameterSpec(new byte[16]));
+                        return new CipherInputStream(new ByteArrayInputStream(content), cipher);
+                    });
+
+                    report("encrypt", () -> service.encrypt(new ByteArrayInputStream(content), "benchmark").getFirst());
+
+                    Pair<InputStream, byte[]> encrypted = service.encrypt(new ByteArrayInputStream(new byte[0]), "benchmark");
+                    report("decrypt", () -> service.decrypt(encrypted.getSecond(), new ByteArrayInputStream(content), 0, "benchmark"));
+                });
+            });
+        });
+    }
+
+    private static void report(String name, Callable<InputStream> stream) throws Exception {
+        byte[] buffer = new byte[8192];
+
+        for (int i=0; i < WARMUP_ITERATIONS; i++) {
+            drain(stream.call(), buffer);
+        }
+
+        long start = System.nanoTime();
+        for (int i=0; i < ITERATIONS; i++) {
+            drain(stream.call(), buffer);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        double seconds = (double) TimeUnit.NANOSECONDS.toMicros(elapsed) / 1000000;
+        LOGGER.info(String.format("%s: %.1f MB/s", name, (double) SIZE * ITERATIONS / (1024 * 1024) / seconds));
+    }
+
+    private static void drain(InputStream is, byte[] buffer) throws IOException {
+        try (InputStream in = is) {
+            while (in.read(buffer) != -1) {
+            }
+        }
+    }
+
+    @Test
+    public void noop() {}
+}
@@ -0,0 +1,96 @@
+package org.springframework.content.encryption;
+
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.BeforeEach;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.Context;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.Describe;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.It;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Random;
+
+import javax.crypto.Cipher;
+import javax.crypto.CipherInputStream;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.runner.RunWith;
+
+import com.github.paulcwarren.ginkgo4j.Ginkgo4jRunner;
+
+@RunWith(Ginkgo4jRunner.class)
+public class CtrCipherInputStreamTest {
+
+    private CipherPool pool;
+    private SecretKeySpec key;
+    private byte[] nonce;
+    private byte[] content;
+    private byte[] expected;
+
+    {
+        Describe("CtrCipherInputStream", () -> {
+            BeforeEach(() -> {
+                Random random = new Random(42);
+                byte[] keyBytes = new byte[32];
+                random.nextBytes(keyBytes);
+                key = new SecretKeySpec(keyBytes, "AES");
+                nonce = new byte[12];
+                random.nextBytes(nonce);
+                content = new byte[CtrCipherInputStream.BUFFER_SIZE * 3 + 17];
+                random.nextBytes(content);
+
+                pool = new CipherPool("AES/CTR/NoPadding", 2);
+
+                // reference encryption using the jdk's cipher stream
+                Cipher cipher = Cipher.getInstance("AES/CTR/NoPadding");
+                cipher.init(Cipher.ENCRYPT_MODE, key, new IvParameterSpec(Arrays.copyOf(nonce, 16)));
+                expected = IOUtils.toByteArray(new CipherInputStream(new ByteArrayInputStream(content), cipher));
+            });
+            It("should encrypt as AES-CTR", () -> {
+                InputStream is = new CtrCipherInputStream(new ByteArrayInputStream(content), pool, key, nonce, 0);
+                assertThat(Arrays.equals(IOUtils.toByteArray(is), expected), is(true));
+            });
+            It("should decrypt what it encrypted", () -> {
+                InputStream is = new CtrCipherInputStream(new ByteArrayInputStream(expected), pool, key, nonce, 0);
+                assertThat(Arrays.equals(IOUtils.toByteArray(is), content), is(true));
+            });
+            It("should decrypt from a block offset", () -> {
+                int offset = CtrCipherInputStream.BUFFER_SIZE + 32;
+                InputStream is = new CtrCipherInputStream(new ByteArrayInputStream(expected, offset, expected.length - offset), pool, key, nonce, offset);
+                assertThat(Arrays.equals(IOUtils.toByteArray(is), Arrays.copyOfRange(content, offset, content.length)), is(true));
+            });
+            It("should skip without decrypting the skipped content", () -> {
+                InputStream is = new CtrCipherInputStream(new ByteArrayInputStream(expected), pool, key, nonce, 0);
+                assertThat(is.read(), is(content[0] & 0xff));
+                assertThat(is.skip(CtrCipherInputStream.BUFFER_SIZE * 2 + 5), is((long) CtrCipherInputStream.BUFFER_SIZE * 2 + 5));
+
+                int position = CtrCipherInputStream.BUFFER_SIZE * 2 + 6;
+                assertThat(Arrays.equals(IOUtils.toByteArray(is), Arrays.copyOfRange(content, position, content.length)), is(true));
+            });
+            It("should stop skipping at the end of the stream", () -> {
+                InputStream is = new CtrCipherInputStream(new ByteArrayInputStream(expected), pool, key, nonce, 0);
+                assertThat(is.skip(content.length + 100), is((long) content.length));
+                assertThat(is.read(), is(-1));
+            });
+            Context("#counter", () -> {
+                It("should add the block index to the nonce with carry", () -> {
+                    byte[] allOnes = new byte[12];
+                    Arrays.fill(allOnes, (byte) 0xff);
+
+                    for (long block : new long[] {0L, 1L, 255L, 256L, 0xffffffffL, 0x100000000L, Long.MAX_VALUE}) {
+                        byte[] counter = new byte[16];
+                        CtrCipherInputStream.counter(allOnes, block, counter);
+
+                        BigInteger expectedCounter = new BigInteger(1, Arrays.copyOf(allOnes, 16)).add(BigInteger.valueOf(block)).mod(BigInteger.ONE.shiftLeft(128));
+                        assertThat(new BigInteger(1, counter), is(expectedCounter));
+                    }
+                });
+            });
+        });
+    }
+}
@@ -0,0 +1,236 @@
+package org.springframework.content.encryption;
+
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.BeforeEach;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.Context;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.Describe;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.It;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.JustBeforeEach;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.runner.RunWith;
+import org.springframework.data.util.Pair;
+import org.springframework.vault.core.VaultOperations;
+import org.springframework.vault.core.VaultTransitOperations;
+
+import com.github.paulcwarren.ginkgo4j.Ginkgo4jRunner;
+
+@RunWith(Ginkgo4jRunner.class)
+public class EnvelopeEncryptionServiceTest {
+
+    private EnvelopeEncryptionService service;
+
+    private Pair<? extends InputStream, byte[]> encrypted;
+    private byte[] ciphertext;
+    private byte[] context;
+
+    //mocks
+    private VaultOperations vault;
+    private VaultTransitOperations transit;
+
+    // fake transit; ciphertext is 105 chars like vault's
+    private Map<String, String> wrapped;
+
+    {
+        Describe("EnvelopeEncryptionService", () -> {
+            BeforeEach(() -> {
+                wrapped = new HashMap<>();
+                vault = mock(VaultOperations.class);
+                transit = mock(VaultTransitOperations.class);
+                when(vault.opsForTransit()).thenReturn(transit);
+                when(transit.encrypt(anyString(), anyString())).thenAnswer((invocation) -> {
+                    String ct = String.format("vault:v1:%096d", wrapped.size());
+                    wrapped.put(ct, invocation.getArgument(1));
+                    return ct;
+                });
+                when(transit.decrypt(anyString(), anyString())).thenAnswer((invocation) -> wrapped.get(invocation.getArgument(1)));
+
+                service = new EnvelopeEncryptionService(vault);
+            });
+            Context("given content has been encrypted", () -> {
+                JustBeforeEach(() -> {
+                    encrypted = service.encrypt(new ByteArrayInputStream("Hello Client-side encryption World!".getBytes()), "key");
+                    ciphertext = IOUtils.toByteArray(encrypted.getFirst());
+                });
+                It("should create the key once per key name", () -> {
+                    service.encrypt(new ByteArrayInputStream("Hello again".getBytes()), "key");
+                    verify(transit, times(1)).createKey("key");
+                });
+                It("should decrypt without unwrapping the data key", () -> {
+                    InputStream is = service.decrypt(encrypted.getSecond(), new ByteArrayInputStream(ciphertext), 0, "key");
+                    assertThat(IOUtils.toString(is), is("Hello Client-side encryption World!"));
+                    verify(transit, times(0)).decrypt(anyString(), anyString());
+                    assertThat(service.getDataKeyCacheHits(), is(1L));
+                });
+                It("should decrypt from an offset given a stream starting on its block", () -> {
+                    InputStream blocks = new ByteArrayInputStream(ciphertext, 16, ciphertext.length - 16);
+                    InputStream is = service.decrypt(encrypted.getSecond(), blocks, 21, "key");
+                    assertThat(is.skip(21), is(21L));
+                    assertThat(IOUtils.toString(is), is("Hello Client-side encryption World!".substring(21)));
+                });
+                It("should use the 117 byte encryption context", () -> {
+                    assertThat(encrypted.getSecond().length, is(117));
+                    assertThat(service.isSegmented(encrypted.getSecond()), is(false));
+                });
+                Context("given the segmented format is then enabled", () -> {
+                    JustBeforeEach(() -> {
+                        service.setSegmentSize(16);
+                    });
+                    It("should still decrypt the content", () -> {
+                        InputStream is = service.decrypt(encrypted.getSecond(), new ByteArrayInputStream(ciphertext), 0, "key");
+                        assertThat(IOUtils.toString(is), is("Hello Client-side encryption World!"));
+                    });
+                });
+                Context("given the key has been rotated", () -> {
+                    JustBeforeEach(() -> {
+                        service.rotate("key");
+                    });
+                    It("should unwrap the data key once and then serve it from the cache", () -> {
+                        for (int i=0; i < 2; i++) {
+                            InputStream is = service.decrypt(encrypted.getSecond(), new ByteArrayInputStream(ciphertext), 0, "key");
+                            assertThat(IOUtils.toString(is), is("Hello Client-side encryption World!"));
+                        }
+                        verify(transit, times(1)).decrypt(eq("key"), anyString());
+                        assertThat(service.getDataKeyCacheHits(), is(1L));
+                        assertThat(service.getDataKeyCacheMisses(), is(1L));
+                        assertThat(service.getDataKeyCacheHitRatio(), is(0.5));
+                    });
+                });
+                Context("given the cache is disabled", () -> {
+                    BeforeEach(() -> {
+                        service.setDataKeyCache(0, 0);
+                    });
+                    It("should unwrap the data key on every read", () -> {
+                        for (int i=0; i < 2; i++) {
+                            InputStream is = service.decrypt(encrypted.getSecond(), new ByteArrayInputStream(ciphertext), 0, "key");
+                            assertThat(IOUtils.toString(is), is("Hello Client-side encryption World!"));
+                        }
+                        verify(transit, times(2)).decrypt(eq("key"), anyString());
+                    });
+                });
+            });
+            Context("given content has been encrypted in the segmented format", () -> {
+                BeforeEach(() -> {
+                    service.setSegmentSize(16);
+                });
+                JustBeforeEach(() -> {
+                    encrypted = service.encrypt(new ByteArrayInputStream("Hello Client-side encryption World!".getBytes()), "key");
+                    ciphertext = IOUtils.toByteArray(encrypted.getFirst());
+                });
+                It("should append a tag to each segment", () -> {
+                    assertThat(service.isSegmented(encrypted.getSecond()), is(true));
+                    assertThat(ciphertext.length, is(35 + 3 * 16));
+                    assertThat(service.getEncryptedLength(encrypted.getSecond(), 35), is((long) ciphertext.length));
+                });
+                It("should decrypt the content", () -> {
+                    InputStream is = service.decrypt(encrypted.getSecond(), new ByteArrayInputStream(ciphertext), 0, "key");
+                    assertThat(IOUtils.toString(is), is("Hello Client-side encryption World!"));
+                });
+                It("should decrypt from an offset given a stream starting on its segment", () -> {
+                    long encryptedOffset = service.getEncryptedOffset(encrypted.getSecond(), 21);
+                    assertThat(encryptedOffset, is(32L));
+
+                    InputStream segments = new ByteArrayInputStream(ciphertext, 32, ciphertext.length - 32);
+                    InputStream is = service.decrypt(encrypted.getSecond(), segments, 21, "key");
+                    assertThat(is.skip(21), is(21L));
+                    assertThat(IOUtils.toString(is), is("Hello Client-side encryption World!".substring(21)));
+                });
+                It("should not decrypt with a buffer cipher", () -> {
+                    try {
+                        service.decryptingCipher(encrypted.getSecond(), 0, "key");
+                        fail("expected exception");
+                    } catch (Exception e) {
+                        assertThat(e, is(instanceOf(IllegalArgumentException.class)));
+                    }
+                });
+            });
+            Context("given content has been encrypted a buffer at a time", () -> {
+                JustBeforeEach(() -> {
+                    Pair<CtrBufferCipher, byte[]> encrypting = service.encryptingCipher("key");
+                    context = encrypting.getSecond();
+
+                    ByteArrayOutputStream out = new ByteArrayOutputStream();
+                    byte[] plaintext = "Hello Client-side encryption World!".getBytes();
+                    for (int i = 0; i < plaintext.length; i += 7) {
+                        out.write(bytes(encrypting.getFirst().update(ByteBuffer.wrap(plaintext, i, Math.min(7, plaintext.length - i)))));
+                    }
+                    encrypting.getFirst().release();
+                    ciphertext = out.toByteArray();
+                });
+                It("should use the 117 byte AES-CTR encryption context, even when segmenting is enabled", () -> {
+                    assertThat(context.length, is(117));
+                    assertThat(service.isSegmented(context), is(false));
+                    assertThat(ciphertext.length, is(35));
+                });
+                It("should be decryptable as a stream", () -> {
+                    InputStream is = service.decrypt(context, new ByteArrayInputStream(ciphertext), 0, "key");
+                    assertThat(IOUtils.toString(is), is("Hello Client-side encryption World!"));
+                });
+                It("should decrypt a buffer at a time", () -> {
+                    CtrBufferCipher decrypting = service.decryptingCipher(context, 0, "key");
+                    ByteArrayOutputStream out = new ByteArrayOutputStream();
+                    for (int i = 0; i < ciphertext.length; i += 5) {
+                        out.write(bytes(decrypting.update(ByteBuffer.wrap(ciphertext, i, Math.min(5, ciphertext.length - i)))));
+                    }
+                    decrypting.release();
+                    assertThat(new String(out.toByteArray()), is("Hello Client-side encryption World!"));
+                });
+                It("should decrypt from an offset part way through a block given buffers starting on its block", () -> {
+                    long encryptedOffset = service.getEncryptedOffset(context, 21);
+                    assertThat(encryptedOffset, is(16L));
+
+                    CtrBufferCipher decrypting = service.decryptingCipher(context, 21, "key");
+                    ByteArrayOutputStream out = new ByteArrayOutputStream();
+                    // the first buffer is shorter than the bytes to discard
+                    out.write(bytes(decrypting.update(ByteBuffer.wrap(ciphertext, 16, 3))));
+                    out.write(bytes(decrypting.update(ByteBuffer.wrap(ciphertext, 19, ciphertext.length - 19))));
+                    decrypting.release();
+                    assertThat(new String(out.toByteArray()), is("Hello Client-side encryption World!".substring(21)));
+                });
+                It("should not update once released", () -> {
+                    CtrBufferCipher decrypting = service.decryptingCipher(context, 0, "key");
+                    decrypting.release();
+                    decrypting.release();
+                    try {
+                        decrypting.update(ByteBuffer.wrap(ciphertext));
+                        fail("expected exception");
+                    } catch (Exception e) {
+                        assertThat(e, is(instanceOf(IllegalStateException.class)));
+                    }
+                });
+                Context("given segmenting is enabled", () -> {
+                    BeforeEach(() -> {
+                        service.setSegmentSize(16);
+                    });
+                    It("should still encrypt in the AES-CTR format", () -> {
+                        assertThat(service.isSegmented(context), is(false));
+                        InputStream is = service.decrypt(context, new ByteArrayInputStream(ciphertext), 0, "key");
+                        assertThat(IOUtils.toString(is), is("Hello Client-side encryption World!"));
+                    });
+                });
+            });
+        });
+    }
+
+    private static byte[] bytes(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,115 @@
+package org.springframework.content.encryption;
+
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.BeforeEach;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.Context;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.Describe;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.It;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.JustBeforeEach;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import javax.crypto.spec.SecretKeySpec;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.runner.RunWith;
+
+import com.github.paulcwarren.ginkgo4j.Ginkgo4jRunner;
+
+@RunWith(Ginkgo4jRunner.class)
+public class SegmentedCipherInputStreamTest {
+
+    private static final int SEGMENT_SIZE = 1024;
+
+    private CipherPool pool;
+    private ForkJoinPool forkJoinPool;
+    private SecretKeySpec key;
+    private byte[] nonce;
+    private byte[] content;
+    private byte[] encrypted;
+
+    private Exception e;
+
+    {
+        Describe("SegmentedCipherInputStream", () -> {
+            BeforeEach(() -> {
+                Random random = new Random(42);
+                byte[] keyBytes = new byte[32];
+                random.nextBytes(keyBytes);
+                key = new SecretKeySpec(keyBytes, "AES");
+                nonce = new byte[12];
+                random.nextBytes(nonce);
+
+                pool = new CipherPool(SegmentedCipherInputStream.TRANSFORMATION);
+                forkJoinPool = new ForkJoinPool(4);
+            });
+            for (int length : new int[] {0, SEGMENT_SIZE - 1, SEGMENT_SIZE, SEGMENT_SIZE * 3 + 5}) {
+                Context("given content of " + length + " bytes", () -> {
+                    BeforeEach(() -> {
+                        content = new byte[length];
+                        new Random(length).nextBytes(content);
+                    });
+                    JustBeforeEach(() -> {
+                        encrypted = IOUtils.toByteArray(SegmentedCipherInputStream.encrypting(new ByteArrayInputStream(content), pool, key, nonce, SEGMENT_SIZE, forkJoinPool, 4));
+                    });
+                    It("should encrypt each segment with a tag", () -> {
+                        assertThat((long) encrypted.length, is(SegmentedCipherInputStream.encryptedLength(length, SEGMENT_SIZE)));
+                    });
+                    It("should decrypt what it encrypted", () -> {
+                        byte[] decrypted = IOUtils.toByteArray(SegmentedCipherInputStream.decrypting(new ByteArrayInputStream(encrypted), pool, key, nonce, SEGMENT_SIZE, 0, forkJoinPool, 4));
+                        assertThat(Arrays.equals(decrypted, content), is(true));
+                    });
+                });
+            }
+            Context("given content spanning several segments", () -> {
+                BeforeEach(() -> {
+                    content = new byte[SEGMENT_SIZE * 3 + 5];
+                    new Random(1).nextBytes(content);
+                    encrypted = IOUtils.toByteArray(SegmentedCipherInputStream.encrypting(new ByteArrayInputStream(content), pool, key, nonce, SEGMENT_SIZE, forkJoinPool, 4));
+                    e = null;
+                });
+                It("should decrypt from a segment", () -> {
+                    int offset = 2 * (SEGMENT_SIZE + SegmentedCipherInputStream.TAG_LENGTH);
+                    byte[] decrypted = IOUtils.toByteArray(SegmentedCipherInputStream.decrypting(new ByteArrayInputStream(encrypted, offset, encrypted.length - offset), pool, key, nonce, SEGMENT_SIZE, 2, forkJoinPool, 4));
+                    assertThat(Arrays.equals(decrypted, Arrays.copyOfRange(content, 2 * SEGMENT_SIZE, content.length)), is(true));
+                });
+                It("should fail to decrypt tampered content", () -> {
+                    encrypted[SEGMENT_SIZE + 100] ^= 1;
+                    try {
+                        IOUtils.toByteArray(SegmentedCipherInputStream.decrypting(new ByteArrayInputStream(encrypted), pool, key, nonce, SEGMENT_SIZE, 0, forkJoinPool, 4));
+                    } catch (Exception e) {
+                        this.e = e;
+                    }
+                    assertThat(e, is(instanceOf(IOException.class)));
+                });
+                It("should fail to decrypt content truncated at a segment boundary", () -> {
+                    int length = 2 * (SEGMENT_SIZE + SegmentedCipherInputStream.TAG_LENGTH);
+                    try {
+                        IOUtils.toByteArray(SegmentedCipherInputStream.decrypting(new ByteArrayInputStream(encrypted, 0, length), pool, key, nonce, SEGMENT_SIZE, 0, forkJoinPool, 4));
+                    } catch (Exception e) {
+                        this.e = e;
+                    }
+                    assertThat(e, is(instanceOf(IOException.class)));
+                });
+                It("should fail to decrypt reordered segments", () -> {
+                    int segment = SEGMENT_SIZE + SegmentedCipherInputStream.TAG_LENGTH;
+                    byte[] reordered = encrypted.clone();
+                    System.arraycopy(encrypted, 0, reordered, segment, segment);
+                    System.arraycopy(encrypted, segment, reordered, 0, segment);
+                    try {
+                        IOUtils.toByteArray(SegmentedCipherInputStream.decrypting(new ByteArrayInputStream(reordered), pool, key, nonce, SEGMENT_SIZE, 0, forkJoinPool, 4));
+                    } catch (Exception e) {
+                        this.e = e;
+                    }
+                    assertThat(e, is(instanceOf(IOException.class)));
+                });
+            });
+        });
+    }
+}
@@ -125,6 +125,41 @@ public class EncryptionIT {
 
                     assertThat(r.asString(), is("e encryption"));
                 });
+                Context("given content spanning many AES blocks", () -> {
+                    BeforeEach(() -> {
+                        given()
+                                .contentType("text/plain")
+                                .body(largeContent())
+                                .when()
+                                .post("/fsFiles/" + f.getId() + "/content")
+                                .then()
+                                .statusCode(HttpStatus.SC_OK);
+                    });
+                    It("should handle byte-range requests that do not start on a block boundary", () -> {
+                        MockMvcResponse r =
+                                given()
+                                        .header("accept", "text/plain")
+                                        .header("range", "bytes=50005-50104")
+                                        .get("/fsFiles/" + f.getId() + "/content")
+                                        .then()
+                                        .statusCode(HttpStatus.SC_PARTIAL_CONTENT)
+                                        .and().extract().response();
+
+                        assertThat(r.asString(), is(largeContent().substring(50005, 50105)));
+                    });
+                    It("should handle open-ended byte-range requests", () -> {
+                        MockMvcResponse r =
+                                given()
+                                        .header("accept", "text/plain")
+                                        .header("range", "bytes=99990-")
+                                        .get("/fsFiles/" + f.getId() + "/content")
+                                        .then()
+                                        .statusCode(HttpStatus.SC_PARTIAL_CONTENT)
+                                        .and().extract().response();
+
+                        assertThat(r.asString(), is(largeContent().substring(99990)));
+                    });
+                });
                 Context("when the keyring is rotated", () -> {
                     BeforeEach(() -> {
                         encrypter.rotate("filecontentstore");
@@ -177,6 +212,14 @@ public class EncryptionIT {
         });
     }
 
+    private static String largeContent() {
+        StringBuilder sb = new StringBuilder();
+        for (int i=0; sb.length() < 100000; i++) {
+            sb.append(String.format("%08d ", i));
+        }
+        return sb.substring(0, 100000);
+    }
+
     @Test
     public void noop() {}
 
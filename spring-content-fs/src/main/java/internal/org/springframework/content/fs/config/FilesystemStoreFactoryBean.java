@@ -4,6 +4,7 @@ import org.springframework.aop.framework.ProxyFactory;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.content.commons.mappingcontext.MappingContext;
+import org.springframework.content.commons.repository.ReactiveContentStore;
 import org.springframework.content.commons.repository.Store;
 import org.springframework.content.commons.store.factory.AbstractStoreFactoryBean;
 import org.springframework.content.commons.utils.FileServiceImpl;
@@ -13,6 +14,7 @@ import org.springframework.util.Assert;
 import org.springframework.versions.LockingAndVersioningProxyFactory;
 
 import internal.org.springframework.content.fs.store.DefaultFilesystemStoreImpl;
+import internal.org.springframework.content.fs.store.DefaultReactiveFilesystemStoreImpl;
 
 @SuppressWarnings("rawtypes")
 public class FilesystemStoreFactoryBean extends AbstractStoreFactoryBean {
@@ -50,6 +52,10 @@ public class FilesystemStoreFactoryBean extends AbstractStoreFactoryBean {
 
 	@Override
 	protected Object getContentStoreImpl() {
+		if (ReactiveContentStore.class.isAssignableFrom(getStoreInterface()) ||
+				org.springframework.content.commons.store.ReactiveContentStore.class.isAssignableFrom(getStoreInterface())) {
+			return new DefaultReactiveFilesystemStoreImpl(loader, mappingContext, filesystemStorePlacementService, new FileServiceImpl());
+		}
 		return new DefaultFilesystemStoreImpl(loader, mappingContext, filesystemStorePlacementService, new FileServiceImpl());
 	}
 }
@@ -9,6 +9,7 @@ import java.io.OutputStream;
 import java.io.Serializable;
 import java.net.URI;
 import java.net.URL;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 
@@ -80,6 +81,12 @@ public class FileSystemDeletableResource implements WritableResource, DeletableR
 		return resource.getInputStream();
 	}
 
+	@Override
+	public ReadableByteChannel readableChannel() throws IOException {
+		// seekable, allowing encrypted content to be decrypted from an offset
+		return resource.readableChannel();
+	}
+
 	@Override
     public boolean isWritable() {
 		return resource.isWritable();
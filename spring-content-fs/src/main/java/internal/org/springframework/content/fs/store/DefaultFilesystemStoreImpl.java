@@ -9,6 +9,8 @@ import java.io.OutputStream;
 import java.io.Serializable;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.UUID;
 
 import org.apache.commons.io.IOUtils;
@@ -33,11 +35,15 @@ import org.springframework.content.commons.utils.FileService;
 import org.springframework.content.commons.utils.PlacementService;
 import org.springframework.content.fs.io.FileSystemResourceLoader;
 import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.WritableResource;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 
+import internal.org.springframework.content.commons.utils.ContentCopier;
+import internal.org.springframework.content.fs.io.FileSystemDeletableResource;
+
 @Transactional(readOnly = true)
 public class DefaultFilesystemStoreImpl<S, SID extends Serializable>
 		implements Store<SID>, AssociativeStore<S, SID>, ContentStore<S, SID>,
@@ -310,6 +316,12 @@ public class DefaultFilesystemStoreImpl<S, SID extends Serializable>
     @Transactional
     @Override
     public S setContent(S property, PropertyPath propertyPath, Resource resourceContent) {
+        if (resourceContent instanceof FileSystemDeletableResource && copyContent(property, propertyPath, ((FileSystemDeletableResource) resourceContent).getFile())) {
+            return property;
+        } else if (resourceContent instanceof FileSystemResource && copyContent(property, propertyPath, ((FileSystemResource) resourceContent).getFile())) {
+            return property;
+        }
+
         try {
             return this.setContent(property, propertyPath, resourceContent.getInputStream());
         } catch (IOException e) {
@@ -318,6 +330,22 @@ public class DefaultFilesystemStoreImpl<S, SID extends Serializable>
         }
     }
 
+	/**
+	 * Sets content by copying a file with {@link Files#copy}, letting the platform copy it without reading it
+	 * through the application.
+	 */
+	private boolean copyContent(S property, PropertyPath propertyPath, File source) {
+		return ContentCopier.copyContent(property, propertyPath, mappingContext,
+				(id, idType) -> placer.convert(id, TypeDescriptor.forObject(id), idType),
+				this::getResource, FileSystemDeletableResource.class,
+				target -> {
+					File file = target.getFile();
+					this.fileService.mkdirs(file.getParentFile());
+					Files.copy(source.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+					return file.length();
+				});
+	}
+
 	@Override
 	@Transactional
 	public InputStream getContent(S entity) {
@@ -0,0 +1,244 @@
+package internal.org.springframework.content.fs.store;
+
+import static java.lang.String.format;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.lang.annotation.Annotation;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.content.commons.io.DeletableResource;
+import org.springframework.content.commons.mappingcontext.ContentProperty;
+import org.springframework.content.commons.mappingcontext.MappingContext;
+import org.springframework.content.commons.property.PropertyPath;
+import org.springframework.content.commons.store.ReactiveContentStore;
+import org.springframework.content.commons.store.StoreAccessException;
+import org.springframework.content.commons.utils.FileService;
+import org.springframework.content.commons.utils.PlacementService;
+import org.springframework.content.fs.io.FileSystemResourceLoader;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.util.Assert;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Non-blocking filesystem store.  Content is read and written through {@link java.nio.channels.AsynchronousFileChannel}s
+ * one buffer at a time as the subscriber requests it, so neither direction holds a thread while waiting on the disk
+ * or on the other party.  Resolving, creating, sizing and deleting files block so are done on the
+ * {@link reactor.core.scheduler.Schedulers#boundedElastic() bounded elastic} scheduler.
+ * <p>
+ * Reads are made into buffers allocated by the configured {@link DataBufferFactory}.  Buffers from a pooling factory
+ * are copied out and returned to the pool as soon as they are read; buffers from the default factory are handed to
+ * the subscriber without copying.
+ */
+public class DefaultReactiveFilesystemStoreImpl<S, SID extends Serializable>
+        implements org.springframework.content.commons.repository.ReactiveContentStore<S, SID>,
+        ReactiveContentStore<S, SID> {
+
+    private static Log logger = LogFactory.getLog(DefaultReactiveFilesystemStoreImpl.class);
+
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private FileSystemResourceLoader loader;
+    private PlacementService placer;
+    private FileService fileService;
+    private MappingContext mappingContext;
+
+    private DataBufferFactory bufferFactory = DefaultDataBufferFactory.sharedInstance;
+    private int bufferSize = DEFAULT_BUFFER_SIZE;
+
+    public DefaultReactiveFilesystemStoreImpl(FileSystemResourceLoader loader, MappingContext mappingContext, PlacementService placer, FileService fileService) {
+        Assert.notNull(loader, "loader must be specified");
+        Assert.notNull(placer, "placer must be specified");
+        this.loader = loader;
+        this.placer = placer;
+        this.fileService = fileService;
+        this.mappingContext = mappingContext;
+        if (this.mappingContext == null) {
+            this.mappingContext = new MappingContext("/", ".");
+        }
+    }
+
+    /**
+     * Sets the factory that read buffers are allocated from, for example a pooling
+     * {@code NettyDataBufferFactory}.
+     */
+    public void setBufferFactory(DataBufferFactory bufferFactory) {
+        this.bufferFactory = bufferFactory;
+    }
+
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    @Override
+    public Mono<S> setContent(S entity, PropertyPath path, long contentLen, Flux<ByteBuffer> buffer) {
+
+        ContentProperty property = this.mappingContext.getContentProperty(entity.getClass(), path.getName());
+        if (property == null) {
+            throw new StoreAccessException(String.format("Content property %s does not exist", path.getName()));
+        }
+
+        Object contentId = property.getContentId(entity);
+        if (contentId == null) {
+
+            Serializable newId = UUID.randomUUID().toString();
+
+            Object convertedId = placer.convert(
+                    newId,
+                    TypeDescriptor.forObject(newId),
+                    property.getContentIdType(entity));
+
+            property.setContentId(entity, convertedId, null);
+        }
+
+        // resolving the file and creating its directories may block
+        return Mono.fromCallable(() -> {
+                    Path file = getPath(entity, property);
+                    try {
+                        fileService.mkdirs(file.getParent().toFile());
+                    } catch (IOException e) {
+                        throw new StoreAccessException(format("Setting content for entity %s", entity), e);
+                    }
+                    return file;
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(file -> {
+                    Flux<DataBuffer> content = buffer.map(bufferFactory::wrap);
+                    return DataBufferUtils.write(content, file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)
+                            .then(contentLen != -1L
+                                    ? Mono.just(contentLen)
+                                    : Mono.fromCallable(() -> Files.size(file)).subscribeOn(Schedulers.boundedElastic()));
+                })
+                .map(len -> {
+                    property.setContentLength(entity, len);
+                    return entity;
+                })
+                .onErrorMap(e -> !(e instanceof StoreAccessException), e -> {
+                    logger.error(format("Unexpected error setting content for entity %s", entity), e);
+                    return new StoreAccessException(format("Setting content for entity %s", entity), e);
+                });
+    }
+
+    @Override
+    public Flux<ByteBuffer> getContent(S entity, PropertyPath path) {
+        return getContent(entity, path, 0, -1);
+    }
+
+    @Override
+    public Flux<ByteBuffer> getContent(S entity, PropertyPath path, long offset, long length) {
+
+        if (entity == null)
+            return Flux.empty();
+
+        ContentProperty property = this.mappingContext.getContentProperty(entity.getClass(), path.getName());
+        if (property == null) {
+            throw new StoreAccessException(String.format("Content property %s does not exist", path.getName()));
+        }
+
+        if (property.getContentId(entity) == null) {
+            return Flux.empty();
+        }
+
+        return Mono.fromCallable(() -> {
+                    Path file = getPath(entity, property);
+                    return Files.exists(file) ? file : null;
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapMany(file -> {
+                    Flux<DataBuffer> content = DataBufferUtils.read(file, offset, bufferFactory, bufferSize);
+                    if (length != -1) {
+                        content = DataBufferUtils.takeUntilByteCount(content, length);
+                    }
+                    return content.concatMapIterable(DefaultReactiveFilesystemStoreImpl::toByteBuffers);
+                });
+    }
+
+    @Override
+    public Mono<S> unsetContent(S entity, PropertyPath propertyPath) {
+
+        if (entity == null)
+            return Mono.empty();
+
+        ContentProperty property = this.mappingContext.getContentProperty(entity.getClass(), propertyPath.getName());
+        if (property == null) {
+            throw new StoreAccessException(String.format("Content property %s does not exist", propertyPath.getName()));
+        }
+
+        if (property.getContentId(entity) == null) {
+            return Mono.just(entity);
+        }
+
+        return Mono.fromCallable(() -> {
+            Resource resource = loader.getResource(placer.convert(property.getContentId(entity), String.class));
+            if (resource.exists() && resource instanceof DeletableResource) {
+                ((DeletableResource) resource).delete();
+            }
+
+            // reset content fields
+            property.setContentId(entity, null, new org.springframework.content.commons.mappingcontext.Condition() {
+                @Override
+                public boolean matches(TypeDescriptor descriptor) {
+                    for (Annotation annotation : descriptor.getAnnotations()) {
+                        if ("jakarta.persistence.Id".equals(
+                                annotation.annotationType().getCanonicalName())
+                                || "org.springframework.data.annotation.Id"
+                                        .equals(annotation.annotationType()
+                                                .getCanonicalName())) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }
+            });
+            property.setContentLength(entity, 0);
+            return entity;
+        })
+        .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private Path getPath(S entity, ContentProperty property) throws StoreAccessException {
+        String location = placer.convert(property.getContentId(entity), String.class);
+        try {
+            return loader.getResource(location).getFile().toPath();
+        } catch (IOException e) {
+            throw new StoreAccessException(format("Resolving file for entity %s", entity), e);
+        }
+    }
+
+    // default buffers are not pooled so their content can be handed on as-is.  Anything else is copied and released
+    private static List<ByteBuffer> toByteBuffers(DataBuffer dataBuffer) {
+        List<ByteBuffer> buffers = new ArrayList<>(1);
+        if (dataBuffer instanceof DefaultDataBuffer) {
+            try (DataBuffer.ByteBufferIterator iterator = dataBuffer.readableByteBuffers()) {
+                iterator.forEachRemaining(buffers::add);
+            }
+            return buffers;
+        }
+
+        try {
+            byte[] bytes = new byte[dataBuffer.readableByteCount()];
+            dataBuffer.read(bytes);
+            buffers.add(ByteBuffer.wrap(bytes));
+            return buffers;
+        } finally {
+            DataBufferUtils.release(dataBuffer);
+        }
+    }
+}
@@ -24,6 +24,8 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 
 import org.junit.runner.RunWith;
 import org.mockito.InOrder;
@@ -32,6 +34,7 @@ import org.mockito.Mockito;
 import org.springframework.content.commons.annotations.ContentId;
 import org.springframework.content.commons.annotations.ContentLength;
 import org.springframework.content.commons.io.DeletableResource;
+import org.springframework.content.commons.property.PropertyPath;
 import org.springframework.content.commons.repository.StoreAccessException;
 import org.springframework.content.commons.utils.FileService;
 import org.springframework.content.commons.utils.PlacementService;
@@ -44,6 +47,8 @@ import org.springframework.core.io.WritableResource;
 
 import com.github.paulcwarren.ginkgo4j.Ginkgo4jRunner;
 
+import internal.org.springframework.content.fs.io.FileSystemDeletableResource;
+
 @RunWith(Ginkgo4jRunner.class)
 public class DefaultFilesystemStoresImplTest {
 	private DefaultFilesystemStoreImpl<ContentProperty, String> filesystemContentRepoImpl;
@@ -391,6 +396,31 @@ public class DefaultFilesystemStoresImplTest {
 					});
 				});
 
+				Context("#setContent from a file Resource", () -> {
+
+					BeforeEach(() -> {
+						entity = new TestEntity("12345-67890");
+
+						root = Files.createTempDirectory("copy").toFile();
+						File source = new File(root, "source");
+						Files.write(source.toPath(), "Hello content world!".getBytes(StandardCharsets.UTF_8));
+						inputResource = new FileSystemResource(source);
+
+						when(placer.convert(eq("12345-67890"), eq(String.class))).thenReturn("12345-67890");
+						when(loader.getResource(eq("12345-67890"))).thenReturn(new FileSystemDeletableResource(new FileSystemResource(new File(root, "12345-67890")), fileService));
+					});
+
+					JustBeforeEach(() -> {
+						filesystemContentRepoImpl.setContent(entity, PropertyPath.from("content"), inputResource);
+					});
+
+					It("should copy the file without streaming it", () -> {
+						assertThat(new String(Files.readAllBytes(new File(root, "12345-67890").toPath()), StandardCharsets.UTF_8), is("Hello content world!"));
+						assertThat(entity.getContentLen(), is(20L));
+						verify(filesystemContentRepoImpl, never()).setContent(eq(entity), eq(PropertyPath.from("content")), Mockito.any(InputStream.class));
+					});
+				});
+
 				Context("#getContent", () -> {
 					BeforeEach(() -> {
 						entity = new TestEntity();
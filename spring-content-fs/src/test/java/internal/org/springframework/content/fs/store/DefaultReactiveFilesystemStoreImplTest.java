@@ -0,0 +1,171 @@
+package internal.org.springframework.content.fs.store;
+
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.*;
+import static org.hamcrest.CoreMatchers.everyItem;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.runner.RunWith;
+import org.springframework.content.commons.property.PropertyPath;
+import org.springframework.content.commons.utils.FileServiceImpl;
+import org.springframework.content.commons.utils.PlacementServiceImpl;
+import org.springframework.content.fs.io.FileSystemResourceLoader;
+import org.springframework.core.io.Resource;
+
+import com.github.paulcwarren.ginkgo4j.Ginkgo4jRunner;
+
+import internal.org.springframework.content.fs.store.DefaultFilesystemStoresImplTest.TestEntity;
+import reactor.core.publisher.Flux;
+
+@RunWith(Ginkgo4jRunner.class)
+public class DefaultReactiveFilesystemStoreImplTest {
+
+    private DefaultReactiveFilesystemStoreImpl<TestEntity, String> store;
+
+    private File root;
+    private TestEntity entity;
+
+    // the threads that files were resolved and directories created on
+    private List<String> threads;
+
+    {
+        Describe("DefaultReactiveFilesystemStoreImpl", () -> {
+
+            BeforeEach(() -> {
+                root = Files.createTempDirectory("reactive").toFile();
+                threads = Collections.synchronizedList(new ArrayList<>());
+                FileSystemResourceLoader loader = new FileSystemResourceLoader(root.getAbsolutePath()) {
+                    @Override
+                    public Resource getResource(String location) {
+                        threads.add(Thread.currentThread().getName());
+                        return super.getResource(location);
+                    }
+                };
+                FileServiceImpl fileService = new FileServiceImpl() {
+                    @Override
+                    public void mkdirs(File file) throws IOException {
+                        threads.add(Thread.currentThread().getName());
+                        super.mkdirs(file);
+                    }
+                };
+                store = new DefaultReactiveFilesystemStoreImpl<>(loader, null, new PlacementServiceImpl(), fileService);
+                entity = new TestEntity();
+            });
+
+            Context("#setContent", () -> {
+                JustBeforeEach(() -> {
+                    store.setContent(entity, PropertyPath.from("content"), -1L, Flux.just("Hello ", "reactive ", "content ", "world!")
+                            .map(s -> ByteBuffer.wrap(s.getBytes(StandardCharsets.UTF_8)))).block();
+                });
+                It("should write the content and set the content id and length", () -> {
+                    assertThat(entity.getContentId(), is(not(nullValue())));
+                    assertThat(entity.getContentLen(), is(29L));
+                    assertThat(new String(Files.readAllBytes(new File(root, entity.getContentId()).toPath()), StandardCharsets.UTF_8), is("Hello reactive content world!"));
+                });
+                It("should resolve the file and create its directories on a thread that may block", () -> {
+                    assertThat(threads, is(not(empty())));
+                    assertThat(threads, everyItem(startsWith("boundedElastic")));
+                });
+                Context("given existing content", () -> {
+                    BeforeEach(() -> {
+                        store.setContent(entity, PropertyPath.from("content"), -1L, Flux.just(ByteBuffer.wrap(new byte[1024]))).block();
+                    });
+                    It("should replace it", () -> {
+                        assertThat(entity.getContentLen(), is(29L));
+                        assertThat(new File(root, entity.getContentId()).length(), is(29L));
+                    });
+                });
+            });
+
+            Context("#getContent", () -> {
+                BeforeEach(() -> {
+                    entity.setContentId("12345-67890");
+                    Files.write(new File(root, "12345-67890").toPath(), "Hello reactive content world!".getBytes(StandardCharsets.UTF_8));
+                    store.setBufferSize(8);
+                });
+                It("should read the content a buffer at a time", () -> {
+                    List<ByteBuffer> buffers = store.getContent(entity, PropertyPath.from("content")).collectList().block();
+
+                    assertThat(buffers.size(), is(4));
+                    assertThat(toString(buffers), is("Hello reactive content world!"));
+                });
+                It("should resolve the file on a thread that may block", () -> {
+                    store.getContent(entity, PropertyPath.from("content")).collectList().block();
+
+                    assertThat(threads, is(not(empty())));
+                    assertThat(threads, everyItem(startsWith("boundedElastic")));
+                });
+                It("should read only as many buffers as are requested", () -> {
+                    List<ByteBuffer> buffers = store.getContent(entity, PropertyPath.from("content")).take(1).collectList().block();
+
+                    assertThat(toString(buffers), is("Hello re"));
+                });
+                It("should read a range of the content", () -> {
+                    List<ByteBuffer> buffers = store.getContent(entity, PropertyPath.from("content"), 6, 16).collectList().block();
+
+                    assertThat(toString(buffers), is("reactive content"));
+                });
+                It("should read from an offset to the end of the content", () -> {
+                    List<ByteBuffer> buffers = store.getContent(entity, PropertyPath.from("content"), 23, -1).collectList().block();
+
+                    assertThat(toString(buffers), is("world!"));
+                });
+                Context("given the content does not exist", () -> {
+                    BeforeEach(() -> {
+                        entity.setContentId("does-not-exist");
+                    });
+                    It("should return no content", () -> {
+                        assertThat(store.getContent(entity, PropertyPath.from("content")).collectList().block().size(), is(0));
+                    });
+                });
+                Context("given no content id", () -> {
+                    BeforeEach(() -> {
+                        entity.setContentId(null);
+                    });
+                    It("should return no content", () -> {
+                        assertThat(store.getContent(entity, PropertyPath.from("content")).collectList().block().size(), is(0));
+                    });
+                });
+            });
+
+            Context("#unsetContent", () -> {
+                BeforeEach(() -> {
+                    entity.setContentId("12345-67890");
+                    entity.setContentLen(29L);
+                    Files.write(new File(root, "12345-67890").toPath(), "Hello reactive content world!".getBytes(StandardCharsets.UTF_8));
+                });
+                It("should delete the content and reset the content id and length", () -> {
+                    store.unsetContent(entity, PropertyPath.from("content")).block();
+
+                    assertThat(new File(root, "12345-67890").exists(), is(false));
+                    assertThat(entity.getContentId(), is(nullValue()));
+                    assertThat(entity.getContentLen(), is(0L));
+                });
+            });
+        });
+    }
+
+    private static String toString(List<ByteBuffer> buffers) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (ByteBuffer buffer : buffers) {
+            byte[] bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+            out.write(bytes, 0, bytes.length);
+        }
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,146 @@
+package internal.org.springframework.content.fs.store;
+
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.*;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.mockito.Mockito.mock;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.runner.RunWith;
+import org.springframework.content.commons.property.PropertyPath;
+import org.springframework.content.commons.search.IndexService;
+import org.springframework.content.commons.search.ReactiveIndexServiceAdapter;
+import org.springframework.content.commons.search.ReactiveIndexingStoreEventHandler;
+import org.springframework.content.commons.store.ReactiveContentStore;
+import org.springframework.content.commons.utils.FileServiceImpl;
+import org.springframework.content.commons.utils.PlacementServiceImpl;
+import org.springframework.content.fs.io.FileSystemResourceLoader;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.github.paulcwarren.ginkgo4j.Ginkgo4jRunner;
+
+import internal.org.springframework.content.commons.repository.AnnotatedStoreEventInvoker;
+import internal.org.springframework.content.commons.repository.ReactiveStoreEventInvoker;
+import internal.org.springframework.content.commons.store.factory.ReactiveStoreImpl;
+import internal.org.springframework.content.fs.store.DefaultFilesystemStoresImplTest.TestEntity;
+import reactor.core.publisher.Flux;
+
+@RunWith(Ginkgo4jRunner.class)
+public class ReactiveFilesystemIndexingTest {
+
+    private static final String CONTENT = "Hello reactive content world!  Indexed a buffer at a time.";
+
+    private ReactiveStoreImpl store;
+
+    private DefaultReactiveFilesystemStoreImpl<TestEntity, String> filesystemStore;
+    private FakeIndexService indexService;
+
+    private File root;
+    private TestEntity entity;
+
+    {
+        Describe("ReactiveIndexingStoreEventHandler with a reactive filesystem store", () -> {
+
+            BeforeEach(() -> {
+                root = Files.createTempDirectory("reactive-indexing").toFile();
+                filesystemStore = new DefaultReactiveFilesystemStoreImpl<>(new FileSystemResourceLoader(root.getAbsolutePath()), null, new PlacementServiceImpl(), new FileServiceImpl());
+                filesystemStore.setBufferSize(8);
+
+                indexService = new FakeIndexService();
+                AnnotatedStoreEventInvoker invoker = new AnnotatedStoreEventInvoker();
+                invoker.postProcessAfterInitialization(new ReactiveIndexingStoreEventHandler(new ReactiveIndexServiceAdapter<>(indexService)), "indexer");
+
+                store = new ReactiveStoreImpl((ReactiveContentStore) filesystemStore, mock(ApplicationEventPublisher.class), new ReactiveStoreEventInvoker(invoker));
+                entity = new TestEntity();
+            });
+
+            Context("when content is set", () -> {
+                JustBeforeEach(() -> {
+                    store.setContent(entity, PropertyPath.from("content"), -1L, Flux.just(CONTENT.substring(0, 13), CONTENT.substring(13))
+                            .map(s -> ByteBuffer.wrap(s.getBytes(StandardCharsets.UTF_8)))).block();
+                });
+                It("should index the content read back from the store", () -> {
+                    assertThat(indexService.indexed.size(), is(1));
+                    assertThat(indexService.indexed.get(0).entity, is(sameInstance(entity)));
+                    assertThat(indexService.indexed.get(0).content, is(CONTENT));
+                    assertThat(indexService.threads, contains(is(true)));
+                });
+
+                Context("when the content is then unset", () -> {
+                    JustBeforeEach(() -> {
+                        indexService.contentId = entity.getContentId();
+                        indexService.root = root;
+                        store.unsetContent(entity, PropertyPath.from("content")).block();
+                    });
+                    It("should unindex the entity before the content is removed", () -> {
+                        assertThat(indexService.unindexed.size(), is(1));
+                        assertThat(indexService.unindexed.get(0), is(sameInstance(entity)));
+                        assertThat(indexService.existedWhenUnindexed, is(true));
+                        assertThat(new File(root, indexService.contentId).exists(), is(false));
+                    });
+                });
+            });
+
+            Context("when content is unset from an entity without content", () -> {
+                It("should still unindex the entity", () -> {
+                    store.unsetContent(entity, PropertyPath.from("content")).block();
+
+                    assertThat(indexService.unindexed.size(), is(1));
+                });
+            });
+        });
+    }
+
+    public static class FakeIndexService implements IndexService<Object> {
+
+        private final List<Indexed> indexed = Collections.synchronizedList(new ArrayList<>());
+        private final List<Object> unindexed = Collections.synchronizedList(new ArrayList<>());
+        // whether each call was made on a thread that may block
+        private final List<Boolean> threads = Collections.synchronizedList(new ArrayList<>());
+
+        private File root;
+        private String contentId;
+        private boolean existedWhenUnindexed;
+
+        @Override
+        public void index(Object entity, InputStream content) {
+            threads.add(Thread.currentThread().getName().startsWith("boundedElastic"));
+            try {
+                indexed.add(new Indexed(entity, new String(content.readAllBytes(), StandardCharsets.UTF_8)));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void unindex(Object entity) {
+            if (root != null) {
+                existedWhenUnindexed = new File(root, contentId).exists();
+            }
+            unindexed.add(entity);
+        }
+    }
+
+    private static class Indexed {
+
+        private final Object entity;
+        private final String content;
+
+        private Indexed(Object entity, String content) {
+            this.entity = entity;
+            this.content = content;
+        }
+    }
+}
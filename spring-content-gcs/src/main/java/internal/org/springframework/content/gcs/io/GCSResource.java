@@ -13,6 +13,7 @@ import org.springframework.core.io.WritableResource;
 import org.springframework.util.Assert;
 
 import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.CopyWriter;
 import com.google.cloud.storage.Storage;
 
 public class GCSResource implements WritableResource, DeletableResource {
@@ -101,6 +102,23 @@ public class GCSResource implements WritableResource, DeletableResource {
 		}
 	}
 
+	/**
+	 * Copies the blob of the given resource to this resource's blob server-side using the storage rewrite API, without
+	 * reading it through the application.
+	 *
+	 * @param source the resource to copy from, may be in another bucket
+	 */
+	public void copyFrom(GCSResource source) {
+		CopyWriter writer = client.copy(Storage.CopyRequest.of(
+				BlobId.of(source.bucket, source.getFilename()),
+				BlobId.of(bucket, getFilename())));
+
+		// large blobs, or blobs copied between locations or storage classes, are rewritten over several requests
+		while (!writer.isDone()) {
+			writer.copyChunk();
+		}
+	}
+
 	@Override
 	public boolean isWritable() {
 		return ((WritableResource) delegate).isWritable();
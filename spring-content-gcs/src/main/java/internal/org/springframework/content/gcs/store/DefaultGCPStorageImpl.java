@@ -37,6 +37,7 @@ import org.springframework.util.Assert;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.Storage;
 
+import internal.org.springframework.content.commons.utils.ContentCopier;
 import internal.org.springframework.content.commons.utils.ContentPropertyInfoTypeDescriptor;
 import internal.org.springframework.content.gcs.io.GCSResource;
 
@@ -349,6 +350,10 @@ public class DefaultGCPStorageImpl<S, SID extends Serializable>
 
     @Override
     public S setContent(S property, PropertyPath propertyPath, Resource resourceContent) {
+        if (resourceContent instanceof GCSResource && copyContent(property, propertyPath, (GCSResource) resourceContent)) {
+            return property;
+        }
+
         try {
             return setContent(property, propertyPath, resourceContent.getInputStream());
         } catch (IOException e) {
@@ -357,6 +362,20 @@ public class DefaultGCPStorageImpl<S, SID extends Serializable>
         }
     }
 
+	/**
+	 * Sets content by rewriting a blob already in storage server-side rather than streaming it through the
+	 * application.
+	 */
+	private boolean copyContent(S entity, PropertyPath propertyPath, GCSResource source) {
+		return ContentCopier.copyContent(entity, propertyPath, mappingContext,
+				(id, idType) -> placementService.convert(id, TypeDescriptor.forObject(id), idType),
+				this::getResource, GCSResource.class,
+				target -> {
+					target.copyFrom(source);
+					return source.contentLength();
+				});
+	}
+
 	@Transactional
 	@Override
 	public InputStream getContent(S entity) {
@@ -0,0 +1,190 @@
+package internal.org.springframework.content.index;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Annotation processor that writes an index of the store interfaces and store fragment implementations compiled in
+ * a module to <code>META-INF/spring-content.index</code> so that store registrars can read them at startup rather
+ * than scanning the classpath.
+ *
+ * Each entry maps a binary class name to either <code>store</code> or <code>fragment</code>.  Store interfaces are
+ * those extending one of Spring Content's store types and fragments are concrete classes named with the
+ * <code>Impl</code> postfix.  Entries from a previous, incremental compile are kept for as long as their types exist.
+ */
+@SupportedAnnotationTypes("*")
+public class StoreIndexProcessor extends AbstractProcessor {
+
+    // keep in step with internal.org.springframework.content.commons.index.StoreIndex
+    static final String INDEX_LOCATION = "META-INF/spring-content.index";
+    static final String STORE = "store";
+    static final String FRAGMENT = "fragment";
+
+    private static final String FRAGMENT_POSTFIX = "Impl";
+
+    // keep in step with internal.org.springframework.content.commons.utils.StoreCandidateComponentProvider
+    private static final Set<String> STORE_TYPES = new HashSet<>(Arrays.asList(
+            "org.springframework.content.commons.repository.ContentRepository",
+            "org.springframework.content.commons.repository.Store",
+            "org.springframework.content.commons.store.Store",
+            "org.springframework.content.commons.store.ReactiveContentStore"));
+
+    private final Map<String, String> entries = new TreeMap<>();
+    private boolean previousIndexRead = false;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+
+        if (!previousIndexRead) {
+            readPreviousIndex();
+            previousIndexRead = true;
+        }
+
+        for (TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+            index(type);
+        }
+
+        if (roundEnv.processingOver()) {
+            writeIndex();
+        }
+
+        // never claim annotations so that other processors still see them
+        return false;
+    }
+
+    private void index(TypeElement type) {
+
+        String name = processingEnv.getElementUtils().getBinaryName(type).toString();
+        entries.remove(name);
+
+        if (isStore(type)) {
+            entries.put(name, STORE);
+        }
+        else if (isFragment(type)) {
+            entries.put(name, FRAGMENT);
+        }
+
+        for (TypeElement nested : ElementFilter.typesIn(type.getEnclosedElements())) {
+            index(nested);
+        }
+    }
+
+    private boolean isStore(TypeElement type) {
+        return type.getKind() == ElementKind.INTERFACE && extendsStoreType(type.asType(), new HashSet<>());
+    }
+
+    private boolean extendsStoreType(TypeMirror type, Set<String> visited) {
+
+        if (type.getKind() != TypeKind.DECLARED) {
+            return false;
+        }
+
+        TypeElement element = (TypeElement) ((DeclaredType) type).asElement();
+        String name = element.getQualifiedName().toString();
+        if (STORE_TYPES.contains(name)) {
+            return true;
+        }
+        if (!visited.add(name)) {
+            return false;
+        }
+
+        List<? extends TypeMirror> supertypes = processingEnv.getTypeUtils().directSupertypes(type);
+        for (TypeMirror supertype : supertypes) {
+            if (extendsStoreType(supertype, visited)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isFragment(TypeElement type) {
+
+        if (type.getKind() != ElementKind.CLASS || type.getModifiers().contains(Modifier.ABSTRACT)) {
+            return false;
+        }
+
+        // only independent classes can be instantiated as fragment beans
+        if (type.getNestingKind() != NestingKind.TOP_LEVEL &&
+                (type.getNestingKind() != NestingKind.MEMBER || !type.getModifiers().contains(Modifier.STATIC))) {
+            return false;
+        }
+
+        return type.getSimpleName().toString().endsWith(FRAGMENT_POSTFIX);
+    }
+
+    private void readPreviousIndex() {
+
+        Properties previous = new Properties();
+        try {
+            FileObject resource = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", INDEX_LOCATION);
+            try (InputStream in = resource.openInputStream()) {
+                previous.load(in);
+            }
+        }
+        catch (IOException | IllegalArgumentException e) {
+            // a first compile, or a filer that can't read its own output
+            return;
+        }
+
+        for (String name : previous.stringPropertyNames()) {
+            // types removed since the last compile no longer resolve
+            Element element = processingEnv.getElementUtils().getTypeElement(name.replace('$', '.'));
+            if (element != null) {
+                entries.put(name, previous.getProperty(name));
+            }
+        }
+    }
+
+    private void writeIndex() {
+
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        Filer filer = processingEnv.getFiler();
+        try {
+            FileObject resource = filer.createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_LOCATION);
+            try (Writer out = new OutputStreamWriter(resource.openOutputStream(), StandardCharsets.ISO_8859_1)) {
+                for (Map.Entry<String, String> entry : entries.entrySet()) {
+                    out.write(entry.getKey() + "=" + entry.getValue() + "\n");
+                }
+            }
+        }
+        catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Unable to write " + INDEX_LOCATION + ": " + e.getMessage());
+        }
+    }
+}
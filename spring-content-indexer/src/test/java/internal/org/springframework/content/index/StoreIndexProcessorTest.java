@@ -0,0 +1,126 @@
+package internal.org.springframework.content.index;
+
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.BeforeEach;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.Context;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.Describe;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.It;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+
+import org.junit.runner.RunWith;
+
+import com.github.paulcwarren.ginkgo4j.Ginkgo4jRunner;
+
+@RunWith(Ginkgo4jRunner.class)
+public class StoreIndexProcessorTest {
+
+    private static final List<JavaFileObject> STORE_TYPES = Arrays.asList(
+            source("org.springframework.content.commons.store.Store", "package org.springframework.content.commons.store; public interface Store<SID> {}"),
+            source("org.springframework.content.commons.store.ContentStore", "package org.springframework.content.commons.store; public interface ContentStore<S, SID> extends Store<SID> {}"));
+
+    private File output;
+    private Properties index;
+
+    {
+        Describe("StoreIndexProcessor", () -> {
+            BeforeEach(() -> {
+                output = Files.createTempDirectory("store-index-processor").toFile();
+            });
+
+            Context("given store interfaces and fragment implementations", () -> {
+                BeforeEach(() -> {
+                    compile(
+                            source("com.example.DocumentStore", "package com.example; public interface DocumentStore extends org.springframework.content.commons.store.ContentStore<Object, String> {}"),
+                            source("com.example.Stores", "package com.example; public class Stores { public interface NestedStore extends DocumentStore {} }"),
+                            source("com.example.CustomImpl", "package com.example; public class CustomImpl implements Custom {}"),
+                            source("com.example.Custom", "package com.example; public interface Custom {}"),
+                            source("com.example.AbstractCustomImpl", "package com.example; public abstract class AbstractCustomImpl {}"),
+                            source("com.example.Service", "package com.example; public class Service {}"));
+
+                    index = readIndex();
+                });
+
+                It("should index store interfaces, including nested ones, by their binary name", () -> {
+                    assertThat(index.getProperty("com.example.DocumentStore"), is("store"));
+                    assertThat(index.getProperty("com.example.Stores$NestedStore"), is("store"));
+                });
+
+                It("should index concrete fragment implementations", () -> {
+                    assertThat(index.getProperty("com.example.CustomImpl"), is("fragment"));
+                    assertThat(index.getProperty("com.example.AbstractCustomImpl"), is(nullValue()));
+                });
+
+                It("should not index other types", () -> {
+                    assertThat(index.getProperty("com.example.Custom"), is(nullValue()));
+                    assertThat(index.getProperty("com.example.Service"), is(nullValue()));
+                });
+            });
+
+            Context("given a previous index", () -> {
+                BeforeEach(() -> {
+                    compile(source("com.example.DocumentStore", "package com.example; public interface DocumentStore extends org.springframework.content.commons.store.ContentStore<Object, String> {}"));
+
+                    // an incremental compile of a single, unrelated source
+                    compile(source("com.example.VideoStore", "package com.example; public interface VideoStore extends org.springframework.content.commons.store.ContentStore<Object, String> {}"));
+
+                    index = readIndex();
+                });
+
+                It("should keep the entries of types that were not recompiled", () -> {
+                    assertThat(index.getProperty("com.example.DocumentStore"), is("store"));
+                    assertThat(index.getProperty("com.example.VideoStore"), is("store"));
+                });
+            });
+        });
+    }
+
+    private void compile(JavaFileObject... sources) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+
+        List<JavaFileObject> units = new ArrayList<>(STORE_TYPES);
+        Collections.addAll(units, sources);
+
+        JavaCompiler.CompilationTask task = compiler.getTask(null, null, null,
+                Arrays.asList("-d", output.getAbsolutePath(), "-classpath", output.getAbsolutePath()),
+                null,
+                units);
+        task.setProcessors(Collections.singletonList(new StoreIndexProcessor()));
+
+        assertThat(task.call(), is(true));
+    }
+
+    private Properties readIndex() throws IOException {
+        Properties properties = new Properties();
+        try (InputStream in = new FileInputStream(new File(output, StoreIndexProcessor.INDEX_LOCATION))) {
+            properties.load(in);
+        }
+        return properties;
+    }
+
+    private static JavaFileObject source(String className, String content) {
+        return new SimpleJavaFileObject(URI.create("string:///" + className.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return content;
+            }
+        };
+    }
+}
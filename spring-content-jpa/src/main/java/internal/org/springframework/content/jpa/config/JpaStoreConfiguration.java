@@ -10,8 +10,10 @@ import internal.org.springframework.content.jpa.io.GenericBlobResource;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.content.jpa.io.AbstractBlobResource;
 import org.springframework.content.jpa.io.BlobResourceLoader;
+import org.springframework.content.jpa.io.DownloadMode;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.jdbc.core.JdbcTemplate;
@@ -25,6 +27,15 @@ public class JpaStoreConfiguration {
 
 	private static Log logger = LogFactory.getLog(JpaStoreConfiguration.class);
 
+	@Value("${spring.content.jpa.download-mode:stream}")
+	private String downloadMode;
+
+	@Value("${spring.content.jpa.spool-threshold:1048576}")
+	private int spoolThreshold;
+
+	@Value("${spring.content.jpa.chunk-size:1048576}")
+	private int chunkSize;
+
 	@Bean
 	public DelegatingBlobResourceLoader blobResourceLoader(DataSource ds, List<BlobResourceLoader> loaders) {
 		return new DelegatingBlobResourceLoader(ds, loaders);
@@ -32,22 +43,29 @@ public class JpaStoreConfiguration {
 
 	@Bean
 	public BlobResourceLoader genericBlobResourceLoader(DataSource ds, PlatformTransactionManager txnMgr) {
-		return new CustomizableBlobResourceLoader(new JdbcTemplate(ds), txnMgr, "GENERIC", (l, t, txn) -> {
+		return configure(new CustomizableBlobResourceLoader(new JdbcTemplate(ds), txnMgr, "GENERIC", (l, t, txn) -> {
 			return new GenericBlobResource(l, t, txn); 
-		});
+		}));
 	}
 
 	@Bean
 	public BlobResourceLoader mysqlBlobResourceLoader(DataSource ds, PlatformTransactionManager txnMgr) {
-		return new CustomizableBlobResourceLoader(new JdbcTemplate(ds), txnMgr, "MySQL", (l, t, txn) -> { return new MySQLBlobResource(l, t, txn); });
+		return configure(new CustomizableBlobResourceLoader(new JdbcTemplate(ds), txnMgr, "MySQL", (l, t, txn) -> { return new MySQLBlobResource(l, t, txn); }));
 	}
 
 	@Bean
 	public BlobResourceLoader postgresBlobResourceLoader(DataSource ds, PlatformTransactionManager txnMgr) {
-		return new CustomizableBlobResourceLoader(new JdbcTemplate(ds), txnMgr, "PostgreSQL", (l, t, txn) -> { return new PostgresBlobResource(l, t, txn); });
+		return configure(new CustomizableBlobResourceLoader(new JdbcTemplate(ds), txnMgr, "PostgreSQL", (l, t, txn) -> { return new PostgresBlobResource(l, t, txn); }));
 	}
 	@Bean
 	public BlobResourceLoader sqlServerBlobResourceLoader(DataSource ds, PlatformTransactionManager txnMgr) {
-		return new CustomizableBlobResourceLoader(new JdbcTemplate(ds), txnMgr, "Microsoft SQL Server", (l, t, txn) -> { return new SQLServerBlobResource(l, t, txn); });
+		return configure(new CustomizableBlobResourceLoader(new JdbcTemplate(ds), txnMgr, "Microsoft SQL Server", (l, t, txn) -> { return new SQLServerBlobResource(l, t, txn); }));
+	}
+
+	private CustomizableBlobResourceLoader configure(CustomizableBlobResourceLoader loader) {
+		loader.setDownloadMode(DownloadMode.valueOf(downloadMode.toUpperCase()));
+		loader.setSpoolThreshold(spoolThreshold);
+		loader.setChunkSize(chunkSize);
+		return loader;
 	}
 }
@@ -11,6 +11,7 @@ import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
 import org.springframework.transaction.interceptor.TransactionInterceptor;
 import org.springframework.util.Assert;
+import org.springframework.versions.LockingAndVersioningProxyFactory;
 
 import internal.org.springframework.content.jpa.io.DelegatingBlobResourceLoader;
 import internal.org.springframework.content.jpa.store.DefaultJpaStoreImpl;
@@ -27,6 +28,9 @@ public class JpaStoreFactoryBean extends AbstractStoreFactoryBean {
 	@Autowired(required=false)
 	private PlatformTransactionManager ptm;
 
+	@Autowired(required=false)
+	private LockingAndVersioningProxyFactory versioning;
+
 	protected JpaStoreFactoryBean(Class<? extends Store> storeInterface) {
 		super(storeInterface);
 	}
@@ -42,6 +46,10 @@ public class JpaStoreFactoryBean extends AbstractStoreFactoryBean {
 		super.addProxyAdvice(result, beanFactory);
 
         result.addAdvice(this.transactionInterceptor(this.ptm, beanFactory));
+
+		if (versioning != null) {
+			versioning.apply(result);
+		}
 	}
 
     protected Advice transactionInterceptor(PlatformTransactionManager ptm, BeanFactory beanFactory) {
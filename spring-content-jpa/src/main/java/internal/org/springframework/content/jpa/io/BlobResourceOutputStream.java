@@ -11,6 +11,7 @@ import java.sql.SQLException;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.springframework.content.jpa.io.AbstractBlobResource;
 import org.springframework.content.jpa.io.BlobResource;
 import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
@@ -30,6 +31,7 @@ public class BlobResourceOutputStream extends OutputStream {
 	private OutputStream os;
 	private Blob blob;
 	private boolean insert;
+	private long length = 0;
 	
 	public BlobResourceOutputStream(BlobResource blobResource, JdbcTemplate template) {
 		this.blobResource = blobResource;
@@ -52,6 +54,43 @@ public class BlobResourceOutputStream extends OutputStream {
 		}
 		
 		os.write(b);
+		length++;
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException {
+
+		if (os == null) {
+			os = initializeStream();
+		}
+
+		os.write(b, off, len);
+		length += len;
+	}
+
+	/**
+	 * Returns the select used to insert or update the blob's row, including its metadata columns when the table has
+	 * them.
+	 */
+	protected String getUpdatableSelectSQL() {
+		if (hasMetadataColumns()) {
+			return "SELECT id, content, content_length, last_modified FROM BLOBS WHERE id=?";
+		}
+		return "SELECT id, content FROM BLOBS WHERE id=?";
+	}
+
+	/**
+	 * Records the length of the content written, and when it was written, in the metadata columns of the blob's row.
+	 */
+	protected void updateMetadata(ResultSet rs) throws SQLException {
+		if (hasMetadataColumns()) {
+			rs.updateLong(3, length);
+			rs.updateLong(4, System.currentTimeMillis());
+		}
+	}
+
+	private boolean hasMetadataColumns() {
+		return blobResource instanceof AbstractBlobResource && ((AbstractBlobResource) blobResource).hasMetadataColumns();
 	}
 	
 	protected OutputStream initializeStream() {
@@ -59,7 +98,7 @@ public class BlobResourceOutputStream extends OutputStream {
 		final Object rid = blobResource.getId();
 		con = DataSourceUtils.getConnection(template.getDataSource());
 
-		String sql = "SELECT id, content FROM BLOBS WHERE id=?";
+		String sql = getUpdatableSelectSQL();
 		try {
 			ps = con.prepareStatement(sql, ResultSet.TYPE_SCROLL_SENSITIVE, ResultSet.CONCUR_UPDATABLE);
 			ps.setString(1, rid.toString());
@@ -91,6 +130,7 @@ public class BlobResourceOutputStream extends OutputStream {
 			
 			rs.updateString(1, blobResource.getId().toString());
 			rs.updateBlob(2, blob);
+			updateMetadata(rs);
 			
 			if (!insert) {
 				rs.updateRow();
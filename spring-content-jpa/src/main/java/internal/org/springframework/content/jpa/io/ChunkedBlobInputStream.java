@@ -0,0 +1,122 @@
+package internal.org.springframework.content.jpa.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reads a blob in chunks, fetching the next chunk only once the reader has consumed the previous one.
+ */
+public class ChunkedBlobInputStream extends InputStream {
+
+    @FunctionalInterface
+    public interface ChunkReader {
+
+        /**
+         * Reads up to length bytes of the blob from the given zero-based position.  Returns an empty array at the end
+         * of the blob.
+         */
+        byte[] read(long position, int length) throws IOException;
+    }
+
+    @FunctionalInterface
+    public interface LengthReader {
+
+        /**
+         * Reads the length of the blob.
+         */
+        long read() throws IOException;
+    }
+
+    private final ChunkReader reader;
+    private final LengthReader lengthReader;
+    private final int chunkSize;
+
+    private long length = -1;
+
+    private byte[] chunk;
+    private int chunkPosition = 0;
+    private long position;
+    private boolean eof = false;
+
+    public ChunkedBlobInputStream(byte[] firstChunk, int chunkSize, ChunkReader reader, LengthReader lengthReader) {
+        this.chunk = firstChunk;
+        this.chunkSize = chunkSize;
+        this.reader = reader;
+        this.lengthReader = lengthReader;
+        this.position = firstChunk.length;
+        this.eof = firstChunk.length < chunkSize;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!fill()) {
+            return -1;
+        }
+        return chunk[chunkPosition++] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (!fill()) {
+            return -1;
+        }
+        int n = Math.min(len, chunk.length - chunkPosition);
+        System.arraycopy(chunk, chunkPosition, b, off, n);
+        chunkPosition += n;
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        if (n <= 0) {
+            return 0;
+        }
+
+        int buffered = chunk.length - chunkPosition;
+        if (n <= buffered) {
+            chunkPosition += (int) n;
+            return n;
+        }
+
+        // skip unread chunks without fetching them, but not past the end of the blob
+        long skipped = buffered;
+        if (!eof) {
+            skipped = Math.min(n, Math.max(buffered, length() - (position - buffered)));
+        }
+
+        chunk = new byte[0];
+        chunkPosition = 0;
+        position += skipped - buffered;
+        return skipped;
+    }
+
+    @Override
+    public int available() {
+        return chunk.length - chunkPosition;
+    }
+
+    private long length() throws IOException {
+        if (length < 0) {
+            length = lengthReader.read();
+        }
+        return length;
+    }
+
+    private boolean fill() throws IOException {
+        if (chunkPosition < chunk.length) {
+            return true;
+        }
+        if (eof) {
+            return false;
+        }
+
+        chunk = reader.read(position, chunkSize);
+        chunkPosition = 0;
+        position += chunk.length;
+        eof = chunk.length < chunkSize;
+        return chunk.length > 0;
+    }
+}
@@ -14,4 +14,15 @@ public class MySQLBlobResource extends AbstractBlobResource {
 	protected String getSelectBlobSQL(Object id) {
 		return "SELECT id, 'content' as content FROM BLOBS WHERE id='" + id + "'";
 	}
+
+	// the driver reads the whole blob into memory so chunks are cut out by the database
+	@Override
+	protected String getSelectChunkSQL() {
+		return "SELECT SUBSTRING(content, ?, ?) FROM BLOBS WHERE id=?";
+	}
+
+	@Override
+	protected String getSelectLengthSQL() {
+		return "SELECT LENGTH(content) FROM BLOBS WHERE id=?";
+	}
 }
@@ -28,12 +28,14 @@ public class PostgresBlobResource extends AbstractBlobResource {
 
 	private static Log logger = LogFactory.getLog(PostgresBlobResource.class);
 
+	private static final int COPY_CHUNK_SIZE = 1024 * 1024;
+
 	public PostgresBlobResource(Object id, JdbcTemplate template, PlatformTransactionManager txnMgr) {
 		super(id, template, txnMgr);
 	}
 
 	@Override
-	public InputStream getInputStream() throws IOException {
+	protected InputStream openInputStream() throws IOException {
 		final Object id = this.getId();
 
 		String sql = getSelectBlobSQL(id);
@@ -76,6 +78,85 @@ public class PostgresBlobResource extends AbstractBlobResource {
 		return new ClosingInputStream(id, is, rs, stmt, status, getTransactionManager(), conn, ds);
 	}
 
+	// large objects can only be read within a transaction so each chunk is read in a transaction of its own
+	@Override
+	protected byte[] readChunk(long position, int length) throws IOException {
+		return readLargeObject(format("reading chunk at %d of content %s", position, getId()), obj -> {
+			obj.seek64(position, LargeObject.SEEK_SET);
+			return obj.read(length);
+		});
+	}
+
+	@Override
+	protected long readLength() throws IOException {
+		Long length = readLargeObject(format("reading length of content %s", getId()), LargeObject::size64);
+		return length != null ? length : 0;
+	}
+
+	@FunctionalInterface
+	private interface LargeObjectReader<T> {
+		T read(LargeObject obj) throws SQLException;
+	}
+
+	// reads the blob's large object in a transaction of its own, rolled back if the read fails; null if the blob
+	// does not exist
+	private <T> T readLargeObject(String description, LargeObjectReader<T> reader) throws IOException {
+		final Object id = this.getId();
+
+		TransactionStatus status = null;
+		if (getTransactionManager() != null) {
+			status = getTransactionManager().getTransaction(new DefaultTransactionDefinition());
+		}
+
+		DataSource ds = this.getTemplate().getDataSource();
+		Connection conn = DataSourceUtils.getConnection(ds);
+
+		boolean read = false;
+		try (Statement stmt = conn.createStatement(); ResultSet rs = stmt.executeQuery(getSelectBlobSQL(id))) {
+			T result = null;
+			if (rs.next()) {
+				LargeObjectManager lobj = conn.unwrap(org.postgresql.PGConnection.class).getLargeObjectAPI();
+				LargeObject obj = lobj.open(rs.getLong(2), LargeObjectManager.READ);
+				try {
+					result = reader.read(obj);
+				} finally {
+					obj.close();
+				}
+			}
+			read = true;
+			return result;
+		}
+		catch (SQLException e) {
+			throw new IOException(description, e);
+		}
+		finally {
+			try {
+				if (status != null && status.isCompleted() == false) {
+					if (read) {
+						getTransactionManager().commit(status);
+					} else {
+						getTransactionManager().rollback(status);
+					}
+				}
+			} finally {
+				DataSourceUtils.releaseConnection(conn, ds);
+			}
+		}
+	}
+
+	// large objects are referenced by oid so each blob needs its own copy of the large object.  It is copied a chunk
+	// at a time on the server; a large object read whole with lo_get is limited to the 1GB of a bytea.  The source's
+	// length is found by seeking to the end of a descriptor opened for reading (INV_READ)
+	@Override
+	protected String getCopyBlobSQL() {
+		return format("WITH ids AS (SELECT ? AS id, ? AS source_id), "
+				+ "source AS (SELECT ids.id, BLOBS.content AS oid, lo_lseek64(lo_open(BLOBS.content, %2$d), 0, 2) AS length FROM BLOBS, ids WHERE BLOBS.id=ids.source_id AND BLOBS.content IS NOT NULL), "
+				+ "target AS (SELECT id, oid AS source_oid, length, lo_create(0) AS oid FROM source), "
+				+ "chunks AS (SELECT lo_put(target.oid, chunk * %1$d, lo_get(target.source_oid, chunk * %1$d, %1$d)) FROM target, generate_series(0, target.length / %1$d) AS chunk) "
+				+ "INSERT INTO BLOBS (id, content) SELECT id, oid FROM target WHERE (SELECT count(*) FROM chunks) >= 0",
+				COPY_CHUNK_SIZE, LargeObjectManager.READ);
+	}
+
 	@Override
 	public OutputStream getOutputStream() throws IOException {
 		return new BufferedOutputStream(new PostgresBlobResourceOutputStream(this, this.getTemplate()), 10);
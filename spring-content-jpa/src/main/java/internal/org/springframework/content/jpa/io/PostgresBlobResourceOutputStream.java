@@ -36,7 +36,7 @@ public class PostgresBlobResourceOutputStream extends BlobResourceOutputStream {
 		final Object rid = this.getResource().getId();
 		con = DataSourceUtils.getConnection(this.getTemplate().getDataSource());
 
-		String sql = "SELECT id, content FROM BLOBS WHERE id=?";
+		String sql = getUpdatableSelectSQL();
 		try {
 			ps = con.prepareStatement(sql, ResultSet.TYPE_SCROLL_SENSITIVE, ResultSet.CONCUR_UPDATABLE);
 			ps.setString(1, rid.toString());
@@ -82,6 +82,7 @@ public class PostgresBlobResourceOutputStream extends BlobResourceOutputStream {
 			}
 				
 			rs.updateLong(2,  lo.getOID());
+			updateMetadata(rs);
 			
 			if (!insert) {
 				rs.updateRow();
@@ -29,7 +29,7 @@ public class SQLServerBlobResource extends AbstractBlobResource {
 	}
 
 	@Override
-	public InputStream getInputStream() throws IOException {
+	protected InputStream openInputStream() throws IOException {
 		final Object id = getId();
 
 		String sql = getSelectBlobSQL(getId());
@@ -62,4 +62,15 @@ public class SQLServerBlobResource extends AbstractBlobResource {
 		}
 		return new ClosingInputStream(id, is, rs, stmt, null, getTransactionManager(), conn, ds);
 	}
+
+	// the driver reads the whole blob into memory so chunks are cut out by the database
+	@Override
+	protected String getSelectChunkSQL() {
+		return "SELECT SUBSTRING(content, ?, ?) FROM BLOBS WHERE id=?";
+	}
+
+	@Override
+	protected String getSelectLengthSQL() {
+		return "SELECT DATALENGTH(content) FROM BLOBS WHERE id=?";
+	}
 }
@@ -26,6 +26,7 @@ import org.springframework.content.commons.store.GetResourceParams;
 import org.springframework.content.commons.store.StoreAccessException;
 import org.springframework.content.commons.utils.BeanUtils;
 import org.springframework.content.commons.utils.Condition;
+import org.springframework.content.jpa.io.AbstractBlobResource;
 import org.springframework.content.jpa.io.BlobResource;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.TypeDescriptor;
@@ -36,6 +37,8 @@ import org.springframework.core.io.WritableResource;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 
+import internal.org.springframework.content.commons.utils.ContentCopier;
+
 public class DefaultJpaStoreImpl<S, SID extends Serializable>
 		implements org.springframework.content.commons.repository.Store<SID>,
         org.springframework.content.commons.repository.AssociativeStore<S, SID>,
@@ -300,6 +303,10 @@ public class DefaultJpaStoreImpl<S, SID extends Serializable>
     @Transactional
     @Override
     public S setContent(S entity, PropertyPath propertyPath, Resource resourceContent) {
+        if (resourceContent instanceof AbstractBlobResource && copyContent(entity, propertyPath, (AbstractBlobResource) resourceContent)) {
+            return entity;
+        }
+
         try {
             return this.setContent(entity, propertyPath, resourceContent.getInputStream());
         } catch (IOException e) {
@@ -308,6 +315,17 @@ public class DefaultJpaStoreImpl<S, SID extends Serializable>
         }
     }
 
+    /**
+     * Sets content by copying a blob in the same database with a single statement rather than streaming it through
+     * the application.  Returns false when the blob is in another database.
+     */
+    private boolean copyContent(S entity, PropertyPath propertyPath, AbstractBlobResource source) {
+        return ContentCopier.copyContent(entity, propertyPath, mappingContext,
+                this::convertToExternalContentIdType,
+                this::getResource, AbstractBlobResource.class,
+                target -> target.copyFrom(source) ? source.contentLength() : -1);
+    }
+
 	@Transactional
 	@Override
 	public S unsetContent(S metadata) {
@@ -3,7 +3,10 @@ package org.springframework.content.jpa.io;
 import static java.lang.String.format;
 
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -17,9 +20,12 @@ import java.sql.Statement;
 
 import javax.sql.DataSource;
 
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.output.DeferredFileOutputStream;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.springframework.core.io.Resource;
+import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.ResultSetExtractor;
 import org.springframework.jdbc.datasource.DataSourceUtils;
@@ -27,15 +33,24 @@ import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.TransactionStatus;
 
 import internal.org.springframework.content.jpa.io.BlobResourceOutputStream;
+import internal.org.springframework.content.jpa.io.ChunkedBlobInputStream;
 
 public abstract class AbstractBlobResource implements BlobResource {
 
     private static Log logger = LogFactory.getLog(AbstractBlobResource.class);
 
+    public static final int DEFAULT_SPOOL_THRESHOLD = 1024 * 1024;
+    public static final int DEFAULT_CHUNK_SIZE = 1024 * 1024;
+
     private Object id;
     private JdbcTemplate template;
     private PlatformTransactionManager txnMgr;
 
+    private DownloadMode downloadMode = DownloadMode.STREAM;
+    private int spoolThreshold = DEFAULT_SPOOL_THRESHOLD;
+    private int chunkSize = DEFAULT_CHUNK_SIZE;
+    private boolean metadataColumns = false;
+
     public AbstractBlobResource(Object id, JdbcTemplate template, PlatformTransactionManager txnMgr) {
         this.id = id;
         this.template = template;
@@ -63,6 +78,43 @@ public abstract class AbstractBlobResource implements BlobResource {
         return txnMgr;
     }
 
+    public DownloadMode getDownloadMode() {
+        return downloadMode;
+    }
+
+    /**
+     * Sets how content is served to readers of {@link #getInputStream()}.  Defaults to {@link DownloadMode#STREAM}.
+     */
+    public void setDownloadMode(DownloadMode downloadMode) {
+        this.downloadMode = downloadMode;
+    }
+
+    /**
+     * Sets the size above which spooled content is written to a temporary file rather than held in memory.
+     */
+    public void setSpoolThreshold(int spoolThreshold) {
+        this.spoolThreshold = spoolThreshold;
+    }
+
+    /**
+     * Sets the size of each chunk read when content is downloaded in chunks.
+     */
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    public boolean hasMetadataColumns() {
+        return metadataColumns;
+    }
+
+    /**
+     * Sets whether the BLOBS table has content_length and last_modified columns.  When it does they are written with
+     * the content and {@link #contentLength()} and {@link #lastModified()} are read from them.
+     */
+    public void setMetadataColumns(boolean metadataColumns) {
+        this.metadataColumns = metadataColumns;
+    }
+
     @Override
     public boolean isWritable() {
         return true;
@@ -124,12 +176,38 @@ public abstract class AbstractBlobResource implements BlobResource {
 
     @Override
     public long contentLength() throws IOException {
-        return 0;
+        return getMetadataColumn("content_length");
     }
 
     @Override
     public long lastModified() throws IOException {
-        return 0;
+        return getMetadataColumn("last_modified");
+    }
+
+    // reads a metadata column without selecting the content column; 0 when unknown
+    private long getMetadataColumn(String column) {
+        if (!metadataColumns) {
+            return 0;
+        }
+
+        final Object id = this.id;
+
+        String sql = "SELECT " + column + " FROM BLOBS WHERE id=?";
+        try {
+            Long value = this.template.query(sql, new ResultSetExtractor<Long>() {
+                @Override
+                public Long extractData(ResultSet rs) throws SQLException {
+                    if (rs.next()) {
+                        return rs.getLong(1);
+                    }
+                    return 0L;
+                }
+            }, id.toString());
+            return value != null ? value : 0;
+        } catch (DataAccessException dae) {
+            logger.warn(format("reading %s of blob resource %s", column, id), dae);
+            return 0;
+        }
     }
 
     @Override
@@ -149,6 +227,26 @@ public abstract class AbstractBlobResource implements BlobResource {
 
     @Override
     public InputStream getInputStream() throws IOException {
+        switch (downloadMode) {
+        case SPOOL:
+            return spool();
+        case CHUNKED:
+            byte[] first = readChunk(0, chunkSize);
+            if (first == null) {
+                return null;
+            }
+            return new ChunkedBlobInputStream(first, chunkSize, this::readChunk, this::readLength);
+        default:
+            return openInputStream();
+        }
+    }
+
+    /**
+     * Opens a stream directly onto the blob.  The database resources backing the stream are held until it is closed.
+     *
+     * @return the stream, or null if the blob does not exist
+     */
+    protected InputStream openInputStream() throws IOException {
         final Object id = this.id;
 
         String sql = getSelectBlobSQL(this.id);
@@ -184,6 +282,130 @@ public abstract class AbstractBlobResource implements BlobResource {
         return new ClosingInputStream(id, is, rs, stmt, null, getTransactionManager(), conn, ds);
     }
 
+    /**
+     * Reads up to length bytes of the blob from the given zero-based position on a connection held only for the
+     * duration of the read.
+     *
+     * @return the bytes read, empty at the end of the blob, or null if the blob does not exist
+     */
+    protected byte[] readChunk(long position, int length) throws IOException {
+        String chunkSQL = getSelectChunkSQL();
+        try {
+            if (chunkSQL != null) {
+                return this.template.query(chunkSQL, new ResultSetExtractor<byte[]>() {
+                    @Override
+                    public byte[] extractData(ResultSet rs) throws SQLException {
+                        if (!rs.next()) {
+                            return null;
+                        }
+                        byte[] bytes = rs.getBytes(1);
+                        return bytes != null ? bytes : new byte[0];
+                    }
+                }, position + 1, length, id.toString());
+            }
+
+            return this.template.query(getSelectBlobSQL(this.id), new ResultSetExtractor<byte[]>() {
+                @Override
+                public byte[] extractData(ResultSet rs) throws SQLException {
+                    if (!rs.next()) {
+                        return null;
+                    }
+                    Blob b = rs.getBlob(2);
+                    long remaining = b.length() - position;
+                    if (remaining <= 0) {
+                        return new byte[0];
+                    }
+                    return b.getBytes(position + 1, (int) Math.min(length, remaining));
+                }
+            });
+        } catch (DataAccessException e) {
+            throw new IOException(format("reading chunk at %d of blob resource %s", position, id), e);
+        }
+    }
+
+    /**
+     * Reads the length of the blob on a connection held only for the duration of the read.
+     *
+     * @return the length of the blob, or 0 if the blob does not exist
+     */
+    protected long readLength() throws IOException {
+        String lengthSQL = getSelectLengthSQL();
+        try {
+            Long length;
+            if (lengthSQL != null) {
+                length = this.template.query(lengthSQL, new ResultSetExtractor<Long>() {
+                    @Override
+                    public Long extractData(ResultSet rs) throws SQLException {
+                        return rs.next() ? rs.getLong(1) : 0L;
+                    }
+                }, id.toString());
+            } else {
+                length = this.template.query(getSelectBlobSQL(this.id), new ResultSetExtractor<Long>() {
+                    @Override
+                    public Long extractData(ResultSet rs) throws SQLException {
+                        if (!rs.next()) {
+                            return 0L;
+                        }
+                        Blob b = rs.getBlob(2);
+                        return b != null ? b.length() : 0L;
+                    }
+                });
+            }
+            return length != null ? length : 0;
+        } catch (DataAccessException e) {
+            throw new IOException(format("reading length of blob resource %s", id), e);
+        }
+    }
+
+    /**
+     * Returns a query that selects up to the given number of bytes of a blob from the given one-based position, with
+     * parameters for the position, the number of bytes and the blob's id; or null to read chunks through the blob's
+     * {@link Blob} locator.  Databases whose drivers read the whole blob into memory on select should return one.
+     */
+    protected String getSelectChunkSQL() {
+        return null;
+    }
+
+    /**
+     * Returns a query that selects the length of a blob, with a parameter for the blob's id; or null to read the
+     * length through the blob's {@link Blob} locator.
+     */
+    protected String getSelectLengthSQL() {
+        return null;
+    }
+
+    // reads the whole blob so that its connection is released before the caller reads the first byte
+    private InputStream spool() throws IOException {
+        DeferredFileOutputStream out = new DeferredFileOutputStream(spoolThreshold, "blob-", ".tmp", null);
+
+        try (InputStream in = openInputStream()) {
+            if (in == null) {
+                return null;
+            }
+            IOUtils.copyLarge(in, out);
+        } finally {
+            out.close();
+        }
+
+        if (out.isInMemory()) {
+            return new ByteArrayInputStream(out.getData());
+        }
+
+        final File file = out.getFile();
+        return new FilterInputStream(new FileInputStream(file)) {
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    if (!file.delete()) {
+                        logger.debug(format("deleting spool file %s for blob resource %s", file, id));
+                    }
+                }
+            }
+        };
+    }
+
     @Override
     public void delete() throws IOException {
         String sql = "DELETE FROM BLOBS WHERE id='" + this.id + "'";
@@ -191,6 +413,35 @@ public abstract class AbstractBlobResource implements BlobResource {
     }
 
 
+    /**
+     * Copies the content of the given blob to this blob within the database, without reading it through the
+     * application.  Any existing content of this blob is replaced.
+     *
+     * @param source the blob to copy from
+     * @return false if the source blob is held in another database and cannot be copied
+     * @throws IOException if the existing content of this blob cannot be deleted
+     */
+    public boolean copyFrom(AbstractBlobResource source) throws IOException {
+        if (source.getTemplate().getDataSource() != this.template.getDataSource()) {
+            return false;
+        }
+        if (source.getId().toString().equals(getId().toString())) {
+            return true;
+        }
+
+        this.delete();
+        this.template.update(getCopyBlobSQL(), getId().toString(), source.getId().toString());
+        if (metadataColumns) {
+            this.template.update("UPDATE BLOBS SET content_length=?, last_modified=? WHERE id=?",
+                    source.contentLength(), System.currentTimeMillis(), getId().toString());
+        }
+        return true;
+    }
+
+    protected String getCopyBlobSQL() {
+        return "INSERT INTO BLOBS (id, content) SELECT ?, content FROM BLOBS WHERE id=?";
+    }
+
     protected String getSelectBlobSQL(Object id) {
         return "SELECT id, content FROM BLOBS WHERE id='" + id + "'";
     }
@@ -229,6 +480,18 @@ public abstract class AbstractBlobResource implements BlobResource {
             }
         }
 
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            try {
+                return actual.read(b, off, len);
+            } catch (IOException ioe) {
+              if (txnStatus != null && txnStatus.isCompleted() == false) {
+                  txnMgr.rollback(txnStatus);
+              }
+              throw ioe;
+            }
+        }
+
         @Override
         public void close() {
 
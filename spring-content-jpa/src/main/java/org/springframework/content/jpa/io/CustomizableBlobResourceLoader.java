@@ -3,20 +3,34 @@ package org.springframework.content.jpa.io;
 import internal.org.springframework.content.jpa.io.GenericBlobResource;
 import internal.org.springframework.content.jpa.io.ResourceProvider;
 import org.springframework.content.jpa.io.BlobResourceLoader;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.springframework.core.io.Resource;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.util.ClassUtils;
 
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.function.Function;
 
 public class CustomizableBlobResourceLoader implements BlobResourceLoader {
 
+	private static Log logger = LogFactory.getLog(CustomizableBlobResourceLoader.class);
+
 	private JdbcTemplate template;
 	private PlatformTransactionManager txnMgr;
 	private String databaseName;
 	private ResourceProvider resourceProvider;
 
+	private DownloadMode downloadMode = DownloadMode.STREAM;
+	private int spoolThreshold = AbstractBlobResource.DEFAULT_SPOOL_THRESHOLD;
+	private int chunkSize = AbstractBlobResource.DEFAULT_CHUNK_SIZE;
+	private volatile Boolean metadataColumns;
+
 	public CustomizableBlobResourceLoader(JdbcTemplate template, PlatformTransactionManager txnMgr) {
 		this.template = template;
 		this.txnMgr = txnMgr;
@@ -31,6 +45,18 @@ public class CustomizableBlobResourceLoader implements BlobResourceLoader {
 		this.resourceProvider = resourceProvider;
 	}
 
+	public void setDownloadMode(DownloadMode downloadMode) {
+		this.downloadMode = downloadMode;
+	}
+
+	public void setSpoolThreshold(int spoolThreshold) {
+		this.spoolThreshold = spoolThreshold;
+	}
+
+	public void setChunkSize(int chunkSize) {
+		this.chunkSize = chunkSize;
+	}
+
 	@Override
 	public String getDatabaseName() {
 		return databaseName;
@@ -38,7 +64,47 @@ public class CustomizableBlobResourceLoader implements BlobResourceLoader {
 
 	@Override
 	public Resource getResource(String location) {
-		return resourceProvider.getResource(location, template, txnMgr);
+		Resource resource = resourceProvider.getResource(location, template, txnMgr);
+		if (resource instanceof AbstractBlobResource) {
+			AbstractBlobResource blobResource = (AbstractBlobResource) resource;
+			blobResource.setDownloadMode(downloadMode);
+			blobResource.setSpoolThreshold(spoolThreshold);
+			blobResource.setChunkSize(chunkSize);
+			blobResource.setMetadataColumns(hasMetadataColumns());
+		}
+		return resource;
+	}
+
+	// the BLOBS table of an existing database may predate the content_length and last_modified columns.  Detected
+	// once the table exists
+	private boolean hasMetadataColumns() {
+		Boolean detected = metadataColumns;
+		if (detected == null) {
+			try {
+				detected = JdbcUtils.extractDatabaseMetaData(template.getDataSource(), metadata -> {
+					Boolean columns = hasColumns(metadata, "BLOBS");
+					return columns != null ? columns : hasColumns(metadata, "blobs");
+				});
+			} catch (MetaDataAccessException e) {
+				logger.debug("detecting content_length and last_modified columns of BLOBS", e);
+			}
+			metadataColumns = detected;
+		}
+		return Boolean.TRUE.equals(detected);
+	}
+
+	// returns null if there is no such table
+	private static Boolean hasColumns(DatabaseMetaData metadata, String table) throws SQLException {
+		boolean exists = false, contentLength = false, lastModified = false;
+		try (ResultSet columns = metadata.getColumns(null, null, table, null)) {
+			while (columns.next()) {
+				String column = columns.getString("COLUMN_NAME");
+				exists = true;
+				contentLength |= "content_length".equalsIgnoreCase(column);
+				lastModified |= "last_modified".equalsIgnoreCase(column);
+			}
+		}
+		return exists ? contentLength && lastModified : null;
 	}
 
 	@Override
@@ -0,0 +1,24 @@
+package org.springframework.content.jpa.io;
+
+/**
+ * How the content of a {@link AbstractBlobResource} is served to its reader.
+ */
+public enum DownloadMode {
+
+    /**
+     * The blob is streamed straight from the database.  The connection, statement and result set are held until the
+     * reader closes the stream.
+     */
+    STREAM,
+
+    /**
+     * The blob is read in full, into memory when small and otherwise into a temporary file, and the connection is
+     * released before the reader reads the first byte.
+     */
+    SPOOL,
+
+    /**
+     * The blob is read in fixed-size chunks as the reader consumes them, each read on its own short-lived connection.
+     */
+    CHUNKED
+}
@@ -1,6 +1,8 @@
 CREATE TABLE IF NOT EXISTS BLOBS (
   id int(11) NOT NULL AUTO_INCREMENT,
   content longblob,
+  content_length bigint,
+  last_modified bigint,
   PRIMARY KEY (id)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8;
 ALTER TABLE BLOBS MODIFY id VARCHAR(36) NOT NULL
\ No newline at end of file
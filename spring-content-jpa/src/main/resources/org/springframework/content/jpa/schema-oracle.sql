@@ -1,5 +1,7 @@
 CREATE TABLE BLOBS
 (
     id VARCHAR(36) PRIMARY KEY,
-    content BLOB
+    content BLOB,
+    content_length NUMBER(19),
+    last_modified NUMBER(19)
 );
@@ -1,5 +1,9 @@
 CREATE TABLE IF NOT EXISTS BLOBS (
 	id SERIAL PRIMARY KEY,
-	content oid
+	content oid,
+	content_length BIGINT,
+	last_modified BIGINT
 );
-ALTER TABLE BLOBS ALTER COLUMN id TYPE VARCHAR(36)
+ALTER TABLE BLOBS ALTER COLUMN id TYPE VARCHAR(36);
+ALTER TABLE BLOBS ADD COLUMN IF NOT EXISTS content_length BIGINT;
+ALTER TABLE BLOBS ADD COLUMN IF NOT EXISTS last_modified BIGINT;
@@ -0,0 +1,3 @@
+ALTER TABLE BLOBS ADD COLUMN IF NOT EXISTS content_length BIGINT
+ALTER TABLE BLOBS ADD COLUMN IF NOT EXISTS last_modified BIGINT
+UPDATE BLOBS SET content_length = OCTET_LENGTH(content) WHERE content_length IS NULL
\ No newline at end of file
@@ -0,0 +1,2 @@
+ALTER TABLE BLOBS ADD COLUMN content_length bigint, ADD COLUMN last_modified bigint;
+UPDATE BLOBS SET content_length = LENGTH(content) WHERE content_length IS NULL;
@@ -0,0 +1,2 @@
+ALTER TABLE BLOBS ADD (content_length NUMBER(19), last_modified NUMBER(19));
+UPDATE BLOBS SET content_length = DBMS_LOB.GETLENGTH(content) WHERE content_length IS NULL;
@@ -0,0 +1,4 @@
+ALTER TABLE BLOBS ADD COLUMN IF NOT EXISTS content_length BIGINT;
+ALTER TABLE BLOBS ADD COLUMN IF NOT EXISTS last_modified BIGINT;
+-- large objects are sized by seeking to the end of a descriptor opened for reading (INV_READ) rather than by reading them
+UPDATE BLOBS SET content_length = lo_lseek64(lo_open(content, 262144), 0, 2) WHERE content_length IS NULL AND content IS NOT NULL;
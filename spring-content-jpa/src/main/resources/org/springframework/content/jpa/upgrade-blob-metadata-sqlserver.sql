@@ -0,0 +1,3 @@
+IF COL_LENGTH('BLOBS', 'content_length') IS NULL ALTER TABLE BLOBS ADD content_length BIGINT;
+IF COL_LENGTH('BLOBS', 'last_modified') IS NULL ALTER TABLE BLOBS ADD last_modified BIGINT;
+UPDATE BLOBS SET content_length = DATALENGTH(content) WHERE content_length IS NULL;
@@ -0,0 +1,153 @@
+package internal.org.springframework.content.jpa;
+
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.AfterEach;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.BeforeEach;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.Context;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.Describe;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.It;
+import static internal.org.springframework.content.jpa.ContentStoreIT.doInTransaction;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.startsWith;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.sql.DataSource;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.runner.RunWith;
+import org.springframework.content.commons.property.PropertyPath;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.github.paulcwarren.ginkgo4j.Ginkgo4jConfiguration;
+import com.github.paulcwarren.ginkgo4j.Ginkgo4jRunner;
+
+import internal.org.springframework.content.jpa.StoreIT.H2Config;
+import internal.org.springframework.content.jpa.StoreIT.TestConfig;
+import internal.org.springframework.content.jpa.testsupport.models.Claim;
+import internal.org.springframework.content.jpa.testsupport.models.ClaimForm;
+import internal.org.springframework.content.jpa.testsupport.repositories.ClaimRepository;
+import internal.org.springframework.content.jpa.testsupport.stores.ClaimStore;
+
+@RunWith(Ginkgo4jRunner.class)
+@Ginkgo4jConfiguration(threads = 1)
+public class CopyContentIT {
+
+	private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+	private AnnotationConfigApplicationContext context;
+
+	private PlatformTransactionManager ptm;
+	private ClaimRepository claimRepo;
+	private ClaimStore claimFormStore;
+
+	private Claim claim;
+	private Claim copy;
+
+	{
+		Describe("ContentStore", () -> {
+
+			BeforeEach(() -> {
+				context = new AnnotationConfigApplicationContext();
+				context.register(TestConfig.class);
+				context.register(StatementRecordingH2Config.class);
+				context.refresh();
+
+				ptm = context.getBean(PlatformTransactionManager.class);
+				claimRepo = context.getBean(ClaimRepository.class);
+				claimFormStore = context.getBean(ClaimStore.class);
+			});
+
+			AfterEach(() -> {
+				claimRepo.deleteAll();
+				context.close();
+			});
+
+			Context("#copyContent", () -> {
+
+				BeforeEach(() -> {
+					claim = new Claim();
+					claim.setFirstName("John");
+					claim.setLastName("Smith");
+					claim.setClaimForm(new ClaimForm());
+					claim = claimRepo.save(claim);
+					claim = claimFormStore.setContent(claim, PropertyPath.from("claimForm/content"), new ByteArrayInputStream("Hello Spring Content World!".getBytes()));
+					claim = claimRepo.save(claim);
+
+					copy = new Claim();
+					copy.setFirstName("Jane");
+					copy.setLastName("Smith");
+					copy.setClaimForm(new ClaimForm());
+					copy = claimRepo.save(copy);
+
+					STATEMENTS.clear();
+
+					copy = claimFormStore.copyContent(claim, PropertyPath.from("claimForm/content"), copy, PropertyPath.from("claimForm/content"));
+					copy = claimRepo.save(copy);
+				});
+
+				It("should copy the blob with a single statement", () -> {
+					assertThat(STATEMENTS, hasItem(startsWith("INSERT INTO BLOBS (id, content) SELECT")));
+				});
+
+				It("should have the copied content and metadata", () -> {
+					assertThat(copy.getClaimForm().getContentId(), is(not(claim.getClaimForm().getContentId())));
+					assertThat(copy.getClaimForm().getContentLength(), is(27L));
+
+					boolean matches = doInTransaction(ptm, () -> {
+						try (InputStream content = claimFormStore.getContent(copy, PropertyPath.from("claimForm/content"))) {
+							return IOUtils.contentEquals(new ByteArrayInputStream("Hello Spring Content World!".getBytes()), content);
+						} catch (IOException ioe) {
+							return false;
+						}
+					});
+					assertThat(matches, is(true));
+				});
+			});
+		});
+	}
+
+	@Configuration
+	public static class StatementRecordingH2Config extends H2Config {
+
+		@Bean
+		@Override
+		public DataSource dataSource() {
+			return new DelegatingDataSource(new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).build()) {
+				@Override
+				public Connection getConnection() throws SQLException {
+					return recording(super.getConnection());
+				}
+			};
+		}
+
+		private static Connection recording(Connection connection) {
+			return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+				if ("prepareStatement".equals(method.getName())) {
+					STATEMENTS.add((String) args[0]);
+				}
+				try {
+					return method.invoke(connection, args);
+				} catch (InvocationTargetException ite) {
+					throw ite.getTargetException();
+				}
+			});
+		}
+	}
+}
@@ -11,6 +11,9 @@ import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 import java.io.InputStream;
 
@@ -20,6 +23,7 @@ import javax.sql.DataSource;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.springframework.aop.framework.ProxyFactory;
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
 import org.springframework.content.commons.annotations.ContentId;
 import org.springframework.content.commons.property.PropertyPath;
@@ -43,6 +47,7 @@ import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.versions.LockingAndVersioningProxyFactory;
 
 import com.github.paulcwarren.ginkgo4j.Ginkgo4jConfiguration;
 import com.github.paulcwarren.ginkgo4j.Ginkgo4jRunner;
@@ -83,6 +88,23 @@ public class EnableJpaStoresTest {
 			});
 		});
 
+		Describe("EnableJpaStores with locking and versioning", () -> {
+			Context("given a context with a locking and versioning proxy factory", () -> {
+				BeforeEach(() -> {
+					context = new AnnotationConfigApplicationContext();
+					context.register(TestConfig.class, VersioningConfig.class);
+					context.refresh();
+				});
+				AfterEach(() -> {
+					context.close();
+				});
+				It("should apply the locking and versioning advice to the store", () -> {
+					assertThat(context.getBean(TestEntityContentRepository.class), is(not(nullValue())));
+					verify(context.getBean(LockingAndVersioningProxyFactory.class)).apply(any(ProxyFactory.class));
+				});
+			});
+		});
+
 		Describe("EnableJpaContentRepositories", () -> {
 			basicConfigurationTests(context, EnableJpaContentRepositoriesConfig.class);
 		});
@@ -143,6 +165,14 @@ public class EnableJpaStoresTest {
 	public static class TestConfig {
 	}
 
+	@Configuration
+	public static class VersioningConfig {
+		@Bean
+		public LockingAndVersioningProxyFactory lockingAndVersioningProxyFactory() {
+			return mock(LockingAndVersioningProxyFactory.class);
+		}
+	}
+
 	@Configuration
 	@EnableJpaContentRepositories
 	@Import(InfrastructureConfig.class)
@@ -0,0 +1,129 @@
+package internal.org.springframework.content.jpa.io;
+
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.AfterEach;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.BeforeEach;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.Context;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.Describe;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.It;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.JustBeforeEach;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.runner.RunWith;
+import org.springframework.content.jpa.io.AbstractBlobResource;
+import org.springframework.content.jpa.io.CustomizableBlobResourceLoader;
+import org.springframework.content.jpa.io.DownloadMode;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import com.github.paulcwarren.ginkgo4j.Ginkgo4jConfiguration;
+import com.github.paulcwarren.ginkgo4j.Ginkgo4jRunner;
+
+@RunWith(Ginkgo4jRunner.class)
+@Ginkgo4jConfiguration(threads = 1)
+public class BlobResourceOutputStreamIT {
+
+	private static final byte[] CONTENT = "Hello Spring Content World!".getBytes();
+
+	private EmbeddedDatabase db;
+	private JdbcTemplate template;
+
+	private AbstractBlobResource resource;
+
+	private long before, after;
+
+	{
+		Describe("BlobResourceOutputStream", () -> {
+			AfterEach(() -> {
+				db.shutdown();
+			});
+
+			JustBeforeEach(() -> {
+				CustomizableBlobResourceLoader loader = new CustomizableBlobResourceLoader(template, new DataSourceTransactionManager(db));
+				loader.setDownloadMode(DownloadMode.SPOOL);
+				resource = (AbstractBlobResource) loader.getResource("some-id");
+
+				before = System.currentTimeMillis();
+				try (OutputStream out = resource.getOutputStream()) {
+					out.write(CONTENT);
+				}
+				after = System.currentTimeMillis();
+			});
+
+			Context("given a BLOBS table with content_length and last_modified columns", () -> {
+				BeforeEach(() -> {
+					db = new EmbeddedDatabaseBuilder()
+							.generateUniqueName(true)
+							.setType(EmbeddedDatabaseType.H2)
+							.addScript("/org/springframework/content/jpa/schema-h2.sql")
+							.build();
+					template = new JdbcTemplate(db);
+				});
+
+				It("should write the content", () -> {
+					try (InputStream in = resource.getInputStream()) {
+						assertThat(IOUtils.toByteArray(in), is(CONTENT));
+					}
+				});
+
+				It("should record the content's length and when it was written", () -> {
+					assertThat(resource.hasMetadataColumns(), is(true));
+
+					assertThat(template.queryForObject("SELECT content_length FROM BLOBS WHERE id=?", Long.class, "some-id"), is((long) CONTENT.length));
+					long lastModified = template.queryForObject("SELECT last_modified FROM BLOBS WHERE id=?", Long.class, "some-id");
+					assertThat(lastModified, is(greaterThanOrEqualTo(before)));
+					assertThat(lastModified, is(lessThanOrEqualTo(after)));
+
+					assertThat(resource.contentLength(), is((long) CONTENT.length));
+					assertThat(resource.lastModified(), is(lastModified));
+				});
+
+				Context("when the content is overwritten", () -> {
+					It("should update the content's length", () -> {
+						try (OutputStream out = resource.getOutputStream()) {
+							out.write("Hello".getBytes());
+						}
+
+						assertThat(template.queryForObject("SELECT content_length FROM BLOBS WHERE id=?", Long.class, "some-id"), is(5L));
+						try (InputStream in = resource.getInputStream()) {
+							assertThat(IOUtils.toByteArray(in), is("Hello".getBytes()));
+						}
+					});
+				});
+			});
+
+			Context("given a BLOBS table without content_length and last_modified columns", () -> {
+				BeforeEach(() -> {
+					db = new EmbeddedDatabaseBuilder()
+							.generateUniqueName(true)
+							.setType(EmbeddedDatabaseType.H2)
+							.build();
+					template = new JdbcTemplate(db);
+					template.execute("CREATE TABLE BLOBS (id VARCHAR(36), content BLOB, PRIMARY KEY ( id ))");
+				});
+
+				It("should write the content", () -> {
+					assertThat(resource.hasMetadataColumns(), is(false));
+
+					try (InputStream in = resource.getInputStream()) {
+						assertThat(IOUtils.toByteArray(in), is(CONTENT));
+					}
+				});
+
+				It("should report the content's length and last modified as unknown", () -> {
+					assertThat(resource.contentLength(), is(0L));
+					assertThat(resource.lastModified(), is(0L));
+				});
+			});
+		});
+	}
+}
@@ -8,18 +8,30 @@ import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.JustBeforeEach;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyObject;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Blob;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 
 import javax.sql.DataSource;
 
+import org.apache.commons.io.IOUtils;
 import org.junit.runner.RunWith;
+import org.springframework.content.jpa.io.DownloadMode;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.datasource.DataSourceTransactionManager;
 import org.springframework.transaction.PlatformTransactionManager;
@@ -39,9 +51,12 @@ public class GenericBlobResourceTest {
 	private Connection conn;
 	private Statement statement;
 	private ResultSet rs;
+	private Blob blob;
 
 	private Object result;
 
+	private static final byte[] CONTENT = "Hello Spring Content World!".getBytes(StandardCharsets.UTF_8);
+
 	{
 		Describe("GenericBlobResource", () -> {
 			BeforeEach(() -> {
@@ -95,6 +110,134 @@ public class GenericBlobResourceTest {
 					});
 				});
 			});
+			Context("#contentLength", () -> {
+				BeforeEach(() -> {
+					id = "12345";
+					conn = mock(Connection.class);
+					PreparedStatement ps = mock(PreparedStatement.class);
+					rs = mock(ResultSet.class);
+
+					when(ds.getConnection()).thenReturn(conn);
+					when(conn.prepareStatement(anyObject())).thenReturn(ps);
+					when(ps.executeQuery()).thenReturn(rs);
+					when(rs.next()).thenReturn(true);
+					when(rs.getLong(1)).thenReturn(42L);
+
+					resource = new GenericBlobResource(id, template, txnMgr);
+				});
+				Context("given the BLOBS table has metadata columns", () -> {
+					BeforeEach(() -> {
+						resource.setMetadataColumns(true);
+					});
+					It("should read the content_length column without selecting the content", () -> {
+						assertThat(resource.contentLength(), is(42L));
+						verify(conn).prepareStatement("SELECT content_length FROM BLOBS WHERE id=?");
+					});
+					It("should read the last_modified column without selecting the content", () -> {
+						assertThat(resource.lastModified(), is(42L));
+						verify(conn).prepareStatement("SELECT last_modified FROM BLOBS WHERE id=?");
+					});
+				});
+				Context("given the BLOBS table predates the metadata columns", () -> {
+					It("should return 0 without querying the database", () -> {
+						assertThat(resource.contentLength(), is(0L));
+						assertThat(resource.lastModified(), is(0L));
+						verify(ds, times(0)).getConnection();
+					});
+				});
+			});
+			Context("#getInputStream in a connection-releasing download mode", () -> {
+				BeforeEach(() -> {
+					id = "12345";
+					conn = mock(Connection.class);
+					statement = mock(Statement.class);
+					rs = mock(ResultSet.class);
+					blob = mock(Blob.class);
+
+					when(ds.getConnection()).thenReturn(conn);
+					when(conn.createStatement()).thenReturn(statement);
+					when(statement.executeQuery(anyObject())).thenReturn(rs);
+					when(rs.next()).thenReturn(true);
+					when(rs.getBlob(2)).thenReturn(blob);
+					when(blob.length()).thenReturn((long) CONTENT.length);
+					when(blob.getBinaryStream()).thenAnswer(invocation -> new ByteArrayInputStream(CONTENT));
+					when(blob.getBytes(anyLong(), anyInt())).thenAnswer(invocation -> {
+						int pos = (int) (long) invocation.getArgument(0) - 1;
+						int len = invocation.getArgument(1);
+						byte[] bytes = new byte[len];
+						System.arraycopy(CONTENT, pos, bytes, 0, len);
+						return bytes;
+					});
+
+					resource = new GenericBlobResource(id, template, txnMgr);
+				});
+				Context("given spool mode", () -> {
+					BeforeEach(() -> {
+						resource.setDownloadMode(DownloadMode.SPOOL);
+					});
+					It("should release the connection before returning the content", () -> {
+						InputStream is = resource.getInputStream();
+						verify(conn).close();
+						assertThat(IOUtils.toByteArray(is), is(CONTENT));
+						is.close();
+					});
+					Context("given content larger than the spool threshold", () -> {
+						BeforeEach(() -> {
+							resource.setSpoolThreshold(4);
+						});
+						It("should return the content from a temporary file", () -> {
+							try (InputStream is = resource.getInputStream()) {
+								verify(conn).close();
+								assertThat(IOUtils.toByteArray(is), is(CONTENT));
+							}
+						});
+					});
+					Context("given the blob does not exist", () -> {
+						BeforeEach(() -> {
+							when(rs.next()).thenReturn(false);
+						});
+						It("should return null", () -> {
+							assertThat(resource.getInputStream(), is(nullValue()));
+						});
+					});
+				});
+				Context("given chunked mode", () -> {
+					BeforeEach(() -> {
+						resource.setDownloadMode(DownloadMode.CHUNKED);
+						resource.setChunkSize(10);
+					});
+					It("should read the content a chunk at a time on its own connection", () -> {
+						InputStream is = resource.getInputStream();
+						verify(conn, times(1)).close();
+
+						assertThat(IOUtils.toByteArray(is), is(CONTENT));
+						verify(blob).getBytes(1L, 10);
+						verify(blob).getBytes(11L, 10);
+						verify(blob).getBytes(21L, 7);
+						verify(conn, times(3)).close();
+					});
+					It("should skip without reading the skipped chunks", () -> {
+						InputStream is = resource.getInputStream();
+						assertThat(is.skip(20), is(20L));
+						assertThat(IOUtils.toByteArray(is), is(" World!".getBytes(StandardCharsets.UTF_8)));
+						verify(blob, times(0)).getBytes(11L, 10);
+						verify(blob, atLeastOnce()).getBytes(21L, 7);
+					});
+					It("should not skip past the end of the blob", () -> {
+						InputStream is = resource.getInputStream();
+						assertThat(is.skip(100), is((long) CONTENT.length));
+						assertThat(is.read(), is(-1));
+					});
+					Context("given the blob does not exist", () -> {
+						BeforeEach(() -> {
+							when(rs.next()).thenReturn(false);
+						});
+						It("should return null", () -> {
+							assertThat(resource.getInputStream(), is(nullValue()));
+						});
+					});
+				});
+			});
 		});
 	}
 }
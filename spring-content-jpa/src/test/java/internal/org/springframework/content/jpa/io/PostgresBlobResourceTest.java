@@ -0,0 +1,85 @@
+package internal.org.springframework.content.jpa.io;
+
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.BeforeEach;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.Context;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.Describe;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.It;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.JustBeforeEach;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.junit.runner.RunWith;
+import org.springframework.content.jpa.io.DownloadMode;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+import com.github.paulcwarren.ginkgo4j.Ginkgo4jRunner;
+
+@RunWith(Ginkgo4jRunner.class)
+public class PostgresBlobResourceTest {
+
+	private PostgresBlobResource resource;
+
+	private Exception e;
+
+	//mocks
+	private DataSource ds;
+	private Connection conn;
+	private Statement statement;
+	private PlatformTransactionManager txnMgr;
+	private TransactionStatus status;
+
+	{
+		Describe("PostgresBlobResource", () -> {
+			BeforeEach(() -> {
+				ds = mock(DataSource.class);
+				conn = mock(Connection.class);
+				statement = mock(Statement.class);
+				txnMgr = mock(PlatformTransactionManager.class);
+				status = mock(TransactionStatus.class);
+
+				when(ds.getConnection()).thenReturn(conn);
+				when(conn.createStatement()).thenReturn(statement);
+				when(txnMgr.getTransaction(any())).thenReturn(status);
+
+				resource = new PostgresBlobResource("12345", new JdbcTemplate(ds), txnMgr);
+				resource.setDownloadMode(DownloadMode.CHUNKED);
+			});
+			Context("#getInputStream in chunked mode", () -> {
+				JustBeforeEach(() -> {
+					try {
+						resource.getInputStream();
+					} catch (Exception e) {
+						this.e = e;
+					}
+				});
+				Context("given reading the chunk fails", () -> {
+					BeforeEach(() -> {
+						when(statement.executeQuery(anyString())).thenThrow(new SQLException("badness"));
+					});
+					It("should roll back the chunk's transaction and release its connection", () -> {
+						assertThat(e, is(instanceOf(IOException.class)));
+						verify(txnMgr).rollback(status);
+						verify(txnMgr, never()).commit(status);
+						verify(conn).close();
+					});
+				});
+			});
+		});
+	}
+}
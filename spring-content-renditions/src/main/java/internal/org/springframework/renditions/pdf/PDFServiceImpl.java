@@ -1,5 +1,6 @@
 package internal.org.springframework.renditions.pdf;
 
+import org.apache.pdfbox.io.MemoryUsageSetting;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.rendering.PDFRenderer;
 import org.apache.pdfbox.tools.imageio.ImageIOUtil;
@@ -12,9 +13,24 @@ import java.io.OutputStream;
 
 public class PDFServiceImpl implements PDFService {
 
+    private final MemoryUsageSetting memoryUsageSetting;
+
+    public PDFServiceImpl() {
+        this(MemoryUsageSetting.setupMainMemoryOnly());
+    }
+
+    public PDFServiceImpl(MemoryUsageSetting memoryUsageSetting) {
+        this.memoryUsageSetting = memoryUsageSetting;
+    }
+
     @Override
     public PDDocument load(InputStream stream) throws IOException {
-        return PDDocument.load(stream);
+        return PDDocument.load(stream, memoryUsageSetting);
+    }
+
+    @Override
+    public MemoryUsageSetting getMemoryUsageSetting() {
+        return memoryUsageSetting;
     }
 
     @Override
@@ -26,4 +42,9 @@ public class PDFServiceImpl implements PDFService {
     public void writeImage(BufferedImage bim, String format, OutputStream out) throws IOException {
         ImageIOUtil.writeImage(bim, "jpeg", out);
     }
+
+    @Override
+    public void writeImage(BufferedImage bim, String format, OutputStream out, float quality) throws IOException {
+        ImageIOUtil.writeImage(bim, "jpeg", out, 72, quality);
+    }
 }
@@ -0,0 +1,105 @@
+package org.springframework.content.renditions;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounds the heap used by renders running at the same time.  A render reserves what it expects to use before it
+ * starts and waits, up to a timeout, for other renders to release enough of the budget.
+ *
+ * A reservation larger than the whole budget is reduced to the whole budget, so that a large render can still run on
+ * its own.  A render that reserves in steps passes what it already holds so that, together, its reservations are
+ * reduced to the whole budget too.
+ */
+public class RenditionMemoryBudget {
+
+    public static final RenditionMemoryBudget UNLIMITED = new RenditionMemoryBudget(-1, 0);
+
+    // permits are kilobytes so that budgets beyond 2GB fit in an int
+    private static final int UNIT = 1024;
+
+    private final long budget;
+    private final long timeoutMillis;
+    private final Semaphore permits;
+
+    /**
+     * @param budget the bytes that concurrent renders may reserve in total, or -1 for no limit
+     * @param timeoutMillis how long a render waits for its reservation
+     */
+    public RenditionMemoryBudget(long budget, long timeoutMillis) {
+        this.budget = budget;
+        this.timeoutMillis = timeoutMillis;
+        this.permits = budget < 0 ? null : new Semaphore(toPermits(budget), true);
+    }
+
+    public boolean isLimited() {
+        return permits != null;
+    }
+
+    public long getBudget() {
+        return budget;
+    }
+
+    public long getAvailable() {
+        return permits != null ? (long) permits.availablePermits() * UNIT : Long.MAX_VALUE;
+    }
+
+    /**
+     * Reserves the given number of bytes, waiting for them to become available.
+     *
+     * @throws RenditionException if they do not become available in time
+     */
+    public Reservation reserve(long bytes) {
+        return reserve(bytes, null);
+    }
+
+    /**
+     * Reserves the given number of bytes in addition to a reservation the caller already holds, waiting for them to
+     * become available.
+     *
+     * @param held a reservation the caller holds until this one is released, or null
+     * @throws RenditionException if they do not become available in time
+     */
+    public Reservation reserve(long bytes, Reservation held) {
+        if (permits == null || bytes <= 0) {
+            return new Reservation(null, 0);
+        }
+
+        int n = Math.min(toPermits(bytes), toPermits(budget) - (held != null ? held.n : 0));
+        if (n <= 0) {
+            return new Reservation(null, 0);
+        }
+        try {
+            if (!permits.tryAcquire(n, timeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new RenditionException(String.format("Timed out waiting for %d bytes of the rendition memory budget", bytes));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RenditionException("Interrupted waiting for the rendition memory budget", e);
+        }
+        return new Reservation(permits, n);
+    }
+
+    private static int toPermits(long bytes) {
+        return (int) Math.min(Integer.MAX_VALUE, (bytes + UNIT - 1) / UNIT);
+    }
+
+    public static class Reservation implements AutoCloseable {
+
+        private Semaphore permits;
+        private final int n;
+
+        private Reservation(Semaphore permits, int n) {
+            this.permits = permits;
+            this.n = n;
+        }
+
+        @Override
+        public synchronized void close() {
+            if (permits != null) {
+                permits.release(n);
+                permits = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package org.springframework.content.renditions;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.content.commons.io.FileRemover;
+import org.springframework.content.commons.io.ObservableInputStream;
+
+/**
+ * A private directory for the files that renderers, and PDFBox, write while rendering.
+ *
+ * Files are removed as soon as the streams returned for them are closed, and the directory, with anything left in it,
+ * is removed when the application context is closed.  Unlike <code>File.deleteOnExit()</code> nothing is held for
+ * the lifetime of the JVM.
+ */
+public class RenditionScratchDirectory implements DisposableBean {
+
+    private static final Log logger = LogFactory.getLog(RenditionScratchDirectory.class);
+
+    private static final String PREFIX = "spring-content-renditions-";
+
+    private static RenditionScratchDirectory defaultDirectory;
+
+    private final File parent;
+    private File directory;
+
+    public RenditionScratchDirectory() {
+        this(null);
+    }
+
+    /**
+     * @param parent the directory to create the scratch directory in, or null for <code>java.io.tmpdir</code>
+     */
+    public RenditionScratchDirectory(File parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * Returns the scratch directory used by renderers created outside of an application context.  It is removed when
+     * the JVM exits.
+     */
+    public static synchronized RenditionScratchDirectory getDefault() {
+        if (defaultDirectory == null) {
+            RenditionScratchDirectory directory = new RenditionScratchDirectory();
+            Runtime.getRuntime().addShutdownHook(new Thread(directory::destroy, "rendition-scratch-cleanup"));
+            defaultDirectory = directory;
+        }
+        return defaultDirectory;
+    }
+
+    public synchronized File getDirectory() throws IOException {
+        if (directory == null || !directory.isDirectory()) {
+            if (parent != null) {
+                Files.createDirectories(parent.toPath());
+                directory = Files.createTempDirectory(parent.toPath(), PREFIX).toFile();
+            } else {
+                directory = Files.createTempDirectory(PREFIX).toFile();
+            }
+        }
+        return directory;
+    }
+
+    public File createFile(String prefix, String suffix) throws IOException {
+        return File.createTempFile(prefix, suffix, getDirectory());
+    }
+
+    /**
+     * Opens the given scratch file, which is removed when the returned stream is closed.
+     */
+    public InputStream openAndRemove(File file) throws IOException {
+        try {
+            return new ObservableInputStream(new FileInputStream(file), new FileRemover(file));
+        } catch (IOException e) {
+            file.delete();
+            throw e;
+        }
+    }
+
+    @Override
+    public synchronized void destroy() {
+        if (directory != null) {
+            try {
+                FileUtils.deleteDirectory(directory);
+            } catch (IOException e) {
+                logger.warn(String.format("Unable to remove rendition scratch directory %s", directory), e);
+            }
+            directory = null;
+        }
+    }
+}
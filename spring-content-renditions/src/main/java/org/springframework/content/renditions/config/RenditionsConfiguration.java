@@ -1,20 +1,78 @@
 package org.springframework.content.renditions.config;
 
+import java.io.File;
+import java.io.IOException;
+
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.content.commons.renditions.RenditionProvider;
 import org.springframework.content.commons.renditions.RenditionService;
+import org.springframework.content.renditions.RenditionMemoryBudget;
+import org.springframework.content.renditions.RenditionScratchDirectory;
 import org.springframework.content.renditions.renderers.PdfToJpegRenderer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.renditions.poi.PDFService;
+import org.springframework.util.StringUtils;
 
 import internal.org.springframework.content.commons.renditions.RenditionServiceImpl;
+import internal.org.springframework.renditions.pdf.PDFServiceImpl;
 
 @Configuration
 @ComponentScan(basePackageClasses=PdfToJpegRenderer.class)
 public class RenditionsConfiguration {
 
+    @Value("${spring.content.renditions.scratch-dir:}")
+    private String scratchDir;
+
+    @Value("${spring.content.renditions.pdf.max-main-memory:67108864}")
+    private long pdfMaxMainMemory = 64L * 1024 * 1024;
+
+    @Value("${spring.content.renditions.pdf.max-storage:-1}")
+    private long pdfMaxStorage = -1;
+
+    @Value("${spring.content.renditions.memory-budget:}")
+    private String memoryBudget;
+
+    @Value("${spring.content.renditions.memory-budget-timeout-ms:30000}")
+    private long memoryBudgetTimeoutMillis = 30000;
+
     @Bean
     public RenditionService renditionService(RenditionProvider... providers) {
         return new RenditionServiceImpl(providers);
     }
+
+    @Bean
+    public RenditionScratchDirectory renditionScratchDirectory() {
+        return new RenditionScratchDirectory(StringUtils.hasText(scratchDir) ? new File(scratchDir) : null);
+    }
+
+    /**
+     * Documents are buffered on the heap up to <code>pdf.max-main-memory</code> bytes, -1 for no limit, and in
+     * scratch files thereafter, up to <code>pdf.max-storage</code> bytes, -1 for no limit.
+     */
+    @Bean
+    public PDFService pdfService(RenditionScratchDirectory renditionScratchDirectory) throws IOException {
+        MemoryUsageSetting setting;
+        if (pdfMaxMainMemory < 0) {
+            setting = MemoryUsageSetting.setupMainMemoryOnly();
+        } else if (pdfMaxMainMemory == 0) {
+            setting = MemoryUsageSetting.setupTempFileOnly(pdfMaxStorage);
+        } else {
+            setting = MemoryUsageSetting.setupMixed(pdfMaxMainMemory, pdfMaxStorage);
+        }
+        setting.setTempDir(renditionScratchDirectory.getDirectory());
+        return new PDFServiceImpl(setting);
+    }
+
+    /**
+     * Concurrent renders may reserve <code>memory-budget</code> bytes of heap between them; by default half of the
+     * maximum heap, or -1 for no limit.
+     */
+    @Bean
+    public RenditionMemoryBudget renditionMemoryBudget() {
+        long budget = StringUtils.hasText(memoryBudget) ? Long.parseLong(memoryBudget.trim()) : Runtime.getRuntime().maxMemory() / 2;
+        return new RenditionMemoryBudget(budget, memoryBudgetTimeoutMillis);
+    }
 }
@@ -3,18 +3,15 @@ package org.springframework.content.renditions.renderers;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
-import org.springframework.content.commons.io.FileRemover;
-import org.springframework.content.commons.io.ObservableInputStream;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.content.commons.renditions.RenditionProvider;
+import org.springframework.content.renditions.RenditionScratchDirectory;
 import org.springframework.stereotype.Service;
 
 import javax.imageio.ImageIO;
 import java.awt.image.BufferedImage;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.InputStream;
-import java.nio.file.Files;
-import java.nio.file.attribute.FileAttribute;
 
 import static java.lang.String.format;
 
@@ -23,6 +20,13 @@ public class JpegToPngRenditionProvider implements RenditionProvider {
 
 	private static final Log logger = LogFactory.getLog(JpegToPngRenditionProvider.class);
 
+	private RenditionScratchDirectory scratchDirectory;
+
+	@Autowired(required = false)
+	public void setScratchDirectory(RenditionScratchDirectory scratchDirectory) {
+		this.scratchDirectory = scratchDirectory;
+	}
+
 	@Override
 	public String consumes() {
 		return "image/jpeg";
@@ -36,10 +40,16 @@ public class JpegToPngRenditionProvider implements RenditionProvider {
 	@Override
 	public InputStream convert(InputStream fromInputSource, String toMimeType) {
 		try {
-			File tmpFile = Files.createTempFile(null, null, new FileAttribute<?>[]{}).toFile();
-			BufferedImage bufferedImage = ImageIO.read(fromInputSource);
-			ImageIO.write(bufferedImage, "png", tmpFile);
-			return new ObservableInputStream(new FileInputStream(tmpFile), new FileRemover(tmpFile));
+			RenditionScratchDirectory scratch = scratchDirectory != null ? scratchDirectory : RenditionScratchDirectory.getDefault();
+			File tmpFile = scratch.createFile("jpegtopngrenditionprovider", ".tmp");
+			try {
+				BufferedImage bufferedImage = ImageIO.read(fromInputSource);
+				ImageIO.write(bufferedImage, "png", tmpFile);
+			} catch (Exception e) {
+				tmpFile.delete();
+				throw e;
+			}
+			return scratch.openAndRemove(tmpFile);
 		}
 		catch (Exception e) {
 			logger.warn(format("%s rendition failed", toMimeType), e);
@@ -1,38 +1,56 @@
 package org.springframework.content.renditions.renderers;
 
 import internal.org.springframework.renditions.pdf.PDFServiceImpl;
-import org.apache.commons.io.IOUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
-import org.apache.pdfbox.io.ScratchFile;
+import org.apache.pdfbox.io.MemoryUsageSetting;
 import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
 import org.apache.pdfbox.rendering.ImageType;
 import org.apache.pdfbox.rendering.PDFRenderer;
-import org.apache.pdfbox.tools.imageio.ImageIOUtil;
-import org.springframework.content.commons.io.FileRemover;
-import org.springframework.content.commons.io.ObservableInputStream;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.content.commons.renditions.RenditionParameters;
 import org.springframework.content.commons.renditions.RenditionProvider;
 import org.springframework.content.renditions.RenditionException;
+import org.springframework.content.renditions.RenditionMemoryBudget;
 import org.springframework.renditions.poi.PDFService;
 import org.springframework.stereotype.Service;
 import org.springframework.util.Assert;
 
 import java.awt.image.BufferedImage;
-import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.PipedInputStream;
-import java.io.PipedOutputStream;
 
+/**
+ * Renders a page of a pdf as a jpeg.
+ *
+ * Takes the {@link RenditionParameters#PAGE page}, the {@link RenditionParameters#WIDTH width} and
+ * {@link RenditionParameters#HEIGHT height} in pixels to fit the page within, or the {@link RenditionParameters#DPI dpi}
+ * to render it at, the jpeg {@link RenditionParameters#QUALITY quality} and the
+ * {@link RenditionParameters#IMAGE_TYPE image type}; one of <code>rgb</code>, <code>gray</code> or <code>binary</code>.
+ * By default the first page is rendered in color at 300 dpi.  Pages rendered below 300 dpi are allowed to subsample
+ * their images, which makes thumbnails much cheaper to render.
+ * <p>
+ * When given a {@link RenditionMemoryBudget} each render reserves the heap it may use to buffer the document, as
+ * configured by the {@link PDFService}'s memory usage setting, and then the heap for the rendered image.
+ */
 @Service
 public class PdfToJpegRenderer implements RenditionProvider {
 
 	private static Log logger = LogFactory.getLog(PdfToJpegRenderer.class);
 
+	private static final int DEFAULT_DPI = 300;
+
+	// pdf user space units per inch
+	private static final float POINTS_PER_INCH = 72;
+
 	private PDFService pdfService;
 
+	private RenditionMemoryBudget memoryBudget = RenditionMemoryBudget.UNLIMITED;
+
 	public PdfToJpegRenderer() {
 		this.pdfService = new PDFServiceImpl();
 	};
@@ -41,6 +59,16 @@ public class PdfToJpegRenderer implements RenditionProvider {
 		this.pdfService = pdfService;
 	}
 
+	@Autowired(required = false)
+	public void setPdfService(PDFService pdfService) {
+		this.pdfService = pdfService;
+	}
+
+	@Autowired(required = false)
+	public void setMemoryBudget(RenditionMemoryBudget memoryBudget) {
+		this.memoryBudget = memoryBudget;
+	}
+
 	@Override
 	public String consumes() {
 		return "application/pdf";
@@ -51,30 +79,42 @@ public class PdfToJpegRenderer implements RenditionProvider {
 		return new String[] { "image/jpg" };
 	}
 
-	@SuppressWarnings("resource")
 	@Override
 	public InputStream convert(InputStream fromInputSource, String toMimeType) {
+		return convert(fromInputSource, toMimeType, RenditionParameters.NONE);
+	}
+
+	@Override
+	public InputStream convert(InputStream fromInputSource, String toMimeType, RenditionParameters parameters) {
 
 		Assert.notNull(fromInputSource, "input source must not be null");
 
+		int pageIndex = parameters.getPage() != null ? parameters.getPage() : 0;
+		ImageType imageType = imageType(parameters.getImageType());
+
+		RenditionMemoryBudget.Reservation documentReservation = memoryBudget.reserve(documentMemory());
+
 		PDDocument document = null;
 		try {
 			document = pdfService.load(fromInputSource);
 			PDFRenderer pdfRenderer = pdfService.renderer(document);
-			if (document.getNumberOfPages() > 0) {
-  				BufferedImage bim = pdfRenderer.renderImageWithDPI(0, 300, ImageType.RGB);
-  				File tmp = File.createTempFile("pdftojpegrenderer", ".tmp");
-  				tmp.deleteOnExit();
-				FileOutputStream out = new FileOutputStream(tmp);
-				try {
-					pdfService.writeImage(bim, "jpeg", out);
-				} catch (IOException e) {
-					logger.error("Error writing buffered image to output stream");
-					throw new RenditionException("Error writing buffered image to output stream", e);
-				} finally {
-					IOUtils.closeQuietly(out);
+			if (pageIndex < document.getNumberOfPages()) {
+				try (RenditionMemoryBudget.Reservation imageReservation = memoryBudget.reserve(imageMemory(document, pageIndex, imageType, parameters), documentReservation)) {
+					BufferedImage bim = render(document, pdfRenderer, pageIndex, imageType, parameters);
+
+					ByteArrayOutputStream out = new ByteArrayOutputStream();
+					try {
+						if (parameters.getQuality() != null) {
+							pdfService.writeImage(bim, "jpeg", out, parameters.getQuality());
+						} else {
+							pdfService.writeImage(bim, "jpeg", out);
+						}
+					} catch (IOException e) {
+						logger.error("Error writing buffered image to output stream");
+						throw new RenditionException("Error writing buffered image to output stream", e);
+					}
+					return new ByteArrayInputStream(out.toByteArray());
 				}
-				return new ObservableInputStream(new FileInputStream(tmp), new FileRemover(tmp));
 			}
 		} catch (IOException e) {
 			logger.error("Error rendering application/pdf to image/jpeg");
@@ -87,8 +127,91 @@ public class PdfToJpegRenderer implements RenditionProvider {
 			} catch (IOException e) {
 				// silent
 			}
+			documentReservation.close();
 		}
 
 		return null;
 	}
+
+	private long documentMemory() {
+		MemoryUsageSetting setting = pdfService.getMemoryUsageSetting();
+		if (setting == null || !setting.useMainMemory() || !setting.isMainMemoryRestricted()) {
+			// documents buffered entirely in scratch files use next to no heap, and unrestricted ones cannot be sized
+			return 0;
+		}
+		return setting.getMaxMainMemoryBytes();
+	}
+
+	private long imageMemory(PDDocument document, int pageIndex, ImageType imageType, RenditionParameters parameters) {
+		if (!memoryBudget.isLimited()) {
+			return 0;
+		}
+
+		PDPage page = document.getPage(pageIndex);
+		float[] size = pageSize(page);
+		float scale = scale(size, parameters);
+
+		long pixels = (long) Math.ceil(size[0] * scale) * (long) Math.ceil(size[1] * scale);
+		return imageType == ImageType.RGB ? pixels * 4 : pixels;
+	}
+
+	private BufferedImage render(PDDocument document, PDFRenderer pdfRenderer, int pageIndex, ImageType imageType, RenditionParameters parameters) throws IOException {
+
+		if (parameters.getWidth() != null || parameters.getHeight() != null) {
+			float scale = scale(pageSize(document.getPage(pageIndex)), parameters);
+
+			pdfRenderer.setSubsamplingAllowed(scale < DEFAULT_DPI / POINTS_PER_INCH);
+			return pdfRenderer.renderImage(pageIndex, scale, imageType);
+		}
+
+		int dpi = parameters.getDpi() != null && parameters.getDpi() > 0 ? parameters.getDpi() : DEFAULT_DPI;
+		if (dpi < DEFAULT_DPI) {
+			pdfRenderer.setSubsamplingAllowed(true);
+		}
+		return pdfRenderer.renderImageWithDPI(pageIndex, dpi, imageType);
+	}
+
+	/**
+	 * Returns the scale that fits a page of the given size within the requested width and height or, failing those,
+	 * renders it at the requested dpi.
+	 */
+	private static float scale(float[] pageSize, RenditionParameters parameters) {
+		Integer width = parameters.getWidth();
+		Integer height = parameters.getHeight();
+
+		float scale = Float.MAX_VALUE;
+		if (width != null && width > 0) {
+			scale = Math.min(scale, width / pageSize[0]);
+		}
+		if (height != null && height > 0) {
+			scale = Math.min(scale, height / pageSize[1]);
+		}
+		if (scale == Float.MAX_VALUE) {
+			int dpi = parameters.getDpi() != null && parameters.getDpi() > 0 ? parameters.getDpi() : DEFAULT_DPI;
+			scale = dpi / POINTS_PER_INCH;
+		}
+		return scale;
+	}
+
+	private static float[] pageSize(PDPage page) {
+		PDRectangle box = page.getCropBox();
+		if (page.getRotation() % 180 != 0) {
+			return new float[] { box.getHeight(), box.getWidth() };
+		}
+		return new float[] { box.getWidth(), box.getHeight() };
+	}
+
+	private static ImageType imageType(String name) {
+		if (name == null) {
+			return ImageType.RGB;
+		}
+		switch (name) {
+		case RenditionParameters.IMAGE_TYPE_GRAY:
+			return ImageType.GRAY;
+		case RenditionParameters.IMAGE_TYPE_BINARY:
+			return ImageType.BINARY;
+		default:
+			return ImageType.RGB;
+		}
+	}
 }
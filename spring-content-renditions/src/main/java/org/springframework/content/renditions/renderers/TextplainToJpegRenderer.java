@@ -2,12 +2,17 @@ package org.springframework.content.renditions.renderers;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.content.commons.renditions.RenditionProvider;
 import org.springframework.content.renditions.RenditionException;
+import org.springframework.content.renditions.RenditionScratchDirectory;
 import org.springframework.stereotype.Service;
 import org.springframework.util.Assert;
 
+import javax.imageio.IIOImage;
 import javax.imageio.ImageIO;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
 import java.awt.*;
 import java.awt.font.FontRenderContext;
 import java.awt.font.LineBreakMeasurer;
@@ -16,29 +21,50 @@ import java.awt.font.TextLayout;
 import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
 import java.io.*;
-import java.text.AttributedCharacterIterator;
 import java.text.AttributedString;
-import java.util.ArrayList;
-
+import java.util.Iterator;
+
+/**
+ * Renders the first page of a text/plain document as a jpeg.
+ *
+ * Lines are drawn straight onto a single page-sized canvas and reading stops once the page is full, so memory use is
+ * bounded by the size of the page rather than the size of the document.  Only as much of a line as can be shown is
+ * held; without wrapping the rest of a long line is skipped as it is read and rendering continues with the next line.
+ */
 @Service
 public class TextplainToJpegRenderer implements RenditionProvider {
 
-	private static Log logger = LogFactory.getLog(WordToJpegRenderer.class);
+	private static Log logger = LogFactory.getLog(TextplainToJpegRenderer.class);
 
 	private static int width = 272;
+	private static int height = 480;
 	private static int margin = 5;
 	private static String fontName = "Courier New";
 	private static int fontSize = 12;
 
 	private boolean wrapText = false;
 
+	private RenditionScratchDirectory scratchDirectory;
+
+	private Font font;
+	private FontRenderContext fontRenderContext;
+	private int lineHeight;
+	private int charsPerLine;
+	private int maxLineLength;
+
 	public TextplainToJpegRenderer() {
+		this(false);
 	}
 
 	public TextplainToJpegRenderer(boolean wrapText) {
 		this.wrapText = wrapText;
 	}
 
+	@Autowired(required = false)
+	public void setScratchDirectory(RenditionScratchDirectory scratchDirectory) {
+		this.scratchDirectory = scratchDirectory;
+	}
+
 	@Override
 	public String consumes() {
 		return "text/plain";
@@ -54,115 +80,166 @@ public class TextplainToJpegRenderer implements RenditionProvider {
 
 		Assert.notNull(fromInputSource, "input source must not be null");
 
-		Font font = null;
-		try {
-			font = new Font(fontName, Font.PLAIN, (int) fontSize);
-		}
-		catch (Exception e) {
-			throw new RenditionException("Error creating font", e);
-		}
-
-		BufferedImage tempBuffer = new BufferedImage(1, 1, BufferedImage.TYPE_INT_RGB);
-		Graphics2D g = tempBuffer.createGraphics();
-		g.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
-				RenderingHints.VALUE_ANTIALIAS_ON);
-		g.setFont(font);
-
-		FontRenderContext fc = g.getFontRenderContext();
-		Rectangle2D bounds = font.getStringBounds("Random Text", fc);
-		int lineHeight = (int) bounds.getHeight();
-
-		BufferedReader reader = null;
+		initFontMetrics();
 
+		BufferedImage page = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		Graphics2D g = page.createGraphics();
 		try {
-			reader = new BufferedReader(new InputStreamReader(fromInputSource));
-		}
-		catch (Exception e) {
-			throw new RenditionException("Error opening input stream", e);
-		}
+			g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+			g.setBackground(Color.WHITE);
+			g.clearRect(0, 0, width, height);
+			g.setColor(Color.BLACK);
+
+			Reader reader = new BufferedReader(new InputStreamReader(fromInputSource));
+			// without wrapping only the first row of a line is drawn
+			int max = wrapText ? maxLineLength : charsPerLine;
+			StringBuilder line = new StringBuilder(max);
+
+			int y = margin;
+			while (y + lineHeight <= height - margin) {
+				try {
+					if (readLine(reader, line, max) == false) { // EOF
+						break;
+					}
+					if (!wrapText && line.length() == max) {
+						skipLine(reader);
+					}
+				}
+				catch (IOException ignore) {
+					break;
+				}
+				// a wrapped line this long fills the page
+				boolean lastLine = wrapText && line.length() == max;
 
-		ArrayList images = new ArrayList();
+				if (line.length() == 0) { // Empty line
+					y += lineHeight;
+					continue;
+				}
 
-		int lineCnt = margin + margin;
+				AttributedString attribString = new AttributedString(line.toString());
+				attribString.addAttribute(TextAttribute.FONT, font, 0, line.length());
+				LineBreakMeasurer lbm = new LineBreakMeasurer(attribString.getIterator(), fontRenderContext);
 
-		while (true) {
-			String line;
+				while (lbm.getPosition() < line.length() && y + lineHeight <= height - margin) {
+					TextLayout layout = lbm.nextLayout(width - margin);
+					layout.draw(g, margin, y + layout.getAscent());
+					y += lineHeight;
 
-			try {
-				line = reader.readLine();
-			}
-			catch (IOException ignore) {
-				break;
-			}
+					if (!wrapText) {
+						break;
+					}
+				}
 
-			if (line == null) { // EOF
-				break;
+				if (lastLine) {
+					break;
+				}
 			}
+		}
+		finally {
+			g.dispose();
+		}
 
-			if ("".equals(line)) { // Empty line
-				line = " ";
+		try {
+			RenditionScratchDirectory scratch = scratchDirectory != null ? scratchDirectory : RenditionScratchDirectory.getDefault();
+			File tmp = scratch.createFile("textplaintojpegrenderer", ".tmp");
+			try {
+				writeImage(page, tmp);
+			} catch (IOException e) {
+				tmp.delete();
+				throw e;
 			}
+			return scratch.openAndRemove(tmp);
+		}
+		catch (IOException e) {
+			logger.error("Error writing image");
+			throw new RenditionException("Error writing image", e);
+		}
+	}
 
-			AttributedString attribString = new AttributedString(line);
-			attribString.addAttribute(TextAttribute.BACKGROUND, Color.WHITE, 0,
-					line.length());
-			attribString.addAttribute(TextAttribute.FOREGROUND, Color.BLACK, 0,
-					line.length());
-			attribString.addAttribute(TextAttribute.FONT, font, 0, line.length());
+	private synchronized void initFontMetrics() {
+		if (font != null) {
+			return;
+		}
 
-			AttributedCharacterIterator aci = attribString.getIterator();
-			LineBreakMeasurer lbm = new LineBreakMeasurer(aci, fc);
+		Font font = null;
+		try {
+			font = new Font(fontName, Font.PLAIN, fontSize);
+		}
+		catch (Exception e) {
+			throw new RenditionException("Error creating font", e);
+		}
 
-			while (lbm.getPosition() < line.length()) {
-				BufferedImage lineBuffer = new BufferedImage(width, lineHeight,
-						BufferedImage.TYPE_INT_ARGB);
+		BufferedImage tempBuffer = new BufferedImage(1, 1, BufferedImage.TYPE_INT_RGB);
+		Graphics2D g = tempBuffer.createGraphics();
+		try {
+			g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+			g.setFont(font);
 
-				Graphics2D g1 = lineBuffer.createGraphics();
-				g1.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
-						RenderingHints.VALUE_ANTIALIAS_ON);
+			this.fontRenderContext = g.getFontRenderContext();
+			Rectangle2D bounds = font.getStringBounds("Random Text", fontRenderContext);
+			this.lineHeight = (int) bounds.getHeight();
 
-				TextLayout layout = lbm.nextLayout(width - margin);
+			// enough characters to fill every line of the page; anything beyond that can never be shown
+			Rectangle2D charBounds = font.getStringBounds("i", fontRenderContext);
+			this.charsPerLine = (int) Math.ceil(width / Math.max(1, charBounds.getWidth()));
+			this.maxLineLength = charsPerLine * Math.max(1, height / Math.max(1, lineHeight));
+		}
+		finally {
+			g.dispose();
+		}
 
-				int y = (int) layout.getAscent();
+		this.font = font;
+	}
 
-				layout.draw(g1, margin, y);
-				images.add(lineBuffer);
-				lineCnt += lineHeight;
+	/**
+	 * Reads the next line into the given buffer, stopping once it holds <code>max</code> characters.  The rest of a
+	 * longer line is left unread.
+	 *
+	 * @return false at the end of the input
+	 */
+	static boolean readLine(Reader reader, StringBuilder line, int max) throws IOException {
+		line.setLength(0);
+
+		int c = reader.read();
+		if (c == -1) {
+			return false;
+		}
 
-				if (lineCnt + lineHeight > 480 || !wrapText) {
+		while (c != -1 && c != '\n') {
+			if (c != '\r') {
+				line.append((char) c);
+				if (line.length() >= max) {
 					break;
 				}
 			}
+			c = reader.read();
 		}
+		return true;
+	}
 
-		if (lineCnt != 0) {
-			try {
-				saveImage(images, lineHeight, "/tmp/textToJpeg.jpeg");
-				return new FileInputStream("/tmp/textToJpeg.jpeg");
-			}
-			catch (IOException e) {
-				throw new RenditionException("Error writing image", e);
-			}
+	/**
+	 * Reads and discards the rest of the current line, including its line terminator.
+	 */
+	static void skipLine(Reader reader) throws IOException {
+		int c = reader.read();
+		while (c != -1 && c != '\n') {
+			c = reader.read();
 		}
-
-		return null;
 	}
 
-	private void saveImage(ArrayList<BufferedImage> images, int lineHeight,
-			String fileName) throws IOException {
-		BufferedImage buffer = new BufferedImage(272, 480, BufferedImage.TYPE_INT_RGB);
-
-		Graphics2D g = buffer.createGraphics();
-		g.setBackground(Color.WHITE);
-		g.clearRect(0, 0, 272, 480);
-
-		for (int i = 0; i < images.size(); i++) {
-			g.drawImage((BufferedImage) images.get(i), 0, margin + (i * lineHeight),
-					null);
+	private void writeImage(BufferedImage image, File file) throws IOException {
+		Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("jpeg");
+		if (!writers.hasNext()) {
+			throw new IOException("No jpeg image writer available");
 		}
 
-		OutputStream out = new FileOutputStream(new File(fileName.toString()));
-		ImageIO.write(buffer, "jpg", out);
-		out.close();
+		ImageWriter writer = writers.next();
+		try (ImageOutputStream out = ImageIO.createImageOutputStream(file)) {
+			writer.setOutput(out);
+			writer.write(null, new IIOImage(image, null, null), writer.getDefaultWriteParam());
+		}
+		finally {
+			writer.dispose();
+		}
 	}
 }
@@ -1,5 +1,6 @@
 package org.springframework.renditions.poi;
 
+import org.apache.pdfbox.io.MemoryUsageSetting;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.rendering.PDFRenderer;
 
@@ -12,7 +13,21 @@ public interface PDFService {
 
 	PDDocument load(InputStream stream) throws IOException;
 
+	/**
+	 * Returns how documents are buffered as they are loaded; in memory, in scratch files, or both.
+	 */
+	default MemoryUsageSetting getMemoryUsageSetting() {
+		return MemoryUsageSetting.setupMainMemoryOnly();
+	}
+
 	PDFRenderer renderer(PDDocument doc);
 
 	void writeImage(BufferedImage bim, String format, OutputStream out) throws IOException;
+
+	/**
+	 * Writes the image with the given compression quality, between 0 and 1.
+	 */
+	default void writeImage(BufferedImage bim, String format, OutputStream out, float quality) throws IOException {
+		writeImage(bim, format, out);
+	}
 }
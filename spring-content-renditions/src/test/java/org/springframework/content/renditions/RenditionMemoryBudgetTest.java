@@ -0,0 +1,66 @@
+package org.springframework.content.renditions;
+
+import com.github.paulcwarren.ginkgo4j.Ginkgo4jRunner;
+import org.junit.runner.RunWith;
+
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.BeforeEach;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.Context;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.Describe;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.It;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.fail;
+
+@RunWith(Ginkgo4jRunner.class)
+public class RenditionMemoryBudgetTest {
+
+    private RenditionMemoryBudget budget;
+
+    {
+        Describe("RenditionMemoryBudget", () -> {
+            Context("given a limited budget", () -> {
+                BeforeEach(() -> {
+                    budget = new RenditionMemoryBudget(1024 * 1024, 10);
+                });
+                It("should reduce the budget while reserved and restore it once released", () -> {
+                    RenditionMemoryBudget.Reservation reservation = budget.reserve(256 * 1024);
+                    assertThat(budget.getAvailable(), is(768L * 1024));
+
+                    reservation.close();
+                    reservation.close();
+                    assertThat(budget.getAvailable(), is(1024L * 1024));
+                });
+                It("should time out when the budget is exhausted", () -> {
+                    try (RenditionMemoryBudget.Reservation reservation = budget.reserve(1024 * 1024)) {
+                        budget.reserve(1);
+                        fail("expected exception");
+                    } catch (Exception e) {
+                        assertThat(e, is(instanceOf(RenditionException.class)));
+                    }
+                    assertThat(budget.getAvailable(), is(1024L * 1024));
+                });
+                It("should allow a reservation larger than the budget to run on its own", () -> {
+                    try (RenditionMemoryBudget.Reservation reservation = budget.reserve(10L * 1024 * 1024)) {
+                        assertThat(budget.getAvailable(), is(0L));
+                    }
+                });
+                It("should reduce a reservation made while holding another to the rest of the budget", () -> {
+                    try (RenditionMemoryBudget.Reservation held = budget.reserve(256 * 1024)) {
+                        try (RenditionMemoryBudget.Reservation reservation = budget.reserve(10L * 1024 * 1024, held)) {
+                            assertThat(budget.getAvailable(), is(0L));
+                        }
+                        assertThat(budget.getAvailable(), is(768L * 1024));
+                    }
+                    assertThat(budget.getAvailable(), is(1024L * 1024));
+                });
+            });
+            Context("given an unlimited budget", () -> {
+                It("should not limit reservations", () -> {
+                    assertThat(RenditionMemoryBudget.UNLIMITED.isLimited(), is(false));
+                    RenditionMemoryBudget.UNLIMITED.reserve(Long.MAX_VALUE).close();
+                });
+            });
+        });
+    }
+}
@@ -0,0 +1,70 @@
+package org.springframework.content.renditions;
+
+import com.github.paulcwarren.ginkgo4j.Ginkgo4jRunner;
+import org.apache.commons.io.FileUtils;
+import org.junit.runner.RunWith;
+
+import java.io.File;
+import java.io.InputStream;
+import java.nio.file.Files;
+
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.AfterEach;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.BeforeEach;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.Context;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.Describe;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.It;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@RunWith(Ginkgo4jRunner.class)
+public class RenditionScratchDirectoryTest {
+
+    private File parent;
+    private RenditionScratchDirectory scratch;
+
+    private File file;
+
+    {
+        Describe("RenditionScratchDirectory", () -> {
+            BeforeEach(() -> {
+                parent = Files.createTempDirectory("scratch-test").toFile();
+                scratch = new RenditionScratchDirectory(parent);
+            });
+            AfterEach(() -> {
+                FileUtils.deleteDirectory(parent);
+            });
+            Context("given a scratch file", () -> {
+                BeforeEach(() -> {
+                    file = scratch.createFile("scratch", ".tmp");
+                    Files.write(file.toPath(), "some content".getBytes());
+                });
+                It("should be created in its own directory under the parent", () -> {
+                    assertThat(file.getParentFile().getParentFile(), is(parent));
+                    assertThat(file.getParentFile(), is(scratch.getDirectory()));
+                });
+                It("should remove the file when its stream is closed", () -> {
+                    InputStream in = scratch.openAndRemove(file);
+                    assertThat(new String(in.readAllBytes()), is("some content"));
+                    assertThat(file.exists(), is(true));
+
+                    in.close();
+                    assertThat(file.exists(), is(false));
+                });
+                It("should remove the directory, and anything left in it, when destroyed", () -> {
+                    File directory = scratch.getDirectory();
+
+                    scratch.destroy();
+                    assertThat(file.exists(), is(false));
+                    assertThat(directory.exists(), is(false));
+                });
+                It("should create a new directory when used after being destroyed", () -> {
+                    scratch.destroy();
+
+                    File another = scratch.createFile("scratch", ".tmp");
+                    assertThat(another.exists(), is(true));
+                    assertThat(another.getParentFile().getParentFile(), is(parent));
+                });
+            });
+        });
+    }
+}
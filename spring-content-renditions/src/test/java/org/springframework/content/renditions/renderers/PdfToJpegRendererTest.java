@@ -2,19 +2,28 @@ package org.springframework.content.renditions.renderers;
 
 import com.github.paulcwarren.ginkgo4j.Ginkgo4jConfiguration;
 import com.github.paulcwarren.ginkgo4j.Ginkgo4jRunner;
+import org.apache.pdfbox.io.MemoryUsageSetting;
 import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
 import org.apache.pdfbox.rendering.ImageType;
 import org.apache.pdfbox.rendering.PDFRenderer;
 import org.junit.runner.RunWith;
+import org.springframework.content.commons.renditions.RenditionParameters;
 import org.springframework.content.commons.renditions.RenditionProvider;
 import org.springframework.content.renditions.RenditionException;
+import org.springframework.content.renditions.RenditionMemoryBudget;
 import org.springframework.renditions.poi.PDFService;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.AfterEach;
 import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.BeforeEach;
 import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.Context;
 import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.Describe;
@@ -26,11 +35,15 @@ import static org.hamcrest.Matchers.hasItemInArray;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyFloat;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Matchers.anyObject;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -46,14 +59,20 @@ public class PdfToJpegRendererTest {
 
 	private InputStream input;
 	private String mimeType;
+	private RenditionParameters parameters;
+	private InputStream result;
 
 	private Exception e;
 
+	private RenditionMemoryBudget budget;
+	private RenditionMemoryBudget.Reservation reservation;
+
 	{
 		Describe("WordToJpegRenderer", () -> {
 			BeforeEach(() -> {
 				pdf = mock(PDFService.class);
 				renderer = new PdfToJpegRenderer(pdf);
+				parameters = null;
 			});
 			Context("#consumes", () -> {
 				It("should return word ml mimetype", () -> {
@@ -68,8 +87,13 @@ public class PdfToJpegRendererTest {
 			});
 			Context("#convert", () -> {
 				JustBeforeEach(() -> {
+					e = null;
 					try {
-						renderer.convert(input, mimeType);
+						if (parameters == null) {
+							result = renderer.convert(input, mimeType);
+						} else {
+							result = renderer.convert(input, mimeType, parameters);
+						}
 					}
 					catch (Exception e) {
 						this.e = e;
@@ -94,6 +118,9 @@ public class PdfToJpegRendererTest {
 						It("should output the rendered image", () -> {
 							verify(pdf).writeImage(anyObject(), eq("jpeg"), isA(OutputStream.class));
 						});
+						It("should render the page in memory", () -> {
+							assertThat(result, is(instanceOf(ByteArrayInputStream.class)));
+						});
 						Context("when the pdf document fails to return a thumbnail", () -> {
 							BeforeEach(() -> {
 								doThrow(IOException.class).when(pdfRenderer).renderImageWithDPI(0, 300, ImageType.RGB);
@@ -107,6 +134,104 @@ public class PdfToJpegRendererTest {
 							});
 						});
 					});
+					Context("given rendition parameters", () -> {
+						BeforeEach(() -> {
+							when(doc.getNumberOfPages()).thenReturn(2);
+						});
+						Context("given a page", () -> {
+							BeforeEach(() -> {
+								parameters = RenditionParameters.of(Collections.singletonMap("page", "1"));
+							});
+							It("should render that page", () -> {
+								verify(pdfRenderer).renderImageWithDPI(1, 300, ImageType.RGB);
+							});
+						});
+						Context("given a page beyond the end of the document", () -> {
+							BeforeEach(() -> {
+								parameters = RenditionParameters.of(Collections.singletonMap("page", "2"));
+							});
+							It("should not render anything", () -> {
+								assertThat(result, is(nullValue()));
+								verify(pdfRenderer, never()).renderImageWithDPI(anyInt(), anyFloat(), any());
+							});
+						});
+						Context("given a width", () -> {
+							BeforeEach(() -> {
+								when(doc.getPage(0)).thenReturn(new PDPage(PDRectangle.LETTER));
+								parameters = RenditionParameters.of(Collections.singletonMap("width", "204"));
+							});
+							It("should render the page scaled to that width with subsampling", () -> {
+								verify(pdfRenderer).setSubsamplingAllowed(true);
+								verify(pdfRenderer).renderImage(0, 204 / PDRectangle.LETTER.getWidth(), ImageType.RGB);
+							});
+						});
+						Context("given a width and a height", () -> {
+							BeforeEach(() -> {
+								when(doc.getPage(0)).thenReturn(new PDPage(PDRectangle.LETTER));
+								Map<String, String> params = new HashMap<>();
+								params.put("width", "612");
+								params.put("height", "396");
+								parameters = RenditionParameters.of(params);
+							});
+							It("should fit the page within both", () -> {
+								verify(pdfRenderer).renderImage(0, 0.5f, ImageType.RGB);
+							});
+						});
+						Context("given a dpi and an image type", () -> {
+							BeforeEach(() -> {
+								Map<String, String> params = new HashMap<>();
+								params.put("dpi", "72");
+								params.put("imageType", "gray");
+								parameters = RenditionParameters.of(params);
+							});
+							It("should render the page at that dpi and image type", () -> {
+								verify(pdfRenderer).setSubsamplingAllowed(true);
+								verify(pdfRenderer).renderImageWithDPI(0, 72, ImageType.GRAY);
+							});
+						});
+						Context("given a quality", () -> {
+							BeforeEach(() -> {
+								parameters = RenditionParameters.of(Collections.singletonMap("quality", "0.5"));
+							});
+							It("should write the image at that quality", () -> {
+								verify(pdf).writeImage(anyObject(), eq("jpeg"), isA(OutputStream.class), eq(0.5f));
+							});
+						});
+						Context("given a memory budget", () -> {
+							BeforeEach(() -> {
+								budget = new RenditionMemoryBudget(1024 * 1024, 10);
+								((PdfToJpegRenderer) renderer).setMemoryBudget(budget);
+								when(pdf.getMemoryUsageSetting()).thenReturn(MemoryUsageSetting.setupMixed(512 * 1024));
+								when(doc.getPage(0)).thenReturn(new PDPage(PDRectangle.LETTER));
+							});
+							It("should render an image larger than the rest of the budget on its own", () -> {
+								assertThat(e, is(nullValue()));
+								verify(pdfRenderer).renderImageWithDPI(0, 300, ImageType.RGB);
+								assertThat(budget.getAvailable(), is(1024L * 1024));
+							});
+							Context("when another render holds the budget", () -> {
+								BeforeEach(() -> {
+									reservation = budget.reserve(1024 * 1024);
+								});
+								AfterEach(() -> {
+									reservation.close();
+								});
+								It("should time out without rendering", () -> {
+									assertThat(e, is(instanceOf(RenditionException.class)));
+									verify(pdf, never()).load(anyObject());
+									verify(pdfRenderer, never()).renderImageWithDPI(anyInt(), anyFloat(), any());
+								});
+							});
+						});
+						Context("given an unsupported image type", () -> {
+							BeforeEach(() -> {
+								parameters = RenditionParameters.of(Collections.singletonMap("imageType", "argb"));
+							});
+							It("should throw an IllegalArgumentException", () -> {
+								assertThat(e, is(instanceOf(IllegalArgumentException.class)));
+							});
+						});
+					});
 					Context("when the input stream is not a valid pdf file", () -> {
 						BeforeEach(() -> {
 							doThrow(IOException.class).when(pdf).load(anyObject());
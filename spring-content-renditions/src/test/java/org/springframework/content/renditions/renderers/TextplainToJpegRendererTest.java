@@ -8,8 +8,11 @@ import org.apache.commons.logging.LogFactory;
 import org.junit.runner.RunWith;
 import org.springframework.content.commons.renditions.RenditionProvider;
 
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.*;
 import static junit.framework.TestCase.fail;
@@ -29,6 +32,10 @@ public class TextplainToJpegRendererTest {
 
 	private Exception e;
 
+	private AtomicLong bytesRead;
+
+	private static final long LONG_LINE_LENGTH = 16L * 1024 * 1024;
+
 	{
 		Describe("TextplainToJpegRenderer", () -> {
 			JustBeforeEach(() -> {
@@ -121,6 +128,83 @@ public class TextplainToJpegRendererTest {
 						});
 					});
 				});
+				Context("given an input much longer than a page", () -> {
+					BeforeEach(() -> {
+						bytesRead = new AtomicLong();
+						input = new InputStream() {
+							private final long length = 200L * 1024 * 1024;
+							@Override
+							public int read() {
+								if (bytesRead.get() >= length) {
+									return -1;
+								}
+								return bytesRead.getAndIncrement() % 80 == 79 ? '\n' : 'x';
+							}
+						};
+					});
+					It("should only read the first page's worth of lines", () -> {
+						assertThat(e, is(nullValue()));
+						assertThat(result, is(not(nullValue())));
+						assertThat(bytesRead.get(), is(lessThan(64L * 1024)));
+					});
+				});
+				Context("given a single line much longer than a page", () -> {
+					BeforeEach(() -> {
+						bytesRead = new AtomicLong();
+						input = new InputStream() {
+							@Override
+							public int read() {
+								if (bytesRead.get() >= LONG_LINE_LENGTH) {
+									return -1;
+								}
+								bytesRead.incrementAndGet();
+								return 'x';
+							}
+						};
+					});
+					It("should skip the rest of the line", () -> {
+						assertThat(e, is(nullValue()));
+						assertThat(result, is(not(nullValue())));
+						assertThat(bytesRead.get(), is(LONG_LINE_LENGTH));
+					});
+					Context("given wrapping", () -> {
+						BeforeEach(() -> {
+							wrapText = true;
+						});
+						It("should stop reading once the line fills the page", () -> {
+							assertThat(e, is(nullValue()));
+							assertThat(result, is(not(nullValue())));
+							assertThat(bytesRead.get(), is(lessThan(64L * 1024)));
+						});
+					});
+				});
+				Context("given a long line followed by short lines", () -> {
+					BeforeEach(() -> {
+						bytesRead = new AtomicLong();
+						byte[] shortLines = "\nSpring\nContent\nWorld!\n".getBytes();
+						input = new InputStream() {
+							@Override
+							public int read() {
+								long i = bytesRead.get();
+								if (i >= LONG_LINE_LENGTH + shortLines.length) {
+									return -1;
+								}
+								bytesRead.incrementAndGet();
+								return i < LONG_LINE_LENGTH ? 'x' : shortLines[(int) (i - LONG_LINE_LENGTH)];
+							}
+						};
+					});
+					It("should render the lines after the long line", () -> {
+						assertThat(e, is(nullValue()));
+						assertThat(result, is(not(nullValue())));
+
+						BufferedImage image = ImageIO.read(result);
+						assertThat(image, is(not(nullValue())));
+						assertThat(hasInk(image, 0, 20), is(true));
+						assertThat(hasInk(image, 25, 60), is(true));
+						assertThat(hasInk(image, 100, image.getHeight()), is(false));
+					});
+				});
 				Context("when the input stream is not a valid word file", () -> {
 					BeforeEach(() -> {
 						input = this.getClass().getResourceAsStream("/sample-docx.docx");
@@ -137,4 +221,17 @@ public class TextplainToJpegRendererTest {
 			});
 		});
 	}
+
+	private static boolean hasInk(BufferedImage image, int fromY, int toY) {
+		for (int y = fromY; y < toY; y++) {
+			for (int x = 0; x < image.getWidth(); x++) {
+				int rgb = image.getRGB(x, y);
+				int grey = (((rgb >> 16) & 0xff) + ((rgb >> 8) & 0xff) + (rgb & 0xff)) / 3;
+				if (grey < 128) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
 }
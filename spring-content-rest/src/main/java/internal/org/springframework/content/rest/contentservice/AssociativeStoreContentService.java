@@ -20,6 +20,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.content.commons.io.RangeableResource;
 import org.springframework.content.commons.mappingcontext.ContentProperty;
 import org.springframework.content.commons.property.PropertyPath;
+import org.springframework.content.commons.renditions.RenditionParameters;
 import org.springframework.content.commons.repository.AssociativeStore;
 import org.springframework.content.commons.repository.ContentStore;
 import org.springframework.content.commons.storeservice.StoreInfo;
@@ -41,6 +42,7 @@ import internal.org.springframework.content.rest.io.AssociatedStoreResource;
 import internal.org.springframework.content.rest.io.RenderedResource;
 import internal.org.springframework.content.rest.io.StoreResource;
 import internal.org.springframework.content.rest.mappings.StoreByteRangeHttpRequestHandler;
+import internal.org.springframework.content.rest.utils.RenditionUtils;
 
 public class AssociativeStoreContentService implements ContentService {
 
@@ -111,8 +113,9 @@ public class AssociativeStoreContentService implements ContentService {
 
                     } else if (((StoreResource) resource).isRenderableAs(acceptedMimeType)) {
 
-                        resource = new RenderedResource(((StoreResource) resource).renderAs(acceptedMimeType), resource);
-                        producedResourceType = acceptedMimeType;
+                        RenditionParameters parameters = RenditionUtils.getRenditionParameters(request, acceptedMimeType, config);
+                        resource = new RenderedResource(((StoreResource) resource).renderAs(acceptedMimeType, parameters), resource);
+                        producedResourceType = RenditionUtils.getRenditionMimeType(acceptedMimeType);
                         break;
                     }
                 }
@@ -129,6 +132,9 @@ public class AssociativeStoreContentService implements ContentService {
 
             request.setAttribute("SPRING_CONTENT_RESOURCE", resource);
             request.setAttribute("SPRING_CONTENT_CONTENTTYPE", producedResourceType);
+        } catch (ResponseStatusException rse) {
+
+            throw rse;
         } catch (Exception e) {
 
             logger.error("Unable to retrieve content", e);
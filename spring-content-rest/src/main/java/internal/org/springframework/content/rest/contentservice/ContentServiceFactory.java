@@ -49,7 +49,7 @@ public class ContentServiceFactory {
 
         } else {
 
-            return new StoreContentService(byteRangeRestRequestHandler);
+            return new StoreContentService(config, byteRangeRestRequestHandler);
         }
     }
 }
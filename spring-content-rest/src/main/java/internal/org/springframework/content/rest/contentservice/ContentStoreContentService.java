@@ -21,6 +21,7 @@ import org.springframework.content.commons.io.RangeableResource;
 import org.springframework.content.commons.mappingcontext.ContentProperty;
 import org.springframework.content.commons.mappingcontext.MappingContext;
 import org.springframework.content.commons.property.PropertyPath;
+import org.springframework.content.commons.renditions.RenditionParameters;
 import org.springframework.content.commons.repository.ContentStore;
 import org.springframework.content.commons.repository.Store;
 import org.springframework.content.commons.storeservice.StoreInfo;
@@ -45,6 +46,7 @@ import internal.org.springframework.content.rest.io.AssociatedStoreResource;
 import internal.org.springframework.content.rest.io.RenderedResource;
 import internal.org.springframework.content.rest.io.StoreResource;
 import internal.org.springframework.content.rest.mappings.StoreByteRangeHttpRequestHandler;
+import internal.org.springframework.content.rest.utils.RenditionUtils;
 
 public class ContentStoreContentService implements ContentService {
 
@@ -103,8 +105,9 @@ public class ContentStoreContentService implements ContentService {
                          break;
                     } else if (((StoreResource) resource).isRenderableAs(acceptedMimeType)) {
 
-                        resource = new RenderedResource(((StoreResource) resource).renderAs(acceptedMimeType), resource);
-                        producedResourceType = acceptedMimeType;
+                        RenditionParameters parameters = RenditionUtils.getRenditionParameters(request, acceptedMimeType, config);
+                        resource = new RenderedResource(((StoreResource) resource).renderAs(acceptedMimeType, parameters), resource);
+                        producedResourceType = RenditionUtils.getRenditionMimeType(acceptedMimeType);
                         break;
                     }
                 }
@@ -121,6 +124,9 @@ public class ContentStoreContentService implements ContentService {
 
             request.setAttribute("SPRING_CONTENT_RESOURCE", resource);
             request.setAttribute("SPRING_CONTENT_CONTENTTYPE", producedResourceType);
+        } catch (ResponseStatusException rse) {
+
+            throw rse;
         } catch (Exception e) {
 
             logger.error("Unable to retrieve content", e);
@@ -15,6 +15,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.content.commons.io.DeletableResource;
 import org.springframework.content.commons.io.RangeableResource;
+import org.springframework.content.commons.renditions.RenditionParameters;
+import org.springframework.content.rest.config.RestConfiguration;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.WritableResource;
 import org.springframework.http.HttpHeaders;
@@ -27,14 +29,17 @@ import internal.org.springframework.content.rest.controllers.MethodNotAllowedExc
 import internal.org.springframework.content.rest.io.RenderableResource;
 import internal.org.springframework.content.rest.io.RenderedResource;
 import internal.org.springframework.content.rest.mappings.StoreByteRangeHttpRequestHandler;
+import internal.org.springframework.content.rest.utils.RenditionUtils;
 
 public class StoreContentService implements ContentService {
 
     private static final Logger logger = LoggerFactory.getLogger(StoreContentService.class);
 
+    private final RestConfiguration config;
     private final StoreByteRangeHttpRequestHandler byteRangeRestRequestHandler;
 
-    public StoreContentService(StoreByteRangeHttpRequestHandler byteRangeRestRequestHandler) {
+    public StoreContentService(RestConfiguration config, StoreByteRangeHttpRequestHandler byteRangeRestRequestHandler) {
+        this.config = config;
         this.byteRangeRestRequestHandler = byteRangeRestRequestHandler;
     }
 
@@ -50,9 +55,10 @@ public class StoreContentService implements ContentService {
                 for (MediaType acceptedMimeType : acceptedMimeTypes) {
                     if (resource instanceof RenderableResource && ((RenderableResource) resource)
                             .isRenderableAs(acceptedMimeType)) {
+                        RenditionParameters parameters = RenditionUtils.getRenditionParameters(request, acceptedMimeType, config);
                         resource = new RenderedResource(((RenderableResource) resource)
-                                .renderAs(acceptedMimeType), resource);
-                        producedResourceType = acceptedMimeType;
+                                .renderAs(acceptedMimeType, parameters), resource);
+                        producedResourceType = RenditionUtils.getRenditionMimeType(acceptedMimeType);
                         break;
                     }
                     else if (acceptedMimeType.includes(resourceType)) {
@@ -73,6 +79,9 @@ public class StoreContentService implements ContentService {
 
             request.setAttribute("SPRING_CONTENT_RESOURCE", resource);
             request.setAttribute("SPRING_CONTENT_CONTENTTYPE", producedResourceType);
+        } catch (ResponseStatusException rse) {
+
+            throw rse;
         } catch (Exception e) {
 
             logger.error("Unable to retrieve content", e);
@@ -22,6 +22,7 @@ import org.springframework.content.commons.io.RangeableResource;
 import org.springframework.content.commons.mappingcontext.ContentProperty;
 import org.springframework.content.commons.property.PropertyPath;
 import org.springframework.content.commons.renditions.Renderable;
+import org.springframework.content.commons.renditions.RenditionParameters;
 import org.springframework.content.commons.repository.AssociativeStore;
 import org.springframework.content.commons.storeservice.StoreInfo;
 import org.springframework.content.commons.utils.BeanUtils;
@@ -127,6 +128,18 @@ public class AssociatedStoreResourceImpl<S> implements HttpResource, AssociatedS
         return null;
     }
 
+    @Override
+    public InputStream renderAs(org.springframework.util.MimeType mimeType, RenditionParameters parameters) {
+
+        if (Renderable.class.isAssignableFrom(this.getStoreInfo().getInterface())) {
+
+            Renderable renderer = (Renderable)this.getStoreInfo().getImplementation(AssociativeStore.class);
+            return renderer.getRendition(getAssociation(), this.getPropertyPath(), mimeType.toString(), parameters);
+        }
+
+        return null;
+    }
+
     @Override
     public Object getETag() {
 
@@ -2,6 +2,7 @@ package internal.org.springframework.content.rest.io;
 
 import java.io.InputStream;
 
+import org.springframework.content.commons.renditions.RenditionParameters;
 import org.springframework.util.MimeType;
 
 public interface RenderableResource {
@@ -9,4 +10,8 @@ public interface RenderableResource {
     boolean isRenderableAs(MimeType mimeType);
 
     InputStream renderAs(MimeType mimeType);
+
+    default InputStream renderAs(MimeType mimeType, RenditionParameters parameters) {
+        return renderAs(mimeType);
+    }
 }
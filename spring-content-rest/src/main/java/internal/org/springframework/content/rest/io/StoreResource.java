@@ -3,6 +3,7 @@ package internal.org.springframework.content.rest.io;
 import java.io.InputStream;
 
 import org.springframework.content.commons.io.DeletableResource;
+import org.springframework.content.commons.renditions.RenditionParameters;
 import org.springframework.content.commons.storeservice.StoreInfo;
 import org.springframework.core.io.WritableResource;
 import org.springframework.http.MediaType;
@@ -19,4 +20,8 @@ public interface StoreResource extends WritableResource, DeletableResource {
     boolean isRenderableAs(MimeType mimeType);
 
     InputStream renderAs(MimeType mimeType);
+
+    default InputStream renderAs(MimeType mimeType, RenditionParameters parameters) {
+        return renderAs(mimeType);
+    }
 }
@@ -0,0 +1,373 @@
+package internal.org.springframework.content.rest.reactive;
+
+import static java.lang.String.format;
+
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.content.commons.mappingcontext.ContentProperty;
+import org.springframework.content.commons.mappingcontext.MappingContext;
+import org.springframework.content.commons.property.PropertyPath;
+import org.springframework.content.commons.store.ReactiveContentStore;
+import org.springframework.content.commons.storeservice.StoreInfo;
+import org.springframework.content.commons.storeservice.Stores;
+import org.springframework.content.commons.utils.BeanUtils;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.ConfigurableConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.convert.Jsr310Converters;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ReactiveHttpOutputMessage;
+import org.springframework.util.StringUtils;
+import org.springframework.web.reactive.function.BodyInserter;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import internal.org.springframework.content.rest.utils.HeaderUtils;
+import internal.org.springframework.content.rest.utils.StoreUtils;
+import jakarta.persistence.Version;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Handles {@code /{store}/{id}/{property}} requests for stores that extend {@link ReactiveContentStore}.
+ * <p>
+ * Content is streamed between the exchange and the store one buffer at a time, so a slow client holds no thread
+ * while it reads or writes.  Entities managed by a {@link ReactiveCrudRepository} are found and saved without
+ * blocking; those managed by a blocking {@link CrudRepository} are found and saved on the bounded elastic scheduler.
+ */
+public class ReactiveStoreHandler {
+
+    private static Log logger = LogFactory.getLog(ReactiveStoreHandler.class);
+
+    private static final ConfigurableConversionService dates = new DefaultConversionService();
+
+    static {
+        Jsr310Converters.getConvertersToRegister().forEach(dates::addConverter);
+    }
+
+    private final Stores stores;
+    private final Repositories repositories;
+    private final MappingContext mappingContext;
+    private final ConversionService conversionService;
+    private final String baseUri;
+
+    public ReactiveStoreHandler(Stores stores, Repositories repositories, MappingContext mappingContext, ConversionService conversionService, String baseUri) {
+        this.stores = stores;
+        this.repositories = repositories;
+        this.mappingContext = mappingContext;
+        this.conversionService = conversionService;
+        this.baseUri = baseUri != null ? StringUtils.trimTrailingCharacter(baseUri, '/') : "";
+    }
+
+    /**
+     * Returns true when the request path names an exported reactive store, so that requests for other paths fall
+     * through to the application's own handlers.
+     */
+    public boolean isStoreRequest(ServerRequest request) {
+        String[] segments = segments(request);
+        return segments.length >= 2 && getStoreInfo(segments[0]) != null;
+    }
+
+    public Mono<ServerResponse> getContent(ServerRequest request) {
+
+        return resolve(request).flatMap(target -> {
+
+            if (target.getContentId() == null) {
+                return ServerResponse.notFound().build();
+            }
+
+            if (request.exchange().checkNotModified(target.getETag(), Instant.ofEpochMilli(target.getLastModified()))) {
+                return ServerResponse.status(request.exchange().getResponse().getStatusCode()).build();
+            }
+
+            long contentLength = target.getContentLength();
+
+            List<HttpRange> ranges = getRanges(request, target);
+            if (ranges.size() == 1 && contentLength > 0) {
+                HttpRange range = ranges.get(0);
+
+                long start, end;
+                try {
+                    start = range.getRangeStart(contentLength);
+                    end = range.getRangeEnd(contentLength);
+                } catch (IllegalArgumentException iae) {
+                    start = contentLength;
+                    end = contentLength;
+                }
+
+                if (start >= contentLength) {
+                    return ServerResponse.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                            .header(HttpHeaders.CONTENT_RANGE, format("bytes */%d", contentLength))
+                            .build();
+                }
+
+                long length = end - start + 1;
+                return headers(ServerResponse.status(HttpStatus.PARTIAL_CONTENT), target)
+                        .header(HttpHeaders.CONTENT_RANGE, format("bytes %d-%d/%d", start, end, contentLength))
+                        .contentLength(length)
+                        .body(body(request, target.getStore().getContent(target.getEntity(), target.getPath(), start, length)));
+            }
+
+            ServerResponse.BodyBuilder builder = headers(ServerResponse.ok(), target);
+            if (contentLength > 0) {
+                builder.contentLength(contentLength);
+            }
+            return builder.body(body(request, target.getStore().getContent(target.getEntity(), target.getPath())));
+        })
+        .switchIfEmpty(ServerResponse.notFound().build());
+    }
+
+    public Mono<ServerResponse> setContent(ServerRequest request) {
+
+        return resolve(request).flatMap(target -> {
+
+            boolean isNew = target.getContentId() == null;
+            if (!isNew) {
+                HeaderUtils.evaluateHeaderConditions(request.headers().asHttpHeaders(), target.getETag(), new Date(target.getLastModified()));
+            }
+
+            MediaType mimeType = request.headers().contentType().orElse(MediaType.APPLICATION_OCTET_STREAM);
+            target.getProperty().setMimeType(target.getEntity(), mimeType.toString());
+
+            long contentLength = request.headers().contentLength().orElse(-1L);
+            Flux<ByteBuffer> content = request.bodyToFlux(DataBuffer.class).map(ReactiveStoreHandler::toByteBuffer);
+
+            return target.getStore().setContent(target.getEntity(), target.getPath(), contentLength, content)
+                    .flatMap(entity -> save(target.getRepository(), entity))
+                    .then(isNew ? ServerResponse.status(HttpStatus.CREATED).build() : ServerResponse.ok().build());
+        })
+        .switchIfEmpty(ServerResponse.notFound().build());
+    }
+
+    public Mono<ServerResponse> unsetContent(ServerRequest request) {
+
+        return resolve(request).flatMap(target -> {
+
+            if (target.getContentId() == null) {
+                return ServerResponse.notFound().build();
+            }
+
+            HeaderUtils.evaluateHeaderConditions(request.headers().asHttpHeaders(), target.getETag(), new Date(target.getLastModified()));
+
+            return target.getStore().unsetContent(target.getEntity(), target.getPath())
+                    .flatMap(entity -> {
+                        target.getProperty().setMimeType(entity, null);
+                        target.getProperty().setOriginalFileName(entity, null);
+                        return save(target.getRepository(), entity);
+                    })
+                    .then(ServerResponse.noContent().build());
+        })
+        .switchIfEmpty(ServerResponse.notFound().build());
+    }
+
+    private Mono<Target> resolve(ServerRequest request) {
+
+        String[] segments = segments(request);
+        if (segments.length < 2) {
+            return Mono.empty();
+        }
+
+        StoreInfo info = getStoreInfo(segments[0]);
+        if (info == null) {
+            return Mono.empty();
+        }
+
+        Class<?> domainClass = info.getDomainObjectClass();
+
+        String path = segments.length > 2 ? String.join("/", Arrays.copyOfRange(segments, 2, segments.length)) : "";
+        ContentProperty property = StringUtils.hasText(path) ? mappingContext.getContentProperty(domainClass, path) : primaryContentProperty(domainClass);
+        if (property == null) {
+            return Mono.empty();
+        }
+
+        Object repository = repositories.getRepositoryFor(domainClass).orElse(null);
+        Optional<RepositoryInformation> ri = repositories.getRepositoryInformationFor(domainClass);
+        if (repository == null || ri.isPresent() == false) {
+            return Mono.empty();
+        }
+
+        Object id = conversionService.convert(segments[1], ri.get().getIdType());
+
+        @SuppressWarnings("unchecked")
+        ReactiveContentStore<Object, Serializable> store = info.getImplementation(ReactiveContentStore.class);
+
+        return findById(repository, id)
+                .map(entity -> new Target(store, repository, entity, property, PropertyPath.from(property.getContentPropertyPath())));
+    }
+
+    private StoreInfo getStoreInfo(String storePath) {
+        return stores.getStore(ReactiveContentStore.class, StoreUtils.withStorePath(storePath));
+    }
+
+    private ContentProperty primaryContentProperty(Class<?> domainClass) {
+        return mappingContext.getContentProperties(domainClass).stream().findFirst().orElse(null);
+    }
+
+    private String[] segments(ServerRequest request) {
+        String path = request.requestPath().pathWithinApplication().value();
+        if (!path.startsWith(baseUri + "/")) {
+            return new String[0];
+        }
+        return StringUtils.tokenizeToStringArray(path.substring(baseUri.length()), "/");
+    }
+
+    private List<HttpRange> getRanges(ServerRequest request, Target target) {
+        try {
+            String ifRange = request.headers().firstHeader(HttpHeaders.IF_RANGE);
+            if (ifRange != null && !ifRange.equals(HeaderUtils.padEtagIfNecessary(target.getETag()))) {
+                return List.of();
+            }
+            return request.headers().range();
+        } catch (IllegalArgumentException iae) {
+            logger.debug(format("Ignoring invalid range %s", request.headers().firstHeader(HttpHeaders.RANGE)), iae);
+            return List.of();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Mono<Object> findById(Object repository, Object id) {
+        if (repository instanceof ReactiveCrudRepository) {
+            return ((ReactiveCrudRepository<Object, Object>) repository).findById(id);
+        }
+        if (repository instanceof CrudRepository) {
+            return Mono.fromCallable(() -> ((CrudRepository<Object, Object>) repository).findById(id).orElse(null))
+                    .subscribeOn(Schedulers.boundedElastic());
+        }
+        return Mono.error(new IllegalStateException(format("Repository %s is not a CrudRepository or ReactiveCrudRepository", repository)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Mono<Object> save(Object repository, Object entity) {
+        if (repository instanceof ReactiveCrudRepository) {
+            return ((ReactiveCrudRepository<Object, Object>) repository).save(entity);
+        }
+        return Mono.fromCallable(() -> ((CrudRepository<Object, Object>) repository).save(entity))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private static ServerResponse.BodyBuilder headers(ServerResponse.BodyBuilder builder, Target target) {
+        return builder.contentType(target.getMimeType())
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .headers(headers -> headers.addAll(target.getResponseHeaders()));
+    }
+
+    private static BodyInserter<Flux<DataBuffer>, ReactiveHttpOutputMessage> body(ServerRequest request, Flux<ByteBuffer> content) {
+        DataBufferFactory factory = request.exchange().getResponse().bufferFactory();
+        return BodyInserters.fromDataBuffers(content.map(factory::wrap));
+    }
+
+    // request buffers may be pooled, and the store may hold on to them, so copy them out and release them
+    private static ByteBuffer toByteBuffer(DataBuffer dataBuffer) {
+        try {
+            byte[] bytes = new byte[dataBuffer.readableByteCount()];
+            dataBuffer.read(bytes);
+            return ByteBuffer.wrap(bytes);
+        } finally {
+            DataBufferUtils.release(dataBuffer);
+        }
+    }
+
+    static class Target {
+
+        private final ReactiveContentStore<Object, Serializable> store;
+        private final Object repository;
+        private final Object entity;
+        private final ContentProperty property;
+        private final PropertyPath path;
+
+        Target(ReactiveContentStore<Object, Serializable> store, Object repository, Object entity, ContentProperty property, PropertyPath path) {
+            this.store = store;
+            this.repository = repository;
+            this.entity = entity;
+            this.property = property;
+            this.path = path;
+        }
+
+        ReactiveContentStore<Object, Serializable> getStore() {
+            return store;
+        }
+
+        Object getRepository() {
+            return repository;
+        }
+
+        Object getEntity() {
+            return entity;
+        }
+
+        ContentProperty getProperty() {
+            return property;
+        }
+
+        PropertyPath getPath() {
+            return path;
+        }
+
+        Object getContentId() {
+            return property.getContentId(entity);
+        }
+
+        long getContentLength() {
+            Object len = property.getContentLength(entity);
+            return len instanceof Number ? ((Number) len).longValue() : -1L;
+        }
+
+        MediaType getMimeType() {
+            Object mimeType = property.getMimeType(entity);
+            return mimeType != null && StringUtils.hasText(mimeType.toString()) ? MediaType.parseMediaType(mimeType.toString()) : MediaType.APPLICATION_OCTET_STREAM;
+        }
+
+        String getETag() {
+            Object etag = BeanUtils.getFieldWithAnnotation(entity, Version.class);
+            if (etag == null) {
+                etag = BeanUtils.getFieldWithAnnotation(entity, org.springframework.data.annotation.Version.class);
+            }
+            return etag != null ? etag.toString() : "";
+        }
+
+        long getLastModified() {
+            Object lastModified = BeanUtils.getFieldWithAnnotation(entity, LastModifiedDate.class);
+            if (lastModified == null) {
+                return -1L;
+            }
+            return Stream.of(lastModified)
+                    .map(it -> dates.convert(it, Date.class))
+                    .map(it -> dates.convert(it, Instant.class))
+                    .map(Instant::toEpochMilli)
+                    .findFirst().orElse(-1L);
+        }
+
+        HttpHeaders getResponseHeaders() {
+            HttpHeaders headers = new HttpHeaders();
+            Object originalFileName = property.getOriginalFileName(entity);
+            if (originalFileName != null && StringUtils.hasText(originalFileName.toString())) {
+                headers.setContentDisposition(ContentDisposition.builder("form-data").name("attachment").filename(originalFileName.toString(), Charset.defaultCharset()).build());
+            }
+            return headers;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package internal.org.springframework.content.rest.utils;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import org.springframework.content.commons.renditions.RenditionParameters;
+import org.springframework.content.rest.config.RestConfiguration;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+public class RenditionUtils {
+
+    private static final List<String> PARAMETER_NAMES = Arrays.asList(
+            RenditionParameters.PAGE,
+            RenditionParameters.WIDTH,
+            RenditionParameters.HEIGHT,
+            RenditionParameters.DPI,
+            RenditionParameters.QUALITY,
+            RenditionParameters.IMAGE_TYPE);
+
+    /**
+     * Returns the rendition parameters of a request; those of the accepted mime type, for example
+     * <code>Accept: image/jpeg;width=200</code>, overridden by any query parameters of the same name.
+     *
+     * @throws ResponseStatusException with a 400 when a parameter is invalid or asks for a rendition larger than
+     * the configuration allows
+     */
+    public static RenditionParameters getRenditionParameters(HttpServletRequest request, MediaType acceptedMimeType, RestConfiguration config) {
+        Map<String, String> parameters = new LinkedHashMap<>();
+        for (String name : PARAMETER_NAMES) {
+            String value = acceptedMimeType.getParameter(name);
+            if (request != null && StringUtils.hasText(request.getParameter(name))) {
+                value = request.getParameter(name);
+            }
+            if (StringUtils.hasText(value)) {
+                parameters.put(name, value);
+            }
+        }
+
+        RenditionParameters renditionParameters = RenditionParameters.of(parameters);
+        try {
+            renditionParameters.getPage();
+            checkMax(RenditionParameters.WIDTH, renditionParameters.getWidth(), config.getMaxRenditionSize());
+            checkMax(RenditionParameters.HEIGHT, renditionParameters.getHeight(), config.getMaxRenditionSize());
+            checkMax(RenditionParameters.DPI, renditionParameters.getDpi(), config.getMaxRenditionDpi());
+            renditionParameters.getQuality();
+            renditionParameters.getImageType();
+        } catch (IllegalArgumentException iae) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, iae.getMessage(), iae);
+        }
+        return renditionParameters;
+    }
+
+    private static void checkMax(String name, Integer value, int max) {
+        if (value != null && value > max) {
+            throw new IllegalArgumentException(String.format("Rendition parameter %s must not be greater than %d", name, max));
+        }
+    }
+
+    /**
+     * Returns the accepted mime type without any rendition parameters, as the type of the rendition.
+     */
+    public static MediaType getRenditionMimeType(MediaType acceptedMimeType) {
+        Map<String, String> parameters = new LinkedHashMap<>(acceptedMimeType.getParameters());
+        if (parameters.keySet().removeAll(PARAMETER_NAMES) == false) {
+            return acceptedMimeType;
+        }
+        return new MediaType(acceptedMimeType, parameters);
+    }
+}
@@ -1,6 +1,9 @@
 package internal.org.springframework.data.rest.extensions.contentsearch;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.springframework.content.commons.annotations.ContentId;
 import org.springframework.content.commons.utils.BeanUtils;
@@ -16,14 +19,16 @@ public class DefaultEntityLookupStrategy {
         RepositoryInvoker invoker = rri.getInvoker();
         Iterable<?> entities = invoker.invokeFindAll(Pageable.unpaged());
 
-        for (Object entity : entities) {
-            for (Object contentId : contentIds) {
+        Set<Object> wanted = new HashSet<>(contentIds);
+        List<Object> matches = new ArrayList<>();
 
-                Object candidate = BeanUtils.getFieldWithAnnotation(entity, ContentId.class);
-                if (contentId.equals(candidate)) {
-                    results.add(entity);
-                }
+        for (Object entity : entities) {
+            Object candidate = BeanUtils.getFieldWithAnnotation(entity, ContentId.class);
+            if (candidate != null && wanted.contains(candidate)) {
+                matches.add(entity);
             }
         }
+
+        results.addAll(FindAllByIdEntityLookupStrategy.inHitOrder(contentIds, matches, (entity) -> BeanUtils.getFieldWithAnnotation(entity, ContentId.class)));
     }
 }
@@ -0,0 +1,163 @@
+package internal.org.springframework.data.rest.extensions.contentsearch;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import org.springframework.content.commons.utils.DomainObjectUtils;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Hydrates search hits into entities by calling {@link CrudRepository#findAllById(Iterable)} in batches.
+ * <p>
+ * When an executor is supplied batches are fetched concurrently.  Batches are always fetched on the calling
+ * thread when it has transactional resources bound (an open transaction or an open-in-view entity manager)
+ * so that hydrated entities remain attached to the caller's persistence context.  As Spring Boot enables
+ * open-in-view by default, applications must set <code>spring.jpa.open-in-view=false</code> for batches to
+ * be fetched concurrently.
+ * <p>
+ * When a transaction manager is supplied each concurrent batch is fetched in its own read-only transaction.  The
+ * entities are therefore detached once returned and any lazy associations must be fetched by the repository.
+ * <p>
+ * Entities are returned in the order of the given ids, regardless of the order the repository returned them in.
+ */
+public class FindAllByIdEntityLookupStrategy {
+
+    public static final int DEFAULT_BATCH_SIZE = 250;
+
+    private static final Method FIND_ALL_BY_ID_METHOD = ReflectionUtils.findMethod(CrudRepository.class, "findAllById", Iterable.class);
+
+    private final Executor executor;
+    private final int batchSize;
+    private TransactionTemplate transactionTemplate;
+
+    public FindAllByIdEntityLookupStrategy() {
+        this(null);
+    }
+
+    public FindAllByIdEntityLookupStrategy(Executor executor) {
+        this(executor, DEFAULT_BATCH_SIZE);
+    }
+
+    public FindAllByIdEntityLookupStrategy(Executor executor, int batchSize) {
+        this.executor = executor;
+        this.batchSize = batchSize;
+    }
+
+    public void setTransactionManager(PlatformTransactionManager transactionManager) {
+        if (transactionManager == null) {
+            this.transactionTemplate = null;
+            return;
+        }
+
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transactionTemplate = template;
+    }
+
+    public void lookup(CrudRepository<?,?> repository, List<Object> entityIds, List<Object> results) {
+
+        List<List<Object>> batches = new ArrayList<>();
+        for (int i=0; i < entityIds.size(); i += batchSize) {
+            batches.add(entityIds.subList(i, Math.min(i + batchSize, entityIds.size())));
+        }
+
+        List<Object> entities = new ArrayList<>(entityIds.size());
+
+        if (executor == null || batches.size() < 2 || hasBoundResources()) {
+            for (List<Object> batch : batches) {
+                entities.addAll(fetch(repository, batch));
+            }
+        } else {
+            List<CompletableFuture<List<Object>>> futures = new ArrayList<>(batches.size());
+            for (List<Object> batch : batches) {
+                futures.add(CompletableFuture.supplyAsync(() -> fetchInTransaction(repository, batch), executor));
+            }
+
+            try {
+                for (CompletableFuture<List<Object>> future : futures) {
+                    entities.addAll(future.join());
+                }
+            } catch (CompletionException ce) {
+                if (ce.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) ce.getCause();
+                }
+                throw ce;
+            }
+        }
+
+        results.addAll(inHitOrder(entityIds, entities, DomainObjectUtils::getId));
+    }
+
+    private List<Object> fetchInTransaction(CrudRepository<?,?> repository, List<Object> ids) {
+        if (transactionTemplate == null) {
+            return fetch(repository, ids);
+        }
+        return transactionTemplate.execute(status -> fetch(repository, ids));
+    }
+
+    private List<Object> fetch(CrudRepository<?,?> repository, List<Object> ids) {
+
+        List<Object> entities = new ArrayList<>(ids.size());
+
+        Iterable<?> fetched = (Iterable<?>) ReflectionUtils.invokeMethod(FIND_ALL_BY_ID_METHOD, repository, ids);
+        if (fetched != null) {
+            for (Object entity : fetched) {
+                entities.add(entity);
+            }
+        }
+
+        return entities;
+    }
+
+    private static boolean hasBoundResources() {
+        return TransactionSynchronizationManager.isActualTransactionActive() || !TransactionSynchronizationManager.getResourceMap().isEmpty();
+    }
+
+    /**
+     * Re-orders entities to match the order of the search hits they were looked up from.  Keys are compared in
+     * their string form so that ids returned by the index as strings match typed entity ids.  Entities whose key
+     * cannot be matched to a hit are appended in the order they were given.
+     */
+    static List<Object> inHitOrder(List<Object> hitKeys, List<Object> entities, Function<Object, Object> keyExtractor) {
+
+        Map<String, Integer> hitIndex = new HashMap<>(hitKeys.size() * 2);
+        for (int i=0; i < hitKeys.size(); i++) {
+            hitIndex.putIfAbsent(String.valueOf(hitKeys.get(i)), i);
+        }
+
+        Object[] ordered = new Object[hitKeys.size()];
+        List<Object> unmatched = new ArrayList<>();
+
+        for (Object entity : entities) {
+            Integer index = hitIndex.get(String.valueOf(keyExtractor.apply(entity)));
+            if (index != null && ordered[index] == null) {
+                ordered[index] = entity;
+            } else {
+                unmatched.add(entity);
+            }
+        }
+
+        List<Object> results = new ArrayList<>(entities.size());
+        for (Object entity : ordered) {
+            if (entity != null) {
+                results.add(entity);
+            }
+        }
+        results.addAll(unmatched);
+
+        return results;
+    }
+}
@@ -1,11 +1,13 @@
 package internal.org.springframework.data.rest.extensions.contentsearch;
 
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import org.springframework.content.commons.annotations.ContentId;
+import org.springframework.content.commons.utils.BeanUtils;
 import org.springframework.content.rest.FulltextEntityLookupQuery;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -20,10 +22,7 @@ public class QueryMethodsEntityLookupStrategy {
 
     public void lookup(RootResourceInformation rri, RepositoryInformation ri, List<Object> contentIds, List<Object> results) {
 
-        Map<Object, Object> contentIdToEntities = new HashMap<>();
-        for (Object contentId : contentIds) {
-            contentIdToEntities.put(contentId, null);
-        }
+        List<Object> matches = new ArrayList<>();
 
         ri.getQueryMethods().stream()
             .filter(m -> m.getAnnotation(FulltextEntityLookupQuery.class) != null)
@@ -41,11 +40,13 @@ public class QueryMethodsEntityLookupStrategy {
                     MultiValueMap<String, ? extends Object> args = new LinkedMultiValueMap<>(map);
                     Optional<Object> partialResults = rri.getInvoker().invokeQueryMethod(m, args, Pageable.unpaged(), Sort.unsorted());
                     if (partialResults.isPresent()) {
-                        results.addAll((List<Object>) partialResults.get());
+                        matches.addAll((List<Object>) partialResults.get());
                     }
 
                     i += 250;
                 }
         });
+
+        results.addAll(FindAllByIdEntityLookupStrategy.inHitOrder(contentIds, matches, (entity) -> BeanUtils.getFieldWithAnnotation(entity, ContentId.class)));
     }
-}
\ No newline at end of file
+}
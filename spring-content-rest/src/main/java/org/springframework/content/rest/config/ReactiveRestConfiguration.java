@@ -0,0 +1,68 @@
+package org.springframework.content.rest.config;
+
+import static org.springframework.web.reactive.function.server.RequestPredicates.DELETE;
+import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
+import static org.springframework.web.reactive.function.server.RequestPredicates.POST;
+import static org.springframework.web.reactive.function.server.RequestPredicates.PUT;
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+import org.springframework.beans.factory.NoSuchBeanDefinitionException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.content.commons.mappingcontext.MappingContext;
+import org.springframework.content.commons.storeservice.Stores;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.util.StringUtils;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import internal.org.springframework.content.commons.storeservice.StoresImpl;
+import internal.org.springframework.content.rest.reactive.ReactiveStoreHandler;
+
+/**
+ * Exports stores that extend {@link org.springframework.content.commons.store.ReactiveContentStore} on WebFlux, at
+ * the same {@code /{store}/{id}/{property}} endpoints as {@link RestConfiguration} exports them on Spring MVC.
+ */
+@Configuration
+public class ReactiveRestConfiguration {
+
+    private static final String STORE_REQUEST_MAPPING = "/{store}/{id}/{*property}";
+
+    @Value("${spring.content.rest.base-uri:${spring.content.rest.baseUri:}}")
+    private String baseUri;
+
+    @Bean
+    Stores stores(ApplicationContext context) {
+        return new StoresImpl(context);
+    }
+
+    @Bean
+    MappingContext mappingContext() {
+        return new MappingContext("/", ".");
+    }
+
+    @Bean
+    ReactiveStoreHandler reactiveStoreHandler(ApplicationContext context, Stores stores, MappingContext mappingContext) {
+
+        Repositories repositories = null;
+        try {
+            repositories = context.getBean(Repositories.class);
+        } catch (NoSuchBeanDefinitionException nsbde) {
+            repositories = new Repositories(context);
+        }
+
+        return new ReactiveStoreHandler(stores, repositories, mappingContext, new DefaultConversionService(), baseUri);
+    }
+
+    @Bean
+    RouterFunction<ServerResponse> reactiveStoreRouterFunction(ReactiveStoreHandler handler) {
+        String pattern = (baseUri != null ? StringUtils.trimTrailingCharacter(baseUri, '/') : "") + STORE_REQUEST_MAPPING;
+        return route(GET(pattern).and(handler::isStoreRequest), handler::getContent)
+                .andRoute(PUT(pattern).and(handler::isStoreRequest), handler::setContent)
+                .andRoute(POST(pattern).and(handler::isStoreRequest), handler::setContent)
+                .andRoute(DELETE(pattern).and(handler::isStoreRequest), handler::unsetContent);
+    }
+}
@@ -51,6 +51,9 @@ public class RestConfiguration implements InitializingBean {
 
     public static boolean FULLY_QUALIFIED_DEFAULTS_DEFAULT = true;
     public static boolean SHORTCUT_LINKS_DEFAULT = true;
+    public static int SEARCH_HYDRATION_CONCURRENCY_DEFAULT = 4;
+    public static int MAX_RENDITION_SIZE_DEFAULT = 8192;
+    public static int MAX_RENDITION_DPI_DEFAULT = 1200;
 
 	private static final URI NO_URI = URI.create("");
 
@@ -64,6 +67,9 @@ public class RestConfiguration implements InitializingBean {
 	private StoreCorsRegistry corsRegistry;
 	private boolean fullyQualifiedLinks = FULLY_QUALIFIED_DEFAULTS_DEFAULT;
     private boolean shortcutLinks = SHORTCUT_LINKS_DEFAULT;
+    private int searchHydrationConcurrency = SEARCH_HYDRATION_CONCURRENCY_DEFAULT;
+    private int maxRenditionSize = MAX_RENDITION_SIZE_DEFAULT;
+    private int maxRenditionDpi = MAX_RENDITION_DPI_DEFAULT;
 	private ConverterRegistry converters = new DefaultConversionService();
 
 	private Map<Class<?>, DomainTypeConfig> domainTypeConfigMap = new HashMap<>();
@@ -100,6 +106,43 @@ public class RestConfiguration implements InitializingBean {
         this.shortcutLinks = shortcutLinks;
     }
 
+    public int getSearchHydrationConcurrency() {
+        return searchHydrationConcurrency;
+    }
+
+    /**
+     * Sets the maximum number of concurrent {@code findAllById} batches used to turn search hits into entities.
+     * A value of 1 or less fetches batches sequentially on the request thread.  Batches are also fetched
+     * sequentially whenever the request thread has a transaction or an open-in-view entity manager bound.
+     */
+    public void setSearchHydrationConcurrency(int searchHydrationConcurrency) {
+        this.searchHydrationConcurrency = searchHydrationConcurrency;
+    }
+
+    public int getMaxRenditionSize() {
+        return maxRenditionSize;
+    }
+
+    /**
+     * Sets the largest width and height, in pixels, that a request may ask a rendition to be rendered at.  Requests
+     * for larger renditions are rejected with a 400.
+     */
+    public void setMaxRenditionSize(int maxRenditionSize) {
+        this.maxRenditionSize = maxRenditionSize;
+    }
+
+    public int getMaxRenditionDpi() {
+        return maxRenditionDpi;
+    }
+
+    /**
+     * Sets the highest resolution that a request may ask a rendition to be rendered at.  Requests for higher
+     * resolutions are rejected with a 400.
+     */
+    public void setMaxRenditionDpi(int maxRenditionDpi) {
+        this.maxRenditionDpi = maxRenditionDpi;
+    }
+
 	public StoreCorsRegistry getCorsRegistry() {
 		return corsRegistry;
 	}
@@ -2,6 +2,8 @@ package org.springframework.data.rest.extensions.contentsearch;
 
 import static java.lang.String.format;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Serializable;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
@@ -12,13 +14,22 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import jakarta.persistence.Id;
+import jakarta.servlet.http.HttpServletResponse;
 
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.content.commons.annotations.ContentId;
 import org.springframework.content.commons.fragments.ParameterTypeAware;
 import org.springframework.content.commons.repository.ContentStore;
+import org.springframework.content.commons.search.ScrollResult;
 import org.springframework.content.commons.search.Searchable;
 import org.springframework.content.commons.storeservice.StoreFilter;
 import org.springframework.content.commons.storeservice.StoreInfo;
@@ -29,6 +40,7 @@ import org.springframework.content.commons.utils.DomainObjectUtils;
 import org.springframework.content.commons.utils.ReflectionService;
 import org.springframework.content.commons.utils.ReflectionServiceImpl;
 import org.springframework.content.rest.FulltextEntityLookupQuery;
+import org.springframework.content.rest.config.RestConfiguration;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -43,18 +55,29 @@ import org.springframework.data.rest.webmvc.RootResourceInformation;
 import org.springframework.data.rest.webmvc.support.DefaultedPageable;
 import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import internal.org.springframework.content.rest.controllers.BadRequestException;
 import internal.org.springframework.content.rest.mappings.ContentHandlerMapping.StoreType;
 import internal.org.springframework.content.rest.utils.ControllerUtils;
 import internal.org.springframework.content.rest.utils.RepositoryUtils;
 import internal.org.springframework.data.rest.extensions.contentsearch.DefaultEntityLookupStrategy;
+import internal.org.springframework.data.rest.extensions.contentsearch.FindAllByIdEntityLookupStrategy;
 import internal.org.springframework.data.rest.extensions.contentsearch.QueryMethodsEntityLookupStrategy;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -62,11 +85,13 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @RepositoryRestController
-public class ContentSearchRestController {
+public class ContentSearchRestController implements DisposableBean {
 
     private static final String ENTITY_CONTENTSEARCH_MAPPING = "/{repository}/searchContent";
     private static final String ENTITY_SEARCHMETHOD_MAPPING = "/{repository}/searchContent/findKeyword";
 
+    private static final int HYDRATION_QUEUE_CAPACITY_PER_THREAD = 16;
+
     private static Map<String, Method> searchMethods = new HashMap<>();
 
     private Repositories repositories;
@@ -74,6 +99,10 @@ public class ContentSearchRestController {
     private PagedResourcesAssembler<Object> pagedResourcesAssembler;
     private DefaultEntityLookupStrategy defaultLookupStrategy;
     private QueryMethodsEntityLookupStrategy qmLookupStrategy;
+    private FindAllByIdEntityLookupStrategy idLookupStrategy;
+    private ExecutorService hydrationExecutor;
+    private PlatformTransactionManager transactionManager;
+    private ObjectMapper streamingObjectMapper;
 
     private ReflectionService reflectionService;
 
@@ -83,6 +112,8 @@ public class ContentSearchRestController {
         put(searchMethods, "findKeyword", ReflectionUtils.findMethod(Searchable.class, "findKeyword", new Class<?>[] { String.class }));
     }
 
+    private static Method scrollMethod = ReflectionUtils.findMethod(Searchable.class, "scroll", new Class<?>[] { String.class, String.class, int.class });
+
     private static void put(Map<String, Method> methods, String key, Method findMethod) {
 
         methods.put(format("%s:%s", key, Arrays.toString(findMethod.getParameterTypes())), findMethod);
@@ -98,6 +129,37 @@ public class ContentSearchRestController {
         this.reflectionService = new ReflectionServiceImpl();
         this.defaultLookupStrategy = new DefaultEntityLookupStrategy();
         this.qmLookupStrategy = new QueryMethodsEntityLookupStrategy();
+        this.idLookupStrategy = new FindAllByIdEntityLookupStrategy();
+        this.streamingObjectMapper = new ObjectMapper();
+    }
+
+    @Autowired(required = false)
+    public void setHalJacksonHttpMessageConverter(@Qualifier("halJacksonHttpMessageConverter") MappingJackson2HttpMessageConverter converter) {
+        this.streamingObjectMapper = converter.getObjectMapper();
+    }
+
+    @Autowired(required = false)
+    public void setRestConfiguration(RestConfiguration config) {
+
+        int concurrency = config.getSearchHydrationConcurrency();
+        if (concurrency > 1) {
+            // a saturated pool hydrates on the request thread rather than queueing without limit
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(concurrency, concurrency, 60L, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(concurrency * HYDRATION_QUEUE_CAPACITY_PER_THREAD),
+                    new CustomizableThreadFactory("content-search-hydration-"),
+                    new ThreadPoolExecutor.CallerRunsPolicy());
+            executor.allowCoreThreadTimeOut(true);
+
+            this.hydrationExecutor = executor;
+            this.idLookupStrategy = new FindAllByIdEntityLookupStrategy(executor);
+            this.idLookupStrategy.setTransactionManager(transactionManager);
+        }
+    }
+
+    @Autowired(required = false)
+    public void setTransactionManager(ObjectProvider<PlatformTransactionManager> transactionManager) {
+        this.transactionManager = transactionManager.getIfUnique();
+        this.idLookupStrategy.setTransactionManager(this.transactionManager);
     }
 
     public void setReflectionService(ReflectionService reflectionService) {
@@ -112,6 +174,17 @@ public class ContentSearchRestController {
         this.qmLookupStrategy = lookupStrategy;
     }
 
+    public void setFindAllByIdEntityLookupStrategy(FindAllByIdEntityLookupStrategy lookupStrategy) {
+        this.idLookupStrategy = lookupStrategy;
+    }
+
+    @Override
+    public void destroy() {
+        if (hydrationExecutor != null) {
+            hydrationExecutor.shutdown();
+        }
+    }
+
     @SuppressWarnings({ "rawtypes", "unchecked" })
     @StoreType("contentstore")
     @ResponseBody
@@ -122,21 +195,139 @@ public class ContentSearchRestController {
             Sort sort,
             PersistentEntityResourceAssembler assembler,
             @PathVariable String repository,
-            @RequestParam(name = "queryString") String queryString) {
+            @RequestParam(name = "queryString") String queryString,
+            @RequestParam(name = "hydrate", defaultValue = "true") boolean hydrate) {
 
-        return searchContentInternal(repoInfo, repository, pageable, sort, assembler, "search", new String[] { queryString });
+        return searchContentInternal(repoInfo, repository, pageable, sort, assembler, "search", new String[] { queryString }, hydrate);
     }
 
     @SuppressWarnings({ "rawtypes", "unchecked" })
     @StoreType("contentstore")
     @ResponseBody
     @RequestMapping(value = ENTITY_SEARCHMETHOD_MAPPING, method = RequestMethod.GET)
-    public CollectionModel<?> searchContent(RootResourceInformation repoInfo, DefaultedPageable pageable, Sort sort, PersistentEntityResourceAssembler assembler, @PathVariable String repository, @RequestParam(name = "keyword") List<String> keywords) {
+    public CollectionModel<?> searchContent(RootResourceInformation repoInfo, DefaultedPageable pageable, Sort sort, PersistentEntityResourceAssembler assembler, @PathVariable String repository, @RequestParam(name = "keyword") List<String> keywords, @RequestParam(name = "hydrate", defaultValue = "true") boolean hydrate) {
+
+        return searchContentInternal(repoInfo, repository, pageable, sort, assembler, "findKeyword", keywords.toArray(new String[] {}), hydrate);
+    }
+
+    @StoreType("contentstore")
+    @ResponseBody
+    @RequestMapping(value = ENTITY_CONTENTSEARCH_MAPPING, method = RequestMethod.GET, params = "cursor")
+    public CollectionModel<?> scrollContent(
+            RootResourceInformation repoInfo,
+            PersistentEntityResourceAssembler assembler,
+            @PathVariable String repository,
+            @RequestParam(name = "queryString") String queryString,
+            @RequestParam(name = "cursor") String cursor,
+            @RequestParam(name = "size", defaultValue = "20") int size,
+            @RequestParam(name = "hydrate", defaultValue = "true") boolean hydrate) {
+
+        StoreInfo info = searchableStoreInfo(repoInfo);
+        ContentStore<Object, Serializable> store = info.getImplementation(ContentStore.class);
+
+        if (size < 1) {
+            throw new BadRequestException(String.format("Invalid size: %s", size));
+        }
+
+        Class<?> returnType = prepareReturnType(info, store);
+
+        ScrollResult<?> scroll = null;
+        try {
+            scroll = (ScrollResult<?>)reflectionService.invokeMethod(scrollMethod, store, queryString, StringUtils.hasLength(cursor) ? cursor : null, size);
+        } catch (IllegalArgumentException iae) {
+            throw new BadRequestException(iae.getMessage());
+        }
+
+        if (scroll == null || scroll.getContent().isEmpty()) {
+            return CollectionModel.empty();
+        }
+
+        final List<Object> results = new ArrayList<>();
+
+        CollectionModel<?> model = null;
+        if (returnType.equals(InternalResult.class) && hydrate) {
+            RepositoryInformation ri = RepositoryUtils.findRepositoryInformation(repositories, repository);
+            hydrate(repoInfo, ri, scroll, results);
+            model = ControllerUtils.toCollectionModel(results, pagedResourcesAssembler, assembler, ri.getDomainType());
+        } else {
+            scroll.forEach(results::add);
+            model = ControllerUtils.toCollectionModel(results, pagedResourcesAssembler, null, results.get(0).getClass());
+        }
+
+        if (scroll.hasNext()) {
+            String next = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("cursor", scroll.getCursor())
+                    .build()
+                    .toUriString();
+            model.add(Link.of(next, IanaLinkRelations.NEXT));
+        }
 
-        return searchContentInternal(repoInfo, repository, pageable, sort, assembler, "findKeyword", keywords.toArray(new String[] {}));
+        return model;
     }
 
-    private CollectionModel<?> searchContentInternal(RootResourceInformation repoInfo, String repository, DefaultedPageable pageable, Sort sort, PersistentEntityResourceAssembler assembler, String searchMethod, String[] keywords) {
+    /**
+     * Streams every result of a search as newline delimited JSON, one HAL entity (or index result when hydration is
+     * not requested) per line.  The search is paged through with {@link Searchable#scroll(String, String, int)} and
+     * each page is flushed to the client as soon as it is hydrated, so only one page is held in memory at a time.
+     */
+    @StoreType("contentstore")
+    @RequestMapping(value = ENTITY_CONTENTSEARCH_MAPPING, method = RequestMethod.GET, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void streamContent(
+            RootResourceInformation repoInfo,
+            PersistentEntityResourceAssembler assembler,
+            @PathVariable String repository,
+            @RequestParam(name = "queryString") String queryString,
+            @RequestParam(name = "size", defaultValue = "100") int size,
+            @RequestParam(name = "hydrate", defaultValue = "true") boolean hydrate,
+            HttpServletResponse response) throws IOException {
+
+        StoreInfo info = searchableStoreInfo(repoInfo);
+        ContentStore<Object, Serializable> store = info.getImplementation(ContentStore.class);
+
+        if (size < 1) {
+            throw new BadRequestException(String.format("Invalid size: %s", size));
+        }
+
+        Class<?> returnType = prepareReturnType(info, store);
+        boolean hydrateResults = returnType.equals(InternalResult.class) && hydrate;
+
+        RepositoryInformation ri = RepositoryUtils.findRepositoryInformation(repositories, repository);
+
+        // without a lookup query every page would be hydrated by scanning the whole repository
+        if (hydrateResults && !isIdFieldOverloaded(repoInfo.getDomainType()) && !hasFulltextEntityLookupQuery(ri)) {
+            throw new BadRequestException(String.format("Streaming search results of %s requires a @FulltextEntityLookupQuery or hydrate=false", repoInfo.getDomainType().getSimpleName()));
+        }
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        OutputStream out = response.getOutputStream();
+
+        String cursor = null;
+        do {
+            ScrollResult<?> scroll = (ScrollResult<?>)reflectionService.invokeMethod(scrollMethod, store, queryString, cursor, size);
+            if (scroll == null) {
+                break;
+            }
+
+            List<Object> results = new ArrayList<>();
+            if (hydrateResults) {
+                hydrate(repoInfo, ri, scroll, results);
+            } else {
+                scroll.forEach(results::add);
+            }
+
+            for (Object result : results) {
+                Object value = (hydrateResults && assembler != null ? assembler.toModel(result) : result);
+                out.write(streamingObjectMapper.writeValueAsBytes(value));
+                out.write('\n');
+            }
+            out.flush();
+
+            cursor = scroll.getCursor();
+        } while (cursor != null);
+    }
+
+    private StoreInfo searchableStoreInfo(RootResourceInformation repoInfo) {
 
         StoreInfo[] infos = stores.getStores(ContentStore.class, new StoreFilter() {
             @Override
@@ -165,16 +356,10 @@ public class ContentSearchRestController {
             throw new ResourceNotFoundException("Entity content is not searchable");
         }
 
-        Class<?>[] searchMethodArgTypes = (pageable.unpagedIfDefault().isUnpaged() ? new Class<?>[] {String.class} : new Class<?>[] {String.class, Pageable.class} );
-        Method method = searchMethods.get(format("%s:%s", searchMethod, Arrays.toString(searchMethodArgTypes)));
-
-        if (method == null) {
-            throw new BadRequestException(String.format("Invalid search: %s", searchMethod));
-        }
+        return info;
+    }
 
-        if (keywords == null || keywords.length == 0) {
-            throw new BadRequestException();
-        }
+    private Class<?> prepareReturnType(StoreInfo info, ContentStore<Object, Serializable> store) {
 
         Class<?> returnType = returnType(info);
         if (ContentPropertyUtils.isPrimitiveContentPropertyClass(returnType)) {
@@ -186,6 +371,26 @@ public class ContentSearchRestController {
 
             returnType = InternalResult.class;
         }
+        return returnType;
+    }
+
+    private CollectionModel<?> searchContentInternal(RootResourceInformation repoInfo, String repository, DefaultedPageable pageable, Sort sort, PersistentEntityResourceAssembler assembler, String searchMethod, String[] keywords, boolean hydrate) {
+
+        StoreInfo info = searchableStoreInfo(repoInfo);
+        ContentStore<Object, Serializable> store = info.getImplementation(ContentStore.class);
+
+        Class<?>[] searchMethodArgTypes = (pageable.unpagedIfDefault().isUnpaged() ? new Class<?>[] {String.class} : new Class<?>[] {String.class, Pageable.class} );
+        Method method = searchMethods.get(format("%s:%s", searchMethod, Arrays.toString(searchMethodArgTypes)));
+
+        if (method == null) {
+            throw new BadRequestException(String.format("Invalid search: %s", searchMethod));
+        }
+
+        if (keywords == null || keywords.length == 0) {
+            throw new BadRequestException();
+        }
+
+        Class<?> returnType = prepareReturnType(info, store);
 
         Object[] argValues = (pageable.unpagedIfDefault().isUnpaged()) ? new String[] {keywords[0]} : new Object[] {keywords[0], pageable.getPageable()};
         Iterable<?> intermediateResults = (Iterable<?>)reflectionService.invokeMethod(method, store, argValues);
@@ -199,54 +404,66 @@ public class ContentSearchRestController {
         RepositoryInformation ri = RepositoryUtils.findRepositoryInformation(repositories, repository);
         Class<?> domainClass = ri.getDomainType();
 
-        if (returnType.equals(InternalResult.class)) {
+        // when hydration is not requested the index attributes are returned as-is
+        if (returnType.equals(InternalResult.class) && hydrate) {
 
-            boolean idFieldEqualsContentIdField = isIdFieldOverloaded(repoInfo.getDomainType());
+            hydrate(repoInfo, ri, intermediateResults, results);
 
-            List<Object> entityIds = new ArrayList<>();
-            List<Object> contentIds = new ArrayList<>();
+            Iterable<?> wrappedResults = convertToFinalResultType(results, pageable, intermediateResults);
+            return ControllerUtils.toCollectionModel(wrappedResults, pagedResourcesAssembler, assembler, domainClass);
+        } else {
+            intermediateResults.forEach(results::add);
+            Iterable<?> wrappedResults = convertToFinalResultType(results, pageable, intermediateResults);
+            return ControllerUtils.toCollectionModel(wrappedResults, pagedResourcesAssembler, null, results.get(0).getClass());
+        }
+    }
 
-            for (Object tempResult : intermediateResults) {
-                InternalResult internalResult = (InternalResult)tempResult;
-                if (internalResult.getId() != null) {
-                    entityIds.add(internalResult.getId());
-                } else if (idFieldEqualsContentIdField) {
-                    entityIds.add(internalResult.getContentId());
-                } else if (internalResult.getContentId() != null) {
-                    contentIds.add(internalResult.getContentId());
-                }
-            }
+    private void hydrate(RootResourceInformation repoInfo, RepositoryInformation ri, Iterable<?> intermediateResults, List<Object> results) {
+
+        Class<?> domainClass = ri.getDomainType();
 
-            if (entityIds.size() > 0) {
-                repositories.getRepositoryFor(domainClass).ifPresent(r -> {
+        boolean idFieldEqualsContentIdField = isIdFieldOverloaded(repoInfo.getDomainType());
 
-                    fetchEntitiesInBatches((CrudRepository<?,?>)r, entityIds, results);
-                });
+        List<Object> entityIds = new ArrayList<>();
+        List<Object> contentIds = new ArrayList<>();
+
+        for (Object tempResult : intermediateResults) {
+            InternalResult internalResult = (InternalResult)tempResult;
+            if (internalResult.getId() != null) {
+                entityIds.add(internalResult.getId());
+            } else if (idFieldEqualsContentIdField) {
+                entityIds.add(internalResult.getContentId());
+            } else if (internalResult.getContentId() != null) {
+                contentIds.add(internalResult.getContentId());
             }
+        }
 
-            if (contentIds.size() > 0) {
-                if (ri != null) {
-                    if (ri.getQueryMethods()
-                            .filter(m -> m.getAnnotation(FulltextEntityLookupQuery.class) != null)
-                            .isEmpty()) {
+        if (entityIds.size() > 0) {
+            repositories.getRepositoryFor(domainClass).ifPresent(r -> {
 
-                        defaultLookupStrategy.lookup(repoInfo, ri, contentIds, results);
-                    } else {
+                idLookupStrategy.lookup((CrudRepository<?,?>)r, entityIds, results);
+            });
+        }
 
-                        qmLookupStrategy.lookup(repoInfo, ri, contentIds, results);
-                    }
+        if (contentIds.size() > 0) {
+            if (ri != null) {
+                if (!hasFulltextEntityLookupQuery(ri)) {
+
+                    defaultLookupStrategy.lookup(repoInfo, ri, contentIds, results);
+                } else {
+
+                    qmLookupStrategy.lookup(repoInfo, ri, contentIds, results);
                 }
             }
-
-            Iterable<?> wrappedResults = convertToFinalResultType(results, pageable, intermediateResults);
-            return ControllerUtils.toCollectionModel(wrappedResults, pagedResourcesAssembler, assembler, domainClass);
-        } else {
-            intermediateResults.forEach(results::add);
-            Iterable<?> wrappedResults = convertToFinalResultType(results, pageable, intermediateResults);
-            return ControllerUtils.toCollectionModel(wrappedResults, pagedResourcesAssembler, null, results.get(0).getClass());
         }
     }
 
+    private static boolean hasFulltextEntityLookupQuery(RepositoryInformation ri) {
+        return ri != null && !ri.getQueryMethods()
+                .filter(m -> m.getAnnotation(FulltextEntityLookupQuery.class) != null)
+                .isEmpty();
+    }
+
     private Iterable<?> convertToFinalResultType(List<Object> results, DefaultedPageable pageable, Iterable intermediateResults) {
 
         if (pageable.unpagedIfDefault().isUnpaged()) {
@@ -260,23 +477,7 @@ public class ContentSearchRestController {
 
     public static void fetchEntitiesInBatches(CrudRepository<?,?> r, List entityIds, List results) {
 
-        int size = entityIds.size();
-
-        Method findAllByIdMethod = ReflectionUtils.findMethod(CrudRepository.class, "findAllById", Iterable.class);
-
-        for (int i=0; i < size; ) {
-            int lowerbound = i;
-            int upperbound = (lowerbound + 250 <= entityIds.size() ? lowerbound + 250 : size);
-
-            List<Object> subset = entityIds.subList(lowerbound, upperbound);
-
-            Iterable<?> entities = (Iterable<?>) ReflectionUtils.invokeMethod(findAllByIdMethod, r, subset);
-            for (Object entity : entities) {
-                results.add(entity);
-            }
-
-            i += 250;
-        }
+        new FindAllByIdEntityLookupStrategy().lookup(r, entityIds, results);
     }
 
     private Class<?> returnType(StoreInfo info) {
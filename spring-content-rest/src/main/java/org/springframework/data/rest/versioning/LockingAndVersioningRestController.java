@@ -2,12 +2,21 @@ package org.springframework.data.rest.versioning;
 
 import java.lang.reflect.Method;
 import java.security.Principal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.content.commons.utils.ReflectionService;
 import org.springframework.content.commons.utils.ReflectionServiceImpl;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.core.RepositoryInformation;
 import org.springframework.data.repository.support.Repositories;
 import org.springframework.data.rest.core.mapping.ResourceMetadata;
@@ -15,12 +24,14 @@ import org.springframework.data.rest.webmvc.PersistentEntityResourceAssembler;
 import org.springframework.data.rest.webmvc.RepositoryRestController;
 import org.springframework.data.rest.webmvc.ResourceNotFoundException;
 import org.springframework.data.rest.webmvc.RootResourceInformation;
+import org.springframework.data.rest.webmvc.support.DefaultedPageable;
 import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.ReflectionUtils;
+import org.springframework.versions.LockAllException;
 import org.springframework.versions.LockingAndVersioningRepository;
 import org.springframework.versions.VersionInfo;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
@@ -37,21 +48,31 @@ import internal.org.springframework.content.rest.utils.RepositoryUtils;
 public class LockingAndVersioningRestController {
 
 	private static final String ENTITY_LOCK_MAPPING = "/{repository}/{id}/lock";
+	private static final String ENTITY_LOCKALL_MAPPING = "/{repository}/lockAll";
+	private static final String ENTITY_UNLOCKALL_MAPPING = "/{repository}/unlockAll";
 	private static final String ENTITY_VERSION_MAPPING = "/{repository}/{id}/version";
 	private static final String ENTITY_FINDALLLATESTVERSION_MAPPING = "/{repository}/findAllVersionsLatest";
 	private static final String FINDALLVERSIONS_METHOD_MAPPING = "/{repository}/{id}/findAllVersions";
 
 	private static Method LOCK_METHOD = null;
 	private static Method UNLOCK_METHOD = null;
+	private static Method LOCKALL_METHOD = null;
+	private static Method UNLOCKALL_METHOD = null;
+	private static Method FINDALLBYID_METHOD = null;
 	private static Method VERSION_METHOD = null;
 	private static Method FINDALLLATESTVERSION_METHOD = null;
+	private static Method FINDALLLATESTVERSION_PAGED_METHOD = null;
 	private static Method FINDALLVERSIONS_METHOD = null;
 
 	static {
 		LOCK_METHOD = ReflectionUtils.findMethod(LockingAndVersioningRepository.class, "lock", Object.class);
 		UNLOCK_METHOD = ReflectionUtils.findMethod(LockingAndVersioningRepository.class, "unlock", Object.class);
+		LOCKALL_METHOD = ReflectionUtils.findMethod(LockingAndVersioningRepository.class, "lockAll", Iterable.class);
+		UNLOCKALL_METHOD = ReflectionUtils.findMethod(LockingAndVersioningRepository.class, "unlockAll", Iterable.class);
+		FINDALLBYID_METHOD = ReflectionUtils.findMethod(CrudRepository.class, "findAllById", Iterable.class);
 		VERSION_METHOD = ReflectionUtils.findMethod(LockingAndVersioningRepository.class, "version", Object.class, VersionInfo.class);
 		FINDALLLATESTVERSION_METHOD = ReflectionUtils.findMethod(LockingAndVersioningRepository.class, "findAllVersionsLatest", Class.class);
+		FINDALLLATESTVERSION_PAGED_METHOD = ReflectionUtils.findMethod(LockingAndVersioningRepository.class, "findAllVersionsLatest", Class.class, Pageable.class);
 		FINDALLVERSIONS_METHOD = ReflectionUtils.findMethod(LockingAndVersioningRepository.class, "findAllVersions", Object.class, Sort.class);
 	}
 
@@ -109,6 +130,54 @@ public class LockingAndVersioningRestController {
 		}
 	}
 
+	@ResponseBody
+	@RequestMapping(value = ENTITY_LOCKALL_MAPPING, method = RequestMethod.PUT)
+	public ResponseEntity<?> lockAll(@PathVariable String repository,
+									 @RequestBody List<String> ids,
+									 Principal principal)
+			throws ResourceNotFoundException, HttpRequestMethodNotSupportedException {
+
+		return invokeAll(LOCKALL_METHOD, repository, ids);
+	}
+
+	@ResponseBody
+	@RequestMapping(value = ENTITY_UNLOCKALL_MAPPING, method = RequestMethod.PUT)
+	public ResponseEntity<?> unlockAll(@PathVariable String repository,
+									   @RequestBody List<String> ids,
+									   Principal principal)
+			throws ResourceNotFoundException, HttpRequestMethodNotSupportedException {
+
+		return invokeAll(UNLOCKALL_METHOD, repository, ids);
+	}
+
+	private ResponseEntity<?> invokeAll(Method method, String repository, List<String> ids) {
+
+		RepositoryInformation repositoryInfo = RepositoryUtils.findRepositoryInformation(repositories, repository);
+		Object repo = repositories.getRepositoryFor(repositoryInfo.getDomainType()).get();
+
+		Set<Object> entityIds = new LinkedHashSet<>(ids.size());
+		for (String id : ids) {
+			entityIds.add(DefaultConversionService.getSharedInstance().convert(id, repositoryInfo.getIdType()));
+		}
+
+		List<Object> domainObjs = new ArrayList<>(entityIds.size());
+		((Iterable<?>) ReflectionUtils.invokeMethod(FINDALLBYID_METHOD, repo, entityIds)).forEach(domainObjs::add);
+		if (domainObjs.size() != entityIds.size()) {
+			throw new ResourceNotFoundException();
+		}
+
+		try {
+			ReflectionUtils.invokeMethod(method, repo, domainObjs);
+		} catch (LockAllException lae) {
+			Map<String, Object> body = new LinkedHashMap<>();
+			body.put("message", lae.getMessage());
+			body.put("failures", lae.getFailures());
+			return ResponseEntity.status(HttpStatus.CONFLICT).body(body);
+		}
+
+		return ResponseEntity.ok().build();
+	}
+
 	@ResponseBody
 	@RequestMapping(value = ENTITY_VERSION_MAPPING, method = RequestMethod.PUT)
 	public ResponseEntity<EntityModel<?>>  version(RootResourceInformation repoInfo,
@@ -134,13 +203,19 @@ public class LockingAndVersioningRestController {
 	@RequestMapping(value = ENTITY_FINDALLLATESTVERSION_MAPPING, method = RequestMethod.GET)
 	public CollectionModel<?>  findAllLatestVersion(RootResourceInformation repoInfo,
 												  PersistentEntityResourceAssembler assembler,
-												  @PathVariable String repository)
+												  @PathVariable String repository,
+												  DefaultedPageable pageable)
 			throws ResourceNotFoundException, HttpRequestMethodNotSupportedException {
 
 			RepositoryInformation repositoryInfo = RepositoryUtils.findRepositoryInformation(repositories, repository);
 			Class<?> domainType = repositoryInfo.getDomainType();
 
-			List results = (List)ReflectionUtils.invokeMethod(FINDALLLATESTVERSION_METHOD, repositories.getRepositoryFor(domainType).get(), domainType);
+			Iterable results;
+			if (pageable == null || pageable.isDefault()) {
+				results = (List)ReflectionUtils.invokeMethod(FINDALLLATESTVERSION_METHOD, repositories.getRepositoryFor(domainType).get(), domainType);
+			} else {
+				results = (Page)ReflectionUtils.invokeMethod(FINDALLLATESTVERSION_PAGED_METHOD, repositories.getRepositoryFor(domainType).get(), domainType, pageable.getPageable());
+			}
 
 	        ResourceMetadata metadata = repoInfo.getResourceMetadata();
 	        CollectionModel<?> result = ControllerUtils.toCollectionModel(results, pagedResourcesAssembler, assembler, metadata.getDomainType());
@@ -0,0 +1,340 @@
+package internal.org.springframework.content.rest.reactive;
+
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.*;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.junit.runner.RunWith;
+import org.springframework.content.commons.annotations.ContentId;
+import org.springframework.content.commons.annotations.ContentLength;
+import org.springframework.content.commons.annotations.MimeType;
+import org.springframework.content.commons.mappingcontext.MappingContext;
+import org.springframework.content.commons.property.PropertyPath;
+import org.springframework.content.commons.store.ReactiveContentStore;
+import org.springframework.content.commons.storeservice.StoreFilter;
+import org.springframework.content.commons.storeservice.StoreInfo;
+import org.springframework.content.commons.storeservice.Stores;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.HttpMessageWriter;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.reactive.result.view.ViewResolver;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.github.paulcwarren.ginkgo4j.Ginkgo4jRunner;
+
+import jakarta.persistence.Version;
+import lombok.Getter;
+import lombok.Setter;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@SuppressWarnings({ "rawtypes", "unchecked" })
+@RunWith(Ginkgo4jRunner.class)
+public class ReactiveStoreHandlerTest {
+
+    private ReactiveStoreHandler handler;
+
+    private Stores stores;
+    private StoreInfo info;
+    private Repositories repositories;
+    private CrudRepository repository;
+    private InMemoryReactiveStore store;
+
+    private TestEntity entity;
+    private MockServerWebExchange exchange;
+    private ServerResponse response;
+    private Exception e;
+
+    {
+        Describe("ReactiveStoreHandler", () -> {
+
+            BeforeEach(() -> {
+                stores = mock(Stores.class);
+                info = mock(StoreInfo.class);
+                repositories = mock(Repositories.class);
+                repository = mock(CrudRepository.class);
+                store = new InMemoryReactiveStore();
+
+                when(stores.getStore(eq(ReactiveContentStore.class), any(StoreFilter.class))).thenAnswer(invocation -> {
+                    StoreFilter filter = invocation.getArgument(1);
+                    return "testEntities".equals(filter.name()) ? info : null;
+                });
+                when(info.getDomainObjectClass()).thenReturn((Class) TestEntity.class);
+                when(info.getImplementation(ReactiveContentStore.class)).thenReturn(store);
+
+                RepositoryInformation ri = mock(RepositoryInformation.class);
+                when(ri.getIdType()).thenReturn((Class) String.class);
+                when(repositories.getRepositoryFor(TestEntity.class)).thenReturn(Optional.of(repository));
+                when(repositories.getRepositoryInformationFor(TestEntity.class)).thenReturn(Optional.of(ri));
+                when(repository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+                entity = new TestEntity();
+                entity.setId("123");
+                entity.setVersion(1L);
+                when(repository.findById("123")).thenReturn(Optional.of(entity));
+
+                handler = new ReactiveStoreHandler(stores, repositories, new MappingContext("/", "."), new DefaultConversionService(), "");
+            });
+
+            Context("#isStoreRequest", () -> {
+                It("should match requests for exported reactive stores", () -> {
+                    assertThat(handler.isStoreRequest(request(MockServerHttpRequest.get("/testEntities/123/content"))), is(true));
+                    assertThat(handler.isStoreRequest(request(MockServerHttpRequest.get("/testEntities/123"))), is(true));
+                });
+                It("should not match requests for other paths", () -> {
+                    assertThat(handler.isStoreRequest(request(MockServerHttpRequest.get("/others/123/content"))), is(false));
+                    assertThat(handler.isStoreRequest(request(MockServerHttpRequest.get("/testEntities"))), is(false));
+                });
+            });
+
+            Context("#getContent", () -> {
+                BeforeEach(() -> {
+                    entity.setContentId(UUID.randomUUID().toString());
+                    entity.setContentLen(29L);
+                    entity.setContentMimeType("text/plain");
+                    store.put(entity.getContentId(), "Hello reactive content world!");
+                });
+
+                It("should stream the content", () -> {
+                    handle(handler::getContent, MockServerHttpRequest.get("/testEntities/123/content"));
+
+                    assertThat(response.statusCode(), is(HttpStatus.OK));
+                    assertThat(exchange.getResponse().getHeaders().getContentType().toString(), is("text/plain"));
+                    assertThat(exchange.getResponse().getHeaders().getContentLength(), is(29L));
+                    assertThat(exchange.getResponse().getHeaders().getFirst("Accept-Ranges"), is("bytes"));
+                    assertThat(exchange.getResponse().getHeaders().getETag(), is("\"1\""));
+                    assertThat(exchange.getResponse().getBodyAsString().block(), is("Hello reactive content world!"));
+                });
+
+                It("should resolve the primary content property when no property is given", () -> {
+                    handle(handler::getContent, MockServerHttpRequest.get("/testEntities/123"));
+
+                    assertThat(exchange.getResponse().getBodyAsString().block(), is("Hello reactive content world!"));
+                });
+
+                Context("given a range", () -> {
+                    It("should stream only the requested bytes", () -> {
+                        handle(handler::getContent, MockServerHttpRequest.get("/testEntities/123/content").header("Range", "bytes=6-21"));
+
+                        assertThat(response.statusCode(), is(HttpStatus.PARTIAL_CONTENT));
+                        assertThat(exchange.getResponse().getHeaders().getFirst("Content-Range"), is("bytes 6-21/29"));
+                        assertThat(exchange.getResponse().getHeaders().getContentLength(), is(16L));
+                        assertThat(exchange.getResponse().getBodyAsString().block(), is("reactive content"));
+                    });
+                    It("should stream a suffix range", () -> {
+                        handle(handler::getContent, MockServerHttpRequest.get("/testEntities/123/content").header("Range", "bytes=-6"));
+
+                        assertThat(exchange.getResponse().getHeaders().getFirst("Content-Range"), is("bytes 23-28/29"));
+                        assertThat(exchange.getResponse().getBodyAsString().block(), is("world!"));
+                    });
+                    It("should reject a range that starts beyond the content", () -> {
+                        handle(handler::getContent, MockServerHttpRequest.get("/testEntities/123/content").header("Range", "bytes=100-200"));
+
+                        assertThat(response.statusCode(), is(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE));
+                        assertThat(exchange.getResponse().getHeaders().getFirst("Content-Range"), is("bytes */29"));
+                    });
+                    It("should ignore the range when If-Range does not match", () -> {
+                        handle(handler::getContent, MockServerHttpRequest.get("/testEntities/123/content").header("Range", "bytes=6-21").header("If-Range", "\"0\""));
+
+                        assertThat(response.statusCode(), is(HttpStatus.OK));
+                        assertThat(exchange.getResponse().getBodyAsString().block(), is("Hello reactive content world!"));
+                    });
+                });
+
+                Context("given a matching If-None-Match", () -> {
+                    It("should respond not modified", () -> {
+                        handle(handler::getContent, MockServerHttpRequest.get("/testEntities/123/content").ifNoneMatch("\"1\""));
+
+                        assertThat(response.statusCode(), is(HttpStatus.NOT_MODIFIED));
+                    });
+                });
+
+                Context("given the entity has no content", () -> {
+                    BeforeEach(() -> {
+                        entity.setContentId(null);
+                    });
+                    It("should respond not found", () -> {
+                        handle(handler::getContent, MockServerHttpRequest.get("/testEntities/123/content"));
+
+                        assertThat(response.statusCode(), is(HttpStatus.NOT_FOUND));
+                    });
+                });
+
+                Context("given the entity does not exist", () -> {
+                    It("should respond not found", () -> {
+                        handle(handler::getContent, MockServerHttpRequest.get("/testEntities/999/content"));
+
+                        assertThat(response.statusCode(), is(HttpStatus.NOT_FOUND));
+                    });
+                });
+            });
+
+            Context("#setContent", () -> {
+                It("should store the content and respond created", () -> {
+                    handle(handler::setContent, MockServerHttpRequest.put("/testEntities/123/content").contentType(MediaType.TEXT_PLAIN).body("Hello reactive content world!"));
+
+                    assertThat(response.statusCode(), is(HttpStatus.CREATED));
+                    assertThat(entity.getContentId(), is(not(nullValue())));
+                    assertThat(entity.getContentMimeType(), is("text/plain"));
+                    assertThat(store.get(entity.getContentId()), is("Hello reactive content world!"));
+                    verify(repository).save(entity);
+                });
+
+                Context("given existing content", () -> {
+                    BeforeEach(() -> {
+                        entity.setContentId(UUID.randomUUID().toString());
+                        store.put(entity.getContentId(), "Hello");
+                    });
+                    It("should replace the content and respond ok", () -> {
+                        handle(handler::setContent, MockServerHttpRequest.put("/testEntities/123/content").body("Hello reactive content world!"));
+
+                        assertThat(response.statusCode(), is(HttpStatus.OK));
+                        assertThat(store.get(entity.getContentId()), is("Hello reactive content world!"));
+                    });
+                    It("should fail when If-Match does not match", () -> {
+                        handle(handler::setContent, MockServerHttpRequest.put("/testEntities/123/content").ifMatch("\"0\"").body("Hello reactive content world!"));
+
+                        assertThat(e, is(not(nullValue())));
+                        assertThat(((ResponseStatusException) e).getStatusCode(), is(HttpStatus.PRECONDITION_FAILED));
+                        assertThat(store.get(entity.getContentId()), is("Hello"));
+                    });
+                });
+            });
+
+            Context("#unsetContent", () -> {
+                BeforeEach(() -> {
+                    entity.setContentId(UUID.randomUUID().toString());
+                    entity.setContentMimeType("text/plain");
+                    store.put(entity.getContentId(), "Hello");
+                });
+                It("should delete the content and respond no content", () -> {
+                    String contentId = entity.getContentId();
+
+                    handle(handler::unsetContent, MockServerHttpRequest.delete("/testEntities/123/content"));
+
+                    assertThat(response.statusCode(), is(HttpStatus.NO_CONTENT));
+                    assertThat(store.get(contentId), is(nullValue()));
+                    assertThat(entity.getContentId(), is(nullValue()));
+                    assertThat(entity.getContentMimeType(), is(nullValue()));
+                    verify(repository).save(entity);
+                });
+            });
+        });
+    }
+
+    private static ServerRequest request(MockServerHttpRequest.BaseBuilder<?> builder) {
+        return ServerRequest.create(MockServerWebExchange.from(builder), HandlerStrategies.withDefaults().messageReaders());
+    }
+
+    private void handle(Function<ServerRequest, Mono<ServerResponse>> handlerFunction, MockServerHttpRequest.BaseBuilder<?> builder) {
+        handle(handlerFunction, builder.build());
+    }
+
+    private void handle(Function<ServerRequest, Mono<ServerResponse>> handlerFunction, MockServerHttpRequest request) {
+        exchange = MockServerWebExchange.from(request);
+        try {
+            response = handlerFunction.apply(ServerRequest.create(exchange, HandlerStrategies.withDefaults().messageReaders())).block();
+            response.writeTo(exchange, new ServerResponse.Context() {
+                @Override
+                public List<HttpMessageWriter<?>> messageWriters() {
+                    return HandlerStrategies.withDefaults().messageWriters();
+                }
+                @Override
+                public List<ViewResolver> viewResolvers() {
+                    return Collections.emptyList();
+                }
+            }).block();
+        } catch (Exception e) {
+            this.e = e;
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class TestEntity {
+        private String id;
+        private @Version Long version;
+        private @ContentId String contentId;
+        private @ContentLength Long contentLen;
+        private @MimeType String contentMimeType;
+    }
+
+    // serves content four bytes at a time so ranges exercise the default, skipping implementation
+    public static class InMemoryReactiveStore implements ReactiveContentStore<TestEntity, String> {
+
+        private final Map<String, byte[]> contents = new HashMap<>();
+
+        void put(String id, String content) {
+            contents.put(id, content.getBytes(StandardCharsets.UTF_8));
+        }
+
+        String get(String id) {
+            byte[] content = contents.get(id);
+            return content != null ? new String(content, StandardCharsets.UTF_8) : null;
+        }
+
+        @Override
+        public Mono<TestEntity> setContent(TestEntity entity, PropertyPath path, long contentLen, Flux<ByteBuffer> buffer) {
+            return buffer.reduce(new ByteArrayOutputStream(), (out, b) -> {
+                byte[] bytes = new byte[b.remaining()];
+                b.get(bytes);
+                out.write(bytes, 0, bytes.length);
+                return out;
+            }).map(out -> {
+                if (entity.getContentId() == null) {
+                    entity.setContentId(UUID.randomUUID().toString());
+                }
+                contents.put(entity.getContentId(), out.toByteArray());
+                entity.setContentLen((long) out.size());
+                return entity;
+            });
+        }
+
+        @Override
+        public Flux<ByteBuffer> getContent(TestEntity entity, PropertyPath path) {
+            byte[] content = contents.get(entity.getContentId());
+            if (content == null) {
+                return Flux.empty();
+            }
+            return Flux.range(0, (content.length + 3) / 4)
+                    .map(i -> ByteBuffer.wrap(content, i * 4, Math.min(4, content.length - i * 4)).slice());
+        }
+
+        @Override
+        public Mono<TestEntity> unsetContent(TestEntity entity, PropertyPath path) {
+            return Mono.fromCallable(() -> {
+                contents.remove(entity.getContentId());
+                entity.setContentId(null);
+                entity.setContentLen(0L);
+                return entity;
+            });
+        }
+    }
+}
@@ -2,6 +2,7 @@ package internal.org.springframework.content.rest.support;
 
 import internal.org.springframework.content.rest.support.config.JpaInfrastructureConfig;
 import org.apache.commons.io.IOUtils;
+import org.springframework.content.commons.renditions.RenditionParameters;
 import org.springframework.content.commons.renditions.RenditionProvider;
 import org.springframework.content.fs.config.EnableFilesystemStores;
 import org.springframework.content.fs.io.FileSystemResourceLoader;
@@ -73,6 +74,21 @@ public class FullyQualifiedLinksConfig extends JpaInfrastructureConfig {
                 return new ByteArrayInputStream(
                         String.format("<html><body>%s</body></html>", input).getBytes());
             }
+
+            @Override
+            public InputStream convert(InputStream fromInputSource, String toMimeType, RenditionParameters parameters) {
+                if (parameters.isEmpty()) {
+                    return convert(fromInputSource, toMimeType);
+                }
+                String input = null;
+                try {
+                    input = IOUtils.toString(fromInputSource);
+                }
+                catch (IOException e) {
+                }
+                return new ByteArrayInputStream(
+                        String.format("<html><body title=\"%s\">%s</body></html>", parameters.asMap(), input).getBytes());
+            }
         };
     }
 
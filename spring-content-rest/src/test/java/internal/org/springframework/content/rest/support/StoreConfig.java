@@ -6,6 +6,7 @@ import java.io.IOException;
 import java.io.InputStream;
 
 import org.apache.commons.io.IOUtils;
+import org.springframework.content.commons.renditions.RenditionParameters;
 import org.springframework.content.commons.renditions.RenditionProvider;
 import org.springframework.content.fs.config.EnableFilesystemStores;
 import org.springframework.content.fs.io.FileSystemResourceLoader;
@@ -91,6 +92,21 @@ public class StoreConfig extends JpaInfrastructureConfig {
 				return new ByteArrayInputStream(
 						String.format("<html><body>%s</body></html>", input).getBytes());
 			}
+
+			@Override
+			public InputStream convert(InputStream fromInputSource, String toMimeType, RenditionParameters parameters) {
+				if (parameters.isEmpty()) {
+					return convert(fromInputSource, toMimeType);
+				}
+				String input = null;
+				try {
+					input = IOUtils.toString(fromInputSource);
+				}
+				catch (IOException e) {
+				}
+				return new ByteArrayInputStream(
+						String.format("<html><body title=\"%s\">%s</body></html>", parameters.asMap(), input).getBytes());
+			}
 		};
 	}
 
@@ -0,0 +1,160 @@
+package internal.org.springframework.data.rest.extensions.contentsearch;
+
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.AfterEach;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.BeforeEach;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.Context;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.Describe;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.It;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.JustBeforeEach;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import jakarta.persistence.Id;
+
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.paulcwarren.ginkgo4j.Ginkgo4jRunner;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@SuppressWarnings({ "rawtypes", "unchecked" })
+@RunWith(Ginkgo4jRunner.class)
+public class FindAllByIdEntityLookupStrategyTest {
+
+    private FindAllByIdEntityLookupStrategy strategy;
+
+    private ExecutorService executor;
+    private CrudRepository repository;
+    private PlatformTransactionManager transactionManager;
+
+    private List<Object> ids;
+    private List<Object> results;
+    private List<String> fetchingThreads;
+
+    {
+        Describe("FindAllByIdEntityLookupStrategy", () -> {
+            BeforeEach(() -> {
+                executor = Executors.newFixedThreadPool(2, new CustomizableThreadFactory("hydration-test-"));
+
+                fetchingThreads = Collections.synchronizedList(new ArrayList<>());
+
+                repository = mock(CrudRepository.class);
+                when(repository.findAllById(any())).thenAnswer(invocation -> {
+                    fetchingThreads.add(Thread.currentThread().getName());
+
+                    // return each batch in the reverse order to the one it was requested in
+                    List<Object> entities = new ArrayList<>();
+                    for (Object id : (Iterable<?>) invocation.getArgument(0)) {
+                        entities.add(0, new TestEntity((Long) id));
+                    }
+                    return entities;
+                });
+
+                ids = Arrays.asList(5L, 3L, 1L, 4L, 2L);
+                results = new ArrayList<>();
+
+                strategy = new FindAllByIdEntityLookupStrategy(executor, 2);
+            });
+
+            JustBeforeEach(() -> {
+                strategy.lookup(repository, ids, results);
+            });
+
+            AfterEach(() -> {
+                executor.shutdownNow();
+            });
+
+            Context("given the calling thread has no transactional resources bound", () -> {
+                It("should fetch each batch concurrently on the executor", () -> {
+                    verify(repository, times(3)).findAllById(any());
+                    assertThat(fetchingThreads, everyItem(startsWith("hydration-test-")));
+                });
+
+                It("should return the entities in the order of the given ids", () -> {
+                    assertThat(entityIds(results), contains(5L, 3L, 1L, 4L, 2L));
+                });
+
+                Context("given a transaction manager", () -> {
+                    BeforeEach(() -> {
+                        transactionManager = mock(PlatformTransactionManager.class);
+                        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+                        strategy.setTransactionManager(transactionManager);
+                    });
+
+                    It("should fetch each batch in its own read-only transaction", () -> {
+                        ArgumentCaptor<TransactionDefinition> definitions = ArgumentCaptor.forClass(TransactionDefinition.class);
+                        verify(transactionManager, times(3)).getTransaction(definitions.capture());
+                        verify(transactionManager, times(3)).commit(any());
+
+                        for (TransactionDefinition definition : definitions.getAllValues()) {
+                            assertThat(definition.isReadOnly(), is(true));
+                            assertThat(definition.getPropagationBehavior(), is(TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+                        }
+                    });
+
+                    It("should return the entities in the order of the given ids", () -> {
+                        assertThat(entityIds(results), contains(5L, 3L, 1L, 4L, 2L));
+                    });
+                });
+            });
+
+            Context("given the calling thread has an open-in-view entity manager bound", () -> {
+                BeforeEach(() -> {
+                    TransactionSynchronizationManager.bindResource(this, new Object());
+                });
+
+                AfterEach(() -> {
+                    TransactionSynchronizationManager.unbindResource(this);
+                });
+
+                It("should fetch each batch on the calling thread", () -> {
+                    verify(repository, times(3)).findAllById(any());
+                    assertThat(fetchingThreads, everyItem(is(Thread.currentThread().getName())));
+                });
+
+                It("should return the entities in the order of the given ids", () -> {
+                    assertThat(entityIds(results), contains(5L, 3L, 1L, 4L, 2L));
+                });
+            });
+        });
+    }
+
+    private static List<Object> entityIds(List<Object> entities) {
+        List<Object> ids = new ArrayList<>();
+        for (Object entity : entities) {
+            ids.add(((TestEntity) entity).getId());
+        }
+        return ids;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class TestEntity {
+        @Id
+        private Long id;
+    }
+}
@@ -227,6 +227,79 @@ public class Content {
                     assertThat(response.getContentType(), is("text/html;charset=ISO-8859-1"));
                 });
             });
+            Context("a GET to /{store}/{id} with rendition parameters in the accepted mime type", () -> {
+                It("should pass them to the renderer and remove them from the content type", () -> {
+                    MockHttpServletResponse response = mvc.perform(get(url)
+                            .contextPath(contextPath)
+                            .accept("text/html;width=200;page=1"))
+                            .andExpect(status().isOk()).andReturn()
+                            .getResponse();
+
+                    assertThat(response.getContentAsString(), is("<html><body title=\"{page=1, width=200}\">Hello Spring Content World!</body></html>"));
+                    assertThat(response.getContentType(), is("text/html"));
+                });
+            });
+            Context("a GET to /{store}/{id} with rendition query parameters", () -> {
+                It("should pass them to the renderer", () -> {
+                    MockHttpServletResponse response = mvc.perform(get(url)
+                            .contextPath(contextPath)
+                            .param("width", "100")
+                            .param("imageType", "gray")
+                            .accept("text/html"))
+                            .andExpect(status().isOk()).andReturn()
+                            .getResponse();
+
+                    assertThat(response.getContentAsString(), is("<html><body title=\"{width=100, imageType=gray}\">Hello Spring Content World!</body></html>"));
+                    assertThat(response.getContentType(), is("text/html"));
+                });
+            });
+            Context("a GET to /{store}/{id} with rendition parameters in both the accepted mime type and the query", () -> {
+                It("should prefer the query parameters", () -> {
+                    MockHttpServletResponse response = mvc.perform(get(url)
+                            .contextPath(contextPath)
+                            .param("width", "100")
+                            .accept("text/html;width=200;page=1"))
+                            .andExpect(status().isOk()).andReturn()
+                            .getResponse();
+
+                    assertThat(response.getContentAsString(), is("<html><body title=\"{page=1, width=100}\">Hello Spring Content World!</body></html>"));
+                });
+            });
+            Context("a GET to /{store}/{id} with an invalid rendition parameter", () -> {
+                It("should return 400", () -> {
+                    mvc.perform(get(url)
+                            .contextPath(contextPath)
+                            .accept("text/html;width=wide"))
+                    .andExpect(status().isBadRequest());
+                });
+            });
+            Context("a GET to /{store}/{id} with an unsupported image type", () -> {
+                It("should return 400", () -> {
+                    mvc.perform(get(url)
+                            .contextPath(contextPath)
+                            .param("imageType", "argb")
+                            .accept("text/html"))
+                    .andExpect(status().isBadRequest());
+                });
+            });
+            Context("a GET to /{store}/{id} with a rendition size or dpi above the maximum", () -> {
+                It("should return 400", () -> {
+                    mvc.perform(get(url)
+                            .contextPath(contextPath)
+                            .param("width", "100000")
+                            .accept("text/html"))
+                    .andExpect(status().isBadRequest());
+                    mvc.perform(get(url)
+                            .contextPath(contextPath)
+                            .accept("text/html;height=100000"))
+                    .andExpect(status().isBadRequest());
+                    mvc.perform(get(url)
+                            .contextPath(contextPath)
+                            .param("dpi", "100000")
+                            .accept("text/html"))
+                    .andExpect(status().isBadRequest());
+                });
+            });
             Context("a GET to /{store}/{id} when the original mime type has a charset", () -> {
                 BeforeEach(() -> {
                     entity.setMimeType("text/plain;charset=ISO-8859-1");
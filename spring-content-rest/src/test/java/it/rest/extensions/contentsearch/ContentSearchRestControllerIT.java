@@ -13,6 +13,7 @@ import static org.hamcrest.core.IsIterableContaining.hasItem;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
@@ -42,6 +43,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.content.commons.annotations.ContentId;
 import org.springframework.content.commons.fulltext.Attribute;
 import org.springframework.content.commons.fulltext.Highlight;
+import org.springframework.content.commons.search.ScrollResult;
 import org.springframework.content.commons.search.Searchable;
 import org.springframework.content.commons.utils.ReflectionService;
 import org.springframework.content.fs.config.EnableFilesystemStores;
@@ -291,6 +293,68 @@ public class ContentSearchRestControllerIT {
 
                     });
 
+                    Context("given a cursor is requested", () -> {
+
+                        BeforeEach(() -> {
+                            entity = new TestEntityWithSharedId();
+                            repository.save(entity);
+
+                            entity2 = new TestEntityWithSharedId();
+                            repository.save(entity2);
+
+                            internalResults = new ArrayList<>();
+                            internalResults.add(new InternalResult(entity2.getId(), entity2.getContentId()));
+                            internalResults.add(new InternalResult(entity.getId(), entity.getContentId()));
+
+                            when(reflectionService.invokeMethod(any(), any(),
+                                    eq("two"), isNull(), eq(2))).thenReturn(new ScrollResult<>(internalResults, "next-cursor"));
+                        });
+
+                        It("should return the entities in hit order with a link to the next results", () -> {
+                            MvcResult result = mvc.perform(get(
+                                    "/testEntityWithSharedIds/searchContent?queryString=two&cursor=&size=2")
+                                    .accept("application/hal+json"))
+                                    .andExpect(status().isOk()).andReturn();
+
+                            ReadableRepresentation halResponse = representationFactory
+                                    .readRepresentation("application/hal+json",
+                                            new StringReader(result.getResponse()
+                                                    .getContentAsString()));
+                            assertThat(halResponse.getResourcesByRel("testEntityWithSharedIds").size(), is(2));
+                            assertThat(halResponse.getResourcesByRel("testEntityWithSharedIds").get(0).getValue("contentId").toString(), is(entity2.getContentId()));
+                            assertThat(halResponse.getResourcesByRel("testEntityWithSharedIds").get(1).getValue("contentId").toString(), is(entity.getContentId()));
+                            assertThat(halResponse.getLinkByRel("next").getHref(), containsString("cursor=next-cursor"));
+                        });
+                    });
+
+                    Context("given newline delimited json is requested", () -> {
+
+                        BeforeEach(() -> {
+                            entity = new TestEntityWithSharedId();
+                            repository.save(entity);
+
+                            entity2 = new TestEntityWithSharedId();
+                            repository.save(entity2);
+
+                            when(reflectionService.invokeMethod(any(), any(),
+                                    eq("two"), isNull(), eq(100))).thenReturn(new ScrollResult<>(Collections.singletonList(new InternalResult(entity.getId(), entity.getContentId())), "next-cursor"));
+                            when(reflectionService.invokeMethod(any(), any(),
+                                    eq("two"), eq("next-cursor"), eq(100))).thenReturn(new ScrollResult<>(Collections.singletonList(new InternalResult(entity2.getId(), entity2.getContentId())), null));
+                        });
+
+                        It("should stream one entity per line across all pages", () -> {
+                            MvcResult result = mvc.perform(get(
+                                    "/testEntityWithSharedIds/searchContent?queryString=two")
+                                    .accept("application/x-ndjson"))
+                                    .andExpect(status().isOk()).andReturn();
+
+                            String[] lines = result.getResponse().getContentAsString().split("\n");
+                            assertThat(lines.length, is(2));
+                            assertThat(lines[0], containsString(entity.getContentId()));
+                            assertThat(lines[1], containsString(entity2.getContentId()));
+                        });
+                    });
+
                     Context("given results contain orphaned fulltext documents", () -> {
 
                         BeforeEach(() -> {
@@ -404,6 +468,37 @@ public class ContentSearchRestControllerIT {
                         });
                     });
 
+                    Context("given hydration is not requested", () -> {
+
+                        BeforeEach(() -> {
+                            entity3 = new TestEntityWithSeparateId();
+                            entityWithSeparateRepository.save(entity3);
+
+                            internalResults = new ArrayList<>();
+                            internalResults.add(new InternalResult(entity3.getId(), entity3.getContentId()));
+
+                            when(reflectionService.invokeMethod(any(), any(),
+                                    eq("else"))).thenReturn(internalResults);
+                        });
+
+                        It("should return the index results without looking up the entities", () -> {
+                            MvcResult result = mvc.perform(get(
+                                    "/testEntityWithSeparateIds/searchContent?queryString=else&hydrate=false")
+                                    .accept("application/hal+json"))
+                                    .andExpect(status().isOk()).andReturn();
+
+                            verify(defaultLookupStrategy, never()).lookup(any(RootResourceInformation.class), any(RepositoryInformation.class), any(List.class), any(List.class));
+                            verify(queryMethodsLookupStrategy, never()).lookup(any(RootResourceInformation.class), any(RepositoryInformation.class), any(List.class), any(List.class));
+
+                            ReadableRepresentation halResponse = representationFactory
+                                    .readRepresentation("application/hal+json",
+                                            new StringReader(result.getResponse()
+                                                    .getContentAsString()));
+                            assertThat(halResponse.getResourcesByRel("internalResults").size(), is(1));
+                            assertThat(halResponse.getResourcesByRel("internalResults").get(0).getValue("contentId").toString(), is(entity3.getContentId()));
+                        });
+                    });
+
                     Context("given results contain orphaned fulltext documents", () -> {
 
                         BeforeEach(() -> {
@@ -574,6 +669,15 @@ public class ContentSearchRestControllerIT {
                         assertThat(contentIds, hasItem(id2));
                         assertThat(id1, is(not(id2)));
                     });
+
+                    It("should reject streaming hydrated results", () -> {
+                        mvc.perform(get(
+                                "/repoWithNoLookupStrategy/searchContent?queryString=else")
+                                .accept("application/x-ndjson"))
+                                .andExpect(status().isBadRequest());
+
+                        verify(defaultLookupStrategy, never()).lookup(any(RootResourceInformation.class), any(RepositoryInformation.class), any(List.class), any(List.class));
+                    });
                 });
             });
 
@@ -647,6 +751,26 @@ public class ContentSearchRestControllerIT {
 
                     assertThat(entities.size(), is(500));
                 });
+
+                It("should return entities in the order of the given ids", () -> {
+
+                    List<String> ids = new ArrayList<>();
+                    for (int i=0; i < 300; i++) {
+                        TestEntityWithSeparateId entity = new TestEntityWithSeparateId();
+                        entity = entityWithSeparateRepository.save(entity);
+                        ids.add(entity.getId());
+                    }
+                    Collections.shuffle(ids);
+
+                    List<TestEntityWithSeparateId> entities = new ArrayList<>();
+
+                    ContentSearchRestController.fetchEntitiesInBatches(entityWithSeparateRepository, ids, entities);
+
+                    assertThat(entities.size(), is(300));
+                    for (int i=0; i < ids.size(); i++) {
+                        assertThat(entities.get(i).getId(), is(ids.get(i)));
+                    }
+                });
             });
         });
     }
@@ -749,6 +873,11 @@ public class ContentSearchRestControllerIT {
             return null;
         }
 
+        @Override
+        public ScrollResult<String> scroll(String queryString, String cursor, int size) {
+            return null;
+        }
+
         @Override
         public Iterable<String> findKeyword(String query) {
             return null;
@@ -51,6 +51,18 @@ public class S3StoreFactoryBean extends AbstractStoreFactoryBean {
 	@Value("${spring.content.s3.bucket:#{environment.AWS_BUCKET}}")
 	private String bucket;
 
+	@Value("${spring.content.s3.tenant-cache-size:100}")
+	private int tenantCacheSize = 100;
+
+	@Value("${spring.content.s3.tenant-cache-idle-ms:3600000}")
+	private long tenantCacheIdleMillis = 3600000;
+
+	@Value("${spring.content.s3.tenant-upload-threads:0}")
+	private int tenantUploadThreads = 0;
+
+	@Value("${spring.content.s3.reactive-upload-part-size:5242880}")
+	private int reactiveUploadPartSize = 5242880;
+
 
 	@Autowired
 	public S3StoreFactoryBean(Class<? extends Store> storeInterface, ApplicationContext context, S3Client client, PlacementService s3StorePlacementService) {
@@ -80,12 +92,17 @@ public class S3StoreFactoryBean extends AbstractStoreFactoryBean {
 		    if (client == null) {
 		        throw new NoSuchBeanDefinitionException(S3Client.class.getCanonicalName());
 		    }
-		    return new DefaultS3StoreImpl(context, loader, mappingContext, s3StorePlacementService, client, s3Provider);
+		    DefaultS3StoreImpl store = new DefaultS3StoreImpl(context, loader, mappingContext, s3StorePlacementService, client, s3Provider);
+		    store.setTenantCache(tenantCacheSize, tenantCacheIdleMillis, tenantUploadThreads);
+		    return store;
 		} else {
             if (asyncClient == null) {
                 throw new NoSuchBeanDefinitionException(S3AsyncClient.class.getCanonicalName());
             }
-            return new DefaultReactiveS3StoreImpl(context, loader, mappingContext, s3StorePlacementService, asyncClient, s3Provider);
+            DefaultReactiveS3StoreImpl store = new DefaultReactiveS3StoreImpl(context, loader, mappingContext, s3StorePlacementService, asyncClient, s3Provider);
+            store.setTenantCache(tenantCacheSize, tenantCacheIdleMillis);
+            store.setPartSize(reactiveUploadPartSize);
+            return store;
 		}
 	}
 }
@@ -6,6 +6,8 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.URI;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.springframework.content.commons.io.DeletableResource;
 import org.springframework.content.commons.io.RangeableResource;
@@ -14,10 +16,22 @@ import org.springframework.core.io.WritableResource;
 import org.springframework.util.Assert;
 
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartCopyRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartCopyResponse;
 
 public class S3StoreResource implements WritableResource, DeletableResource, RangeableResource {
 
+	// largest object that can be copied with a single CopyObject request
+	static final long MAX_COPY_OBJECT_SIZE = 5L * 1024 * 1024 * 1024;
+	static final long COPY_PART_SIZE = 512L * 1024 * 1024;
+
 	private S3Client client;
 	private Resource delegate;
 	private String bucket;
@@ -117,6 +131,65 @@ public class S3StoreResource implements WritableResource, DeletableResource, Ran
 		return ((WritableResource) delegate).getOutputStream();
 	}
 
+	/**
+	 * Copies the object of the given resource to this resource's object server-side, without reading it through the
+	 * application.  Objects larger than 5GB are copied a part at a time using a multipart upload.
+	 *
+	 * @param source the resource to copy from, may be in another bucket
+	 * @throws IOException if the source object cannot be read
+	 */
+	public void copyFrom(S3StoreResource source) throws IOException {
+		long contentLength = source.contentLength();
+		if (contentLength <= MAX_COPY_OBJECT_SIZE) {
+			client.copyObject(CopyObjectRequest.builder()
+					.sourceBucket(source.bucket)
+					.sourceKey(source.getFilename())
+					.destinationBucket(bucket)
+					.destinationKey(getFilename())
+					.build());
+			return;
+		}
+
+		String uploadId = client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+				.bucket(bucket)
+				.key(getFilename())
+				.build()).uploadId();
+		try {
+			List<CompletedPart> parts = new ArrayList<>();
+			int partNumber = 1;
+			for (long offset = 0; offset < contentLength; offset += COPY_PART_SIZE, partNumber++) {
+				long last = Math.min(offset + COPY_PART_SIZE, contentLength) - 1;
+				UploadPartCopyResponse response = client.uploadPartCopy(UploadPartCopyRequest.builder()
+						.sourceBucket(source.bucket)
+						.sourceKey(source.getFilename())
+						.destinationBucket(bucket)
+						.destinationKey(getFilename())
+						.uploadId(uploadId)
+						.partNumber(partNumber)
+						.copySourceRange("bytes=" + offset + "-" + last)
+						.build());
+				parts.add(CompletedPart.builder()
+						.partNumber(partNumber)
+						.eTag(response.copyPartResult().eTag())
+						.build());
+			}
+
+			client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+					.bucket(bucket)
+					.key(getFilename())
+					.uploadId(uploadId)
+					.multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+					.build());
+		} catch (RuntimeException e) {
+			client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+					.bucket(bucket)
+					.key(getFilename())
+					.uploadId(uploadId)
+					.build());
+			throw e;
+		}
+	}
+
     @Override
     public void setRange(String range) {
         ((RangeableResource)delegate).setRange(range);
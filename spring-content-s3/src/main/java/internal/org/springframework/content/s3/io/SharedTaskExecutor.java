@@ -0,0 +1,15 @@
+package internal.org.springframework.content.s3.io;
+
+import org.springframework.core.task.TaskExecutor;
+
+/**
+ * {@link TaskExecutor} shared by the output streams of many {@link SimpleStorageResource}s that may be shut down
+ * by its owner.  Each multi part upload acquires the executor before submitting its first part and releases it once
+ * the upload has completed or failed, and the executor is not shut down while it is acquired.
+ */
+public interface SharedTaskExecutor extends TaskExecutor {
+
+    void acquire();
+
+    void release();
+}
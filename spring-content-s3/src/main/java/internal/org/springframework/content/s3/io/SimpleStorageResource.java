@@ -249,6 +249,8 @@ public class SimpleStorageResource extends AbstractResource implements WritableR
 
         private CreateMultipartUploadResponse multiPartUploadResult;
 
+        private boolean acquired;
+
         SimpleStorageOutputStream() {
             this.completionService = new ExecutorCompletionService<>(
                     new ExecutorServiceAdapter(SimpleStorageResource.this.taskExecutor));
@@ -349,11 +351,14 @@ public class SimpleStorageResource extends AbstractResource implements WritableR
             }
             finally {
                 this.currentOutputStream = null;
+                releaseTaskExecutor();
             }
         }
 
         private void initiateMultiPartIfNeeded() {
             if (this.multiPartUploadResult == null) {
+                acquireTaskExecutor();
+
                 CreateMultipartUploadRequest.Builder requestBuilder = CreateMultipartUploadRequest.builder()
                         .bucket(SimpleStorageResource.this.bucketName)
                         .key(SimpleStorageResource.this.objectName);
@@ -362,8 +367,29 @@ public class SimpleStorageResource extends AbstractResource implements WritableR
                     requestBuilder.contentType(SimpleStorageResource.this.contentType);
                 }
 
-                this.multiPartUploadResult = SimpleStorageResource.this.amazonS3
-                        .createMultipartUpload(requestBuilder.build());
+                try {
+                    this.multiPartUploadResult = SimpleStorageResource.this.amazonS3
+                            .createMultipartUpload(requestBuilder.build());
+                }
+                catch (RuntimeException e) {
+                    releaseTaskExecutor();
+                    throw e;
+                }
+            }
+        }
+
+        // parts are uploaded on the task executor so, when it is shared, it must outlive the upload
+        private void acquireTaskExecutor() {
+            if (SimpleStorageResource.this.taskExecutor instanceof SharedTaskExecutor) {
+                ((SharedTaskExecutor) SimpleStorageResource.this.taskExecutor).acquire();
+                this.acquired = true;
+            }
+        }
+
+        private void releaseTaskExecutor() {
+            if (this.acquired) {
+                this.acquired = false;
+                ((SharedTaskExecutor) SimpleStorageResource.this.taskExecutor).release();
             }
         }
 
@@ -1,11 +1,15 @@
 package internal.org.springframework.content.s3.store;
 
-import java.io.File;
 import java.io.Serializable;
 import java.lang.annotation.Annotation;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -29,14 +33,18 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
-import software.amazon.awssdk.core.async.ResponsePublisher;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
-import software.amazon.awssdk.services.s3.model.DeleteObjectResponse;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
-import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
-import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
 
 @Transactional
 public class DefaultReactiveS3StoreImpl<S, SID extends Serializable>
@@ -54,6 +62,12 @@ public class DefaultReactiveS3StoreImpl<S, SID extends Serializable>
 
     private S3AsyncClient asyncClient;
 
+    // the minimum size of all but the last part of a multipart upload
+    static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
+    private int partSize = MIN_PART_SIZE;
+	private TenantCache tenantCache = new TenantCache(TenantCache.DEFAULT_MAX_ENTRIES, TenantCache.DEFAULT_IDLE_TTL, 0);
+
 	public DefaultReactiveS3StoreImpl(ApplicationContext context, ResourceLoader loader, MappingContext mappingContext, PlacementService placementService, S3AsyncClient asyncClient, MultiTenantS3ClientProvider provider) {
         Assert.notNull(context, "context must be specified");
 		Assert.notNull(loader, "loader must be specified");
@@ -69,6 +83,74 @@ public class DefaultReactiveS3StoreImpl<S, SID extends Serializable>
         }
 	}
 
+	/**
+	 * Sets the size of the parts that content of unknown length is uploaded in.  Uploads hold at most three parts in
+	 * memory; the one being filled, the one queued and the one being uploaded.
+	 *
+	 * @param partSize the part size in bytes, at least 5MB
+	 */
+	public void setPartSize(int partSize) {
+		this.partSize = Math.max(MIN_PART_SIZE, partSize);
+	}
+
+	/**
+	 * Configures the cache of per-tenant S3AsyncClients used when a {@link MultiTenantS3ClientProvider} creates them.
+	 *
+	 * @param maxEntries the maximum number of tenants cached
+	 * @param idleTtlMillis how long a tenant's client is kept once it is no longer used
+	 */
+	public void setTenantCache(int maxEntries, long idleTtlMillis) {
+		TenantCache previous = this.tenantCache;
+		this.tenantCache = new TenantCache(maxEntries, idleTtlMillis, 0);
+		previous.clear();
+	}
+
+	public long getTenantCacheHits(String tenant) {
+		return tenantCache.getHits(tenant);
+	}
+
+	public long getTenantCacheMisses(String tenant) {
+		return tenantCache.getMisses(tenant);
+	}
+
+	public long getTenantCacheEvictions() {
+		return tenantCache.getEvictions();
+	}
+
+	// resolved when a store method is called, rather than when its result is subscribed to, so that providers may
+	// identify the tenant from the calling thread.  A tenant's client is held from subscription until the request
+	// completes, fails or is cancelled so that it is not closed under the request should the tenant be evicted
+	private <T> Mono<T> withClient(Function<S3AsyncClient, Mono<T>> request) {
+		Supplier<TenantCache.AsyncEntry> tenantClient = tenantClient();
+		if (tenantClient == null) {
+			return request.apply(asyncClient);
+		}
+		return Mono.using(tenantClient::get, entry -> request.apply(entry.getClient()), TenantCache.AsyncEntry::release);
+	}
+
+	private <T> Flux<T> withClientMany(Function<S3AsyncClient, Flux<T>> request) {
+		Supplier<TenantCache.AsyncEntry> tenantClient = tenantClient();
+		if (tenantClient == null) {
+			return request.apply(asyncClient);
+		}
+		return Flux.using(tenantClient::get, entry -> request.apply(entry.getClient()), TenantCache.AsyncEntry::release);
+	}
+
+	private Supplier<TenantCache.AsyncEntry> tenantClient() {
+		if (clientProvider != null) {
+			String tenant = clientProvider.getTenantId();
+			if (tenant != null) {
+				TenantCache cache = tenantCache;
+				Supplier<S3AsyncClient> factory = clientProvider::createS3AsyncClient;
+				TenantCache.AsyncEntry entry = cache.getAsyncEntry(tenant, factory);
+				if (entry != null) {
+					return () -> cache.acquire(tenant, entry, factory);
+				}
+			}
+		}
+		return null;
+	}
+
     private S3ObjectId getS3ObjectId(S entity, PropertyPath path, ContentProperty property) {
         TypeDescriptor contentPropertyInfoType = ContentPropertyInfoTypeDescriptor.withGenerics(entity, property);
         if (!placementService.canConvert(contentPropertyInfoType, TypeDescriptor.valueOf(S3ObjectId.class))) {
@@ -105,33 +187,177 @@ public class DefaultReactiveS3StoreImpl<S, SID extends Serializable>
 
         final S3ObjectId s3ObjectId = getS3ObjectId(entity, path, property);
 
+        Object mimeType = property.getMimeType(entity);
+        String contentType = mimeType != null ? mimeType.toString() : null;
+
+        Mono<Long> upload = withClient(client -> contentLen >= 0
+                ? putObject(client, s3ObjectId, contentType, contentLen, AsyncRequestBody.fromPublisher(buffer))
+                : uploadParts(client, s3ObjectId, contentType, buffer));
+
+        return upload
+          .map((len) -> {
+            property.setContentId(entity, s3ObjectId.getKey(), null);
+            property.setContentLength(entity, len);
+            return entity;
+          }
+        );
+    }
+
+    private Mono<Long> putObject(S3AsyncClient client, S3ObjectId s3ObjectId, String contentType, long contentLen, AsyncRequestBody body) {
         PutObjectRequest.Builder requestBuilder = PutObjectRequest.builder()
                 .bucket(s3ObjectId.getBucket())
                 .contentLength(contentLen)
                 .key(s3ObjectId.getKey());
 
-        Object mimeType = property.getMimeType(entity);
-        if (mimeType != null) {
-            String strMimeType = mimeType.toString();
-            requestBuilder.contentType(strMimeType);
+        if (contentType != null) {
+            requestBuilder.contentType(contentType);
         }
 
-        CompletableFuture<PutObjectResponse> future = asyncClient.putObject(
-                requestBuilder.build(),
-                AsyncRequestBody.fromPublisher(buffer)
-        );
+        return Mono.fromFuture(() -> client.putObject(requestBuilder.build(), body))
+                .thenReturn(contentLen);
+    }
 
-        return Mono.fromFuture(future)
-          .map((response) -> {
-            property.setContentId(entity, s3ObjectId.getKey(), null);
-            property.setContentLength(entity, contentLen);
-            return entity;
-          }
-        );
+    /**
+     * Uploads content of unknown length.  Content that fits in a single part is put as is, otherwise it is uploaded
+     * as a multipart upload, one part at a time, which is aborted should the content, or any part, fail.
+     */
+    private Mono<Long> uploadParts(S3AsyncClient client, S3ObjectId s3ObjectId, String contentType, Flux<ByteBuffer> buffer) {
+        return partition(buffer, partSize).switchOnFirst((first, parts) -> {
+            if (first.hasValue() == false) {
+                // the content failed before a part was filled
+                return parts.then(Mono.<Long>empty());
+            }
+            if (first.get().remaining() < partSize) {
+                // only the last part is short so this is the whole content
+                ByteBuffer content = first.get();
+                return parts.then(putObject(client, s3ObjectId, contentType, content.remaining(), AsyncRequestBody.fromByteBuffer(content)));
+            }
+
+            CreateMultipartUploadRequest.Builder createRequest = CreateMultipartUploadRequest.builder()
+                    .bucket(s3ObjectId.getBucket())
+                    .key(s3ObjectId.getKey());
+            if (contentType != null) {
+                createRequest.contentType(contentType);
+            }
+
+            return Mono.fromFuture(() -> client.createMultipartUpload(createRequest.build()))
+                    .flatMap(created -> {
+                        String uploadId = created.uploadId();
+                        AtomicLong contentLen = new AtomicLong();
+
+                        return parts.index()
+                                .concatMap(part -> {
+                                    int partNumber = (int) (part.getT1() + 1);
+                                    long partLen = part.getT2().remaining();
+                                    contentLen.addAndGet(partLen);
+
+                                    UploadPartRequest uploadRequest = UploadPartRequest.builder()
+                                            .bucket(s3ObjectId.getBucket())
+                                            .key(s3ObjectId.getKey())
+                                            .uploadId(uploadId)
+                                            .partNumber(partNumber)
+                                            .contentLength(partLen)
+                                            .build();
+
+                                    return Mono.fromFuture(() -> client.uploadPart(uploadRequest, AsyncRequestBody.fromByteBuffer(part.getT2())))
+                                            .map(response -> CompletedPart.builder().partNumber(partNumber).eTag(response.eTag()).build());
+                                }, 1)
+                                .collectList()
+                                .flatMap(completedParts -> Mono.fromFuture(() -> client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                                        .bucket(s3ObjectId.getBucket())
+                                        .key(s3ObjectId.getKey())
+                                        .uploadId(uploadId)
+                                        .multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build())
+                                        .build())))
+                                .map(response -> contentLen.get())
+                                .onErrorResume(e -> abort(client, s3ObjectId, uploadId).then(Mono.error(e)))
+                                .doOnCancel(() -> abort(client, s3ObjectId, uploadId).subscribe());
+                    });
+        }).next();
+    }
+
+    private Mono<Void> abort(S3AsyncClient client, S3ObjectId s3ObjectId, String uploadId) {
+        return Mono.fromFuture(() -> client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                        .bucket(s3ObjectId.getBucket())
+                        .key(s3ObjectId.getKey())
+                        .uploadId(uploadId)
+                        .build()))
+                .doOnError(e -> logger.warn(String.format("Unable to abort multipart upload %s of %s", uploadId, s3ObjectId.getKey()), e))
+                .onErrorResume(e -> Mono.empty())
+                .then();
+    }
+
+    /**
+     * Repackages content into parts of the given size, the last of which may be shorter.  Content that is empty is
+     * repackaged as a single empty part.
+     */
+    static Flux<ByteBuffer> partition(Flux<ByteBuffer> content, int partSize) {
+        return Flux.defer(() -> {
+            Partitioner partitioner = new Partitioner(partSize);
+            return content.concatMapIterable(partitioner::add)
+                    .concatWith(Mono.fromSupplier(partitioner::remainder));
+        });
+    }
+
+    private static class Partitioner {
+
+        private final int partSize;
+        private ByteBuffer current;
+        private boolean emitted = false;
+
+        Partitioner(int partSize) {
+            this.partSize = partSize;
+        }
+
+        List<ByteBuffer> add(ByteBuffer buffer) {
+            List<ByteBuffer> parts = Collections.emptyList();
+
+            ByteBuffer in = buffer.duplicate();
+            while (in.hasRemaining()) {
+                if (current == null) {
+                    current = ByteBuffer.allocate(partSize);
+                }
+
+                int n = Math.min(in.remaining(), current.remaining());
+                ByteBuffer slice = in.duplicate();
+                slice.limit(slice.position() + n);
+                current.put(slice);
+                in.position(in.position() + n);
+
+                if (current.hasRemaining() == false) {
+                    current.flip();
+                    if (parts.isEmpty()) {
+                        parts = new ArrayList<>(1);
+                    }
+                    parts.add(current);
+                    current = null;
+                    emitted = true;
+                }
+            }
+            return parts;
+        }
+
+        ByteBuffer remainder() {
+            if (current == null) {
+                return emitted ? null : ByteBuffer.allocate(0);
+            }
+            ByteBuffer last = current;
+            current = null;
+            last.flip();
+            return last;
+        }
     }
 
     @Override
     public Flux<ByteBuffer> getContent(S entity, PropertyPath path) {
+        return getContent(entity, path, 0, -1);
+    }
+
+    /**
+     * Returns the content from the given offset.  Ranges are satisfied by S3 so only the requested bytes are fetched.
+     */
+    @Override
+    public Flux<ByteBuffer> getContent(S entity, PropertyPath path, long offset, long length) {
 
         if (entity == null)
             return Flux.empty();
@@ -142,23 +368,27 @@ public class DefaultReactiveS3StoreImpl<S, SID extends Serializable>
         }
 
         Object contentId = property.getContentId(entity);
-        if (contentId == null) {
+        if (contentId == null || length == 0) {
             return Flux.empty();
         }
 
         final S3ObjectId s3ObjectId = getS3ObjectId(entity, path, property);
 
-        GetObjectRequest request = GetObjectRequest.builder()
+        GetObjectRequest.Builder requestBuilder = GetObjectRequest.builder()
                 .bucket(s3ObjectId.getBucket())
-                .key(s3ObjectId.getKey())
-                .build();
+                .key(s3ObjectId.getKey());
 
-        AsyncResponseTransformer.toFile(new File("/tmp/foo"));
-        CompletableFuture<ResponsePublisher<GetObjectResponse>> responseFuture =
-                asyncClient.getObject(request, AsyncResponseTransformer.toPublisher());
+        if (offset > 0 || length > 0) {
+            requestBuilder.range(String.format("bytes=%d-%s", offset, length > 0 ? String.valueOf(offset + length - 1) : ""));
+        }
+
+        GetObjectRequest request = requestBuilder.build();
 
-        ResponsePublisher<GetObjectResponse> responsePublisher = responseFuture.join();
-        return Flux.from(responsePublisher);
+        return withClientMany(client -> Mono.fromFuture(() -> client.getObject(request, AsyncResponseTransformer.toPublisher()))
+                .flatMapMany(Flux::from))
+                .onErrorResume(NoSuchKeyException.class, e -> Flux.empty())
+                // a range starting beyond the end of the content
+                .onErrorResume(e -> e instanceof S3Exception && ((S3Exception) e).statusCode() == 416, e -> Flux.empty());
     }
 
     @Transactional
@@ -185,9 +415,7 @@ public class DefaultReactiveS3StoreImpl<S, SID extends Serializable>
                 .key(s3ObjectId.getKey())
                 .build();
 
-        CompletableFuture<DeleteObjectResponse> future = asyncClient.deleteObject(deleteRequest);
-
-        return Mono.fromFuture(future)
+        return withClient(client -> Mono.fromFuture(() -> client.deleteObject(deleteRequest)))
                 .map((response) -> {
                     property.setContentId(entity, null, new org.springframework.content.commons.mappingcontext.Condition() {
                         @Override
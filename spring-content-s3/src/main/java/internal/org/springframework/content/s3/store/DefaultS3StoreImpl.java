@@ -32,16 +32,15 @@ import org.springframework.content.s3.S3ObjectId;
 import org.springframework.content.s3.config.MultiTenantS3ClientProvider;
 import org.springframework.context.ApplicationContext;
 import org.springframework.core.convert.TypeDescriptor;
-import org.springframework.core.io.DefaultResourceLoader;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
 import org.springframework.core.io.WritableResource;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 
+import internal.org.springframework.content.commons.utils.ContentCopier;
 import internal.org.springframework.content.commons.utils.ContentPropertyInfoTypeDescriptor;
 import internal.org.springframework.content.s3.io.S3StoreResource;
-import internal.org.springframework.content.s3.io.SimpleStorageProtocolResolver;
 import software.amazon.awssdk.services.s3.S3Client;
 
 @Transactional
@@ -58,6 +57,7 @@ public class DefaultS3StoreImpl<S, SID extends Serializable>
 	private PlacementService placementService;
 	private S3Client client;
 	private MultiTenantS3ClientProvider clientProvider;
+	private TenantCache tenantCache = new TenantCache(TenantCache.DEFAULT_MAX_ENTRIES, TenantCache.DEFAULT_IDLE_TTL, 0);
 
     private MappingContext mappingContext/* = new MappingContext("/", ".")*/;
 
@@ -77,6 +77,32 @@ public class DefaultS3StoreImpl<S, SID extends Serializable>
         }
 	}
 
+	/**
+	 * Configures the cache of per-tenant resource loaders used when a {@link MultiTenantS3ClientProvider} is configured.
+	 *
+	 * @param maxEntries the maximum number of tenants cached
+	 * @param idleTtlMillis how long a tenant's entry is kept once it is no longer used
+	 * @param uploadThreads the number of threads each tenant uploads multipart parts with, or 0 to upload on the
+	 *                      caller's thread
+	 */
+	public void setTenantCache(int maxEntries, long idleTtlMillis, int uploadThreads) {
+		TenantCache previous = this.tenantCache;
+		this.tenantCache = new TenantCache(maxEntries, idleTtlMillis, uploadThreads);
+		previous.clear();
+	}
+
+	public long getTenantCacheHits(String tenant) {
+		return tenantCache.getHits(tenant);
+	}
+
+	public long getTenantCacheMisses(String tenant) {
+		return tenantCache.getMisses(tenant);
+	}
+
+	public long getTenantCacheEvictions() {
+		return tenantCache.getEvictions();
+	}
+
 	@Override
 	public Resource getResource(SID id) {
 		if (id == null)
@@ -171,14 +197,13 @@ public class DefaultS3StoreImpl<S, SID extends Serializable>
         if (clientProvider != null) {
 			S3Client client = clientProvider.getS3Client();
 			if (client != null) {
-				SimpleStorageProtocolResolver s3Protocol = new SimpleStorageProtocolResolver(client);
-				s3Protocol.afterPropertiesSet();
-
-				DefaultResourceLoader loader = new DefaultResourceLoader();
-				loader.addProtocolResolver(s3Protocol);
+				String tenant = clientProvider.getTenantId();
+				if (tenant == null) {
+					tenant = "client-" + Integer.toHexString(System.identityHashCode(client));
+				}
 
 				clientToUse = client;
-				loaderToUse = loader;
+				loaderToUse = tenantCache.getResourceLoader(tenant, client);
 			}
 		}
 
@@ -380,6 +405,10 @@ public class DefaultS3StoreImpl<S, SID extends Serializable>
 
     @Override
     public S setContent(S entity, PropertyPath propertyPath, Resource resourceContent) {
+        if (resourceContent instanceof S3StoreResource && copyContent(entity, propertyPath, (S3StoreResource) resourceContent)) {
+            return entity;
+        }
+
         try {
             return setContent(entity, propertyPath, resourceContent.getInputStream());
         } catch (IOException e) {
@@ -388,6 +417,19 @@ public class DefaultS3StoreImpl<S, SID extends Serializable>
         }
     }
 
+	/**
+	 * Sets content by copying an object already in S3 server-side rather than streaming it through the application.
+	 */
+	private boolean copyContent(S entity, PropertyPath propertyPath, S3StoreResource source) {
+		return ContentCopier.copyContent(entity, propertyPath, mappingContext,
+				(id, idType) -> placementService.convert(id, TypeDescriptor.forObject(id), idType),
+				this::getResource, S3StoreResource.class,
+				target -> {
+					target.copyFrom(source);
+					return source.contentLength();
+				});
+	}
+
 	@Transactional
 	@Override
 	public InputStream getContent(S entity) {
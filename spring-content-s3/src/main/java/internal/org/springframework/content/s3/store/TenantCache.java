@@ -0,0 +1,306 @@
+package internal.org.springframework.content.s3.store;
+
+import static java.lang.String.format;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import internal.org.springframework.content.commons.utils.ExpiringCache;
+import internal.org.springframework.content.s3.io.SharedTaskExecutor;
+import internal.org.springframework.content.s3.io.SimpleStorageProtocolResolver;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
+
+/**
+ * Bounded cache of the resource loader, and upload executor, built for each tenant's S3 client and of the
+ * S3AsyncClient created for each tenant of a reactive store.
+ * <p>
+ * Entries are keyed by tenant id and evicted once idle for longer than the configured time-to-live or, when the
+ * cache is full, least recently used first.  A tenant's entry is replaced when its provider returns a different
+ * client.  The upload executor of an evicted entry is shut down once no multi part upload holds it, so uploads
+ * started through an evicted loader run to completion.  Likewise an evicted async client is closed once no request
+ * holds it.  Hits and misses are counted per cached tenant.
+ */
+class TenantCache {
+
+    static final int DEFAULT_MAX_ENTRIES = 100;
+    static final long DEFAULT_IDLE_TTL = 60L * 60 * 1000;
+
+    private final int uploadThreads;
+    private final ExpiringCache<String, Entry> entries;
+    private final ExpiringCache<String, AsyncEntry> asyncEntries;
+
+    private final Map<String, Statistics> statistics = new ConcurrentHashMap<>();
+    private final AtomicLong evictions = new AtomicLong();
+
+    TenantCache(int maxEntries, long idleTtlMillis, int uploadThreads) {
+        this.uploadThreads = uploadThreads;
+        this.entries = new ExpiringCache<>(idleTtlMillis, maxEntries, true, this::evicted);
+        this.asyncEntries = new ExpiringCache<>(idleTtlMillis, maxEntries, true, this::evicted);
+    }
+
+    /**
+     * Returns the resource loader for the given tenant's client, building it on first use.
+     */
+    ResourceLoader getResourceLoader(String tenant, S3Client client) {
+        Entry entry = entries.get(tenant);
+        if (entry != null && entry.client == client) {
+            statistics(tenant).hits.incrementAndGet();
+            return entry.loader;
+        }
+
+        Entry[] replaced = new Entry[1];
+        entry = entries.compute(tenant, (t, current) -> {
+            if (current != null && current.client == client) {
+                return current;
+            }
+            replaced[0] = current;
+            statistics(tenant).misses.incrementAndGet();
+            return new Entry(tenant, client, uploadThreads);
+        });
+        if (replaced[0] != null) {
+            evicted(replaced[0]);
+        }
+        return entry.loader;
+    }
+
+    /**
+     * Returns the async client entry for the given tenant, creating its client with the factory on first use, or null
+     * if the factory returns null.  The entry must be acquired, with {@link #acquire(String, AsyncEntry, Supplier)},
+     * before its client is used.
+     */
+    AsyncEntry getAsyncEntry(String tenant, Supplier<S3AsyncClient> factory) {
+        AsyncEntry entry = asyncEntries.get(tenant);
+        if (entry != null) {
+            statistics(tenant).hits.incrementAndGet();
+        } else {
+            entry = asyncEntries.computeIfAbsent(tenant, t -> {
+                S3AsyncClient client = factory.get();
+                if (client == null) {
+                    return null;
+                }
+                statistics(tenant).misses.incrementAndGet();
+                return new AsyncEntry(client);
+            });
+        }
+        return entry;
+    }
+
+    /**
+     * Acquires the given entry for a request or, should its client have been closed since the entry was returned,
+     * the tenant's current entry.  The acquired entry must be released once the request completes.
+     */
+    AsyncEntry acquire(String tenant, AsyncEntry entry, Supplier<S3AsyncClient> factory) {
+        while (!entry.acquire()) {
+            entry = getAsyncEntry(tenant, factory);
+            if (entry == null) {
+                throw new IllegalStateException(format("No S3AsyncClient for tenant %s", tenant));
+            }
+        }
+        return entry;
+    }
+
+    long getHits(String tenant) {
+        Statistics s = statistics.get(tenant);
+        return s != null ? s.hits.get() : 0;
+    }
+
+    long getMisses(String tenant) {
+        Statistics s = statistics.get(tenant);
+        return s != null ? s.misses.get() : 0;
+    }
+
+    long getEvictions() {
+        return evictions.get();
+    }
+
+    int size() {
+        return entries.size() + asyncEntries.size();
+    }
+
+    void clear() {
+        entries.clear();
+        asyncEntries.clear();
+    }
+
+    private Statistics statistics(String tenant) {
+        return statistics.computeIfAbsent(tenant, t -> new Statistics());
+    }
+
+    private void evicted(String tenant, AsyncEntry entry) {
+        statistics.remove(tenant);
+        evictions.incrementAndGet();
+        entry.evict();
+    }
+
+    private void evicted(String tenant, Entry entry) {
+        statistics.remove(tenant);
+        evicted(entry);
+    }
+
+    private void evicted(Entry entry) {
+        evictions.incrementAndGet();
+        if (entry.executor != null) {
+            entry.executor.evict();
+        }
+    }
+
+    static class Entry {
+
+        private final S3Client client;
+        private final ResourceLoader loader;
+        private final UploadExecutor executor;
+
+        Entry(String tenant, S3Client client, int uploadThreads) {
+            this.client = client;
+
+            SimpleStorageProtocolResolver s3Protocol = new SimpleStorageProtocolResolver(client);
+            if (uploadThreads > 0) {
+                executor = new UploadExecutor(tenant, uploadThreads);
+                s3Protocol.setTaskExecutor(executor);
+            } else {
+                executor = null;
+            }
+            s3Protocol.afterPropertiesSet();
+
+            DefaultResourceLoader loader = new DefaultResourceLoader();
+            loader.addProtocolResolver(s3Protocol);
+            this.loader = loader;
+        }
+    }
+
+    /**
+     * Upload executor of a tenant's entry.  Shut down once its entry has been evicted and no multi part upload holds
+     * it, and started again should an upload begin through a loader obtained before the eviction.
+     */
+    static class UploadExecutor implements SharedTaskExecutor {
+
+        private final ThreadPoolTaskExecutor executor;
+
+        private int leases;
+        private boolean evicted;
+        private boolean shutdown;
+
+        UploadExecutor(String tenant, int uploadThreads) {
+            // a bounded queue that falls back to the caller's thread keeps one tenant's parts from queueing without
+            // limit and from occupying another tenant's threads.  Parts are never dropped; a part submitted once the
+            // executor has been shut down fails its upload
+            executor = new ThreadPoolTaskExecutor();
+            executor.setCorePoolSize(uploadThreads);
+            executor.setMaxPoolSize(uploadThreads);
+            executor.setQueueCapacity(uploadThreads);
+            executor.setRejectedExecutionHandler((task, pool) -> {
+                if (pool.isShutdown()) {
+                    throw new RejectedExecutionException(format("Upload executor of tenant %s has been shut down", tenant));
+                }
+                task.run();
+            });
+            executor.setThreadNamePrefix("s3-upload-" + tenant + "-");
+            executor.setWaitForTasksToCompleteOnShutdown(true);
+            executor.initialize();
+        }
+
+        @Override
+        public void execute(Runnable task) {
+            executor.execute(task);
+        }
+
+        @Override
+        public synchronized void acquire() {
+            if (shutdown) {
+                executor.initialize();
+                shutdown = false;
+            }
+            leases++;
+        }
+
+        @Override
+        public synchronized void release() {
+            if (--leases == 0 && evicted) {
+                shutdown();
+            }
+        }
+
+        synchronized void evict() {
+            evicted = true;
+            if (leases == 0) {
+                shutdown();
+            }
+        }
+
+        synchronized boolean isShutdown() {
+            return shutdown;
+        }
+
+        private void shutdown() {
+            executor.shutdown();
+            shutdown = true;
+        }
+    }
+
+    /**
+     * Async client of a tenant's entry.  Closed once its entry has been evicted and no request holds it.
+     */
+    static class AsyncEntry {
+
+        private final S3AsyncClient client;
+
+        private int leases;
+        private boolean evicted;
+        private boolean closed;
+
+        AsyncEntry(S3AsyncClient client) {
+            this.client = client;
+        }
+
+        S3AsyncClient getClient() {
+            return client;
+        }
+
+        synchronized boolean acquire() {
+            if (closed) {
+                return false;
+            }
+            leases++;
+            return true;
+        }
+
+        void release() {
+            synchronized (this) {
+                if (--leases > 0 || !evicted || closed) {
+                    return;
+                }
+                closed = true;
+            }
+            client.close();
+        }
+
+        void evict() {
+            synchronized (this) {
+                evicted = true;
+                if (leases > 0 || closed) {
+                    return;
+                }
+                closed = true;
+            }
+            client.close();
+        }
+
+        synchronized boolean isClosed() {
+            return closed;
+        }
+    }
+
+    static class Statistics {
+
+        private final AtomicLong hits = new AtomicLong();
+        private final AtomicLong misses = new AtomicLong();
+    }
+}
@@ -1,5 +1,6 @@
 package org.springframework.content.s3.config;
 
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
 
 /**
@@ -14,4 +15,25 @@ public interface MultiTenantS3ClientProvider {
      * @return the S3Client client to use, or null
      */
     S3Client getS3Client();
+
+    /**
+     * The name of the tenant whose client {@link #getS3Client()} returns, used to label the tenant's cache statistics
+     * and upload threads.  Defaults to null in which case the client's identity is used.
+     *
+     * @return the tenant name, or null
+     */
+    default String getTenantId() {
+        return null;
+    }
+
+    /**
+     * Creates the S3AsyncClient client for the current tenant, used by reactive stores.  Called only when no client is
+     * cached for the tenant returned by {@link #getTenantId()}; clients are cached per tenant and closed when evicted.
+     * Where this returns null, as it does by default, or the tenant id is null the store's own S3AsyncClient is used.
+     *
+     * @return a new S3AsyncClient client for the current tenant, or null
+     */
+    default S3AsyncClient createS3AsyncClient() {
+        return null;
+    }
 }
@@ -14,6 +14,7 @@ import com.github.dockerjava.zerodep.shaded.org.apache.hc.core5.net.URIBuilder;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.AwsCredentials;
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
 
 public class LocalStack extends LocalStackContainer implements Serializable {
@@ -42,6 +43,13 @@ public class LocalStack extends LocalStackContainer implements Serializable {
                 .build();
     }
 
+    public static S3AsyncClient getAmazonS3AsyncClient() throws URISyntaxException {
+        return S3AsyncClient.builder()
+                .endpointOverride(new URI(LocalStack.singleton().getEndpointConfiguration(LocalStackContainer.Service.S3).getServiceEndpoint()))
+                .credentialsProvider(new LocalStack.CrossAwsCredentialsProvider(LocalStack.singleton().getDefaultCredentialsProvider()))
+                .build();
+    }
+
     @Override
     public URI getEndpointOverride(EnabledService service) {
         try {
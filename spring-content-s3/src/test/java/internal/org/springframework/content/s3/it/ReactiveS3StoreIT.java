@@ -0,0 +1,184 @@
+package internal.org.springframework.content.s3.it;
+
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.*;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.runner.RunWith;
+import org.springframework.content.commons.annotations.ContentId;
+import org.springframework.content.commons.annotations.ContentLength;
+import org.springframework.content.commons.annotations.MimeType;
+import org.springframework.content.commons.property.PropertyPath;
+import org.springframework.content.commons.utils.PlacementService;
+import org.springframework.content.commons.utils.PlacementServiceImpl;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import com.github.paulcwarren.ginkgo4j.Ginkgo4jConfiguration;
+import com.github.paulcwarren.ginkgo4j.Ginkgo4jRunner;
+
+import internal.org.springframework.content.s3.config.S3StoreConfiguration;
+import internal.org.springframework.content.s3.store.DefaultReactiveS3StoreImpl;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import reactor.core.publisher.Flux;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.CreateBucketRequest;
+import software.amazon.awssdk.services.s3.model.HeadBucketRequest;
+import software.amazon.awssdk.services.s3.model.NoSuchBucketException;
+
+@RunWith(Ginkgo4jRunner.class)
+@Ginkgo4jConfiguration(threads=1)
+public class ReactiveS3StoreIT {
+
+    private static final String BUCKET = "aws-test-bucket";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private S3AsyncClient client;
+    private DefaultReactiveS3StoreImpl<TestEntity, String> store;
+
+    private TestEntity entity;
+    private long contentLen;
+    private AtomicLong requested;
+
+    {
+        Describe("DefaultReactiveS3StoreImpl", () -> {
+
+            BeforeEach(() -> {
+                client = LocalStack.getAmazonS3AsyncClient();
+
+                try {
+                    client.headBucket(HeadBucketRequest.builder().bucket(BUCKET).build()).join();
+                } catch (Exception e) {
+                    if (e.getCause() instanceof NoSuchBucketException == false) {
+                        throw e;
+                    }
+                    client.createBucket(CreateBucketRequest.builder().bucket(BUCKET).build()).join();
+                }
+
+                PlacementService placementService = new PlacementServiceImpl();
+                S3StoreConfiguration.addDefaultS3ObjectIdConverters(placementService, BUCKET);
+
+                store = new DefaultReactiveS3StoreImpl<>(mock(ApplicationContext.class), new DefaultResourceLoader(), null, placementService, client, null);
+
+                entity = new TestEntity();
+                requested = new AtomicLong();
+            });
+
+            AfterEach(() -> {
+                store.unsetContent(entity, PropertyPath.from("content")).block();
+                client.close();
+            });
+
+            Context("given content of unknown length that spans several parts", () -> {
+
+                BeforeEach(() -> {
+                    contentLen = 2L * 5 * 1024 * 1024 + 123;
+
+                    store.setContent(entity, PropertyPath.from("content"), -1, content(contentLen)).block();
+                });
+
+                It("should upload the content in parts", () -> {
+                    assertThat(entity.getContentId(), is(notNullValue()));
+                    assertThat(entity.getContentLen(), is(contentLen));
+
+                    // content is only pulled from the source as parts are uploaded
+                    assertThat(requested.get() < contentLen / BUFFER_SIZE + 64, is(true));
+                });
+
+                It("should read the content back", () -> {
+                    List<ByteBuffer> buffers = store.getContent(entity, PropertyPath.from("content")).collectList().block();
+
+                    assertContent(buffers, 0, contentLen);
+                });
+
+                It("should read a range of the content", () -> {
+                    long offset = 5L * 1024 * 1024 - 10;
+
+                    List<ByteBuffer> buffers = store.getContent(entity, PropertyPath.from("content"), offset, 100).collectList().block();
+
+                    assertContent(buffers, offset, 100);
+                });
+
+                It("should read from an offset to the end of the content", () -> {
+                    long offset = contentLen - 50;
+
+                    List<ByteBuffer> buffers = store.getContent(entity, PropertyPath.from("content"), offset, -1).collectList().block();
+
+                    assertContent(buffers, offset, 50);
+                });
+            });
+
+            Context("given content of unknown length that fits in a single part", () -> {
+
+                BeforeEach(() -> {
+                    contentLen = 1000;
+
+                    store.setContent(entity, PropertyPath.from("content"), -1, content(contentLen)).block();
+                });
+
+                It("should put the content", () -> {
+                    assertThat(entity.getContentLen(), is(contentLen));
+
+                    List<ByteBuffer> buffers = store.getContent(entity, PropertyPath.from("content")).collectList().block();
+
+                    assertContent(buffers, 0, contentLen);
+                });
+            });
+        });
+    }
+
+    private Flux<ByteBuffer> content(long length) {
+        return Flux.<ByteBuffer, Long>generate(() -> 0L, (position, sink) -> {
+                    if (position >= length) {
+                        sink.complete();
+                        return position;
+                    }
+                    int n = (int) Math.min(BUFFER_SIZE, length - position);
+                    byte[] bytes = new byte[n];
+                    for (int i = 0; i < n; i++) {
+                        bytes[i] = valueAt(position + i);
+                    }
+                    sink.next(ByteBuffer.wrap(bytes));
+                    return position + n;
+                })
+                .doOnRequest(n -> requested.addAndGet(Math.min(n, Integer.MAX_VALUE)));
+    }
+
+    private static byte valueAt(long position) {
+        return (byte) (position % 251);
+    }
+
+    private static void assertContent(List<ByteBuffer> buffers, long offset, long length) {
+        long position = offset;
+        for (ByteBuffer buffer : buffers) {
+            while (buffer.hasRemaining()) {
+                assertThat(buffer.get(), is(valueAt(position++)));
+            }
+        }
+        assertThat(position - offset, is(length));
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class TestEntity {
+
+        @ContentId
+        private String contentId;
+
+        @ContentLength
+        private long contentLen;
+
+        @MimeType
+        private String contentType;
+    }
+}
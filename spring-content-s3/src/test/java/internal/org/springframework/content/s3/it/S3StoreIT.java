@@ -42,6 +42,7 @@ import org.springframework.orm.jpa.vendor.Database;
 import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
 import org.springframework.transaction.PlatformTransactionManager;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
 import software.amazon.awssdk.services.s3.model.CreateBucketRequest;
 import software.amazon.awssdk.services.s3.model.HeadBucketRequest;
 import software.amazon.awssdk.services.s3.model.NoSuchBucketException;
@@ -51,8 +52,12 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
 import java.net.URISyntaxException;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.*;
 import static org.hamcrest.CoreMatchers.*;
@@ -70,7 +75,10 @@ public class S3StoreIT {
         System.setProperty("spring.content.s3.bucket", BUCKET);
     }
 
+    private static final List<CopyObjectRequest> COPIES = new CopyOnWriteArrayList<>();
+
     private TestEntity entity;
+    private TestEntity copy;
     private Resource genericResource;
 
     private Exception e;
@@ -395,6 +403,31 @@ public class S3StoreIT {
                     });
                 });
 
+                Context("when content is copied to another entity", () -> {
+                    BeforeEach(() -> {
+                        COPIES.clear();
+
+                        copy = repo.save(new TestEntity());
+                        copy = store.copyContent(entity, PropertyPath.from("content"), copy, PropertyPath.from("content"));
+                        copy = repo.save(copy);
+                    });
+
+                    It("should copy the object server-side", () -> {
+                        assertThat(COPIES.size(), is(1));
+                        assertThat(COPIES.get(0).destinationKey(), is(not(COPIES.get(0).sourceKey())));
+                    });
+
+                    It("should have the copied content and metadata", () -> {
+                        assertThat(copy.getContentId(), is(not(entity.getContentId())));
+                        assertThat(copy.getContentType(), is("text/plain"));
+                        Assert.assertEquals(copy.getContentLen(), 27L);
+
+                        try (InputStream content = store.getContent(copy)) {
+                            assertThat(IOUtils.contentEquals(new ByteArrayInputStream("Hello Spring Content World!".getBytes()), content), is(true));
+                        }
+                    });
+                });
+
                 Context("when content is deleted", () -> {
                     BeforeEach(() -> {
                         resourceLocation = entity.getContentId().toString();
@@ -505,7 +538,19 @@ public class S3StoreIT {
     public static class TestConfig {
         @Bean
         public S3Client client() throws URISyntaxException {
-            return LocalStack.getAmazonS3Client();
+            S3Client client = LocalStack.getAmazonS3Client();
+
+            // record server-side copies
+            return (S3Client) Proxy.newProxyInstance(S3Client.class.getClassLoader(), new Class<?>[]{S3Client.class}, (proxy, method, args) -> {
+                if ("copyObject".equals(method.getName()) && args[0] instanceof CopyObjectRequest) {
+                    COPIES.add((CopyObjectRequest) args[0]);
+                }
+                try {
+                    return method.invoke(client, args);
+                } catch (InvocationTargetException ite) {
+                    throw ite.getTargetException();
+                }
+            });
         }
     }
 
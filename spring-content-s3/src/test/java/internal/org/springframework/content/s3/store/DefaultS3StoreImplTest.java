@@ -232,6 +232,42 @@ public class DefaultS3StoreImplTest {
 							assertThat(((S3StoreResource)r).getClient(), is(client2));
 							assertThat(r.getDescription(), is(format("Amazon s3 resource [bucket='%s' and object='%s']","some-bucket", "some-object-id")));
 						});
+
+						Context("given the provider names its tenant", () -> {
+							BeforeEach(() -> {
+								clientProvider = new MultiTenantS3ClientProvider() {
+									@Override
+									public S3Client getS3Client() {
+										return client2;
+									};
+
+									@Override
+									public String getTenantId() {
+										return "tenant-a";
+									};
+								};
+							});
+
+							It("should build the tenant's resource loader once and reuse it", () -> {
+								s3ObjectIdBasedStore.getResource(new S3ObjectId("some-bucket", "some-other-object-id"));
+								s3ObjectIdBasedStore.getResource(new S3ObjectId("some-bucket", "yet-another-object-id"));
+
+								assertThat(s3ObjectIdBasedStore.getTenantCacheMisses("tenant-a"), is(1L));
+								assertThat(s3ObjectIdBasedStore.getTenantCacheHits("tenant-a"), is(2L));
+							});
+
+							It("should evict the least recently used tenant when the cache is full", () -> {
+								s3ObjectIdBasedStore.setTenantCache(1, 60000, 0);
+								s3ObjectIdBasedStore.getResource(new S3ObjectId("some-bucket", "some-object-id"));
+
+								S3Client client3 = mock(S3Client.class);
+								client2 = client3;
+								r = s3ObjectIdBasedStore.getResource(new S3ObjectId("some-bucket", "some-object-id"));
+
+								assertThat(((S3StoreResource)r).getClient(), is(client3));
+								assertThat(s3ObjectIdBasedStore.getTenantCacheEvictions(), is(1L));
+							});
+						});
 					});
 				});
 			});
@@ -0,0 +1,184 @@
+package internal.org.springframework.content.s3.store;
+
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.AfterEach;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.BeforeEach;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.Context;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.Describe;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.It;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.JustBeforeEach;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.OutputStream;
+
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.io.WritableResource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.github.paulcwarren.ginkgo4j.Ginkgo4jRunner;
+
+import internal.org.springframework.content.s3.store.TenantCache.UploadExecutor;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+@RunWith(Ginkgo4jRunner.class)
+public class TenantCacheTest {
+
+	private static final int PART_SIZE = 1024 * 1024 * 5;
+
+	private TenantCache cache;
+
+	private S3Client client;
+
+	private ResourceLoader loader;
+	private WritableResource resource;
+	private UploadExecutor executor;
+
+	private S3AsyncClient asyncClient;
+	private TenantCache.AsyncEntry asyncEntry;
+
+	{
+		Describe("TenantCache", () -> {
+			BeforeEach(() -> {
+				client = mock(S3Client.class);
+				when(client.createMultipartUpload(any(CreateMultipartUploadRequest.class))).thenReturn(CreateMultipartUploadResponse.builder().bucket("some-bucket").key("some-key").uploadId("some-upload").build());
+				when(client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class))).thenAnswer(invocation -> UploadPartResponse.builder().eTag("etag-" + ((UploadPartRequest) invocation.getArgument(0)).partNumber()).build());
+				when(client.completeMultipartUpload(any(CompleteMultipartUploadRequest.class))).thenReturn(CompleteMultipartUploadResponse.builder().build());
+
+				cache = new TenantCache(1, 60000, 2);
+			});
+
+			JustBeforeEach(() -> {
+				loader = cache.getResourceLoader("tenant-a", client);
+				resource = (WritableResource) loader.getResource("s3://some-bucket/some-key");
+				executor = (UploadExecutor) ReflectionTestUtils.getField(resource, "taskExecutor");
+			});
+
+			AfterEach(() -> {
+				cache.clear();
+			});
+
+			It("should key entries by tenant", () -> {
+				assertThat(cache.getResourceLoader("tenant-a", client), is(sameInstance(loader)));
+				assertThat(cache.getHits("tenant-a"), is(1L));
+				assertThat(cache.getMisses("tenant-a"), is(1L));
+			});
+
+			Context("when the tenant's provider returns a different client", () -> {
+				It("should replace the tenant's entry", () -> {
+					assertThat(cache.getResourceLoader("tenant-a", mock(S3Client.class)), is(not(sameInstance(loader))));
+					assertThat(cache.getEvictions(), is(1L));
+					assertThat(cache.size(), is(1));
+					assertThat(executor.isShutdown(), is(true));
+				});
+			});
+
+			Context("when an idle tenant is evicted", () -> {
+				JustBeforeEach(() -> {
+					cache.getResourceLoader("tenant-b", mock(S3Client.class));
+				});
+
+				It("should shut down its upload executor and forget its statistics", () -> {
+					assertThat(cache.getEvictions(), is(1L));
+					assertThat(executor.isShutdown(), is(true));
+					assertThat(cache.getMisses("tenant-a"), is(0L));
+					assertThat(cache.getMisses("tenant-b"), is(1L));
+				});
+			});
+
+			Context("when a tenant is evicted during a multi part upload", () -> {
+				It("should upload every part and shut down the executor once the upload completes", () -> {
+					try (OutputStream out = resource.getOutputStream()) {
+						out.write(new byte[PART_SIZE]);
+						out.write(1);
+
+						cache.getResourceLoader("tenant-b", mock(S3Client.class));
+						assertThat(cache.getEvictions(), is(1L));
+						assertThat(executor.isShutdown(), is(false));
+
+						out.write(new byte[PART_SIZE]);
+					}
+
+					verify(client, times(3)).uploadPart(any(UploadPartRequest.class), any(RequestBody.class));
+					ArgumentCaptor<CompleteMultipartUploadRequest> complete = ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+					verify(client).completeMultipartUpload(complete.capture());
+					assertThat(complete.getValue().multipartUpload().parts().size(), is(3));
+					assertThat(executor.isShutdown(), is(true));
+				});
+			});
+
+			Context("when an upload starts through a loader whose tenant was evicted", () -> {
+				It("should restart the executor for the upload", () -> {
+					cache.clear();
+					assertThat(executor.isShutdown(), is(true));
+
+					try (OutputStream out = resource.getOutputStream()) {
+						out.write(new byte[PART_SIZE + 1]);
+						assertThat(executor.isShutdown(), is(false));
+					}
+
+					verify(client, times(2)).uploadPart(any(UploadPartRequest.class), any(RequestBody.class));
+					assertThat(executor.isShutdown(), is(true));
+				});
+			});
+
+			Context("given a tenant's async client", () -> {
+				BeforeEach(() -> {
+					asyncClient = mock(S3AsyncClient.class);
+				});
+
+				JustBeforeEach(() -> {
+					asyncEntry = cache.getAsyncEntry("tenant-a", () -> asyncClient);
+				});
+
+				It("should create the client once", () -> {
+					assertThat(cache.getAsyncEntry("tenant-a", () -> mock(S3AsyncClient.class)), is(sameInstance(asyncEntry)));
+					assertThat(asyncEntry.getClient(), is(asyncClient));
+				});
+
+				Context("when the tenant is evicted during a request", () -> {
+					It("should close the client once the request completes", () -> {
+						TenantCache.AsyncEntry acquired = cache.acquire("tenant-a", asyncEntry, () -> asyncClient);
+						assertThat(acquired, is(sameInstance(asyncEntry)));
+
+						cache.getAsyncEntry("tenant-b", () -> mock(S3AsyncClient.class));
+						assertThat(cache.getEvictions(), is(1L));
+						verify(asyncClient, never()).close();
+
+						acquired.release();
+						verify(asyncClient).close();
+					});
+				});
+
+				Context("when the tenant is evicted before a request", () -> {
+					It("should close the client and acquire a new one for the request", () -> {
+						cache.getAsyncEntry("tenant-b", () -> mock(S3AsyncClient.class));
+						verify(asyncClient).close();
+
+						S3AsyncClient newClient = mock(S3AsyncClient.class);
+						TenantCache.AsyncEntry acquired = cache.acquire("tenant-a", asyncEntry, () -> newClient);
+						assertThat(acquired.getClient(), is(newClient));
+						acquired.release();
+					});
+				});
+			});
+		});
+	}
+}
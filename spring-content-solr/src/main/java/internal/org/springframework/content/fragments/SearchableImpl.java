@@ -2,7 +2,9 @@ package internal.org.springframework.content.fragments;
 
 import java.io.IOException;
 import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
 import java.util.Map;
 
@@ -12,6 +14,7 @@ import org.apache.solr.client.solrj.SolrServerException;
 import org.apache.solr.client.solrj.request.QueryRequest;
 import org.apache.solr.client.solrj.response.QueryResponse;
 import org.apache.solr.common.SolrDocumentList;
+import org.apache.solr.common.params.CursorMarkParams;
 import org.springframework.beans.BeanWrapperImpl;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.content.commons.annotations.ContentId;
@@ -20,6 +23,7 @@ import org.springframework.content.commons.fulltext.Attribute;
 import org.springframework.content.commons.fulltext.Highlight;
 import org.springframework.content.commons.repository.ContentStore;
 import org.springframework.content.commons.repository.StoreAccessException;
+import org.springframework.content.commons.search.ScrollResult;
 import org.springframework.content.commons.search.Searchable;
 import org.springframework.content.commons.utils.BeanUtils;
 import org.springframework.content.commons.utils.ContentPropertyUtils;
@@ -84,6 +88,37 @@ public class SearchableImpl implements Searchable<Object>, ContentStoreAware {
         return getResults(executeQuery(this.getDomainClass(), queryStr, pageable, genericArguments[0]), pageable, genericArguments[0], PageImpl.class);
     }
 
+    @Override
+    public ScrollResult<Object> scroll(String queryStr, String cursor, int size) {
+
+        String cursorMark = (cursor != null ? decodeCursor(cursor) : CursorMarkParams.CURSOR_MARK_START);
+
+        SolrQuery query = buildQuery(this.getDomainClass(), queryStr, genericArguments[0]);
+        query.setRows(size);
+        query.addSort(SolrQuery.SortClause.desc("score"));
+        query.addSort(SolrQuery.SortClause.asc(field));
+        query.set(CursorMarkParams.CURSOR_MARK_PARAM, cursorMark);
+
+        QueryResponse response = processQuery(query, queryStr);
+
+        List<Object> results = toResults(response, genericArguments[0]);
+
+        String nextCursorMark = response.getNextCursorMark();
+        if (nextCursorMark == null || nextCursorMark.equals(cursorMark) || results.size() < size) {
+            return new ScrollResult<>(results, null);
+        }
+
+        return new ScrollResult<>(results, Base64.getUrlEncoder().withoutPadding().encodeToString(nextCursorMark.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private String decodeCursor(String cursor) {
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException iae) {
+            throw new IllegalArgumentException(String.format("Invalid cursor %s", cursor), iae);
+        }
+    }
+
     @Override
     public List<Object> findKeyword(String queryStr) {
         return getResults(executeQuery(this.getDomainClass(), queryStr, null, genericArguments[0]), null, genericArguments[0], ArrayList.class);
@@ -172,6 +207,17 @@ public class SearchableImpl implements Searchable<Object>, ContentStoreAware {
     }
 
     /* package */ QueryResponse executeQuery(Class<?> domainClass, String queryString, Pageable pageable, Class<?> resultType) {
+        SolrQuery query = buildQuery(domainClass, queryString, resultType);
+
+        if (pageable != null) {
+            query.setStart(pageable.getPageNumber() * pageable.getPageSize());
+            query.setRows(pageable.getPageSize());
+        }
+
+        return processQuery(query, queryString);
+    }
+
+    private SolrQuery buildQuery(Class<?> domainClass, String queryString, Class<?> resultType) {
         SolrQuery query = new SolrQuery();
         query.setQuery("_text_:" + queryString);
 
@@ -201,11 +247,10 @@ public class SearchableImpl implements Searchable<Object>, ContentStoreAware {
             }
         }
 
-        if (pageable != null) {
-            query.setStart(pageable.getPageNumber() * pageable.getPageSize());
-            query.setRows(pageable.getPageSize());
-        }
+        return query;
+    }
 
+    private QueryResponse processQuery(SolrQuery query, String queryString) {
         QueryRequest request = new QueryRequest(query);
         if (solrProperties.getUser() != null) {
             request = solrAuthenticate(request);
@@ -225,12 +270,23 @@ public class SearchableImpl implements Searchable<Object>, ContentStoreAware {
 
     private <T> T getResults(QueryResponse response, Pageable pageable, Class<?> searchType, Class<T> returnType) {
 
+        SolrDocumentList list = response.getResults();
+
+        if (list == null || list.size() == 0) {
+            return wrapResult(returnType, new ArrayList<>(), pageable, 0);
+        }
+
+        return wrapResult(returnType, toResults(response, searchType), pageable, list.size());
+    }
+
+    private List<Object> toResults(QueryResponse response, Class<?> searchType) {
+
         List<Object> results = new ArrayList<>();
 
         SolrDocumentList list = response.getResults();
 
-        if (results == null || list.size() == 0) {
-            return wrapResult(returnType, results, pageable, 0);
+        if (list == null) {
+            return results;
         }
 
         for (int j = 0; j < list.size(); ++j) {
@@ -276,7 +332,7 @@ public class SearchableImpl implements Searchable<Object>, ContentStoreAware {
             }
         }
 
-        return wrapResult(returnType, results, pageable, list.size());
+        return results;
     }
 
     protected Class<?> getDomainClass() {
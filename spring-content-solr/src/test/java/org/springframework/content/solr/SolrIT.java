@@ -11,14 +11,17 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.beans.HasPropertyWithValue.hasProperty;
 import static org.hamcrest.collection.IsCollectionWithSize.hasSize;
 import static org.junit.Assert.fail;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import jakarta.persistence.Entity;
@@ -40,6 +43,7 @@ import org.springframework.content.commons.annotations.ContentId;
 import org.springframework.content.commons.fulltext.Attribute;
 import org.springframework.content.commons.fulltext.Highlight;
 import org.springframework.content.commons.repository.ContentStore;
+import org.springframework.content.commons.search.ScrollResult;
 import org.springframework.content.commons.search.Searchable;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.repository.CrudRepository;
@@ -242,6 +246,38 @@ public class SolrIT {
                             assertThat(page.getNumberOfElements(), is(1));
                         });
                 });
+
+                It("should scroll through every result with a cursor", () -> {
+
+                    eventually(
+                        () -> {return docContentRepo.search("foo", PageRequest.of(3, 3));},
+                        (page) -> {
+                            assertThat(page.getNumberOfElements(), is(1));
+                        });
+
+                    List<Integer> sizes = new ArrayList<>();
+                    Set<UUID> contentIds = new HashSet<>();
+
+                    String cursor = null;
+                    do {
+                        ScrollResult<UUID> scroll = docContentRepo.scroll("foo", cursor, 3);
+                        sizes.add(scroll.getContent().size());
+                        contentIds.addAll(scroll.getContent());
+                        cursor = scroll.getCursor();
+                    } while (cursor != null);
+
+                    assertThat(sizes, contains(3, 3, 3, 1));
+                    assertThat(contentIds.size(), is(10));
+                });
+
+                It("should reject an invalid cursor", () -> {
+                    try {
+                        docContentRepo.scroll("foo", "%%%", 3);
+                        fail("expected an invalid cursor to be rejected");
+                    } catch (IllegalArgumentException iae) {
+                        assertThat(iae.getMessage(), containsString("Invalid cursor"));
+                    }
+                });
             });
         });
 
@@ -1,6 +1,9 @@
 package internal.org.springframework.versions;
 
 import java.security.Principal;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 public interface LockingService {
 
@@ -42,4 +45,54 @@ public interface LockingService {
      * @return lock owner
      */
     Principal lockOwner(Object entityId);
+
+    /**
+     * Returns the lock owners of the given entities.  Entities that are not locked are omitted from the result.
+     *
+     * @param entityIds the entities with the locks
+     * @return lock owners keyed by the given entity ids
+     */
+    default Map<Object, Principal> lockOwners(Collection<?> entityIds) {
+        Map<Object, Principal> lockOwners = new LinkedHashMap<>();
+        for (Object entityId : entityIds) {
+            Principal lockOwner = lockOwner(entityId);
+            if (lockOwner != null) {
+                lockOwners.put(entityId, lockOwner);
+            }
+        }
+        return lockOwners;
+    }
+
+    /**
+     * Locks the given entities for the given principal.
+     *
+     * Callers are expected to have checked that none of the entities are locked by another principal and to run
+     * in a transaction so that a failure part way through releases any locks already taken.
+     *
+     * @param entityIds the entities to lock
+     * @param principal the lock owner
+     * @return  true if all locks succeed, otherwise false
+     */
+    default boolean lockAll(Collection<?> entityIds, Principal principal) {
+        boolean locked = true;
+        for (Object entityId : entityIds) {
+            locked &= lock(entityId, principal);
+        }
+        return locked;
+    }
+
+    /**
+     * Unlocks the given entities for the given principal.
+     *
+     * @param entityIds the entities to unlock
+     * @param principal the lock owner
+     * @return  true if all unlocks succeed, otherwise false
+     */
+    default boolean unlockAll(Collection<?> entityIds, Principal principal) {
+        boolean unlocked = true;
+        for (Object entityId : entityIds) {
+            unlocked &= unlock(entityId, principal);
+        }
+        return unlocked;
+    }
 }
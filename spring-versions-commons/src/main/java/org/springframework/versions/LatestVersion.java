@@ -0,0 +1,20 @@
+package org.springframework.versions;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+
+/**
+ * Marks a boolean attribute that is true for the latest version in a version set and false for all other versions,
+ * including private working copies.
+ *
+ * When present the attribute is maintained by {@link LockingAndVersioningRepository} and is used to find the latest
+ * versions without scanning the version sets.  The attribute's column should be indexed.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(value = { FIELD, METHOD })
+public @interface LatestVersion {
+}
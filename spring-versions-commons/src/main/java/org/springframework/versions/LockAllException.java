@@ -0,0 +1,29 @@
+package org.springframework.versions;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Thrown by {@link LockingAndVersioningRepository#lockAll(Iterable)} and
+ * {@link LockingAndVersioningRepository#unlockAll(Iterable)} when one or more of the given entities could not be
+ * locked, or unlocked.  No locks are acquired, or released, when this exception is thrown.
+ */
+public class LockAllException extends LockOwnerException {
+
+    private final Map<Object, String> failures;
+
+    public LockAllException(String msg, Map<Object, String> failures) {
+        super(msg);
+        this.failures = Collections.unmodifiableMap(failures);
+    }
+
+    /**
+     * Returns the entities that could not be locked, or unlocked, keyed by entity id.  The value is the name of the
+     * current lock owner, or null if the entity is not locked.
+     *
+     * @return the failed entity ids and their lock owners
+     */
+    public Map<Object, String> getFailures() {
+        return failures;
+    }
+}
@@ -10,4 +10,9 @@ import java.lang.annotation.Target;
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
 public @interface LockParticipant {
+
+    /**
+     * Index of the argument holding the entity that must not be locked by another principal.
+     */
+    int value() default 0;
 }
@@ -3,6 +3,8 @@ package org.springframework.versions;
 import java.io.Serializable;
 import java.util.List;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.rest.core.annotation.RestResource;
 
@@ -31,6 +33,34 @@ public interface LockingAndVersioningRepository<T, ID extends Serializable> {
      */
     <S extends T> S unlock(S entity);
 
+    /**
+     * Locks all of the given entities and returns them with their @LockOwner attributes updated.
+     *
+     * Locks are acquired in as few statements as possible and all-or-nothing; if any entity is locked by another
+     * principal no locks are acquired.  Entities already locked by the current principal are left locked.
+     *
+     * @param <S> the type of entity
+     * @param entities the entities to be locked
+     * @return the locked entities
+     * @throws LockAllException if any entity is locked by another principal
+     * @throws SecurityException if no authentication exists
+     */
+    <S extends T> List<S> lockAll(Iterable<S> entities);
+
+    /**
+     * Unlocks all of the given entities and returns them with their @LockOwner attributes updated.
+     *
+     * Locks are released all-or-nothing; if the current principal is not the lock owner of every entity no locks
+     * are released.
+     *
+     * @param <S> the type of entity
+     * @param entities the entities to unlock
+     * @return the unlocked entities
+     * @throws LockAllException if the current principal is not the lock owner of every entity
+     * @throws SecurityException if no authentication exists
+     */
+    <S extends T> List<S> unlockAll(Iterable<S> entities);
+
     /**
      * Overridden implementation of save that enforces locking semantics
      *
@@ -101,6 +131,18 @@ public interface LockingAndVersioningRepository<T, ID extends Serializable> {
      */
     <S extends T> List<S> findAllVersionsLatest(Class<S> entityClass);
 
+    /**
+     * Returns a page of the latest version of all entities.
+     *
+     * When the entity class has a {@link LatestVersion} attribute the page is read using that attribute alone.
+     *
+     * @param <S> the type of entity
+     * @param entityClass the type of the entity to find
+     * @param pageable the page to return
+     * @return page of latest version entities
+     */
+    <S extends T> Page<S> findAllVersionsLatest(Class<S> entityClass, Pageable pageable);
+
     /**
      * Returns a list of all versions for the given entity.
      *
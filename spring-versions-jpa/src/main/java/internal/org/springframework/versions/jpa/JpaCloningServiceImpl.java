@@ -2,6 +2,8 @@ package internal.org.springframework.versions.jpa;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.springframework.content.commons.mappingcontext.ContentProperty;
+import org.springframework.content.commons.mappingcontext.MappingContext;
 import org.springframework.util.ClassUtils;
 import org.springframework.versions.LockingAndVersioningException;
 
@@ -13,6 +15,20 @@ public class JpaCloningServiceImpl implements CloningService {
 
     private static Log logger = LogFactory.getLog(JpaCloningServiceImpl.class);
 
+    private boolean contentReferences = false;
+    private MappingContext mappingContext = new MappingContext("/", ".");
+
+    /**
+     * When enabled clones reference the content of the entity they were cloned from, unless the copy constructor
+     * has already set it.  Content is shared copy-on-write so no content is copied until new content is set on the
+     * clone.
+     *
+     * @param contentReferences true to share content between an entity and its clones
+     */
+    public void setContentReferences(boolean contentReferences) {
+        this.contentReferences = contentReferences;
+    }
+
     @Override
     public Object clone(Object entity) {
 
@@ -28,7 +44,25 @@ public class JpaCloningServiceImpl implements CloningService {
         } catch (Exception e) {
             throw new LockingAndVersioningException("copy constructor failed", e);
         }
+
+        if (contentReferences) {
+            referenceContent(entity, newInstance);
+        }
+
         return newInstance;
     }
 
+    private void referenceContent(Object entity, Object clone) {
+        for (ContentProperty property : mappingContext.getContentProperties(entity.getClass())) {
+            Object contentId = property.getContentId(entity);
+            if (contentId == null || property.getContentId(clone) != null) {
+                continue;
+            }
+
+            property.setContentId(clone, contentId, null);
+            property.setContentLength(clone, property.getContentLength(entity));
+            property.setMimeType(clone, property.getMimeType(entity));
+            property.setOriginalFileName(clone, property.getOriginalFileName(entity));
+        }
+    }
 }
@@ -11,6 +11,7 @@ import org.springframework.transaction.annotation.AnnotationTransactionAttribute
 import org.springframework.transaction.interceptor.TransactionInterceptor;
 import org.springframework.util.Assert;
 import org.springframework.versions.LockingAndVersioningProxyFactory;
+import org.springframework.versions.interceptors.ContentReferenceInterceptor;
 import org.springframework.versions.interceptors.OptimisticLockingInterceptor;
 import org.springframework.versions.interceptors.PessimisticLockingInterceptor;
 
@@ -23,6 +24,7 @@ public class JpaLockingAndVersioningProxyFactoryImpl implements LockingAndVersio
     private EntityManager em;
     private LockingService locker;
     private AuthenticationFacade auth;
+    private boolean contentReferences = false;
 
     public JpaLockingAndVersioningProxyFactoryImpl(BeanFactory beanFactory,
             PlatformTransactionManager ptm,
@@ -36,6 +38,16 @@ public class JpaLockingAndVersioningProxyFactoryImpl implements LockingAndVersio
         this.auth = auth;
     }
 
+    /**
+     * When enabled stores guard content shared between versions so that it is copied before it is changed and only
+     * removed once no version references it.  Should stay enabled once content has been shared.
+     *
+     * @param contentReferences true when versions may share content
+     */
+    public void setContentReferences(boolean contentReferences) {
+        this.contentReferences = contentReferences;
+    }
+
     public void apply(ProxyFactory proxy) {
         Assert.notNull(beanFactory, "Locking and Versioning requires a BeanFactory");
         Assert.notNull(ptm, "Locking and Versioning requires a PlatformTransactionManager");
@@ -46,6 +58,9 @@ public class JpaLockingAndVersioningProxyFactoryImpl implements LockingAndVersio
         addTransactionAdviceIfNeeded(proxy, ptm);
         proxy.addAdvice(new OptimisticLockingInterceptor(em));
         proxy.addAdvice(new PessimisticLockingInterceptor(locker, auth));
+        if (contentReferences) {
+            proxy.addAdvice(new ContentReferenceInterceptor(em));
+        }
     }
 
     protected void addTransactionAdviceIfNeeded(ProxyFactory proxy, PlatformTransactionManager ptm) {
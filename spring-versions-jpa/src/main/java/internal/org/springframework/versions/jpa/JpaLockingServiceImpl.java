@@ -1,9 +1,15 @@
 package internal.org.springframework.versions.jpa;
 
 import java.security.Principal;
-import java.sql.ResultSet;
-import java.sql.SQLException;
+import java.sql.DatabaseMetaData;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import javax.security.auth.Subject;
 
@@ -13,9 +19,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
-import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.JdbcUtils;
 import org.springframework.jdbc.support.rowset.SqlRowSet;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 
 import internal.org.springframework.versions.LockingService;
 
@@ -24,31 +31,63 @@ public class JpaLockingServiceImpl implements LockingService {
 
     private static Log logger = LogFactory.getLog(JpaLockingServiceImpl.class);
 
+    static final String INSERT_LOCK_SQL = "INSERT INTO locks (entity_id, lock_owner) VALUES (?,?)";
+
+    // inserts the lock, or touches it when already held by the same owner; affects no rows when held by another
+    static final String POSTGRESQL_UPSERT_LOCK_SQL = "INSERT INTO locks (entity_id, lock_owner) VALUES (?,?) ON CONFLICT (entity_id) DO UPDATE SET lock_owner = EXCLUDED.lock_owner WHERE locks.lock_owner = EXCLUDED.lock_owner";
+
+    static final String DELETE_LOCK_SQL = "DELETE FROM locks WHERE entity_id = ? AND lock_owner = ?";
+    static final String SELECT_LOCK_SQL = "SELECT entity_id FROM locks WHERE entity_id = ? AND lock_owner = ?";
+    static final String SELECT_LOCK_OWNER_SQL = "SELECT lock_owner FROM locks WHERE entity_id = ?";
+    static final String SELECT_LOCK_OWNERS_SQL = "SELECT entity_id, lock_owner FROM locks WHERE entity_id IN (%s)";
+
+    // bounded well below the 1000 element IN list limit imposed by some databases
+    static final int BATCH_SIZE = 500;
+
     private JdbcTemplate template;
+    private LockOwnerCache cache;
+
+    private volatile Boolean upsert = null;
 
     @Autowired
     public JpaLockingServiceImpl(JdbcTemplate template){
         this.template = template;
     }
 
+    /**
+     * Enables the lock ownership near-cache.  Lock state cached on one node is not invalidated by locks taken or
+     * released on other nodes so the time-to-live should be no longer than the staleness the application can
+     * tolerate.
+     *
+     * @param ttlMillis time-to-live of cached lock ownership, in milliseconds.  Zero or less disables the cache.
+     */
+    public void setLockCacheTtl(long ttlMillis) {
+        this.cache = (ttlMillis > 0 ? new LockOwnerCache(ttlMillis) : null);
+    }
+
     @Override
     public boolean lock(Object entityId, Principal principal) {
         if (principal == null) {
             throw new SecurityException("no principal");
         }
 
-        String sql = "SELECT count(lock_owner) from locks where entity_id = ?  and lock_owner = ?";
-        Integer rc = template.queryForObject(sql, new String[] {entityId.toString(), principal.getName()}, Integer.class);
-        if (rc == 1) {
-            return true;
-        }
-
+        String id = entityId.toString();
         try {
-            sql = "INSERT INTO locks (entity_id, lock_owner) VALUES (?,?)";
-            rc = template.update(sql, entityId.toString(), principal.getName());
-            return (rc == 1);
-        } catch (DuplicateKeyException e) {
-            return false;
+            if (useUpsert()) {
+                return template.update(POSTGRESQL_UPSERT_LOCK_SQL, id, principal.getName()) == 1;
+            }
+
+            try {
+                if (template.update(INSERT_LOCK_SQL, id, principal.getName()) == 1) {
+                    return true;
+                }
+            } catch (DuplicateKeyException e) {
+                // already locked; succeeds only when the lock is already held by this principal
+            }
+
+            return template.queryForRowSet(SELECT_LOCK_SQL, id, principal.getName()).next();
+        } finally {
+            evict(id);
         }
     }
 
@@ -58,41 +97,135 @@ public class JpaLockingServiceImpl implements LockingService {
             throw new SecurityException("no principal");
         }
 
-        String sql = "DELETE from locks where entity_id = ? and lock_owner = ?";
-        int rc = template.update(sql, entityId.toString(), principal.getName());
-        return (rc == 1);
+        String id = entityId.toString();
+        try {
+            int rc = template.update(DELETE_LOCK_SQL, id, principal.getName());
+            return (rc == 1);
+        } finally {
+            evict(id);
+        }
     }
 
     @Override
     public Principal lockOwner(Object entityId) {
-        String sql = "SELECT lock_owner from locks where entity_id = '" + entityId + "'";
-        List<String> lockOwners = template.query(sql, new RowMapper() {
+        String id = entityId.toString();
 
-            @Override
-            public Object mapRow(ResultSet rs, int rowNum) throws SQLException {
-                return rs.getString(1);
+        if (cache != null) {
+            LockOwnerCache.Entry entry = cache.get(id);
+            if (entry != null) {
+                return principal(entry.getLockOwner());
             }
+        }
 
-        });
+        long generation = (cache != null ? cache.generation() : 0L);
+        List<String> lockOwners = template.query(SELECT_LOCK_OWNER_SQL, (rs, rowNum) -> rs.getString(1), id);
 
-        if (lockOwners.isEmpty()) {
-            return null;
+        String lockOwner = null;
+        if (lockOwners == null || lockOwners.isEmpty()) {
+            lockOwner = null;
         } else if (lockOwners.size() > 1) {
             throw new IncorrectResultSizeDataAccessException(1);
         } else {
-            final String name = lockOwners.get(0);
-            return new Principal() {
+            lockOwner = lockOwners.get(0);
+        }
 
-                @Override
-                public String getName() {
-                    return name;
+        if (cache != null) {
+            cache.put(id, lockOwner, generation);
+        }
+
+        return principal(lockOwner);
+    }
+
+    @Override
+    public Map<Object, Principal> lockOwners(Collection<?> entityIds) {
+        Map<String, Object> ids = new LinkedHashMap<>();
+        for (Object entityId : entityIds) {
+            ids.put(entityId.toString(), entityId);
+        }
+
+        Map<String, String> lockOwners = new HashMap<>();
+        List<String> uncached = new ArrayList<>();
+        for (String id : ids.keySet()) {
+            LockOwnerCache.Entry entry = (cache != null ? cache.get(id) : null);
+            if (entry != null) {
+                if (entry.getLockOwner() != null) {
+                    lockOwners.put(id, entry.getLockOwner());
+                }
+            } else {
+                uncached.add(id);
+            }
+        }
+
+        for (List<String> batch : batches(uncached)) {
+            long generation = (cache != null ? cache.generation() : 0L);
+            String sql = String.format(SELECT_LOCK_OWNERS_SQL, StringUtils.collectionToCommaDelimitedString(Collections.nCopies(batch.size(), "?")));
+            Map<String, String> batchOwners = new HashMap<>();
+            template.query(sql, (rs) -> {
+                batchOwners.put(rs.getString(1), rs.getString(2));
+            }, batch.toArray());
+
+            for (String id : batch) {
+                if (cache != null) {
+                    cache.put(id, batchOwners.get(id), generation);
                 }
+            }
+            lockOwners.putAll(batchOwners);
+        }
+
+        Map<Object, Principal> results = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> id : ids.entrySet()) {
+            String lockOwner = lockOwners.get(id.getKey());
+            if (lockOwner != null) {
+                results.put(id.getValue(), principal(lockOwner));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Locks the given entities using JDBC batching.  On databases other than PostgreSQL entities already locked
+     * by the principal must be excluded by the caller; any lock found to be held fails the whole batch leaving the
+     * caller's transaction to roll back the locks already inserted.
+     */
+    @Override
+    public boolean lockAll(Collection<?> entityIds, Principal principal) {
+        if (principal == null) {
+            throw new SecurityException("no principal");
+        }
 
-                @Override
-                public boolean implies(Subject subject) {
-                    throw new UnsupportedOperationException();
+        List<String> ids = ids(entityIds);
+        try {
+            String sql = useUpsert() ? POSTGRESQL_UPSERT_LOCK_SQL : INSERT_LOCK_SQL;
+            for (List<String> batch : batches(ids)) {
+                try {
+                    if (!allUpdated(template.batchUpdate(sql, args(batch, principal)))) {
+                        return false;
+                    }
+                } catch (DuplicateKeyException e) {
+                    return false;
                 }
-            };
+            }
+            return true;
+        } finally {
+            ids.forEach(this::evict);
+        }
+    }
+
+    @Override
+    public boolean unlockAll(Collection<?> entityIds, Principal principal) {
+        if (principal == null) {
+            throw new SecurityException("no principal");
+        }
+
+        List<String> ids = ids(entityIds);
+        try {
+            boolean unlocked = true;
+            for (List<String> batch : batches(ids)) {
+                unlocked &= allUpdated(template.batchUpdate(DELETE_LOCK_SQL, args(batch, principal)));
+            }
+            return unlocked;
+        } finally {
+            ids.forEach(this::evict);
         }
     }
 
@@ -102,8 +235,85 @@ public class JpaLockingServiceImpl implements LockingService {
             throw new SecurityException("no principal");
         }
 
-        String sql = "SELECT entity_id from locks where entity_id = ? and lock_owner = ?";
-        SqlRowSet rs = template.queryForRowSet(sql, entityId.toString(), principal.getName());
+        if (cache != null) {
+            Principal lockOwner = lockOwner(entityId);
+            return lockOwner != null && lockOwner.getName().equals(principal.getName());
+        }
+
+        SqlRowSet rs = template.queryForRowSet(SELECT_LOCK_SQL, entityId.toString(), principal.getName());
         return rs.next();
     }
+
+    private static List<String> ids(Collection<?> entityIds) {
+        List<String> ids = new ArrayList<>(entityIds.size());
+        for (Object entityId : entityIds) {
+            ids.add(entityId.toString());
+        }
+        return ids;
+    }
+
+    private static List<List<String>> batches(List<String> ids) {
+        List<List<String>> batches = new ArrayList<>();
+        for (int i=0; i < ids.size(); i += BATCH_SIZE) {
+            batches.add(ids.subList(i, Math.min(i + BATCH_SIZE, ids.size())));
+        }
+        return batches;
+    }
+
+    private static List<Object[]> args(List<String> ids, Principal principal) {
+        List<Object[]> args = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            args.add(new Object[] {id, principal.getName()});
+        }
+        return args;
+    }
+
+    private static boolean allUpdated(int[] rcs) {
+        for (int rc : rcs) {
+            // some drivers do not report per statement update counts for batches
+            if (rc != 1 && rc != Statement.SUCCESS_NO_INFO) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void evict(String entityId) {
+        if (cache != null) {
+            cache.evict(entityId);
+        }
+    }
+
+    private boolean useUpsert() {
+        if (upsert == null) {
+            boolean postgres = false;
+            try {
+                String productName = JdbcUtils.commonDatabaseName(JdbcUtils.extractDatabaseMetaData(template.getDataSource(), DatabaseMetaData::getDatabaseProductName));
+                postgres = "PostgreSQL".equals(productName);
+            } catch (Exception e) {
+                logger.debug("Unable to determine database product; locking with insert", e);
+            }
+            upsert = postgres;
+        }
+        return upsert;
+    }
+
+    private static Principal principal(final String name) {
+        if (name == null) {
+            return null;
+        }
+
+        return new Principal() {
+
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public boolean implies(Subject subject) {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
 }
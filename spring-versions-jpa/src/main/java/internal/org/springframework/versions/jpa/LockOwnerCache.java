@@ -0,0 +1,101 @@
+package internal.org.springframework.versions.jpa;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import internal.org.springframework.content.commons.utils.ExpiringCache;
+
+/**
+ * Near-cache of lock ownership keyed by entity id.
+ * <p>
+ * Both locked and unlocked states are cached so that saves on unlocked entities do not have to query the locks
+ * table.  Entries expire after the configured time-to-live which bounds how long a lock taken by another node can
+ * go unnoticed.  Entries are evicted whenever a lock is taken or released through this node and again when the
+ * surrounding transaction completes so that state read from an uncommitted (or rolled back) transaction is not
+ * retained.
+ * <p>
+ * Readers take a {@link #generation()} before reading the locks table and hand it back to {@link #put}.  Evicting an
+ * entity leaves a marker stamped with a new generation so that a read that began before the eviction cannot put
+ * back the state it replaced.
+ */
+class LockOwnerCache {
+
+    static final int DEFAULT_MAX_ENTRIES = 10000;
+
+    private final ExpiringCache<String, Entry> entries;
+    private final AtomicLong generation = new AtomicLong();
+
+    LockOwnerCache(long ttlMillis) {
+        this(ttlMillis, DEFAULT_MAX_ENTRIES);
+    }
+
+    LockOwnerCache(long ttlMillis, int maxEntries) {
+        this.entries = new ExpiringCache<>(ttlMillis, maxEntries);
+    }
+
+    /**
+     * Returns the cached entry for the given entity, or null when the entity is not cached or its entry has
+     * expired.
+     */
+    Entry get(String entityId) {
+        Entry entry = entries.get(entityId);
+        return (entry == null || entry.isEvicted()) ? null : entry;
+    }
+
+    /**
+     * Returns the current generation, to be taken before the lock owner is read and handed to {@link #put}.
+     */
+    long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Caches the lock owner read since the given generation, unless the entity has been evicted since.
+     */
+    void put(String entityId, String lockOwner, long readGeneration) {
+        Entry entry = new Entry(lockOwner, 0L);
+        entries.compute(entityId, (id, current) -> (current != null && current.isEvictedAfter(readGeneration) ? current : entry));
+    }
+
+    void evict(String entityId) {
+        markEvicted(entityId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    markEvicted(entityId);
+                }
+            });
+        }
+    }
+
+    private void markEvicted(String entityId) {
+        entries.put(entityId, new Entry(null, generation.incrementAndGet()));
+    }
+
+    static class Entry {
+
+        private final String lockOwner;
+        private final long evictedAt;
+
+        Entry(String lockOwner, long evictedAt) {
+            this.lockOwner = lockOwner;
+            this.evictedAt = evictedAt;
+        }
+
+        String getLockOwner() {
+            return lockOwner;
+        }
+
+        boolean isEvicted() {
+            return evictedAt > 0;
+        }
+
+        boolean isEvictedAfter(long generation) {
+            return evictedAt > generation;
+        }
+    }
+}
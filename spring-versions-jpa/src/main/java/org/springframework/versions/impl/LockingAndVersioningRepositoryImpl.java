@@ -7,28 +7,44 @@ import java.lang.reflect.Field;
 import java.security.Principal;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.Id;
 import jakarta.persistence.NoResultException;
 import jakarta.persistence.Query;
 import jakarta.persistence.TypedQuery;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.SingularAttribute;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.commons.text.StringSubstitutor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.content.commons.mappingcontext.ContentProperty;
+import org.springframework.content.commons.mappingcontext.MappingContext;
+import org.springframework.content.commons.property.PropertyPath;
+import org.springframework.content.commons.storeservice.StoreInfo;
+import org.springframework.content.commons.storeservice.Stores;
 import org.springframework.content.commons.utils.BeanUtils;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.repository.core.EntityInformation;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.security.core.Authentication;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 import org.springframework.versions.AncestorId;
 import org.springframework.versions.AncestorRootId;
+import org.springframework.versions.LatestVersion;
+import org.springframework.versions.LockAllException;
 import org.springframework.versions.LockOwner;
 import org.springframework.versions.LockOwnerException;
 import org.springframework.versions.LockingAndVersioningException;
@@ -49,6 +65,20 @@ public class LockingAndVersioningRepositoryImpl<T, ID extends Serializable> impl
 
     private static Log logger = LogFactory.getLog(JpaCloningServiceImpl.class);
 
+    // heads that are not private working copies; a private working copy is a head whose ancestor is also a head
+    private static final String LATEST_VERSIONS_CONDITION = "t.${successorId} is null and not exists (select f2.${id} from ${entityClass} f2 where f2.${id} = t.${ancestorId} and f2.${successorId} is null)";
+    private static final String LATEST_VERSIONS_BY_MARKER_CONDITION = "t.${latestVersion} = true";
+
+    private static final String FIND_ALL_VERSIONS_LATEST_QUERY = "select t from ${entityClass} t where " + LATEST_VERSIONS_CONDITION;
+    private static final String COUNT_ALL_VERSIONS_LATEST_QUERY = "select count(t) from ${entityClass} t where " + LATEST_VERSIONS_CONDITION;
+    private static final String FIND_ALL_VERSIONS_LATEST_BY_MARKER_QUERY = "select t from ${entityClass} t where " + LATEST_VERSIONS_BY_MARKER_CONDITION;
+    private static final String COUNT_ALL_VERSIONS_LATEST_BY_MARKER_QUERY = "select count(t) from ${entityClass} t where " + LATEST_VERSIONS_BY_MARKER_CONDITION;
+    private static final String ORDER_BY_ID = "order by t.${id}";
+    private static final String FIND_ALL_VERSIONS_QUERY = "select t from ${entityClass} t where t.${ancestorRootId} = :ancestorRootId";
+    private static final String DELETE_ALL_VERSIONS_QUERY = "delete from ${entityClass} t where t.${ancestorRootId} = :ancestorRootId";
+    private static final String IS_PRIVATE_WORKING_COPY_QUERY = "select count(f1.${id}) FROM ${entityClass} f1 inner join ${entityClass} f2 on f1.${ancestorId} = f2.${id} and f2.${successorId} IS NULL where f1.${id} = :id";
+    private static final String FIND_WORKING_COPY_QUERY = "select f1 FROM ${entityClass} f1 inner join ${entityClass} f2 on f1.${ancestorId} = f2.${id} and f2.${successorId} IS NULL where f1.${ancestorRootId} = :id";
+
     private EntityManager em;
     private EntityInformationFacade entityInfo;
     private EntityInformation<T, ?> entityInformation;
@@ -56,6 +86,12 @@ public class LockingAndVersioningRepositoryImpl<T, ID extends Serializable> impl
     private LockingService lockingService;
     private VersioningService versioner;
     private CloningService cloner;
+    private Stores stores;
+    private MappingContext mappingContext = new MappingContext("/", ".");
+
+    // JPQL resolved for each entity class, keyed by query template
+    private final Map<Class<?>, Map<String, String>> queries = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Boolean> latestVersionMarkers = new ConcurrentHashMap<>();
 
     @Autowired(required=false)
     public LockingAndVersioningRepositoryImpl() {
@@ -71,6 +107,11 @@ public class LockingAndVersioningRepositoryImpl<T, ID extends Serializable> impl
         this.cloner = cloner;
     }
 
+    @Autowired(required=false)
+    public void setStores(Stores stores) {
+        this.stores = stores;
+    }
+
     @Override
     @Transactional
     public <S extends T> S lock(S entity) {
@@ -128,6 +169,89 @@ public class LockingAndVersioningRepositoryImpl<T, ID extends Serializable> impl
         throw new LockingAndVersioningException(format("failed to unlock %s", id));
     }
 
+    @Override
+    @Transactional
+    public <S extends T> List<S> lockAll(Iterable<S> entities) {
+        Authentication authentication = auth.getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            throw new SecurityException("no principal");
+        }
+
+        Map<Object, S> entitiesById = entitiesById(entities);
+        Map<Object, Principal> lockOwners = lockingService.lockOwners(entitiesById.keySet());
+
+        String principal = authentication.getName();
+        Map<Object, String> failures = new LinkedHashMap<>();
+        List<Object> toLock = new ArrayList<>();
+        for (Object id : entitiesById.keySet()) {
+            Principal lockOwner = lockOwners.get(id);
+            if (lockOwner == null) {
+                toLock.add(id);
+            } else if (!principal.equals(lockOwner.getName())) {
+                failures.put(id, lockOwner.getName());
+            }
+        }
+
+        if (!failures.isEmpty()) {
+            throw new LockAllException(format("failed to lock %s of %s entities", failures.size(), entitiesById.size()), failures);
+        }
+
+        if (!toLock.isEmpty() && !lockingService.lockAll(toLock, authentication)) {
+            throw new LockingAndVersioningException(format("failed to lock %s", toLock));
+        }
+
+        for (S entity : entitiesById.values()) {
+            BeanUtils.setFieldWithAnnotation(entity, LockOwner.class, principal);
+        }
+        return new ArrayList<>(entitiesById.values());
+    }
+
+    @Override
+    @Transactional
+    public <S extends T> List<S> unlockAll(Iterable<S> entities) {
+        Authentication authentication = auth.getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            throw new SecurityException("no principal");
+        }
+
+        Map<Object, S> entitiesById = entitiesById(entities);
+        Map<Object, Principal> lockOwners = lockingService.lockOwners(entitiesById.keySet());
+
+        String principal = authentication.getName();
+        Map<Object, String> failures = new LinkedHashMap<>();
+        for (Object id : entitiesById.keySet()) {
+            Principal lockOwner = lockOwners.get(id);
+            if (lockOwner == null || !principal.equals(lockOwner.getName())) {
+                failures.put(id, (lockOwner != null) ? lockOwner.getName() : null);
+            }
+        }
+
+        if (!failures.isEmpty()) {
+            throw new LockAllException(format("failed to unlock %s of %s entities: not lock owner", failures.size(), entitiesById.size()), failures);
+        }
+
+        if (!lockingService.unlockAll(entitiesById.keySet(), authentication)) {
+            throw new LockingAndVersioningException(format("failed to unlock %s", entitiesById.keySet()));
+        }
+
+        for (S entity : entitiesById.values()) {
+            BeanUtils.setFieldWithAnnotation(entity, LockOwner.class, null);
+        }
+        return new ArrayList<>(entitiesById.values());
+    }
+
+    private <S extends T> Map<Object, S> entitiesById(Iterable<S> entities) {
+        Map<Object, S> entitiesById = new LinkedHashMap<>();
+        for (S entity : entities) {
+            Object id = getId(entity);
+            if (id == null) {
+                throw new IllegalStateException("@Id missing");
+            }
+            entitiesById.put(id, entity);
+        }
+        return entitiesById;
+    }
+
     @Override
     @Transactional
     public <S extends T> S save(S entity) {
@@ -137,6 +261,7 @@ public class LockingAndVersioningRepositoryImpl<T, ID extends Serializable> impl
 
         if (entityInformation.isNew(entity)) {
             BeanUtils.setFieldWithAnnotation(entity, VersionNumber.class, "1.0");
+            BeanUtils.setFieldWithAnnotation(entity, LatestVersion.class, true);
 
             em.persist(entity);
             return entity;
@@ -199,6 +324,7 @@ public class LockingAndVersioningRepositoryImpl<T, ID extends Serializable> impl
             versionNumber = "";
         }
         newVersion = (S)versioner.establishSuccessor(newVersion, versionNumber.toString(), "~~PWC~~", ancestorRoot, currentVersion);
+        BeanUtils.setFieldWithAnnotation(newVersion, LatestVersion.class, false);
 
         em.persist(newVersion);
         Object newId = getId(newVersion);
@@ -269,6 +395,9 @@ public class LockingAndVersioningRepositoryImpl<T, ID extends Serializable> impl
             this.unlock(currentVersion);
         }
 
+        BeanUtils.setFieldWithAnnotation(newVersion, LatestVersion.class, true);
+        BeanUtils.setFieldWithAnnotation(currentVersion, LatestVersion.class, false);
+
         currentVersion = (S) versioner.establishAncestor(currentVersion, newVersion);
         em.merge(currentVersion);
 
@@ -284,12 +413,7 @@ public class LockingAndVersioningRepositoryImpl<T, ID extends Serializable> impl
             return new ArrayList<>();
         }
 
-        String sql = "select t from ${entityClass} t where t.${successorId} = null and t.${id} NOT IN (select f1.${id} FROM ${entityClass} f1 inner join ${entityClass} f2 on f1.${ancestorId} = f2.${id} and f2.${successorId} = null)";
-
-        StringSubstitutor sub = new StringSubstitutor(getAttributeMap(clz));
-        sql = sub.replace(sql);
-
-        TypedQuery<S> q = em.createQuery(sql, clz);
+        TypedQuery<S> q = em.createQuery(query(clz, latestVersionsQuery(clz)), clz);
 
         try {
             return q.getResultList();
@@ -301,12 +425,7 @@ public class LockingAndVersioningRepositoryImpl<T, ID extends Serializable> impl
     @Override
     public <S extends T> List<S> findAllVersionsLatest(Class<S> entityClass) {
 
-        String sql = "select t from ${entityClass} t where t.${successorId} = null and t.${id} NOT IN (select f1.${id} FROM ${entityClass} f1 inner join ${entityClass} f2 on f1.${ancestorId} = f2.${id} and f2.${successorId} = null)";
-
-        StringSubstitutor sub = new StringSubstitutor(getAttributeMap(entityClass));
-        sql = sub.replace(sql);
-
-        TypedQuery<S> q = em.createQuery(sql, entityClass);
+        TypedQuery<S> q = em.createQuery(query(entityClass, latestVersionsQuery(entityClass)), entityClass);
 
         try {
             return q.getResultList();
@@ -315,6 +434,25 @@ public class LockingAndVersioningRepositoryImpl<T, ID extends Serializable> impl
         }
     }
 
+    @Override
+    public <S extends T> Page<S> findAllVersionsLatest(Class<S> entityClass, Pageable pageable) {
+
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(this.findAllVersionsLatest(entityClass));
+        }
+
+        // page by id when unsorted so that pages are stable
+        String orderBy = pageable.getSort().isSorted() ? orderBy(entityClass, pageable.getSort()) : query(entityClass, ORDER_BY_ID);
+
+        TypedQuery<S> q = em.createQuery(query(entityClass, latestVersionsQuery(entityClass)) + " " + orderBy, entityClass);
+        q.setFirstResult((int) pageable.getOffset());
+        q.setMaxResults(pageable.getPageSize());
+
+        String countQuery = query(entityClass, hasLatestVersionMarker(entityClass) ? COUNT_ALL_VERSIONS_LATEST_BY_MARKER_QUERY : COUNT_ALL_VERSIONS_LATEST_QUERY);
+
+        return PageableExecutionUtils.getPage(q.getResultList(), pageable, () -> em.createQuery(countQuery, Long.class).getSingleResult());
+    }
+
     @Override
     public <S extends T> List<S> findAllVersions(S entity) {
 
@@ -324,32 +462,15 @@ public class LockingAndVersioningRepositoryImpl<T, ID extends Serializable> impl
     @Override
     public <S extends T> List<S> findAllVersions(S entity, Sort sort) {
 
-        StringBuilder builder = new StringBuilder();
-        if (sort.isSorted()) {
-            builder.append("order by ");
-
-            int i=0;
-            sort.forEach((property) -> {
-                if (i > 0) {
-                    builder.append(",");
-                }
-                builder.append("t.");
-                builder.append(property.getProperty());
-                builder.append(" ");
-                builder.append(property.getDirection());
-            });
-        }
-
-        String sql = "select t from ${entityClass} t where t.${ancestorRootId} = " + getAncestralRootId(entity);
+        String sql = query(entity.getClass(), FIND_ALL_VERSIONS_QUERY);
 
-        if (StringUtils.hasText(builder)) {
-            sql = sql + " " + builder.toString();
+        String orderBy = orderBy(entity.getClass(), sort);
+        if (StringUtils.hasText(orderBy)) {
+            sql = sql + " " + orderBy;
         }
 
-        StringSubstitutor sub = new StringSubstitutor(getAttributeMap(entity.getClass()));
-        sql = sub.replace(sql);
-
         TypedQuery<S> q = em.createQuery(sql, (Class<S>)entity.getClass());
+        q.setParameter("ancestorRootId", getAncestralRootId(entity));
 
         try {
             return q.getResultList();
@@ -400,6 +521,7 @@ public class LockingAndVersioningRepositoryImpl<T, ID extends Serializable> impl
             }
 
             BeanUtils.setFieldWithAnnotation(ancestor, SuccessorId.class, null);
+            BeanUtils.setFieldWithAnnotation(ancestor, LatestVersion.class, true);
 
             if (ancestorRootId.equals(ancestorId)) {
                 BeanUtils.setFieldWithAnnotation(ancestor, AncestorRootId.class, null);
@@ -431,15 +553,54 @@ public class LockingAndVersioningRepositoryImpl<T, ID extends Serializable> impl
             throw new LockOwnerException("not lock owner");
         }
 
-        String sql = "delete from ${entityClass} t where t.${ancestorRootId} = " + getAncestralRootId(entity);
-
-        StringSubstitutor sub = new StringSubstitutor(getAttributeMap(entity.getClass()));
-        sql = sub.replace(sql);
+        unsetContent(this.findAllVersions(entity));
 
-        Query q = em.createQuery(sql);
+        Query q = em.createQuery(query(entity.getClass(), DELETE_ALL_VERSIONS_QUERY));
+        q.setParameter("ancestorRootId", getAncestralRootId(entity));
         q.executeUpdate();
     }
 
+    /**
+     * Unsets the content of each of the given versions through the entity's content store, if it has one.  The
+     * store releases content that is shared with other versions only once the last reference to it is unset.
+     */
+    private void unsetContent(List<?> versions) {
+        if (stores == null || versions.isEmpty()) {
+            return;
+        }
+
+        Class<?> entityClass = versions.get(0).getClass();
+
+        Object store = null;
+        for (StoreInfo info : stores.getStores(Stores.withDomainClass(entityClass))) {
+            store = info.getImplementation(org.springframework.content.commons.store.ContentStore.class);
+            if (store == null) {
+                store = info.getImplementation(org.springframework.content.commons.repository.ContentStore.class);
+            }
+            if (store != null) {
+                break;
+            }
+        }
+        if (store == null) {
+            return;
+        }
+
+        for (Object version : versions) {
+            for (String path : mappingContext.getContentPaths(entityClass)) {
+                ContentProperty property = mappingContext.getContentProperty(entityClass, path);
+                if (property.getContentId(version) == null) {
+                    continue;
+                }
+
+                if (store instanceof org.springframework.content.commons.store.ContentStore) {
+                    ((org.springframework.content.commons.store.ContentStore) store).unsetContent(version, PropertyPath.from(path));
+                } else {
+                    ((org.springframework.content.commons.repository.ContentStore) store).unsetContent(version, PropertyPath.from(path));
+                }
+            }
+        }
+    }
+
     protected <T> boolean isHead(T entity) {
         boolean isHead = false;
         if (BeanUtils.hasFieldWithAnnotation(entity, SuccessorId.class)) {
@@ -459,13 +620,7 @@ public class LockingAndVersioningRepositoryImpl<T, ID extends Serializable> impl
     @Override
     public <S extends T> boolean isPrivateWorkingCopy(S entity) {
 
-        String sql = "select count(f1.${id}) FROM ${entityClass} f1 inner join ${entityClass} f2 on f1.${ancestorId} = f2.${id} and f2.${successorId} IS NULL where f1.${id} = :id";
-
-        Map<String,String> attributes = getAttributeMap(entity.getClass());
-        StringSubstitutor sub = new StringSubstitutor(attributes);
-        sql = sub.replace(sql);
-
-        TypedQuery<Long> q = em.createQuery(sql, Long.class);
+        TypedQuery<Long> q = em.createQuery(query(entity.getClass(), IS_PRIVATE_WORKING_COPY_QUERY), Long.class);
         q.setParameter("id", BeanUtils.getFieldWithAnnotation(entity, Id.class));
 
         return (q.getSingleResult() == 1L);
@@ -474,13 +629,7 @@ public class LockingAndVersioningRepositoryImpl<T, ID extends Serializable> impl
     @Override
     public <S extends T> S findWorkingCopy(S entity) {
 
-        String sql = "select f1 FROM ${entityClass} f1 inner join ${entityClass} f2 on f1.${ancestorId} = f2.${id} and f2.${successorId} IS NULL where f1.${ancestorRootId} = :id";
-
-        Map<String,String> attributes = getAttributeMap(entity.getClass());
-        StringSubstitutor sub = new StringSubstitutor(attributes);
-        sql = sub.replace(sql);
-
-        TypedQuery<S> q = em.createQuery(sql, (Class<S>)entity.getClass());
+        TypedQuery<S> q = em.createQuery(query(entity.getClass(), FIND_WORKING_COPY_QUERY), (Class<S>)entity.getClass());
 
         q.setParameter("id", getAncestralRootId(entity));
 
@@ -491,6 +640,77 @@ public class LockingAndVersioningRepositoryImpl<T, ID extends Serializable> impl
         }
     }
 
+    private String orderBy(Class<?> entityClass, Sort sort) {
+        StringBuilder builder = new StringBuilder();
+        if (sort.isSorted()) {
+            builder.append("order by ");
+
+            int i=0;
+            for (Sort.Order property : sort) {
+                if (i++ > 0) {
+                    builder.append(",");
+                }
+                builder.append("t.");
+                builder.append(sortAttribute(entityClass, property.getProperty()));
+                builder.append(" ");
+                builder.append(property.getDirection());
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Returns the attribute path to order the given entity class by.  Sort properties usually come from request
+     * parameters and are written into the query so only paths through the entity's persistent attributes are
+     * accepted; as in JPQL, <code>id</code> refers to the identifier attribute when the entity has no attribute of
+     * that name.
+     */
+    private String sortAttribute(Class<?> entityClass, String property) {
+        ManagedType<?> type = em.getMetamodel().managedType(entityClass);
+        if ("id".equals(property) && findAttribute(type, property) == null) {
+            return idAttribute(entityClass);
+        }
+
+        for (String segment : property.split("\\.", -1)) {
+            Attribute<?, ?> attribute = type != null ? findAttribute(type, segment) : null;
+            if (attribute == null) {
+                throw new IllegalArgumentException(format("Cannot sort %s by unknown property '%s'", entityClass.getCanonicalName(), property));
+            }
+            type = null;
+            if (attribute instanceof SingularAttribute && ((SingularAttribute<?, ?>) attribute).getType() instanceof ManagedType) {
+                type = (ManagedType<?>) ((SingularAttribute<?, ?>) attribute).getType();
+            }
+        }
+        return property;
+    }
+
+    private Attribute<?, ?> findAttribute(ManagedType<?> type, String name) {
+        for (Attribute<?, ?> attribute : type.getAttributes()) {
+            if (attribute.getName().equals(name)) {
+                return attribute;
+            }
+        }
+        return null;
+    }
+
+    private String latestVersionsQuery(Class<?> entityClass) {
+        return hasLatestVersionMarker(entityClass) ? FIND_ALL_VERSIONS_LATEST_BY_MARKER_QUERY : FIND_ALL_VERSIONS_LATEST_QUERY;
+    }
+
+    private boolean hasLatestVersionMarker(Class<?> entityClass) {
+        return latestVersionMarkers.computeIfAbsent(entityClass, c -> BeanUtils.findFieldWithAnnotation(c, LatestVersion.class) != null);
+    }
+
+    /**
+     * Returns the JPQL for the given query template resolved against the given entity class.  Templates are
+     * resolved once per entity class and take their values as bind parameters so that the same query string is
+     * reused and hits the persistence provider's query plan cache.
+     */
+    private String query(Class<?> entityClass, String template) {
+        return queries.computeIfAbsent(entityClass, c -> new ConcurrentHashMap<>())
+                .computeIfAbsent(template, t -> new StringSubstitutor(getAttributeMap(entityClass)).replace(t));
+    }
+
     private Map<String,String> getAttributeMap(Class<?> entityClass) {
         Map<String,String> attributes = new HashMap<>();
         attributes.put("id", idAttribute(entityClass));
@@ -498,6 +718,11 @@ public class LockingAndVersioningRepositoryImpl<T, ID extends Serializable> impl
         attributes.put("ancestorRootId", ancestorRootIdAttribute(entityClass));
         attributes.put("successorId", successorIdAttribute(entityClass));
         attributes.put("entityClass", entityClass.getName());
+
+        Field latestVersionField = BeanUtils.findFieldWithAnnotation(entityClass, LatestVersion.class);
+        if (latestVersionField != null) {
+            attributes.put("latestVersion", latestVersionField.getName());
+        }
         return attributes;
     }
 
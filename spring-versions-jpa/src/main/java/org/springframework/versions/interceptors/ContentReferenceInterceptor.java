@@ -0,0 +1,303 @@
+package org.springframework.versions.interceptors;
+
+import static java.lang.String.format;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Id;
+import jakarta.persistence.TypedQuery;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.content.commons.annotations.ContentId;
+import org.springframework.content.commons.annotations.ContentLength;
+import org.springframework.content.commons.annotations.MimeType;
+import org.springframework.content.commons.annotations.OriginalFileName;
+import org.springframework.content.commons.mappingcontext.ContentProperty;
+import org.springframework.content.commons.mappingcontext.MappingContext;
+import org.springframework.content.commons.property.PropertyPath;
+import org.springframework.content.commons.utils.BeanUtils;
+import org.springframework.core.io.WritableResource;
+import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.versions.AncestorRootId;
+
+/**
+ * Makes content shared between the versions of an entity copy-on-write.
+ *
+ * Versions created by {@link org.springframework.versions.LockingAndVersioningRepository} may reference their
+ * predecessor's content id rather than a copy of its content.  When content is set on a version whose content id is
+ * referenced by another entity the version is first given a new content id so that the shared content is left
+ * untouched.  When content is unset on such a version it is unassociated but not deleted.  Content is only deleted
+ * once no other entity references it.
+ *
+ * Resources returned by <code>getResource</code> for shared content are copy-on-write too.  Content written to
+ * them is set on the version, under a new content id, when the output stream is closed and deleting them does
+ * nothing.
+ */
+public class ContentReferenceInterceptor implements MethodInterceptor {
+
+    private static final String COUNT_REFERENCES_QUERY = "select count(t) from %s t where t.%s = :contentId and t.%s <> :id";
+    private static final String COUNT_ALL_REFERENCES_QUERY = "select count(t) from %s t where t.%s = :contentId";
+
+    private final EntityManager em;
+    private final MappingContext mappingContext;
+
+    private final Map<Class<?>, Boolean> versioned = new ConcurrentHashMap<>();
+
+    public ContentReferenceInterceptor(EntityManager em) {
+        this(em, new MappingContext("/", "."));
+    }
+
+    public ContentReferenceInterceptor(EntityManager em, MappingContext mappingContext) {
+        Assert.notNull(em, "em cannot be null");
+        Assert.notNull(mappingContext, "mappingContext cannot be null");
+        this.em = em;
+        this.mappingContext = mappingContext;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+
+        String methodName = invocation.getMethod().getName();
+        if (!"setContent".equals(methodName) && !"unsetContent".equals(methodName) && !"copyContent".equals(methodName) && !"getResource".equals(methodName)) {
+            return invocation.proceed();
+        }
+
+        // copyContent writes to its target; the third argument, or the fourth when a target store is given
+        Object[] args = invocation.getArguments();
+        int index = "copyContent".equals(methodName) ? (args.length == 5 ? 3 : 2) : 0;
+        if (args.length <= index || args[index] == null || !isVersioned(args[index].getClass())) {
+            return invocation.proceed();
+        }
+
+        Object entity = args[index];
+        PropertyPath propertyPath = (args.length > index + 1 && args[index + 1] instanceof PropertyPath) ? (PropertyPath) args[index + 1] : null;
+        ContentReference reference = (propertyPath != null) ? reference(entity, propertyPath) : reference(entity);
+
+        if (reference == null || reference.getContentId(entity) == null || !isShared(entity, reference)) {
+            return invocation.proceed();
+        }
+
+        if ("getResource".equals(methodName)) {
+            Object resource = invocation.proceed();
+            if (resource instanceof WritableResource && invocation instanceof ProxyMethodInvocation) {
+                return copyOnWrite((WritableResource) resource, ((ProxyMethodInvocation) invocation).getProxy(), entity, propertyPath);
+            }
+            return resource;
+        }
+
+        if (!"unsetContent".equals(methodName)) {
+            // copy-on-write; the store will allocate a new content id
+            reference.setContentId(entity, null);
+            return invocation.proceed();
+        }
+
+        // still referenced elsewhere; unassociate without deleting
+        reference.setContentId(entity, null);
+        reference.setContentLength(entity, 0);
+        reference.setMimeType(entity, null);
+        reference.setOriginalFileName(entity, null);
+        return entity;
+    }
+
+    private Object copyOnWrite(WritableResource resource, Object store, Object entity, PropertyPath propertyPath) {
+
+        ProxyFactory factory = new ProxyFactory(resource);
+        factory.addAdvice((MethodInterceptor) invocation -> {
+            switch (invocation.getMethod().getName()) {
+            case "getOutputStream":
+                return new SetContentOnCloseOutputStream(store, entity, propertyPath);
+            case "writableChannel":
+                return Channels.newChannel(new SetContentOnCloseOutputStream(store, entity, propertyPath));
+            case "delete":
+                // still referenced elsewhere
+                return null;
+            default:
+                return invocation.proceed();
+            }
+        });
+        return factory.getProxy(resource.getClass().getClassLoader());
+    }
+
+    private boolean isVersioned(Class<?> entityClass) {
+        return versioned.computeIfAbsent(entityClass, c -> BeanUtils.findFieldWithAnnotation(c, AncestorRootId.class) != null);
+    }
+
+    private boolean isShared(Object entity, ContentReference reference) {
+        Class<?> entityClass = entity.getClass();
+
+        Field idField = BeanUtils.findFieldWithAnnotation(entityClass, Id.class);
+        if (idField == null) {
+            idField = BeanUtils.findFieldWithAnnotation(entityClass, org.springframework.data.annotation.Id.class);
+        }
+        Object id = null;
+        if (idField != null) {
+            ReflectionUtils.makeAccessible(idField);
+            id = ReflectionUtils.getField(idField, entity);
+        }
+
+        TypedQuery<Long> q;
+        if (id == null) {
+            q = em.createQuery(format(COUNT_ALL_REFERENCES_QUERY, entityClass.getName(), reference.getContentIdAttribute()), Long.class);
+        } else {
+            q = em.createQuery(format(COUNT_REFERENCES_QUERY, entityClass.getName(), reference.getContentIdAttribute(), idField.getName()), Long.class);
+            q.setParameter("id", id);
+        }
+        q.setParameter("contentId", reference.getContentId(entity));
+
+        return q.getSingleResult() > 0;
+    }
+
+    private ContentReference reference(Object entity, PropertyPath propertyPath) {
+        ContentProperty property = mappingContext.getContentProperty(entity.getClass(), propertyPath.getName());
+        if (property == null || property.getContentIdPropertyPath() == null) {
+            return null;
+        }
+        return new ContentReference() {
+            @Override
+            public String getContentIdAttribute() {
+                return property.getContentIdPropertyPath();
+            }
+            @Override
+            public Object getContentId(Object entity) {
+                return property.getContentId(entity);
+            }
+            @Override
+            public void setContentId(Object entity, Object contentId) {
+                property.setContentId(entity, contentId, null);
+            }
+            @Override
+            public void setContentLength(Object entity, Object contentLength) {
+                property.setContentLength(entity, contentLength);
+            }
+            @Override
+            public void setMimeType(Object entity, Object mimeType) {
+                property.setMimeType(entity, mimeType);
+            }
+            @Override
+            public void setOriginalFileName(Object entity, Object originalFileName) {
+                property.setOriginalFileName(entity, originalFileName);
+            }
+        };
+    }
+
+    private ContentReference reference(Object entity) {
+        Field contentIdField = BeanUtils.findFieldWithAnnotation(entity, ContentId.class);
+        if (contentIdField == null) {
+            return null;
+        }
+        return new ContentReference() {
+            @Override
+            public String getContentIdAttribute() {
+                return contentIdField.getName();
+            }
+            @Override
+            public Object getContentId(Object entity) {
+                return BeanUtils.getFieldWithAnnotation(entity, ContentId.class);
+            }
+            @Override
+            public void setContentId(Object entity, Object contentId) {
+                BeanUtils.setFieldWithAnnotation(entity, ContentId.class, contentId);
+            }
+            @Override
+            public void setContentLength(Object entity, Object contentLength) {
+                BeanUtils.setFieldWithAnnotation(entity, ContentLength.class, contentLength);
+            }
+            @Override
+            public void setMimeType(Object entity, Object mimeType) {
+                BeanUtils.setFieldWithAnnotation(entity, MimeType.class, mimeType);
+            }
+            @Override
+            public void setOriginalFileName(Object entity, Object originalFileName) {
+                BeanUtils.setFieldWithAnnotation(entity, OriginalFileName.class, originalFileName);
+            }
+        };
+    }
+
+    /**
+     * Spools content written to a shared resource and sets it on the version, through the store, once closed.
+     */
+    private static class SetContentOnCloseOutputStream extends FilterOutputStream {
+
+        private final Object store;
+        private final Object entity;
+        private final PropertyPath propertyPath;
+        private final File spool;
+        private boolean closed = false;
+
+        SetContentOnCloseOutputStream(Object store, Object entity, PropertyPath propertyPath) throws IOException {
+            this(store, entity, propertyPath, Files.createTempFile("content-reference-", ".tmp").toFile());
+        }
+
+        private SetContentOnCloseOutputStream(Object store, Object entity, PropertyPath propertyPath, File spool) throws IOException {
+            super(new FileOutputStream(spool));
+            this.store = store;
+            this.entity = entity;
+            this.propertyPath = propertyPath;
+            this.spool = spool;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+
+            try {
+                super.close();
+
+                Method setContent = (propertyPath != null)
+                        ? ReflectionUtils.findMethod(store.getClass(), "setContent", Object.class, PropertyPath.class, InputStream.class)
+                        : ReflectionUtils.findMethod(store.getClass(), "setContent", Object.class, InputStream.class);
+                Assert.state(setContent != null, () -> format("Unable to set content on %s", store));
+
+                try (InputStream in = new FileInputStream(spool)) {
+                    if (propertyPath != null) {
+                        ReflectionUtils.invokeMethod(setContent, store, entity, propertyPath, in);
+                    } else {
+                        ReflectionUtils.invokeMethod(setContent, store, entity, in);
+                    }
+                }
+            } finally {
+                Files.deleteIfExists(spool.toPath());
+            }
+        }
+    }
+
+    private interface ContentReference {
+
+        String getContentIdAttribute();
+
+        Object getContentId(Object entity);
+
+        void setContentId(Object entity, Object contentId);
+
+        void setContentLength(Object entity, Object contentLength);
+
+        void setMimeType(Object entity, Object mimeType);
+
+        void setOriginalFileName(Object entity, Object originalFileName);
+    }
+}
@@ -34,14 +34,14 @@ public class PessimisticLockingInterceptor implements MethodInterceptor {
 
         LockParticipant participant = invocation.getMethod().getAnnotation(LockParticipant.class);
         if (participant != null) {
-            return invokeWithIntecept(invocation);
+            return invokeWithIntecept(invocation, participant.value());
         }
 
         return invocation.proceed();
     }
 
-    private Object invokeWithIntecept(MethodInvocation invocation) throws Throwable {
-        Object entity = invocation.getArguments()[0];
+    private Object invokeWithIntecept(MethodInvocation invocation, int participant) throws Throwable {
+        Object entity = invocation.getArguments()[participant];
         Field idField = ReflectionUtils.findField(entity.getClass(), ID_FILTER);
         if (idField == null) {
             idField = ReflectionUtils.findField(entity.getClass(), DATA_ID_FILTER);
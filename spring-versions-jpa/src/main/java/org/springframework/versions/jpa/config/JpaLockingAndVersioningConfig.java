@@ -10,6 +10,7 @@ import internal.org.springframework.versions.jpa.JpaLockingServiceImpl;
 import internal.org.springframework.versions.jpa.JpaVersioningServiceImpl;
 import internal.org.springframework.versions.jpa.VersioningService;
 import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.jdbc.core.JdbcTemplate;
@@ -22,6 +23,12 @@ import javax.sql.DataSource;
 @Configuration
 public class JpaLockingAndVersioningConfig {
 
+    @Value("${spring.versions.jpa.lock-cache-ttl-ms:0}")
+    private long lockCacheTtl;
+
+    @Value("${spring.versions.jpa.content-references:false}")
+    private boolean contentReferences;
+
     @Bean
     public AuthenticationFacade auth() {
         return new AuthenticationFacade();
@@ -34,7 +41,9 @@ public class JpaLockingAndVersioningConfig {
 
     @Bean
     public LockingService lockingService(DataSource dataSource) {
-        return new JpaLockingServiceImpl(new JdbcTemplate(dataSource));
+        JpaLockingServiceImpl lockingService = new JpaLockingServiceImpl(new JdbcTemplate(dataSource));
+        lockingService.setLockCacheTtl(lockCacheTtl);
+        return lockingService;
     }
 
     @Bean
@@ -44,11 +53,15 @@ public class JpaLockingAndVersioningConfig {
 
     @Bean
     public CloningService cloningService() {
-        return new JpaCloningServiceImpl();
+        JpaCloningServiceImpl cloningService = new JpaCloningServiceImpl();
+        cloningService.setContentReferences(contentReferences);
+        return cloningService;
     }
 
     @Bean
     public LockingAndVersioningProxyFactory lockingAndVersioningService(BeanFactory bf, DataSource ds, PlatformTransactionManager txn, EntityManager em) {
-        return new JpaLockingAndVersioningProxyFactoryImpl(bf, txn, em, lockingService(ds), auth());
+        JpaLockingAndVersioningProxyFactoryImpl proxyFactory = new JpaLockingAndVersioningProxyFactoryImpl(bf, txn, em, lockingService(ds), auth());
+        proxyFactory.setContentReferences(contentReferences);
+        return proxyFactory;
     }
 }
@@ -30,6 +30,7 @@ import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 import org.springframework.transaction.interceptor.TransactionInterceptor;
+import org.springframework.versions.interceptors.ContentReferenceInterceptor;
 import org.springframework.versions.interceptors.OptimisticLockingInterceptor;
 import org.springframework.versions.interceptors.PessimisticLockingInterceptor;
 import org.springframework.versions.jpa.config.JpaLockingAndVersioningConfig;
@@ -87,6 +88,23 @@ public class JpaLockingAndVersioningProxyFactoryImplIT {
 	            			assertThat(advices[2].getAdvice(), is(instanceOf(PessimisticLockingInterceptor.class)));
 	            		});
 	            	});
+	            	Context("given content references are enabled", () -> {
+	            		BeforeEach(() -> {
+	            			proxyFactory = new ProxyFactory();
+	            		});
+	            		JustBeforeEach(() -> {
+	            			factory.setContentReferences(true);
+	            			factory.apply(proxyFactory);
+	            		});
+	            		It("should also apply the content reference advice", () -> {
+	            			Advisor[] advices = proxyFactory.getAdvisors();
+	            			assertThat(advices.length, is(4));
+	            			assertThat(advices[0].getAdvice(), is(instanceOf(TransactionInterceptor.class)));
+	            			assertThat(advices[1].getAdvice(), is(instanceOf(OptimisticLockingInterceptor.class)));
+	            			assertThat(advices[2].getAdvice(), is(instanceOf(PessimisticLockingInterceptor.class)));
+	            			assertThat(advices[3].getAdvice(), is(instanceOf(ContentReferenceInterceptor.class)));
+	            		});
+	            	});
 	            	Context("given an existng txn advise", () -> {
 	            		BeforeEach(() -> {
 	            			proxyFactory = new ProxyFactory();
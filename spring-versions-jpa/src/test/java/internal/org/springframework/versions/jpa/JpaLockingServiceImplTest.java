@@ -11,20 +11,29 @@ import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.security.Principal;
-import java.sql.ResultSet;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.runner.RunWith;
 import org.mockito.ArgumentMatchers;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.jdbc.CannotGetJdbcConnectionException;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.support.rowset.SqlRowSet;
 
@@ -44,6 +53,9 @@ public class JpaLockingServiceImplTest {
     private Object result;
     private Exception e;
 
+    private CountDownLatch reading;
+    private CountDownLatch locked;
+
     {
         Describe("JpaLockingServiceImpl", () -> {
             BeforeEach(() -> {
@@ -65,19 +77,43 @@ public class JpaLockingServiceImplTest {
                         this.e = e;
                     }
                 });
-                Context("given selecting a lock record fails", () -> {
+                Context("given the lock record is inserted", () -> {
                     BeforeEach(() -> {
-                        when(jdbcTemplate.queryForObject(any(String.class), any(Object[].class), any(Class.class))).thenThrow(new CannotGetJdbcConnectionException("connection-error"));
+                        when(jdbcTemplate.update(eq(JpaLockingServiceImpl.INSERT_LOCK_SQL), ArgumentMatchers.<String>any())).thenReturn(1);
                     });
-                    It("should throw the DataAccessException.class", () -> {
-                        assertThat(e, is(instanceOf(DataAccessException.class)));
-                        assertThat(e.getMessage(), is("connection-error"));
+                    It("should lock in a single statement", () -> {
+                        assertThat(result, is(true));
+                        verify(jdbcTemplate).update(JpaLockingServiceImpl.INSERT_LOCK_SQL, "some-id", "some-principal");
+                        verify(jdbcTemplate, never()).queryForRowSet(any(String.class), ArgumentMatchers.<String>any());
+                    });
+                });
+                Context("given the entity is already locked", () -> {
+                    BeforeEach(() -> {
+                        when(jdbcTemplate.update(eq(JpaLockingServiceImpl.INSERT_LOCK_SQL), ArgumentMatchers.<String>any())).thenThrow(new DuplicateKeyException("duplicate"));
+                    });
+                    Context("by the principal", () -> {
+                        BeforeEach(() -> {
+                            SqlRowSet rs = mock(SqlRowSet.class);
+                            when(rs.next()).thenReturn(true);
+                            when(jdbcTemplate.queryForRowSet(eq(JpaLockingServiceImpl.SELECT_LOCK_SQL), ArgumentMatchers.<String>any())).thenReturn(rs);
+                        });
+                        It("should return true", () -> {
+                            assertThat(result, is(true));
+                        });
+                    });
+                    Context("by another principal", () -> {
+                        BeforeEach(() -> {
+                            SqlRowSet rs = mock(SqlRowSet.class);
+                            when(rs.next()).thenReturn(false);
+                            when(jdbcTemplate.queryForRowSet(eq(JpaLockingServiceImpl.SELECT_LOCK_SQL), ArgumentMatchers.<String>any())).thenReturn(rs);
+                        });
+                        It("should return false", () -> {
+                            assertThat(result, is(false));
+                        });
                     });
                 });
                 Context("given inserting the lock record fails", () -> {
                     BeforeEach(() -> {
-                        ResultSet rs = mock(ResultSet.class);
-                        when(jdbcTemplate.queryForObject(any(String.class), any(Object[].class), any(Class.class))).thenReturn(0);
                         when(jdbcTemplate.update(any(String.class), ArgumentMatchers.<String>any())).thenThrow(new CannotGetJdbcConnectionException("connection-error"));
                     });
                     It("should throw the DataAccessException.class", () -> {
@@ -172,7 +208,7 @@ public class JpaLockingServiceImplTest {
                 });
                 Context("given the database fails", () -> {
                     BeforeEach(() -> {
-                        when(jdbcTemplate.query(anyString(), (RowMapper)any())).thenThrow(new CannotGetJdbcConnectionException("connection-error"));
+                        when(jdbcTemplate.query(anyString(), (RowMapper)any(), ArgumentMatchers.<Object>any())).thenThrow(new CannotGetJdbcConnectionException("connection-error"));
                     });
                     It("should throw the DataAccessException", () -> {
                         assertThat(e, is(instanceOf(DataAccessException.class)));
@@ -180,7 +216,7 @@ public class JpaLockingServiceImplTest {
                 });
                 Context("given there is no lock record", () -> {
                     BeforeEach(() -> {
-                        when(jdbcTemplate.query(anyString(), (RowMapper)any())).thenReturn(null);
+                        when(jdbcTemplate.query(anyString(), (RowMapper)any(), ArgumentMatchers.<Object>any())).thenReturn(null);
                     });
                     It("should return null", () -> {
                         assertThat(result, is(nullValue()));
@@ -188,22 +224,126 @@ public class JpaLockingServiceImplTest {
                 });
                 Context("given there is a lock record", () -> {
                     BeforeEach(() -> {
-                        when(jdbcTemplate.query(anyString(), (RowMapper)any())).thenReturn(Collections.singletonList("some-principal"));
+                        when(jdbcTemplate.query(anyString(), (RowMapper)any(), ArgumentMatchers.<Object>any())).thenReturn(Collections.singletonList("some-principal"));
                     });
                     It("should return a principal", () -> {
                         assertThat(result, is(instanceOf(Principal.class)));
                         assertThat(((Principal)result).getName(), is("some-principal"));
                     });
                 });
+                Context("given the lock cache is enabled", () -> {
+                    JustBeforeEach(() -> {
+                        locker.setLockCacheTtl(60000);
+                        result = locker.lockOwner(entityId);
+                        result = locker.lockOwner(entityId);
+                    });
+                    BeforeEach(() -> {
+                        when(jdbcTemplate.query(anyString(), (RowMapper)any(), ArgumentMatchers.<Object>any())).thenReturn(Collections.emptyList());
+                    });
+                    It("should query the lock owner once", () -> {
+                        assertThat(result, is(nullValue()));
+                        verify(jdbcTemplate, times(1)).query(anyString(), (RowMapper)any(), ArgumentMatchers.<Object>any());
+                    });
+                    Context("given the entity is then locked", () -> {
+                        JustBeforeEach(() -> {
+                            when(jdbcTemplate.update(any(String.class), ArgumentMatchers.<String>any())).thenReturn(1);
+                            when(jdbcTemplate.query(anyString(), (RowMapper)any(), ArgumentMatchers.<Object>any())).thenReturn(Collections.singletonList("some-principal"));
+
+                            principal = mock(Principal.class);
+                            when(principal.getName()).thenReturn("some-principal");
+                            locker.lock(entityId, principal);
+
+                            result = locker.lockOwner(entityId);
+                        });
+                        It("should re-read the lock owner", () -> {
+                            assertThat(((Principal)result).getName(), is("some-principal"));
+                        });
+                    });
+                });
                 Context("given there are mulitple lock records", () -> {
                     BeforeEach(() -> {
-                        when(jdbcTemplate.query(anyString(), (RowMapper)any())).thenReturn(Arrays.asList(new String[]{("some-principal"), "some-other-principal"}));
+                        when(jdbcTemplate.query(anyString(), (RowMapper)any(), ArgumentMatchers.<Object>any())).thenReturn(Arrays.asList(new String[]{("some-principal"), "some-other-principal"}));
                     });
                     It("should throw an IncorrectResultSize exception", () -> {
                         assertThat(e, is(instanceOf(IncorrectResultSizeDataAccessException.class)));
                     });
                 });
             });
+            Context("#lockOwner given the lock cache is enabled", () -> {
+                BeforeEach(() -> {
+                    entityId = "some-id";
+                    principal = mock(Principal.class);
+                    when(principal.getName()).thenReturn("some-principal");
+                });
+                Context("given the entity is locked whilst its lock owner is being read", () -> {
+                    BeforeEach(() -> {
+                        AtomicInteger reads = new AtomicInteger();
+
+                        when(jdbcTemplate.query(anyString(), (RowMapper)any(), ArgumentMatchers.<Object>any())).thenAnswer(invocation -> {
+                            if (reads.getAndIncrement() == 0) {
+                                // the first read sees the entity unlocked and is held until the lock is taken
+                                reading.countDown();
+                                locked.await(10, TimeUnit.SECONDS);
+                                return Collections.emptyList();
+                            }
+                            return Collections.singletonList("some-principal");
+                        });
+                        when(jdbcTemplate.update(any(String.class), ArgumentMatchers.<String>any())).thenReturn(1);
+
+                        reading = new CountDownLatch(1);
+                        locked = new CountDownLatch(1);
+                    });
+                    JustBeforeEach(() -> {
+                        locker.setLockCacheTtl(60000);
+
+                        Thread reader = new Thread(() -> locker.lockOwner(entityId));
+                        reader.start();
+
+                        assertThat(reading.await(10, TimeUnit.SECONDS), is(true));
+                        locker.lock(entityId, principal);
+                        locked.countDown();
+
+                        reader.join(10000);
+                    });
+                    It("should not cache the lock owner read before the lock was taken", () -> {
+                        assertThat(locker.lockOwner(entityId).getName(), is("some-principal"));
+                    });
+                });
+                Context("given the entities are locked whilst their lock owners are being read", () -> {
+                    BeforeEach(() -> {
+                        AtomicInteger reads = new AtomicInteger();
+
+                        // the batched read sees the entity unlocked and is held until the lock is taken
+                        doAnswer(invocation -> {
+                            if (reads.getAndIncrement() == 0) {
+                                reading.countDown();
+                                locked.await(10, TimeUnit.SECONDS);
+                            }
+                            return null;
+                        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), ArgumentMatchers.<Object>any());
+                        when(jdbcTemplate.update(any(String.class), ArgumentMatchers.<String>any())).thenReturn(1);
+                        when(jdbcTemplate.query(anyString(), (RowMapper)any(), ArgumentMatchers.<Object>any())).thenReturn(Collections.singletonList("some-principal"));
+
+                        reading = new CountDownLatch(1);
+                        locked = new CountDownLatch(1);
+                    });
+                    JustBeforeEach(() -> {
+                        locker.setLockCacheTtl(60000);
+
+                        Thread reader = new Thread(() -> locker.lockOwners(Collections.singletonList(entityId)));
+                        reader.start();
+
+                        assertThat(reading.await(10, TimeUnit.SECONDS), is(true));
+                        locker.lock(entityId, principal);
+                        locked.countDown();
+
+                        reader.join(10000);
+                    });
+                    It("should not cache the lock owners read before the lock was taken", () -> {
+                        assertThat(locker.lockOwner(entityId).getName(), is("some-principal"));
+                    });
+                });
+            });
         });
     }
 }
@@ -0,0 +1,91 @@
+package org.springframework.versions.impl;
+
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.BeforeEach;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.Context;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.Describe;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.It;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.versions.impl.JpaLockingAndVersioningRepositoryImplIT.TestEntity;
+import org.springframework.versions.impl.JpaLockingAndVersioningRepositoryImplIT.TestRepository;
+
+import com.github.paulcwarren.ginkgo4j.Ginkgo4jSpringRunner;
+
+/**
+ * Times version history listing for an entity with 1,000 versions.  Not part of the regular test run; run with
+ * {@code mvn test -Dtest=FindAllVersionsBenchmark -pl spring-versions-jpa}.
+ */
+@RunWith(Ginkgo4jSpringRunner.class)
+@ContextConfiguration(classes={JpaLockingAndVersioningRepositoryImplIT.TestConfig.class})
+public class FindAllVersionsBenchmark {
+
+    private static final Log LOGGER = LogFactory.getLog(FindAllVersionsBenchmark.class);
+
+    private static final int VERSIONS = 1000;
+    private static final int WARMUP_ITERATIONS = 20;
+    private static final int ITERATIONS = 200;
+
+    @Autowired
+    private TestRepository repo;
+
+    private TestEntity root;
+
+    {
+        Describe("#findAllVersions", () -> {
+
+            Context("given an entity with 1,000 versions", () -> {
+
+                BeforeEach(() -> {
+                    root = repo.save(new TestEntity());
+                    root.setXAncestorRootId(root.getXid());
+                    root = repo.save(root);
+
+                    List<TestEntity> versions = new ArrayList<>(VERSIONS - 1);
+                    for (int i=1; i < VERSIONS; i++) {
+                        TestEntity version = new TestEntity();
+                        version.setXAncestorRootId(root.getXid());
+                        version.setVersionNo(Integer.toString(i));
+                        versions.add(version);
+                    }
+                    repo.saveAll(versions);
+                });
+
+                It("should list the version history", () -> {
+                    assertThat(repo.findAllVersions(root).size(), is(VERSIONS));
+
+                    report("unsorted", () -> repo.findAllVersions(root));
+                    report("sorted", () -> repo.findAllVersions(root, Sort.by(Sort.Order.desc("versionNo"))));
+                });
+            });
+        });
+    }
+
+    private static void report(String name, Runnable query) {
+        for (int i=0; i < WARMUP_ITERATIONS; i++) {
+            query.run();
+        }
+
+        long start = System.nanoTime();
+        for (int i=0; i < ITERATIONS; i++) {
+            query.run();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        LOGGER.info(String.format("findAllVersions (%s, %d versions): %.3f ms/op", name, VERSIONS, (double) TimeUnit.NANOSECONDS.toMicros(elapsed) / ITERATIONS / 1000));
+    }
+
+    @Test
+    public void noop() {}
+}
@@ -13,6 +13,7 @@ import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.beans.HasPropertyWithValue.hasProperty;
 import static org.hamcrest.number.OrderingComparison.greaterThan;
+import static org.hamcrest.number.OrderingComparison.lessThan;
 import static org.junit.Assert.fail;
 
 import java.util.ArrayList;
@@ -37,6 +38,8 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Order;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -58,6 +61,8 @@ import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 import org.springframework.versions.AncestorId;
 import org.springframework.versions.AncestorRootId;
+import org.springframework.versions.LatestVersion;
+import org.springframework.versions.LockAllException;
 import org.springframework.versions.LockOwner;
 import org.springframework.versions.LockOwnerException;
 import org.springframework.versions.LockingAndVersioningException;
@@ -87,6 +92,10 @@ public class JpaLockingAndVersioningRepositoryImplIT {
     private TestRepository repo;
 
     private TestEntity e1, e2, e3, e1v11, e1v12, e2v2, e3wc, entityForDeletion, result;
+    private List<TestEntity> results;
+
+    private MarkedTestRepository markedRepo;
+    private MarkedTestEntity m1, m1v11, m1wc;
 
     private Exception e;
 
@@ -95,6 +104,7 @@ public class JpaLockingAndVersioningRepositoryImplIT {
 
             BeforeEach(() -> {
                 repo = context.getBean(TestRepository.class);
+                markedRepo = context.getBean(MarkedTestRepository.class);
             });
 
             Context("given two entities with two versions each", () -> {
@@ -273,6 +283,103 @@ public class JpaLockingAndVersioningRepositoryImplIT {
                     });
                 });
 
+                Context("#lockAll", () -> {
+
+                    BeforeEach(() -> {
+                        setupSecurityContext("some-principal", true);
+                        e1 = repo.save(e1);
+                        e2 = repo.save(e2);
+                    });
+
+                    JustBeforeEach(() -> {
+                        try {
+                            results = repo.lockAll(List.of(e1, e2));
+                        } catch (Exception e) {
+                            this.e = e;
+                        }
+                    });
+
+                    Context("when the entities are not locked", () -> {
+
+                        It("should lock all of the entities", () -> {
+                            assertThat(e, is(nullValue()));
+                            assertThat(results.size(), is(2));
+                            assertThat(e1.getXLockOwner(), is("some-principal"));
+                            assertThat(e2.getXLockOwner(), is("some-principal"));
+                            assertThat(lockingService.isLockOwner(e1.getXid(), SecurityContextHolder.getContext().getAuthentication()), is(true));
+                            assertThat(lockingService.isLockOwner(e2.getXid(), SecurityContextHolder.getContext().getAuthentication()), is(true));
+                        });
+                    });
+
+                    Context("when one of the entities is already held", () -> {
+
+                        BeforeEach(() -> {
+                            e1 = repo.lock(e1);
+                        });
+
+                        It("should lock all of the entities", () -> {
+                            assertThat(e, is(nullValue()));
+                            assertThat(lockingService.isLockOwner(e2.getXid(), SecurityContextHolder.getContext().getAuthentication()), is(true));
+                        });
+                    });
+
+                    Context("when one of the entities is locked by another principal", () -> {
+
+                        BeforeEach(() -> {
+                            setupSecurityContext("some-other-principal", true);
+                            e2 = repo.lock(e2);
+                            setupSecurityContext("some-principal", true);
+                        });
+
+                        It("should report the failure and lock nothing", () -> {
+                            assertThat(e, is(instanceOf(LockAllException.class)));
+                            assertThat(((LockAllException)e).getFailures().get(e2.getXid()), is("some-other-principal"));
+                            assertThat(lockingService.lockOwner(e1.getXid()), is(nullValue()));
+                        });
+                    });
+                });
+
+                Context("#unlockAll", () -> {
+
+                    BeforeEach(() -> {
+                        setupSecurityContext("some-principal", true);
+                        e1 = repo.save(e1);
+                        e2 = repo.save(e2);
+                        e1 = repo.lock(e1);
+                    });
+
+                    JustBeforeEach(() -> {
+                        try {
+                            results = repo.unlockAll(List.of(e1, e2));
+                        } catch (Exception e) {
+                            this.e = e;
+                        }
+                    });
+
+                    Context("when the principal holds all of the locks", () -> {
+
+                        BeforeEach(() -> {
+                            e2 = repo.lock(e2);
+                        });
+
+                        It("should unlock all of the entities", () -> {
+                            assertThat(e, is(nullValue()));
+                            assertThat(results.size(), is(2));
+                            assertThat(lockingService.lockOwner(e1.getXid()), is(nullValue()));
+                            assertThat(lockingService.lockOwner(e2.getXid()), is(nullValue()));
+                        });
+                    });
+
+                    Context("when the principal does not hold all of the locks", () -> {
+
+                        It("should report the failure and unlock nothing", () -> {
+                            assertThat(e, is(instanceOf(LockAllException.class)));
+                            assertThat(((LockAllException)e).getFailures().containsKey(e2.getXid()), is(true));
+                            assertThat(lockingService.isLockOwner(e1.getXid(), SecurityContextHolder.getContext().getAuthentication()), is(true));
+                        });
+                    });
+                });
+
                 Context("#save", () -> {
 
                     BeforeEach(() -> {
@@ -464,6 +571,98 @@ public class JpaLockingAndVersioningRepositoryImplIT {
                                 not(hasProperty("xid", is(e3wc.getXid())))
                         ));
                     });
+
+                    It("should return pages of the latest version of the entities", () -> {
+                        List<TestEntity> all = repo.findAllVersionsLatest(TestEntity.class);
+
+                        Page<TestEntity> page = repo.findAllVersionsLatest(TestEntity.class, PageRequest.of(0, 1));
+                        assertThat(page.getContent().size(), is(1));
+                        assertThat(page.getTotalElements(), is((long) all.size()));
+
+                        List<Long> ids = new ArrayList<>();
+                        for (int i=0; i < page.getTotalPages(); i++) {
+                            repo.findAllVersionsLatest(TestEntity.class, PageRequest.of(i, 1)).forEach(e -> ids.add(e.getXid()));
+                        }
+                        assertThat(ids, Matchers.hasItems(e1v11.getXid(), e2v2.getXid()));
+                        assertThat(ids, not(Matchers.hasItem(e3wc.getXid())));
+                    });
+
+                    It("should return sorted pages of the latest version of the entities", () -> {
+                        Page<TestEntity> page = repo.findAllVersionsLatest(TestEntity.class, PageRequest.of(0, 100, Sort.by(Order.desc("versionNo"), Order.asc("id"))));
+
+                        List<Long> ids = new ArrayList<>();
+                        page.forEach(e -> ids.add(e.getXid()));
+                        assertThat(ids, Matchers.hasItems(e1v11.getXid(), e2v2.getXid()));
+                        assertThat(ids.indexOf(e2v2.getXid()), is(lessThan(ids.indexOf(e1v11.getXid()))));
+                    });
+
+                    It("should reject a sort by an unknown property", () -> {
+                        try {
+                            repo.findAllVersionsLatest(TestEntity.class, PageRequest.of(0, 1, Sort.by("xid desc, t.xLockOwner")));
+                            fail("expected exception");
+                        } catch (Exception e) {
+                            assertThat(e, is(instanceOf(InvalidDataAccessApiUsageException.class)));
+                            assertThat(e.getCause(), is(instanceOf(IllegalArgumentException.class)));
+                            assertThat(e.getMessage(), containsString("unknown property"));
+                        }
+
+                        try {
+                            repo.findAllVersions(e1, Sort.by("versionNo.length"));
+                            fail("expected exception");
+                        } catch (Exception e) {
+                            assertThat(e.getCause(), is(instanceOf(IllegalArgumentException.class)));
+                        }
+                    });
+
+                    Context("given the entity has a @LatestVersion attribute", () -> {
+
+                        BeforeEach(() -> {
+                            m1 = markedRepo.save(new MarkedTestEntity());
+                            m1 = markedRepo.lock(m1);
+                            m1v11 = markedRepo.version(m1, new VersionInfo("1.1", "Minor"));
+                            m1v11 = markedRepo.lock(m1v11);
+                            m1wc = markedRepo.workingCopy(m1v11);
+                        });
+
+                        It("should maintain the attribute", () -> {
+                            assertThat(markedRepo.findById(m1.getXid()).get().getLatest(), is(false));
+                            assertThat(markedRepo.findById(m1v11.getXid()).get().getLatest(), is(true));
+                            assertThat(markedRepo.findById(m1wc.getXid()).get().getLatest(), is(false));
+                        });
+
+                        It("should return only the latest version of the entities", () -> {
+                            List<MarkedTestEntity> results = markedRepo.findAllVersionsLatest(MarkedTestEntity.class);
+                            assertThat(results, Matchers.hasItem(hasProperty("xid", is(m1v11.getXid()))));
+                            assertThat(results, not(Matchers.hasItem(hasProperty("xid", is(m1.getXid())))));
+                            assertThat(results, not(Matchers.hasItem(hasProperty("xid", is(m1wc.getXid())))));
+
+                            Page<MarkedTestEntity> page = markedRepo.findAllVersionsLatest(MarkedTestEntity.class, PageRequest.of(0, 10));
+                            assertThat(page.getTotalElements(), is((long) results.size()));
+                        });
+
+                        Context("when the working copy is versioned", () -> {
+
+                            BeforeEach(() -> {
+                                m1wc = markedRepo.version(m1wc, new VersionInfo("1.2", "Minor"));
+                            });
+
+                            It("should mark the new version as the latest", () -> {
+                                assertThat(markedRepo.findById(m1v11.getXid()).get().getLatest(), is(false));
+                                assertThat(markedRepo.findById(m1wc.getXid()).get().getLatest(), is(true));
+                            });
+                        });
+
+                        Context("when the working copy is deleted", () -> {
+
+                            BeforeEach(() -> {
+                                markedRepo.delete(m1wc);
+                            });
+
+                            It("should leave its ancestor as the latest", () -> {
+                                assertThat(markedRepo.findById(m1v11.getXid()).get().getLatest(), is(true));
+                            });
+                        });
+                    });
                 });
 
                 Context("#workingCopy", () -> {
@@ -935,6 +1134,26 @@ public class JpaLockingAndVersioningRepositoryImplIT {
 
     public interface TestRepository extends JpaRepository<TestEntity, Long>, LockingAndVersioningRepository<TestEntity, Long> {}
 
+    @Getter
+    @Setter
+    @Entity
+    public static class MarkedTestEntity {
+        @Id @GeneratedValue private Long xid;
+        @Version private Long version;
+        @AncestorId private Long xAncestorId;
+        @AncestorRootId private Long xAncestorRootId;
+        @SuccessorId private Long xSuccessorId;
+        @LockOwner private String xLockOwner;
+        @VersionNumber private String versionNo;
+        @VersionLabel private String versionLabel;
+        @LatestVersion private Boolean latest;
+
+        public MarkedTestEntity() {}
+        public MarkedTestEntity(MarkedTestEntity entity) {}
+    }
+
+    public interface MarkedTestRepository extends JpaRepository<MarkedTestEntity, Long>, LockingAndVersioningRepository<MarkedTestEntity, Long> {}
+
     private static void setupSecurityContext(String principal, boolean isAuthenticated) {
         SecurityContext sc = new SecurityContext() {
             @Override
@@ -0,0 +1,288 @@
+package org.springframework.versions.interceptors;
+
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.BeforeEach;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.Context;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.Describe;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.It;
+import static com.github.paulcwarren.ginkgo4j.Ginkgo4jDSL.JustBeforeEach;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Id;
+import jakarta.persistence.TypedQuery;
+
+import org.junit.runner.RunWith;
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.content.commons.annotations.ContentId;
+import org.springframework.content.commons.annotations.ContentLength;
+import org.springframework.content.commons.annotations.MimeType;
+import org.springframework.content.commons.annotations.OriginalFileName;
+import org.springframework.content.commons.io.DeletableResource;
+import org.springframework.content.commons.property.PropertyPath;
+import org.springframework.content.commons.repository.ContentStore;
+import org.springframework.core.io.WritableResource;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.versions.AncestorRootId;
+
+import com.github.paulcwarren.ginkgo4j.Ginkgo4jRunner;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@RunWith(Ginkgo4jRunner.class)
+public class ContentReferenceInterceptorTest {
+
+    private ContentReferenceInterceptor interceptor;
+
+    private Object result;
+
+    //mocks
+    private EntityManager em;
+    private TypedQuery<Long> query;
+    private ProxyMethodInvocation mi;
+    private Object entity;
+    private ContentStore store;
+    private WritableResource resource;
+
+    {
+        Describe("ContentReferenceInterceptor", () -> {
+            BeforeEach(() -> {
+                em = mock(EntityManager.class);
+                query = mock(TypedQuery.class);
+                when(em.createQuery(anyString(), eq(Long.class))).thenReturn(query);
+            });
+            JustBeforeEach(() -> {
+                interceptor = new ContentReferenceInterceptor(em);
+            });
+            Context("#invoke", () -> {
+                BeforeEach(() -> {
+                    mi = mock(ProxyMethodInvocation.class);
+                });
+                JustBeforeEach(() -> {
+                    result = interceptor.invoke(mi);
+                });
+                Context("when the method invocation is getContent", () -> {
+                    BeforeEach(() -> {
+                        entity = new TestEntity(1L, "shared-content");
+                        when(mi.getMethod()).thenReturn(ReflectionUtils.findMethod(ContentStore.class, "getContent", Object.class));
+                        when(mi.getArguments()).thenReturn(new Object[]{entity});
+                    });
+                    It("should proceed without counting references", () -> {
+                        verify(mi).proceed();
+                        verify(em, never()).createQuery(anyString(), eq(Long.class));
+                    });
+                });
+                Context("when the method invocation is setContent", () -> {
+                    BeforeEach(() -> {
+                        when(mi.getMethod()).thenReturn(ReflectionUtils.findMethod(ContentStore.class, "setContent", Object.class, InputStream.class));
+                        when(mi.proceed()).thenAnswer((invocation) -> entity);
+                    });
+                    Context("given the entity's content is shared with another version", () -> {
+                        BeforeEach(() -> {
+                            entity = new TestEntity(1L, "shared-content");
+                            when(mi.getArguments()).thenReturn(new Object[]{entity, new ByteArrayInputStream(new byte[0])});
+                            when(query.getSingleResult()).thenReturn(1L);
+                        });
+                        It("should clear the content id and proceed", () -> {
+                            verify(query).setParameter("contentId", "shared-content");
+                            verify(query).setParameter("id", 1L);
+                            assertThat(((TestEntity)entity).getContentId(), is(nullValue()));
+                            verify(mi).proceed();
+                        });
+                    });
+                    Context("given the entity's content is not shared", () -> {
+                        BeforeEach(() -> {
+                            entity = new TestEntity(1L, "own-content");
+                            when(mi.getArguments()).thenReturn(new Object[]{entity, new ByteArrayInputStream(new byte[0])});
+                            when(query.getSingleResult()).thenReturn(0L);
+                        });
+                        It("should proceed leaving the content id alone", () -> {
+                            assertThat(((TestEntity)entity).getContentId(), is("own-content"));
+                            verify(mi).proceed();
+                        });
+                    });
+                    Context("given the entity has no content", () -> {
+                        BeforeEach(() -> {
+                            entity = new TestEntity(1L, null);
+                            when(mi.getArguments()).thenReturn(new Object[]{entity, new ByteArrayInputStream(new byte[0])});
+                        });
+                        It("should proceed without counting references", () -> {
+                            verify(em, never()).createQuery(anyString(), eq(Long.class));
+                            verify(mi).proceed();
+                        });
+                    });
+                    Context("given the entity is not versioned", () -> {
+                        BeforeEach(() -> {
+                            entity = new TestEntityUnversioned();
+                            when(mi.getArguments()).thenReturn(new Object[]{entity, new ByteArrayInputStream(new byte[0])});
+                        });
+                        It("should proceed without counting references", () -> {
+                            verify(em, never()).createQuery(anyString(), eq(Long.class));
+                            verify(mi).proceed();
+                        });
+                    });
+                });
+                Context("when the method invocation is unsetContent with PropertyPath", () -> {
+                    BeforeEach(() -> {
+                        when(mi.getMethod()).thenReturn(ReflectionUtils.findMethod(ContentStore.class, "unsetContent", Object.class, PropertyPath.class));
+                        when(mi.proceed()).thenAnswer((invocation) -> entity);
+                    });
+                    Context("given the entity's content is shared with another version", () -> {
+                        BeforeEach(() -> {
+                            entity = new TestEntity(1L, "shared-content");
+                            ((TestEntity)entity).setContentLen(10L);
+                            ((TestEntity)entity).setContentMimeType("text/plain");
+                            ((TestEntity)entity).setContentOriginalFileName("shared.txt");
+                            when(mi.getArguments()).thenReturn(new Object[]{entity, PropertyPath.from("content")});
+                            when(query.getSingleResult()).thenReturn(1L);
+                        });
+                        It("should unassociate the content without deleting it", () -> {
+                            assertThat(result, is(entity));
+                            assertThat(((TestEntity)entity).getContentId(), is(nullValue()));
+                            assertThat(((TestEntity)entity).getContentLen(), is(0L));
+                            assertThat(((TestEntity)entity).getContentMimeType(), is(nullValue()));
+                            assertThat(((TestEntity)entity).getContentOriginalFileName(), is(nullValue()));
+                            verify(mi, never()).proceed();
+                        });
+                    });
+                    Context("given the entity's content is not shared", () -> {
+                        BeforeEach(() -> {
+                            entity = new TestEntity(1L, "own-content");
+                            when(mi.getArguments()).thenReturn(new Object[]{entity, PropertyPath.from("content")});
+                            when(query.getSingleResult()).thenReturn(0L);
+                        });
+                        It("should proceed", () -> {
+                            verify(mi).proceed();
+                        });
+                    });
+                });
+                Context("when the method invocation is copyContent", () -> {
+                    BeforeEach(() -> {
+                        when(mi.getMethod()).thenReturn(ReflectionUtils.findMethod(org.springframework.content.commons.store.ContentStore.class, "copyContent", Object.class, PropertyPath.class, Object.class, PropertyPath.class));
+                        when(mi.proceed()).thenAnswer((invocation) -> entity);
+                    });
+                    Context("given the target's content is shared with another version", () -> {
+                        BeforeEach(() -> {
+                            entity = new TestEntity(2L, "shared-content");
+                            when(mi.getArguments()).thenReturn(new Object[]{new TestEntity(1L, "source-content"), PropertyPath.from("content"), entity, PropertyPath.from("content")});
+                            when(query.getSingleResult()).thenReturn(1L);
+                        });
+                        It("should clear the target's content id and proceed", () -> {
+                            verify(query).setParameter("contentId", "shared-content");
+                            verify(query).setParameter("id", 2L);
+                            assertThat(((TestEntity)entity).getContentId(), is(nullValue()));
+                            verify(mi).proceed();
+                        });
+                    });
+                });
+                Context("when the method invocation is copyContent to another store", () -> {
+                    BeforeEach(() -> {
+                        when(mi.getMethod()).thenReturn(ReflectionUtils.findMethod(org.springframework.content.commons.store.ContentStore.class, "copyContent", Object.class, PropertyPath.class, org.springframework.content.commons.store.ContentStore.class, Object.class, PropertyPath.class));
+                        when(mi.proceed()).thenAnswer((invocation) -> entity);
+                    });
+                    Context("given the target's content is shared with another version", () -> {
+                        BeforeEach(() -> {
+                            entity = new TestEntity(2L, "shared-content");
+                            when(mi.getArguments()).thenReturn(new Object[]{new TestEntity(1L, "source-content"), PropertyPath.from("content"), mock(org.springframework.content.commons.store.ContentStore.class), entity, PropertyPath.from("content")});
+                            when(query.getSingleResult()).thenReturn(1L);
+                        });
+                        It("should clear the target's content id and proceed", () -> {
+                            verify(query).setParameter("contentId", "shared-content");
+                            verify(query).setParameter("id", 2L);
+                            assertThat(((TestEntity)entity).getContentId(), is(nullValue()));
+                            verify(mi).proceed();
+                        });
+                    });
+                });
+                Context("when the method invocation is getResource with PropertyPath", () -> {
+                    BeforeEach(() -> {
+                        store = mock(ContentStore.class);
+                        resource = mock(WritableResource.class, withSettings().extraInterfaces(DeletableResource.class));
+
+                        when(mi.getMethod()).thenReturn(ReflectionUtils.findMethod(ContentStore.class, "getResource", Object.class, PropertyPath.class));
+                        when(mi.getProxy()).thenReturn(store);
+                        when(mi.proceed()).thenReturn(resource);
+                    });
+                    Context("given the entity's content is shared with another version", () -> {
+                        BeforeEach(() -> {
+                            entity = new TestEntity(1L, "shared-content");
+                            when(mi.getArguments()).thenReturn(new Object[]{entity, PropertyPath.from("content")});
+                            when(query.getSingleResult()).thenReturn(1L);
+                        });
+                        It("should set content written to the resource through the store", () -> {
+                            try (OutputStream out = ((WritableResource)result).getOutputStream()) {
+                                out.write("new content".getBytes());
+                            }
+
+                            verify(store).setContent(eq(entity), any(PropertyPath.class), any(InputStream.class));
+                            verify(resource, never()).getOutputStream();
+                        });
+                        It("should not delete the shared content", () -> {
+                            ((DeletableResource)result).delete();
+                            verify((DeletableResource)resource, never()).delete();
+                        });
+                        It("should read the shared content", () -> {
+                            ((WritableResource)result).getInputStream();
+                            verify(resource).getInputStream();
+                        });
+                    });
+                    Context("given the entity's content is not shared", () -> {
+                        BeforeEach(() -> {
+                            entity = new TestEntity(1L, "own-content");
+                            when(mi.getArguments()).thenReturn(new Object[]{entity, PropertyPath.from("content")});
+                            when(query.getSingleResult()).thenReturn(0L);
+                        });
+                        It("should return the store's resource", () -> {
+                            assertThat(result, is(resource));
+                        });
+                    });
+                });
+            });
+        });
+    }
+
+    @Getter
+    @Setter
+    public static class TestEntity {
+        @Id
+        private Long id;
+        @AncestorRootId
+        private Long ancestorRootId;
+        @ContentId
+        private String contentId;
+        @ContentLength
+        private Long contentLen;
+        @MimeType
+        private String contentMimeType;
+        @OriginalFileName
+        private String contentOriginalFileName;
+
+        public TestEntity(Long id, String contentId) {
+            this.id = id;
+            this.contentId = contentId;
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class TestEntityUnversioned {
+        @Id
+        private Long id;
+        @ContentId
+        private String contentId = "content";
+    }
+}